@@ -0,0 +1,31 @@
+package com.appsmith.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Fresh copies of an input that a benchmark changes in place, one for each call in a batch. The copies are made in an
+ * iteration level setup, so making them isn't measured, and the benchmark runs in batches of the same size, with
+ * {@code Mode.SingleShotTime}, so that every call gets a copy that hasn't been changed yet.
+ */
+public class Copies<T> {
+
+    private final List<T> copies;
+    private int next = 0;
+
+    public Copies(int count, Supplier<T> supplier) {
+        copies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            copies.add(supplier.get());
+        }
+    }
+
+    public T next() {
+        if (next >= copies.size()) {
+            throw new IllegalStateException("Only " + copies.size() + " copies were made for a batch. The batch size of "
+                    + "this benchmark can't be changed.");
+        }
+        return copies.get(next++);
+    }
+}
@@ -0,0 +1,39 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.helpers.DataTypeStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Detection of the type of the values bound to the queries, which is done for every binding of every execution.
+ */
+@State(Scope.Benchmark)
+public class DataTypeStringUtilsBenchmark extends BaseBenchmark {
+
+    // The index of the value in Fixtures.typedValues, or -1 for all of them
+    @Param({"-1", "0", "4", "7", "11", "12"})
+    int valueIndex;
+
+    private List<String> values;
+
+    @Setup
+    public void setUp() {
+        final List<String> typedValues = Fixtures.typedValues();
+        values = valueIndex < 0 ? typedValues : List.of(typedValues.get(valueIndex));
+    }
+
+    @Benchmark
+    public void stringToKnownDataTypeConverter(Blackhole blackhole) {
+        for (String value : values) {
+            final DataType dataType = DataTypeStringUtils.stringToKnownDataTypeConverter(value);
+            blackhole.consume(dataType);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.server.helpers.DslAnalyzer;
+import com.appsmith.server.helpers.WidgetSpecificUtils;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+
+/**
+ * Finding the widget names and bindings of a page DSL when the page is saved, and giving back the escaped columns of
+ * its tables when the page is read.
+ */
+@State(Scope.Benchmark)
+public class DslAnalyzerBenchmark extends BaseBenchmark {
+
+    // The scores are the time of a batch of this many calls.
+    private static final int BATCH_SIZE = 20;
+
+    @Param({"100", "2000"})
+    int widgetCount;
+
+    @Param({"1000"})
+    int actionCount;
+
+    private String dslString;
+    private String escapedDslString;
+    private Set<String> escapedWidgetNames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dslString = Fixtures.dsl(widgetCount, actionCount, true);
+        final JSONObject escapedDsl = parse(dslString);
+        escapedWidgetNames = DslAnalyzer.analyze(escapedDsl, "page", "layout").getEscapedWidgetNames();
+        escapedDslString = escapedDsl.toJSONString();
+    }
+
+    /**
+     * The columns of the tables are escaped and unescaped in place, so every call in a batch gets its own DSLs.
+     */
+    @State(Scope.Thread)
+    public static class Dsls {
+
+        private Copies<JSONObject> dsls;
+        private Copies<JSONObject> escapedDsls;
+
+        @Setup(Level.Iteration)
+        public void setUp(DslAnalyzerBenchmark benchmark) {
+            dsls = new Copies<>(BATCH_SIZE, () -> parse(benchmark.dslString));
+            escapedDsls = new Copies<>(BATCH_SIZE, () -> parse(benchmark.escapedDslString));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20, batchSize = BATCH_SIZE)
+    @Measurement(iterations = 10, batchSize = BATCH_SIZE)
+    public DslAnalyzer analyze(Dsls dsls) {
+        return DslAnalyzer.analyze(dsls.dsls.next(), "page", "layout");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20, batchSize = BATCH_SIZE)
+    @Measurement(iterations = 10, batchSize = BATCH_SIZE)
+    public JSONObject unEscapeDslKeys(Dsls dsls) {
+        return WidgetSpecificUtils.unEscapeDslKeys(dsls.escapedDsls.next(), escapedWidgetNames);
+    }
+
+    private static JSONObject parse(String dsl) {
+        try {
+            return (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(dsl);
+        } catch (ParseException e) {
+            throw new IllegalStateException("The DSL of the fixture is not valid JSON", e);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.Policy;
+import com.appsmith.external.models.Property;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.dtos.ActionDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.server.acl.AclPermission.COMMENT_ON_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.EXPORT_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.MAKE_PUBLIC_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.PUBLISH_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
+
+/**
+ * Generates the data the benchmarks run on. The data is shaped like that of large real applications, and is always the
+ * same for the same sizes, so that the results of different commits can be compared.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static String actionName(int index) {
+        return "Query" + index;
+    }
+
+    /**
+     * A page DSL with the given number of widgets, in containers of ten, each of which binds to the data of one of the
+     * given number of actions.
+     */
+    public static String dsl(int widgetCount, int actionCount) {
+        return dsl(widgetCount, actionCount, false);
+    }
+
+    /**
+     * A page DSL like the one above, where the tables may also have the columns of their data, including an `_id`
+     * column as the tables showing Mongo documents do.
+     */
+    public static String dsl(int widgetCount, int actionCount, boolean withPrimaryColumns) {
+        final StringBuilder dsl = new StringBuilder("{\"widgetName\":\"MainContainer\",\"type\":\"CANVAS_WIDGET\",\"children\":[");
+
+        for (int i = 0; i < widgetCount; i++) {
+            if (i % 10 == 0) {
+                if (i > 0) {
+                    dsl.append("]},");
+                }
+                dsl.append("{\"widgetName\":\"Container").append(i / 10)
+                        .append("\",\"type\":\"CONTAINER_WIDGET\",\"children\":[");
+            } else {
+                dsl.append(',');
+            }
+
+            final String action = actionName(i % actionCount);
+            dsl.append("{\"widgetName\":\"Table").append(i)
+                    .append("\",\"type\":\"TABLE_WIDGET\"")
+                    .append(",\"tableData\":\"{{").append(action).append(".data}}\"")
+                    .append(",\"isLoading\":\"{{").append(action).append(".isLoading}}\"")
+                    .append(",\"label\":\"Rows of {{").append(action).append(".data.length}} in page {{Table")
+                    .append(i).append(".pageNo}}\"")
+                    .append(withPrimaryColumns
+                            ? ",\"primaryColumns\":{\"_id\":{\"id\":\"_id\",\"columnType\":\"text\"}" +
+                            ",\"name\":{\"id\":\"name\",\"columnType\":\"text\"}" +
+                            ",\"active\":{\"id\":\"active\",\"columnType\":\"text\"}}"
+                            : "")
+                    .append(",\"dynamicBindingPathList\":[{\"key\":\"tableData\"},{\"key\":\"isLoading\"},{\"key\":\"label\"}]}");
+        }
+
+        if (widgetCount > 0) {
+            dsl.append("]}");
+        }
+
+        return dsl.append("]}").toString();
+    }
+
+    /**
+     * The evaluated values of the bindings used by the widgets and actions, keyed by the binding.
+     */
+    public static Map<String, String> bindingValues(int widgetCount, int actionCount) {
+        final Map<String, String> values = new HashMap<>();
+
+        for (int i = 0; i < actionCount; i++) {
+            final String action = actionName(i);
+            values.put(action + ".data", "[{\"id\":" + i + ",\"name\":\"Row " + i + "\",\"active\":true}]");
+            values.put(action + ".isLoading", "false");
+            values.put(action + ".data.length", "1");
+            values.put(action + ".data[0].id", String.valueOf(i));
+        }
+
+        for (int i = 0; i < widgetCount; i++) {
+            values.put("Table" + i + ".pageNo", "1");
+            values.put("Input" + i + ".text", "Value of input " + i);
+        }
+
+        return values;
+    }
+
+    /**
+     * The configuration of an API action with the given number of bindings spread over its body, headers and query
+     * parameters.
+     */
+    public static ActionConfiguration actionConfiguration(int bindingCount) {
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("/api/v1/users/{{Input0.text}}");
+        actionConfiguration.setBody(jsonBody(bindingCount));
+
+        final List<Property> headers = new ArrayList<>();
+        final List<Property> queryParameters = new ArrayList<>();
+        for (int i = 0; i < bindingCount / 10; i++) {
+            headers.add(new Property("X-Header-" + i, "{{Input" + i + ".text}}"));
+            queryParameters.add(new Property("param" + i, "{{" + actionName(i) + ".data[0].id}}"));
+        }
+        actionConfiguration.setHeaders(headers);
+        actionConfiguration.setQueryParameters(queryParameters);
+
+        return actionConfiguration;
+    }
+
+    /**
+     * A JSON body with the given number of bindings, mixing strings, numbers, booleans and JSON values.
+     */
+    public static String jsonBody(int bindingCount) {
+        final StringBuilder body = new StringBuilder("{");
+        for (int i = 0; i < bindingCount; i++) {
+            if (i > 0) {
+                body.append(",\n");
+            }
+            switch (i % 4) {
+                case 0:
+                    body.append("\"name").append(i).append("\": {{Input").append(i).append(".text}}");
+                    break;
+                case 1:
+                    body.append("\"id").append(i).append("\": {{").append(actionName(i)).append(".data[0].id}}");
+                    break;
+                case 2:
+                    body.append("\"loading").append(i).append("\": {{").append(actionName(i)).append(".isLoading}}");
+                    break;
+                default:
+                    body.append("\"rows").append(i).append("\": {{").append(actionName(i)).append(".data}}");
+            }
+        }
+        return body.append("}").toString();
+    }
+
+    /**
+     * Values of the kinds the users bind to their queries.
+     */
+    public static List<String> typedValues() {
+        return List.of(
+                "42",
+                "-9007199254740993",
+                "3.14159",
+                "1.7976931348623157E308",
+                "true",
+                "null",
+                "2021-03-24",
+                "2021-03-24 14:05:33",
+                "14:05:33",
+                "[1, 2, 3]",
+                "{\"id\": 1, \"name\": \"Row 1\", \"tags\": [\"a\", \"b\"]}",
+                "[{\"id\": 1, \"name\": \"Row 1\"}, {\"id\": 2, \"name\": \"Row 2\"}]",
+                "Some text that a user typed into an input widget",
+                ""
+        );
+    }
+
+    /**
+     * The actions of a page, where every action binds to the data of two of the actions before it, so that the actions
+     * bound by the last of them depend on nearly all the others.
+     */
+    public static List<ActionDTO> pageActions(int actionCount) {
+        final List<ActionDTO> actions = new ArrayList<>(actionCount);
+
+        for (int i = 0; i < actionCount; i++) {
+            final ActionDTO action = new ActionDTO();
+            action.setId("action" + i);
+            action.setName(actionName(i));
+            action.setPageId("page");
+            action.setExecuteOnLoad(i % 7 == 0);
+            action.setActionConfiguration(actionConfiguration(4));
+
+            final Set<String> jsonPathKeys = new HashSet<>();
+            jsonPathKeys.add("Input" + i + ".text");
+            if (i >= 7) {
+                jsonPathKeys.add(actionName(i - 7) + ".data[0].id");
+            }
+            if (i >= 10) {
+                jsonPathKeys.add(actionName(i - 10) + ".data");
+            }
+            action.setJsonPathKeys(jsonPathKeys);
+
+            actions.add(action);
+        }
+
+        return actions;
+    }
+
+    /**
+     * The policies of an application shared with the given number of users, half of them through groups.
+     */
+    public static Set<Policy> applicationPolicies(int userCount) {
+        final Map<String, Policy> policies = new LinkedHashMap<>();
+
+        for (AclPermission permission : List.of(MANAGE_APPLICATIONS, READ_APPLICATIONS, PUBLISH_APPLICATIONS,
+                EXPORT_APPLICATIONS, MAKE_PUBLIC_APPLICATIONS, COMMENT_ON_APPLICATIONS)) {
+            final Set<String> users = new HashSet<>();
+            final Set<String> groups = new HashSet<>();
+            for (int i = 0; i < userCount; i++) {
+                if (i % 2 == 0) {
+                    users.add("user" + i + "@example.com");
+                } else {
+                    groups.add("group" + (i % 100));
+                }
+            }
+            policies.put(permission.getValue(),
+                    Policy.builder().permission(permission.getValue()).users(users).groups(groups).build());
+        }
+
+        return new HashSet<>(policies.values());
+    }
+}
@@ -0,0 +1,74 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.ActionConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rendering of the bindings in the DSL of a page, and in the configuration of an action before it is executed.
+ */
+@State(Scope.Benchmark)
+public class MustacheHelperBenchmark extends BaseBenchmark {
+
+    // The score of renderFieldValues is the time of a batch of this many renders.
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"100", "2000"})
+    int widgetCount;
+
+    @Param({"1000"})
+    int actionCount;
+
+    private String dsl;
+    private Map<String, String> bindingValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dsl = Fixtures.dsl(widgetCount, actionCount);
+        bindingValues = Fixtures.bindingValues(widgetCount, actionCount);
+    }
+
+    /**
+     * The configurations are rendered in place, so every call in a batch gets its own.
+     */
+    @State(Scope.Thread)
+    public static class ActionConfigurations {
+
+        private Copies<ActionConfiguration> copies;
+
+        @Setup(Level.Iteration)
+        public void setUp(MustacheHelperBenchmark benchmark) {
+            copies = new Copies<>(BATCH_SIZE, () -> Fixtures.actionConfiguration(benchmark.widgetCount));
+        }
+    }
+
+    @Benchmark
+    public String render() {
+        return MustacheHelper.render(dsl, bindingValues);
+    }
+
+    @Benchmark
+    public Set<String> extractMustacheKeys() {
+        return MustacheHelper.extractMustacheKeys(dsl);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20, batchSize = BATCH_SIZE)
+    @Measurement(iterations = 10, batchSize = BATCH_SIZE)
+    public ActionConfiguration renderFieldValues(ActionConfigurations actionConfigurations) {
+        return MustacheHelper.renderFieldValues(actionConfigurations.copies.next(), bindingValues);
+    }
+}
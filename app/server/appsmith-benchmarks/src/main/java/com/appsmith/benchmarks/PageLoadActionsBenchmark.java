@@ -0,0 +1,92 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.server.domains.ActionDependencyEdge;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.dtos.DslActionDTO;
+import com.appsmith.server.services.NewActionService;
+import com.appsmith.server.solutions.PageLoadActionsUtil;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Computing the order in which the actions of a page are run when it loads, which is done every time the layout of a
+ * page is updated. The actions are served from memory, so only the building of the dependency graph is measured.
+ */
+@State(Scope.Benchmark)
+public class PageLoadActionsBenchmark extends BaseBenchmark {
+
+    private static final String PAGE_ID = "page";
+
+    @Param({"100", "1000"})
+    int actionCount;
+
+    private PageLoadActionsUtil pageLoadActionsUtil;
+    private Set<String> dslBindings;
+
+    @Setup
+    public void setUp() {
+        final Map<String, NewAction> actionsByName = new LinkedHashMap<>();
+        for (ActionDTO action : Fixtures.pageActions(actionCount)) {
+            final NewAction newAction = new NewAction();
+            newAction.setId(action.getId());
+            newAction.setUnpublishedAction(action);
+            actionsByName.put(action.getName(), newAction);
+        }
+
+        final NewActionService newActionService = Mockito.mock(NewActionService.class);
+        Mockito.when(newActionService.findUnpublishedActionsInPageByNames(anySet(), anyString()))
+                .thenAnswer(invocation -> {
+                    final Set<String> names = invocation.getArgument(0);
+                    final List<NewAction> actions = new ArrayList<>();
+                    for (String name : names) {
+                        final NewAction action = actionsByName.get(name);
+                        if (action != null) {
+                            actions.add(action);
+                        }
+                    }
+                    return Flux.fromIterable(actions);
+                });
+        Mockito.when(newActionService.findUnpublishedOnLoadActionsExplicitSetByUserInPage(anyString()))
+                .thenAnswer(invocation -> Flux.empty());
+        Mockito.when(newActionService.generateActionByViewMode(any(NewAction.class), anyBoolean()))
+                .thenAnswer(invocation -> Mono.just(((NewAction) invocation.getArgument(0)).getUnpublishedAction()));
+
+        pageLoadActionsUtil = new PageLoadActionsUtil(newActionService);
+
+        // The widgets bind to the last tenth of the actions, which depend on nearly all the others.
+        dslBindings = new HashSet<>();
+        for (int i = actionCount - actionCount / 10; i < actionCount; i++) {
+            dslBindings.add(Fixtures.actionName(i));
+        }
+        for (int i = 0; i < actionCount; i++) {
+            dslBindings.add("Table" + i);
+        }
+    }
+
+    @Benchmark
+    public List<HashSet<DslActionDTO>> findAllOnLoadActions() {
+        return pageLoadActionsUtil
+                .findAllOnLoadActions(dslBindings, new HashSet<>(), PAGE_ID, new HashSet<ActionDependencyEdge>(),
+                        new HashSet<>(), new ArrayList<>())
+                .block();
+    }
+}
@@ -0,0 +1,67 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Page;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.repositories.CustomApplicationRepositoryImpl;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.Set;
+
+/**
+ * Deriving the policies of a new document from its parent's, and computing the permissions of the current user on
+ * every document that is read, for documents shared with many users.
+ */
+@State(Scope.Benchmark)
+public class PolicyBenchmark extends BaseBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    int userCount;
+
+    private PolicyGenerator policyGenerator;
+    private CustomApplicationRepositoryImpl applicationRepository;
+    private Set<Policy> applicationPolicies;
+    private Application application;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        policyGenerator = new PolicyGenerator();
+        policyGenerator.createPolicyGraph();
+
+        applicationRepository = new CustomApplicationRepositoryImpl(
+                Mockito.mock(ReactiveMongoOperations.class),
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+
+        applicationPolicies = Fixtures.applicationPolicies(userCount);
+
+        application = new Application();
+        application.setPolicies(applicationPolicies);
+
+        // A user that isn't named in the policies, and only has access through the last of their groups.
+        user = new User();
+        user.setEmail("someone@example.com");
+        user.setGroupIds(Set.of("unrelatedGroup1", "unrelatedGroup2", "group" + (userCount > 1 ? 1 : 0)));
+    }
+
+    @Benchmark
+    public Set<Policy> getAllChildPolicies() {
+        return policyGenerator.getAllChildPolicies(applicationPolicies, Application.class, Page.class);
+    }
+
+    @Benchmark
+    public Application setUserPermissionsInObject() {
+        return applicationRepository.setUserPermissionsInObject(application, user);
+    }
+}
@@ -0,0 +1,69 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.DataTypeStringUtils;
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.Param;
+import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Binding of the evaluated parameters into a JSON body, the way the plugins that support smart substitution do it.
+ */
+@State(Scope.Benchmark)
+public class SmartSubstitutionBenchmark extends BaseBenchmark {
+
+    @org.openjdk.jmh.annotations.Param({"10", "100", "1000"})
+    int bindingCount;
+
+    private final SmartSubstitutionInterface jsonSubstitution = new JsonSmartSubstitution();
+
+    private String template;
+    private String body;
+    private List<String> mustacheKeysInOrder;
+    private List<Param> params;
+
+    @Setup
+    public void setUp() {
+        template = Fixtures.jsonBody(bindingCount);
+        final Map<String, String> bindingValues = Fixtures.bindingValues(bindingCount, bindingCount);
+
+        mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(template);
+        body = MustacheHelper.replaceMustacheWithQuestionMark(template, mustacheKeysInOrder);
+        params = mustacheKeysInOrder.stream()
+                .distinct()
+                .map(key -> new Param(key, bindingValues.get(key)))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object smartSubstitutionOfBindings() throws AppsmithPluginException {
+        return jsonSubstitution.smartSubstitutionOfBindings(body, mustacheKeysInOrder, params, new ArrayList<>());
+    }
+
+    @Benchmark
+    public String replaceMustacheWithQuestionMark() {
+        return MustacheHelper.replaceMustacheWithQuestionMark(template, mustacheKeysInOrder);
+    }
+
+    // Substitutes the values the same way as the REST API plugin.
+    private static class JsonSmartSubstitution implements SmartSubstitutionInterface {
+        @Override
+        public Object substituteValueInInput(int index,
+                                             String binding,
+                                             String value,
+                                             Object input,
+                                             List<Map.Entry<String, String>> insertedParams,
+                                             Object... args) {
+            return DataTypeStringUtils.jsonSmartReplacementQuestionWithValue((String) input, value, insertedParams);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.appsmith.external.annotations.encryption;
+
+import com.appsmith.benchmarks.BaseBenchmark;
+import com.appsmith.benchmarks.Copies;
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
+import com.appsmith.server.domains.Datasource;
+import org.apache.commons.codec.binary.Hex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.encrypt.Encryptors;
+import org.springframework.security.crypto.encrypt.TextEncryptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finding and converting the encrypted fields of the documents as they are written and read, with the same cipher as
+ * the server. This is in the package of {@link EncryptionHandler}, since it isn't public.
+ */
+@State(Scope.Benchmark)
+public class EncryptionHandlerBenchmark extends BaseBenchmark {
+
+    // The scores are the time of a batch of this many calls.
+    private static final int BATCH_SIZE = 1000;
+
+    // Whether the fields are converted, or only found, by using a transformer that returns the value as is
+    @Param({"true", "false"})
+    boolean isCipherUsed;
+
+    private TextEncryptor textEncryptor;
+    private EncryptionHandler encryptionHandler;
+    private Set<String> storedFieldNames;
+    private String password;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        textEncryptor = Encryptors.queryableText("benchmark-password", Hex.encodeHexString("benchmark-salt".getBytes()));
+        encryptionHandler = new EncryptionHandler();
+        // The top level fields of a datasource as stored in the database
+        storedFieldNames = Set.of("_id", "name", "pluginId", "organizationId", "datasourceConfiguration", "policies");
+        password = isCipherUsed ? textEncryptor.encrypt("secret") : "secret";
+    }
+
+    /**
+     * The fields are converted in place, so every call in a batch gets its own document.
+     */
+    @State(Scope.Thread)
+    public static class Datasources {
+
+        private Copies<Datasource> datasources;
+
+        @Setup(Level.Iteration)
+        public void setUp(EncryptionHandlerBenchmark benchmark) {
+            datasources = new Copies<>(BATCH_SIZE, () -> createDatasource(benchmark.password));
+        }
+    }
+
+    private static Datasource createDatasource(String password) {
+        final DBAuth authentication = new DBAuth();
+        authentication.setAuthType(DBAuth.Type.USERNAME_PASSWORD);
+        authentication.setUsername("appsmith");
+        authentication.setPassword(password);
+
+        final List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            properties.add(new Property("property" + i, "value" + i));
+        }
+
+        final DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setAuthentication(authentication);
+        datasourceConfiguration.setEndpoints(List.of(new Endpoint("db.example.com", 5432L)));
+        datasourceConfiguration.setProperties(properties);
+
+        final Datasource datasource = new Datasource();
+        datasource.setName("Production DB");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+        return datasource;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20, batchSize = BATCH_SIZE)
+    @Measurement(iterations = 10, batchSize = BATCH_SIZE)
+    public boolean encrypt(Datasources datasources) {
+        return encryptionHandler.convertEncryption(datasources.datasources.next(),
+                isCipherUsed ? textEncryptor::encrypt : value -> value);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20, batchSize = BATCH_SIZE)
+    @Measurement(iterations = 10, batchSize = BATCH_SIZE)
+    public boolean decrypt(Datasources datasources) {
+        return encryptionHandler.convertEncryption(datasources.datasources.next(), storedFieldNames,
+                isCipherUsed ? textEncryptor::decrypt : value -> value);
+    }
+}
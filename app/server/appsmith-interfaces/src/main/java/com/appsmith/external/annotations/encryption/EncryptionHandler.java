@@ -2,8 +2,10 @@ package com.appsmith.external.annotations.encryption;
 
 import com.appsmith.external.models.AppsmithDomain;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
 import reactor.util.annotation.NonNull;
 
 import java.lang.reflect.Field;
@@ -24,6 +26,9 @@ public class EncryptionHandler {
 
     Map<Class<?>, List<CandidateField>> encryptedFieldsMap = new ConcurrentHashMap<>();
 
+    // The names that fields are stored under, which differ from the names of the fields when they are mapped with @Field
+    private final Map<Field, String> storedFieldNameMap = new ConcurrentHashMap<>();
+
     /**
      * This method finds all the candidate fields for a given type
      * Candidate fields will ony ever be fields that have either been directly annotated,
@@ -201,6 +206,20 @@ public class EncryptionHandler {
     }
 
     synchronized boolean convertEncryption(Object source, Function<String, String> transformer) {
+        return convertEncryption(source, null, transformer);
+    }
+
+    /**
+     * Converts the encrypted fields of a document that was read from the database. Only the top level fields that are
+     * present in the stored document are looked at, so that documents read with a projection that leaves out the
+     * encrypted fields are not scanned for them.
+     *
+     * @param source           document that was converted from the stored document
+     * @param storedFieldNames names of the top level fields in the stored document, or null to look at all fields
+     * @param transformer      conversion to apply to each encrypted value
+     * @return true if the type of the document has encrypted fields
+     */
+    synchronized boolean convertEncryption(Object source, Set<String> storedFieldNames, Function<String, String> transformer) {
         if (source == null) {
             return false;
         }
@@ -221,6 +240,10 @@ public class EncryptionHandler {
         while (candidateFieldIterator.hasNext()) {
             CandidateField candidateField = candidateFieldIterator.next();
             Field field = candidateField.getField();
+            if (storedFieldNames != null && !storedFieldNames.contains(getStoredFieldName(field))) {
+                // This field was not read from the database, so there is nothing to convert in it
+                continue;
+            }
             field.setAccessible(true);
             Object fieldValue = ReflectionUtils.getField(field, source);
             // if this field is null, skip
@@ -303,4 +326,16 @@ public class EncryptionHandler {
 
         return hasEncryptedFields;
     }
+
+    /**
+     * Gets the name the given field is stored under in the database, which is the name given in its
+     * {@link org.springframework.data.mongodb.core.mapping.Field} annotation, if it has one.
+     */
+    String getStoredFieldName(Field field) {
+        return storedFieldNameMap.computeIfAbsent(field, key -> {
+            final org.springframework.data.mongodb.core.mapping.Field mapping = AnnotatedElementUtils
+                    .findMergedAnnotation(key, org.springframework.data.mongodb.core.mapping.Field.class);
+            return mapping != null && StringUtils.hasText(mapping.value()) ? mapping.value() : key.getName();
+        });
+    }
 }
@@ -2,6 +2,7 @@ package com.appsmith.external.annotations.encryption;
 
 import com.appsmith.external.services.EncryptionService;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
 import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
@@ -31,8 +32,13 @@ public class EncryptionMongoEventListener<E> extends AbstractMongoEventListener<
     @Override
     public void onAfterConvert(AfterConvertEvent<E> event) {
         E source = event.getSource();
+        Document document = event.getDocument();
 
-        encryptionHandler.convertEncryption(source, encryptionService::decryptString);
+        // Fields left out of the query's projection are not in the stored document, and so are skipped
+        encryptionHandler.convertEncryption(
+                source,
+                document == null ? null : document.keySet(),
+                encryptionService::decryptString);
     }
 
 }
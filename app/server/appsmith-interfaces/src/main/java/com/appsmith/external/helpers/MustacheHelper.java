@@ -10,9 +10,11 @@ import org.springframework.util.StringUtils;
 
 import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -20,7 +22,6 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -29,13 +30,6 @@ import static com.appsmith.external.helpers.BeanCopyUtils.isDomainModel;
 @Slf4j
 public class MustacheHelper {
 
-    /*
-     * This pattern finds all the String which have been extracted from the mustache dynamic bindings.
-     * e.g. for the given JS function using action with name "fetchUsers"
-     * {{JSON.stringify(fetchUsers)}}
-     * This pattern should return ["JSON.stringify", "fetchUsers"]
-     */
-    private final static Pattern pattern = Pattern.compile("[a-zA-Z_][a-zA-Z0-9._]*");
     /**
      * Appsmith smart replacement : The regex pattern below looks for '?' or "?". This pattern is later replaced with ?
      * to fit the requirements of prepared statements/Appsmith's JSON smart replacement.
@@ -44,8 +38,6 @@ public class MustacheHelper {
     private static Pattern quoteQuestionPattern = Pattern.compile(regexQuotesTrimming);
     // The final replacement string of ? for replacing '?' or "?"
     private static String postQuoteTrimmingQuestionMark = "\\?";
-    private static String laxMustacheBindingRegex = "\\{\\{([\\s\\S]*?)\\}\\}";
-    private static Pattern laxMustacheBindingPattern = Pattern.compile(laxMustacheBindingRegex);
 
 
     /**
@@ -164,33 +156,101 @@ public class MustacheHelper {
      */
     public static Set<String> extractMustacheKeys(String template) {
         Set<String> keys = new HashSet<>();
-
-        for (String token : tokenize(template)) {
-            if (token.startsWith("{{") && token.endsWith("}}")) {
-                // Allowing empty tokens to be added, to be compatible with the previous `extractMustacheKeys` method.
-                // Calling `.trim()` before adding because Mustache compiler strips keys in the template before looking
-                // up a value. Addresses https://www.notion.so/appsmith/Bindings-with-a-space-at-the-start-fail-to-execute-properly-in-the-API-pane-2eb65d5c6064466b9ef059fa01ef3261
-                keys.add(token.substring(2, token.length() - 2).trim());
-            }
-        }
-
+        addMustacheKeys(template, keys);
         return keys;
     }
 
+    /**
+     * Same as {@link #extractMustacheKeys(String)}, but adds the keys to the given set, so that the keys of many
+     * templates can be collected without a set for each of them.
+     *
+     * @param keys     Set the replacement keys are added to.
+     * @param template The Mustache input template string.
+     */
+    public static void extractMustacheKeysAndAddToSet(Set<String> keys, String template) {
+        addMustacheKeys(template, keys);
+    }
+
     // For prepared statements we should extract the bindings in order in a list and include duplicate bindings as well.
     public static List<String> extractMustacheKeysInOrder(String template) {
         List<String> keys = new ArrayList<>();
+        addMustacheKeys(template, keys);
+        return keys;
+    }
 
-        for (String token : tokenize(template)) {
-            if (token.startsWith("{{") && token.endsWith("}}")) {
-                // Allowing empty tokens to be added, to be compatible with the previous `extractMustacheKeys` method.
-                // Calling `.trim()` before adding because Mustache compiler strips keys in the template before looking
-                // up a value. Addresses https://www.notion.so/appsmith/Bindings-with-a-space-at-the-start-fail-to-execute-properly-in-the-API-pane-2eb65d5c6064466b9ef059fa01ef3261
-                keys.add(token.substring(2, token.length() - 2).trim());
+    private static void addMustacheKeys(String template, Collection<String> keys) {
+        // Allowing empty keys to be added, to be compatible with the previous `extractMustacheKeys` method.
+        // Calling `.trim()` before adding because Mustache compiler strips keys in the template before looking
+        // up a value. Addresses https://www.notion.so/appsmith/Bindings-with-a-space-at-the-start-fail-to-execute-properly-in-the-API-pane-2eb65d5c6064466b9ef059fa01ef3261
+        forEachMustacheKey(template, (keyStart, keyEnd) -> keys.add(template.substring(keyStart, keyEnd).trim()));
+    }
+
+    /**
+     * Receives the start and end positions of a part of a string.
+     */
+    private interface RangeConsumer {
+        void accept(int start, int end);
+    }
+
+    /**
+     * Finds the Mustache interpolations of the template exactly like {@link #tokenize(String)} does, but only keeps
+     * track of where the current interpolation starts, instead of building every token, since only the keys are needed.
+     * The consumer gets the range of each key, between the double braces and before it is trimmed.
+     */
+    private static void forEachMustacheKey(String template, RangeConsumer keyConsumer) {
+        if (StringUtils.isEmpty(template)) {
+            return;
+        }
+
+        final int length = template.length();
+        boolean isInsideMustache = false;
+        // The quote character of the Javascript string the pointer is in, or 0 when it isn't in one.
+        char quote = 0;
+        int braceDepth = 0;
+        int mustacheStart = 0;
+
+        for (int i = 1; i < length; ++i) {
+            char currentChar = template.charAt(i);
+            char prevChar = template.charAt(i - 1);
+
+            if (!isInsideMustache) {
+                if (currentChar == '{' && prevChar == '{') {
+                    isInsideMustache = true;
+                    mustacheStart = i - 1;
+                    braceDepth = 2;
+                }
+
+            } else if (quote != 0) {
+                if (currentChar == quote) {
+                    // Count the backslashes before this quote and figure out if it is escaped.
+                    int j = i;
+                    do {
+                        --j;
+                    } while (template.charAt(j) == '\\');
+                    if ((i - j - 1) % 2 == 0) {
+                        quote = 0;
+                    }
+                }
+
+            } else if (currentChar == '"' || currentChar == '\'' || currentChar == '`') {
+                quote = currentChar;
+
+            } else if (currentChar == '{') {
+                ++braceDepth;
+
+            } else if (currentChar == '}') {
+                --braceDepth;
+                if (prevChar == '}' && braceDepth <= 0) {
+                    keyConsumer.accept(mustacheStart + 2, i - 1);
+                    isInsideMustache = false;
+                }
             }
         }
 
-        return keys;
+        // An interpolation that is never closed is the last token, and still counts if it ends with double braces.
+        if (isInsideMustache && length - mustacheStart >= 4 && template.endsWith("}}")) {
+            keyConsumer.accept(mustacheStart + 2, length - 2);
+        }
     }
 
     public static Set<String> extractMustacheKeysFromFields(Object object) {
@@ -332,23 +392,137 @@ public class MustacheHelper {
         return StringEscapeUtils.unescapeHtml4(rendered.toString());
     }
 
+    /**
+     * Adds the names used by a mustache key to the set. The words of the key are those matching
+     * `[a-zA-Z_][a-zA-Z0-9._]*`, e.g. for the given JS function using action with name "fetchUsers"
+     * `JSON.stringify(fetchUsers)`, these are ["JSON.stringify", "fetchUsers"]. Only the top level of each word is a
+     * name, e.g. for `Input1.text`, it is `Input1`.
+     */
     public static void extractWordsAndAddToSet(Set<String> bindingNames, String mustacheKey) {
-        String key = mustacheKey.trim();
+        forEachName(mustacheKey, 0, mustacheKey.length(),
+                (nameStart, nameEnd) -> bindingNames.add(mustacheKey.substring(nameStart, nameEnd)));
+    }
 
-        // Extract all the words in the dynamic bindings
-        Matcher matcher = pattern.matcher(key);
+    /**
+     * Replaces the uses of a name in the Mustache interpolations of the template, and leaves the plain text around them
+     * as it is. The uses of a name are the words of the keys with the name as their top level, as found by
+     * {@link #extractWordsAndAddToSet(Set, String)}, e.g. `Input1` is used by `Input1.text` and `[Input1.text]`, but
+     * not by `Input10.text` or `myInput1`.
+     *
+     * @param template The Mustache input template string.
+     * @param oldName  Name to be replaced.
+     * @param newName  Name to replace it with.
+     * @return The template with the name replaced, or the same template if the name isn't used by it.
+     */
+    public static String replaceNameInMustacheKeys(String template, String oldName, String newName) {
+        final List<Integer> nameStarts = new ArrayList<>();
+        forEachMustacheKey(template, (keyStart, keyEnd) -> forEachName(template, keyStart, keyEnd, (nameStart, nameEnd) -> {
+            if (nameEnd - nameStart == oldName.length() && template.startsWith(oldName, nameStart)) {
+                nameStarts.add(nameStart);
+            }
+        }));
 
-        while (matcher.find()) {
-            String word = matcher.group();
+        if (nameStarts.isEmpty()) {
+            return template;
+        }
+
+        final StringBuilder replaced = new StringBuilder(template.length() + nameStarts.size() * newName.length());
+        int copiedUntil = 0;
+        for (int nameStart : nameStarts) {
+            replaced.append(template, copiedUntil, nameStart).append(newName);
+            copiedUntil = nameStart + oldName.length();
+        }
+        return replaced.append(template, copiedUntil, template.length()).toString();
+    }
+
+    /**
+     * Same as {@link #renderFieldValues(Object, Map)}, but replaces the uses of a name in the Mustache interpolations of
+     * the field values with {@link #replaceNameInMustacheKeys(String, String, String)}.
+     */
+    public static <T> T replaceNameInFieldValues(T object, String oldName, String newName) {
+        if (object == null) {
+            return object;
+        }
+
+        if (isDomainModel(object.getClass())) {
+            try {
+                final BeanWrapper sourceBeanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(object);
+                for (PropertyDescriptor propertyDescriptor : sourceBeanWrapper.getPropertyDescriptors()) {
+                    // For properties like `class` that don't have a set method, just ignore them.
+                    if (propertyDescriptor.getWriteMethod() == null) {
+                        continue;
+                    }
+
+                    String name = propertyDescriptor.getName();
+                    Object value = sourceBeanWrapper.getPropertyValue(name);
+                    Object replacedValue = replaceNameInFieldValues(value, oldName, newName);
+                    if (replacedValue != value) {
+                        sourceBeanWrapper.setPropertyValue(name, replacedValue);
+                    }
+                }
+            } catch (BeansException e) {
+                log.error("Exception caught while replacing a name in mustache template.", e);
+            }
+        } else if (object instanceof List) {
+            List replacedList = new ArrayList();
+            for (Object childValue : (List) object) {
+                replacedList.add(replaceNameInFieldValues(childValue, oldName, newName));
+            }
+
+            return (T) replacedList;
+
+        } else if (object instanceof Map) {
+            Map replacedMap = new LinkedHashMap();
+            for (Object entry : ((Map) object).entrySet()) {
+                replacedMap.put(
+                        ((Map.Entry) entry).getKey(), // key
+                        replaceNameInFieldValues(((Map.Entry) entry).getValue(), oldName, newName) // value
+                );
+            }
+
+            return (T) replacedMap;
+
+        } else if (object instanceof String) {
+            return (T) replaceNameInMustacheKeys((String) object, oldName, newName);
+        }
+
+        return object;
+    }
 
-            String[] subStrings = word.split(Pattern.quote("."));
-            if (subStrings.length > 0) {
-                // We are only interested in the top level. e.g. if its Input1.text, we want just Input1
-                bindingNames.add(subStrings[0]);
+    /**
+     * Finds the words of the string between the given positions, and gives the range of the top level of each to the
+     * consumer. The words are found by going over the characters once, since this runs for every binding of a page
+     * whenever the page is saved.
+     */
+    private static void forEachName(String string, int from, int to, RangeConsumer nameConsumer) {
+        int i = from;
+
+        while (i < to) {
+            if (!isWordStart(string.charAt(i))) {
+                ++i;
+                continue;
+            }
+
+            final int wordStart = i;
+            int topLevelEnd = -1;
+            for (++i; i < to && isWordPart(string.charAt(i)); ++i) {
+                if (topLevelEnd < 0 && string.charAt(i) == '.') {
+                    topLevelEnd = i;
+                }
             }
+
+            nameConsumer.accept(wordStart, topLevelEnd < 0 ? i : topLevelEnd);
         }
     }
 
+    private static boolean isWordStart(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z') || character == '_';
+    }
+
+    private static boolean isWordPart(char character) {
+        return isWordStart(character) || (character >= '0' && character <= '9') || character == '.';
+    }
+
     public static String replaceMustacheWithQuestionMark(String query, List<String> mustacheBindings) {
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
@@ -386,7 +560,11 @@ public class MustacheHelper {
         return updatedQuery;
     }
 
+    /**
+     * Whether there is a `{{` in the input, with a `}}` anywhere after it.
+     */
     public static Boolean laxIsBindingPresentInString(String input) {
-        return laxMustacheBindingPattern.matcher(input).find();
+        final int bindingStart = input.indexOf("{{");
+        return bindingStart >= 0 && input.indexOf("}}", bindingStart + 2) >= 0;
     }
 }
@@ -0,0 +1,31 @@
+package com.appsmith.external.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * A snapshot of the connections in the pool of a datasource connection, as reported by
+ * {@link com.appsmith.external.plugins.PluginExecutor#getConnectionPoolStats(Object)}.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolStats {
+
+    // Connections that are currently in use.
+    int active;
+
+    // Connections that are open and waiting in the pool to be used.
+    int idle;
+
+    // Callers that are waiting for a connection to be available.
+    int pending;
+
+    // All the connections that are open, whether in use or not.
+    int total;
+}
@@ -4,6 +4,7 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolStats;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
@@ -49,6 +50,20 @@ public interface PluginExecutor<C> extends ExtensionPoint {
      */
     void datasourceDestroy(C connection);
 
+    /**
+     * This function reports the state of the connection pool behind a connection created by
+     * {@link #datasourceCreate(DatasourceConfiguration)}. The server reads it every time the connection pool metrics are
+     * collected, so it should only read counters the pool already keeps, and never block or talk to the data source.
+     * <p>
+     * Plugins whose connections are not pooled don't need to implement this.
+     *
+     * @param connection : The connection created for the datasource
+     * @return ConnectionPoolStats : The current state of the pool, or null if the connection has no pool
+     */
+    default ConnectionPoolStats getConnectionPoolStats(C connection) {
+        return null;
+    }
+
     /**
      * This function tells the platform if datasource is valid by checking the set of invalid strings.
      * If empty, the datasource is valid. This set of invalid strings is populated by
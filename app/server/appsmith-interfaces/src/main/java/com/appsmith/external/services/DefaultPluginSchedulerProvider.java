@@ -0,0 +1,37 @@
+package com.appsmith.external.services;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scheduler provider used by plugin executors that are not created by the server, like in tests. The server provides
+ * its own implementation, which is configurable and reports metrics for each scheduler.
+ */
+public class DefaultPluginSchedulerProvider implements PluginSchedulerProvider {
+
+    private static final int THREAD_CAP = 10 * Runtime.getRuntime().availableProcessors();
+
+    private static final int QUEUE_SIZE = 1000;
+
+    private static final DefaultPluginSchedulerProvider INSTANCE = new DefaultPluginSchedulerProvider();
+
+    private final Map<String, Scheduler> schedulers = new ConcurrentHashMap<>();
+
+    private DefaultPluginSchedulerProvider() {
+    }
+
+    public static DefaultPluginSchedulerProvider getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Scheduler getScheduler(String pluginName) {
+        return schedulers.computeIfAbsent(
+                pluginName,
+                name -> Schedulers.newBoundedElastic(THREAD_CAP, QUEUE_SIZE, name)
+        );
+    }
+}
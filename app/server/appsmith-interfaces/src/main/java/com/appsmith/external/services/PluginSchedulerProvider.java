@@ -0,0 +1,16 @@
+package com.appsmith.external.services;
+
+import reactor.core.scheduler.Scheduler;
+
+public interface PluginSchedulerProvider {
+
+    /**
+     * Gives the scheduler on which a plugin should run its blocking calls to the datasource. The scheduler is bounded
+     * in the number of threads as well as the number of tasks waiting for a thread. When both are used up, the task is
+     * rejected with a `RejectedExecutionException`.
+     *
+     * @param pluginName : Name of the plugin, like `postgres-plugin`. All calls with the same name share a scheduler.
+     * @return Scheduler dedicated to the plugin.
+     */
+    Scheduler getScheduler(String pluginName);
+}
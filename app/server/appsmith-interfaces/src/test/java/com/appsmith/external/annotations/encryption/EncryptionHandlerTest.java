@@ -5,10 +5,12 @@ import lombok.Getter;
 import lombok.Setter;
 import org.junit.Assert;
 import org.junit.Test;
+import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public class EncryptionHandlerTest {
 
@@ -164,6 +166,47 @@ public class EncryptionHandlerTest {
 
     }
 
+    @Test
+    public void testConvertEncryption_SkipsFieldsNotInStoredDocument() {
+        EncryptionHandler encryptionHandler = new EncryptionHandler();
+
+        final TestDomain testDomain = new TestDomain();
+        testDomain.setEncryptedInDomain("String");
+
+        final TestSubDomain testSubDomain = new TestSubDomain();
+        testSubDomain.setEncryptedInSubDomain("String");
+        testDomain.setEncryptedSubDomainWithValue(testSubDomain);
+
+        final boolean b = encryptionHandler.convertEncryption(testDomain, Set.of("encryptedInDomain"), "Encrypted-"::concat);
+
+        Assert.assertTrue(b);
+        Assert.assertEquals("Encrypted-String", testDomain.getEncryptedInDomain());
+        Assert.assertEquals("String", testDomain.getEncryptedSubDomainWithValue().getEncryptedInSubDomain());
+    }
+
+    @Test
+    public void testConvertEncryption_MatchesMappedFieldsByStoredName() {
+        EncryptionHandler encryptionHandler = new EncryptionHandler();
+
+        final TestDomainWithMappedField testDomain = new TestDomainWithMappedField();
+        testDomain.setEncryptedWithMapping("String");
+
+        final boolean b = encryptionHandler.convertEncryption(testDomain, Set.of("storedName"), "Encrypted-"::concat);
+
+        Assert.assertTrue(b);
+        Assert.assertEquals("Encrypted-String", testDomain.getEncryptedWithMapping());
+    }
+
+    @Getter
+    @Setter
+    static class TestDomainWithMappedField implements AppsmithDomain {
+
+        // The stored document has this field under the name in the mapping, and not the name of the field
+        @Encrypted
+        @Field("storedName")
+        String encryptedWithMapping;
+    }
+
     @Getter
     @Setter
     static class TestDomain implements AppsmithDomain {
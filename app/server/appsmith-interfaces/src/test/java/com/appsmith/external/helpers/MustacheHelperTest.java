@@ -8,16 +8,23 @@ import com.appsmith.external.models.Property;
 import org.assertj.core.api.IterableAssert;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static com.appsmith.external.helpers.MustacheHelper.extractMustacheKeys;
 import static com.appsmith.external.helpers.MustacheHelper.extractMustacheKeysFromFields;
+import static com.appsmith.external.helpers.MustacheHelper.extractMustacheKeysInOrder;
+import static com.appsmith.external.helpers.MustacheHelper.extractWordsAndAddToSet;
+import static com.appsmith.external.helpers.MustacheHelper.laxIsBindingPresentInString;
 import static com.appsmith.external.helpers.MustacheHelper.render;
 import static com.appsmith.external.helpers.MustacheHelper.renderFieldValues;
+import static com.appsmith.external.helpers.MustacheHelper.replaceNameInFieldValues;
+import static com.appsmith.external.helpers.MustacheHelper.replaceNameInMustacheKeys;
 import static com.appsmith.external.helpers.MustacheHelper.tokenize;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -628,4 +635,81 @@ public class MustacheHelperTest {
         assertThat(rendered).isEqualTo("leading value1 and then value2 tailing.");
     }
 
+    @Test
+    public void keysAreThoseOfTheTokens() {
+        final List<String> templates = List.of(
+                "",
+                "{",
+                "{{",
+                "{{}}",
+                "{{}}{{}}}",
+                "{{{}}",
+                "{{ {}}",
+                "{{ '}}",
+                "{{ {{",
+                "}} {{",
+                "{{a}}{{b}} and {{ c }}{",
+                "{{ \"a\\\"}}\" }} then {{b}}",
+                "{{ `x${'}}'}` }}",
+                "{{data.map(datum => {return {id: datum}})}}",
+                "Rows of {{Query1.data.length}} in page {{Table1.pageNo}}"
+        );
+
+        for (String template : templates) {
+            final List<String> keysOfTokens = new ArrayList<>();
+            for (String token : tokenize(template)) {
+                if (token.startsWith("{{") && token.endsWith("}}")) {
+                    keysOfTokens.add(token.substring(2, token.length() - 2).trim());
+                }
+            }
+            assertThat(extractMustacheKeysInOrder(template)).as(template).isEqualTo(keysOfTokens);
+        }
+    }
+
+    @Test
+    public void extractWords() {
+        final Set<String> words = new HashSet<>();
+        extractWordsAndAddToSet(words, " JSON.stringify(fetchUsers.data[0].id) + 1Input_2.text + _private..x. ");
+        assertThat(words).containsExactlyInAnyOrder("JSON", "fetchUsers", "id", "Input_2", "_private");
+    }
+
+    @Test
+    public void laxBindingPresence() {
+        assertThat(laxIsBindingPresentInString("Hello {{name}}")).isTrue();
+        assertThat(laxIsBindingPresentInString("{{}}")).isTrue();
+        assertThat(laxIsBindingPresentInString("{{ multi\nline }}")).isTrue();
+        assertThat(laxIsBindingPresentInString("}} {{")).isFalse();
+        assertThat(laxIsBindingPresentInString("{{}")).isFalse();
+        assertThat(laxIsBindingPresentInString("no bindings")).isFalse();
+    }
+
+    @Test
+    public void replaceNameInKeys() {
+        assertThat(replaceNameInMustacheKeys(
+                "Input1 has {{Input1.text}} and {{ [Input1.text, Input10.text, myInput1, x.Input1, Input1 ] }}",
+                "Input1", "NameInput"))
+                .isEqualTo("Input1 has {{NameInput.text}} and {{ [NameInput.text, Input10.text, myInput1, x.Input1, NameInput ] }}");
+
+        assertThat(replaceNameInMustacheKeys("{{ Query1.data.map(row => Query1.run()) }}", "Query1", "Q"))
+                .isEqualTo("{{ Q.data.map(row => Q.run()) }}");
+
+        final String unchanged = "SELECT * FROM Query1 WHERE id = {{Input1.text}}";
+        assertThat(replaceNameInMustacheKeys(unchanged, "Query1", "Users")).isSameAs(unchanged);
+        assertThat(replaceNameInMustacheKeys("", "Query1", "Users")).isEmpty();
+    }
+
+    @Test
+    public void replaceNameInFields() {
+        final ActionConfiguration configuration = new ActionConfiguration();
+        configuration.setBody("SELECT * FROM Input1 WHERE id = {{Input1.text}}");
+        configuration.setPath("/users/{{ Input1.text }}");
+        configuration.setHeaders(List.of(new Property("X-Id", "{{Input1.id}}"), new Property("X-Other", "{{Input2.id}}")));
+
+        final ActionConfiguration replaced = replaceNameInFieldValues(configuration, "Input1", "IdInput");
+
+        assertThat(replaced.getBody()).isEqualTo("SELECT * FROM Input1 WHERE id = {{IdInput.text}}");
+        assertThat(replaced.getPath()).isEqualTo("/users/{{ IdInput.text }}");
+        assertThat(replaced.getHeaders()).extracting(Property::getValue).containsExactly("{{IdInput.id}}", "{{Input2.id}}");
+    }
+
 }
@@ -31,6 +31,8 @@ import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.DefaultPluginSchedulerProvider;
+import com.appsmith.external.services.PluginSchedulerProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.StringUtils;
 import org.pf4j.Extension;
@@ -38,7 +40,6 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -89,7 +90,15 @@ public class AmazonS3Plugin extends BasePlugin {
     @Slf4j
     @Extension
     public static class S3PluginExecutor implements PluginExecutor<AmazonS3> {
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler;
+
+        public S3PluginExecutor() {
+            this(DefaultPluginSchedulerProvider.getInstance());
+        }
+
+        public S3PluginExecutor(PluginSchedulerProvider pluginSchedulerProvider) {
+            this.scheduler = pluginSchedulerProvider.getScheduler("amazons3-plugin");
+        }
 
         /*
          * - Exception thrown by this method is expected to be handled by the caller.
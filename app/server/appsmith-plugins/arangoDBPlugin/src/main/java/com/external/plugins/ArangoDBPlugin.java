@@ -15,6 +15,8 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.DefaultPluginSchedulerProvider;
+import com.appsmith.external.services.PluginSchedulerProvider;
 import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoDB.Builder;
 import com.arangodb.ArangoDBException;
@@ -31,7 +33,6 @@ import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -61,7 +62,15 @@ public class ArangoDBPlugin extends BasePlugin {
     @Extension
     public static class ArangoDBPluginExecutor implements PluginExecutor<ArangoDatabase> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler;
+
+        public ArangoDBPluginExecutor() {
+            this(DefaultPluginSchedulerProvider.getInstance());
+        }
+
+        public ArangoDBPluginExecutor(PluginSchedulerProvider pluginSchedulerProvider) {
+            this.scheduler = pluginSchedulerProvider.getScheduler("arangodb-plugin");
+        }
 
         @Override
         public Mono<ActionExecutionResult> execute(ArangoDatabase db,
@@ -10,9 +10,14 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.DefaultPluginSchedulerProvider;
+import com.appsmith.external.services.PluginSchedulerProvider;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.BooleanUtils;
@@ -20,9 +25,9 @@ import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
@@ -33,6 +38,8 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbResponse;
 import software.amazon.awssdk.services.dynamodb.model.ListTablesResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -50,6 +57,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -59,6 +70,7 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 public class DynamoPlugin extends BasePlugin {
 
     private static final String SCAN_ACTION_VALUE = "Scan";
+    private static final String QUERY_ACTION_VALUE = "Query";
     private static final String GET_ITEM_ACTION_VALUE = "GetItem";
     private static final String BATCH_GET_ITEM_ACTION_VALUE = "BatchGetItem";
     private static final String TRANSACT_GET_ITEMS_ACTION_VALUE = "TransactGetItems";
@@ -79,6 +91,22 @@ public class DynamoPlugin extends BasePlugin {
     private static final String DYNAMO_TYPE_BINARY_SET_LABEL = "BS";
     private static final String DYNAMO_TYPE_MAP_LABEL = "M";
     private static final String DYNAMO_TYPE_LIST_LABEL = "L";
+    private static final String COUNT_KEY = "Count";
+    private static final String SCANNED_COUNT_KEY = "ScannedCount";
+    private static final String LAST_EVALUATED_KEY = "LastEvaluatedKey";
+    private static final String TRUNCATED_KEY = "Truncated";
+    private static final String YES = "YES";
+    private static final int FETCH_ALL_PAGES_PROPERTY_INDEX = 0;
+    private static final int MAX_ITEMS_PROPERTY_INDEX = 1;
+    private static final int MAX_RESPONSE_SIZE_PROPERTY_INDEX = 2;
+    private static final int SCAN_SEGMENTS_PROPERTY_INDEX = 3;
+    private static final int DEFAULT_MAX_ITEMS = 10000;
+    private static final int DEFAULT_MAX_RESPONSE_SIZE_IN_MB = 5;
+    private static final int MAX_SCAN_SEGMENTS = 16;
+
+    private static final Map<String, Class<?>> REQUEST_CLASS_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, Method> ACTION_METHOD_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, SdkBuilderMethods> BUILDER_METHODS_CACHE = new ConcurrentHashMap<>();
 
     public DynamoPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -99,7 +127,22 @@ public class DynamoPlugin extends BasePlugin {
     @Extension
     public static class DynamoPluginExecutor implements PluginExecutor<DynamoDbClient> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler;
+
+        /*
+         * - Parallel segment scans run on a scheduler of their own, since the execution that waits for them already holds
+         *   a thread of the plugin's scheduler. Both are owned by the provider, which disposes them.
+         */
+        private final Scheduler segmentScanScheduler;
+
+        public DynamoPluginExecutor() {
+            this(DefaultPluginSchedulerProvider.getInstance());
+        }
+
+        public DynamoPluginExecutor(PluginSchedulerProvider pluginSchedulerProvider) {
+            this.scheduler = pluginSchedulerProvider.getScheduler("dynamo-plugin");
+            this.segmentScanScheduler = pluginSchedulerProvider.getScheduler("dynamo-plugin-segment-scan");
+        }
 
         public Object extractValue(Object rawItem) {
 
@@ -314,7 +357,7 @@ public class DynamoPlugin extends BasePlugin {
 
                 final Class<?> requestClass;
                 try {
-                    requestClass = Class.forName("software.amazon.awssdk.services.dynamodb.model." + action + "Request");
+                    requestClass = getRequestClass(action);
                 } catch (ClassNotFoundException e) {
                     throw new AppsmithPluginException(
                             AppsmithPluginError.PLUGIN_ERROR,
@@ -322,15 +365,21 @@ public class DynamoPlugin extends BasePlugin {
                     );
                 }
 
+                final PaginationOptions paginationOptions = getPaginationOptions(action, actionConfiguration);
+                if (paginationOptions != null) {
+                    requestData.put("paginationOptions", paginationOptions.toMap());
+                }
+
                 try {
-                    final Method actionExecuteMethod = DynamoDbClient.class.getMethod(
-                            // Convert `ListTables` to `listTables`, which is the name of the method to execute this action.
-                            toLowerCamelCase(action),
-                            requestClass
-                    );
-                    final Object sdkValue = plainToSdk(parameters, requestClass);
-                    final DynamoDbResponse response = (DynamoDbResponse) actionExecuteMethod.invoke(ddb, sdkValue);
-                    Object rawResponse = sdkToPlain(response);
+                    final Object rawResponse;
+                    if (paginationOptions == null) {
+                        final Method actionExecuteMethod = getActionExecuteMethod(action, requestClass);
+                        final Object sdkValue = plainToSdk(parameters, requestClass);
+                        final DynamoDbResponse response = (DynamoDbResponse) actionExecuteMethod.invoke(ddb, sdkValue);
+                        rawResponse = sdkToPlain(response);
+                    } else {
+                        rawResponse = fetchAllPages(ddb, action, parameters, paginationOptions);
+                    }
                     Object transformedResponse = getTransformedResponse((Map<String, Object>)rawResponse, action);
                     result.setBody(transformedResponse);
                 } catch (AppsmithPluginException | InvocationTargetException | IllegalAccessException | NoSuchMethodException | ClassNotFoundException e) {
@@ -361,6 +410,143 @@ public class DynamoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Reads the options for following `LastEvaluatedKey` across pages from the action configuration. These options
+         * are only honoured for the `Scan` and `Query` actions.
+         * @return The pagination options, or null if only a single page is to be fetched for this action.
+         * @throws AppsmithPluginException Thrown if any of the limits configured is not a positive number.
+         */
+        PaginationOptions getPaginationOptions(String action, ActionConfiguration actionConfiguration)
+                throws AppsmithPluginException {
+
+            if (!SCAN_ACTION_VALUE.equals(action) && !QUERY_ACTION_VALUE.equals(action)) {
+                return null;
+            }
+
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (!YES.equals(getPropertyValue(properties, FETCH_ALL_PAGES_PROPERTY_INDEX))) {
+                return null;
+            }
+
+            final int maxItems = getPositiveIntegerProperty(properties, MAX_ITEMS_PROPERTY_INDEX,
+                    DEFAULT_MAX_ITEMS, "Max items");
+            final int maxResponseSizeInMb = getPositiveIntegerProperty(properties, MAX_RESPONSE_SIZE_PROPERTY_INDEX,
+                    DEFAULT_MAX_RESPONSE_SIZE_IN_MB, "Max response size");
+            int segments = 1;
+            if (SCAN_ACTION_VALUE.equals(action)) {
+                segments = getPositiveIntegerProperty(properties, SCAN_SEGMENTS_PROPERTY_INDEX, 1,
+                        "Parallel scan segments");
+                if (segments > MAX_SCAN_SEGMENTS) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            "Parallel scan segments can not be more than " + MAX_SCAN_SEGMENTS + "."
+                    );
+                }
+            }
+
+            return new PaginationOptions(maxItems, (long) maxResponseSizeInMb * 1024 * 1024, segments);
+        }
+
+        /**
+         * Executes a `Scan` or `Query` action, following `LastEvaluatedKey` until there are no more pages or until the
+         * item or size budget is used up. The budget is checked after every page, so the response holds whole pages
+         * and its `LastEvaluatedKey` can be used to resume from where the execution stopped. For a `Scan` with more
+         * than one segment, the segments are scanned in parallel and their items are merged into one response.
+         * @return Plain response, with the same shape as the response for a single page of this action.
+         */
+        Map<String, Object> fetchAllPages(DynamoDbClient ddb,
+                                          String action,
+                                          Map<String, Object> parameters,
+                                          PaginationOptions paginationOptions)
+                throws IllegalAccessException, InvocationTargetException, NoSuchMethodException,
+                AppsmithPluginException, ClassNotFoundException {
+
+            final AtomicInteger itemCount = new AtomicInteger();
+            final AtomicLong responseSize = new AtomicLong();
+            final AtomicBoolean isBudgetExhausted = new AtomicBoolean(false);
+
+            final Flux<Map<String, Object>> pages;
+            if (QUERY_ACTION_VALUE.equals(action)) {
+                final QueryRequest queryRequest = plainToSdk(parameters, QueryRequest.class);
+                pages = fetchSegmentPages(ddb.queryPaginator(queryRequest), paginationOptions, itemCount,
+                        responseSize, isBudgetExhausted);
+            } else if (paginationOptions.getSegments() == 1) {
+                final ScanRequest scanRequest = plainToSdk(parameters, ScanRequest.class);
+                pages = fetchSegmentPages(ddb.scanPaginator(scanRequest), paginationOptions, itemCount,
+                        responseSize, isBudgetExhausted);
+            } else {
+                final ScanRequest scanRequest = plainToSdk(parameters, ScanRequest.class);
+                final int segments = paginationOptions.getSegments();
+                pages = Flux.range(0, segments)
+                        .flatMap(segment -> {
+                            final ScanRequest segmentRequest = scanRequest.toBuilder()
+                                    .segment(segment)
+                                    .totalSegments(segments)
+                                    .build();
+                            return fetchSegmentPages(ddb.scanPaginator(segmentRequest), paginationOptions, itemCount,
+                                    responseSize, isBudgetExhausted)
+                                    .subscribeOn(segmentScanScheduler);
+                        }, segments);
+            }
+
+            final List<Object> items = new ArrayList<>();
+            int count = 0;
+            int scannedCount = 0;
+            Object lastEvaluatedKey = null;
+            for (Map<String, Object> page : pages.collectList().block()) {
+                final Object pageItems = page.get(ITEMS_KEY);
+                if (pageItems instanceof Collection) {
+                    items.addAll((Collection<Object>) pageItems);
+                }
+                count += getIntValue(page.get(COUNT_KEY));
+                scannedCount += getIntValue(page.get(SCANNED_COUNT_KEY));
+                lastEvaluatedKey = page.get(LAST_EVALUATED_KEY);
+            }
+
+            final boolean isTruncated = isBudgetExhausted.get();
+
+            final Map<String, Object> response = new HashMap<>();
+            response.put(ITEMS_KEY, items);
+            response.put(COUNT_KEY, count);
+            response.put(SCANNED_COUNT_KEY, scannedCount);
+            response.put(TRUNCATED_KEY, isTruncated);
+            /*
+             * - With parallel segments, there is no single key to resume from, hence it is only returned when the pages
+             *   were fetched sequentially.
+             */
+            if (isTruncated && paginationOptions.getSegments() == 1) {
+                response.put(LAST_EVALUATED_KEY, lastEvaluatedKey);
+            }
+
+            return response;
+        }
+
+        private Flux<Map<String, Object>> fetchSegmentPages(Iterable<? extends DynamoDbResponse> paginator,
+                                                            PaginationOptions paginationOptions,
+                                                            AtomicInteger itemCount,
+                                                            AtomicLong responseSize,
+                                                            AtomicBoolean isBudgetExhausted) {
+            return Flux.fromIterable(paginator)
+                    // Another segment may have used up the budget while this page was being fetched.
+                    .takeWhile(page -> !isBudgetExhausted.get())
+                    .map(page -> (Map<String, Object>) sdkToPlain(page))
+                    .takeUntil(page -> {
+                        final int totalItems = itemCount.addAndGet(getIntValue(page.get(COUNT_KEY)));
+                        final long totalSize = responseSize.addAndGet(estimateSize(page.get(ITEMS_KEY)));
+                        final Object lastEvaluatedKey = page.get(LAST_EVALUATED_KEY);
+                        final boolean hasMorePages = lastEvaluatedKey instanceof Map
+                                && !((Map<?, ?>) lastEvaluatedKey).isEmpty();
+                        if (hasMorePages
+                                && (totalItems >= paginationOptions.getMaxItems()
+                                || totalSize >= paginationOptions.getMaxResponseSize())) {
+                            isBudgetExhausted.set(true);
+                            return true;
+                        }
+
+                        return false;
+                    });
+        }
+
         @Override
         public Mono<DynamoDbClient> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
 
@@ -475,10 +661,194 @@ public class DynamoPlugin extends BasePlugin {
 
     }
 
+    /**
+     * Options for fetching all pages of a `Scan` or a `Query` action.
+     */
+    @Getter
+    @AllArgsConstructor
+    static class PaginationOptions {
+
+        private final int maxItems;
+
+        private final long maxResponseSize;
+
+        private final int segments;
+
+        Map<String, Object> toMap() {
+            final Map<String, Object> options = new HashMap<>();
+            options.put("maxItems", maxItems);
+            options.put("maxResponseSize", maxResponseSize);
+            options.put("segments", segments);
+            return options;
+        }
+    }
+
+    private static Object getPropertyValue(List<Property> properties, int index) {
+        if (properties == null || properties.size() <= index || properties.get(index) == null) {
+            return null;
+        }
+
+        return properties.get(index).getValue();
+    }
+
+    private static int getPositiveIntegerProperty(List<Property> properties,
+                                                  int index,
+                                                  int defaultValue,
+                                                  String label) throws AppsmithPluginException {
+        final Object value = getPropertyValue(properties, index);
+        if (value == null || StringUtils.isEmpty(value.toString().trim())) {
+            return defaultValue;
+        }
+
+        try {
+            final int intValue = Integer.parseInt(value.toString().trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below, along with non-positive values.
+        }
+
+        throw new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                label + " must be a positive whole number, found: " + value
+        );
+    }
+
+    private static int getIntValue(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    /**
+     * Gives a rough estimate of the size of a plain DynamoDB value in bytes, by adding up the lengths of the strings
+     * and keys in it. This is only used to bound the size of responses, and so does not need to be exact.
+     */
+    static long estimateSize(Object value) {
+        if (value instanceof Map) {
+            long size = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+            }
+            return size;
+        } else if (value instanceof Collection) {
+            long size = 0;
+            for (Object item : (Collection<?>) value) {
+                size += estimateSize(item);
+            }
+            return size;
+        } else if (value instanceof String) {
+            return ((String) value).length();
+        } else if (value == null) {
+            return 0;
+        }
+
+        return 8;
+    }
+
     private static String toLowerCamelCase(String action) {
         return action.substring(0, 1).toLowerCase() + action.substring(1);
     }
 
+    /**
+     * Finds the SDK request class for the given action, like `ListTablesRequest` for `ListTables`. The lookup result is
+     * cached, so that `Class.forName` is called only once per action.
+     * @param action Name of the DynamoDB action, like `ListTables`, `GetItem` etc.
+     * @return The request class from the AWS SDK for this action.
+     * @throws ClassNotFoundException Thrown if there is no request class for this action in the AWS SDK.
+     */
+    private static Class<?> getRequestClass(String action) throws ClassNotFoundException {
+        Class<?> requestClass = REQUEST_CLASS_CACHE.get(action);
+        if (requestClass == null) {
+            requestClass = Class.forName("software.amazon.awssdk.services.dynamodb.model." + action + "Request");
+            REQUEST_CLASS_CACHE.putIfAbsent(action, requestClass);
+        }
+
+        return requestClass;
+    }
+
+    /**
+     * Finds the method on `DynamoDbClient` that executes the given action. The lookup result is cached, so that the
+     * methods of `DynamoDbClient` are scanned only once per action.
+     * @param action Name of the DynamoDB action, like `ListTables`, `GetItem` etc.
+     * @param requestClass Request class for this action, as given by `getRequestClass`.
+     * @return The method on `DynamoDbClient` to be invoked for this action.
+     * @throws NoSuchMethodException Thrown if `DynamoDbClient` has no method for this action.
+     */
+    private static Method getActionExecuteMethod(String action, Class<?> requestClass) throws NoSuchMethodException {
+        Method method = ACTION_METHOD_CACHE.get(action);
+        if (method == null) {
+            // Convert `ListTables` to `listTables`, which is the name of the method to execute this action.
+            method = DynamoDbClient.class.getMethod(toLowerCamelCase(action), requestClass);
+            ACTION_METHOD_CACHE.putIfAbsent(action, method);
+        }
+
+        return method;
+    }
+
+    private static SdkBuilderMethods getBuilderMethods(Class<?> type)
+            throws ClassNotFoundException, NoSuchMethodException {
+        SdkBuilderMethods builderMethods = BUILDER_METHODS_CACHE.get(type);
+        if (builderMethods == null) {
+            builderMethods = new SdkBuilderMethods(type);
+            BUILDER_METHODS_CACHE.putIfAbsent(type, builderMethods);
+        }
+
+        return builderMethods;
+    }
+
+    /**
+     * Reflection handles for creating an SDK object of a given type through its builder. The `builder` and `build`
+     * methods are resolved upfront, while the setters are resolved on first use and then remembered by name, since
+     * resolving them needs a scan over all methods of the builder type. Setter names come from the user's request, so
+     * only the names of setters that exist are remembered, which bounds the caches by the methods of the builder.
+     */
+    private static class SdkBuilderMethods {
+
+        private final Class<?> builderType;
+
+        private final Method builderMethod;
+
+        private final Method buildMethod;
+
+        private final Map<String, Method> stringSetters = new ConcurrentHashMap<>();
+
+        private final Map<String, Method> mapSetters = new ConcurrentHashMap<>();
+
+        private final Map<String, Method> collectionSetters = new ConcurrentHashMap<>();
+
+        private final Map<Method, Type> genericParameterTypes = new ConcurrentHashMap<>();
+
+        SdkBuilderMethods(Class<?> type) throws ClassNotFoundException, NoSuchMethodException {
+            builderType = Class.forName(type.getName() + "$Builder");
+            builderMethod = type.getMethod("builder");
+            buildMethod = builderType.getMethod("build");
+        }
+
+        Method getStringSetter(String setterName) {
+            // A null result from `computeIfAbsent` is not stored, so names that don't match a setter are not cached.
+            return stringSetters.computeIfAbsent(setterName, name -> findMethod(builderType, method -> {
+                final Class<?>[] parameterTypes = method.getParameterTypes();
+                return method.getName().equals(name)
+                        && (SdkBytes.class.isAssignableFrom(parameterTypes[0]) || String.class.isAssignableFrom(parameterTypes[0]));
+            }));
+        }
+
+        Method getMapSetter(String setterName) {
+            return mapSetters.computeIfAbsent(setterName, name -> findMethod(builderType, m -> m.getName().equals(name)));
+        }
+
+        Method getCollectionSetter(String setterName) {
+            // Find method by name and exclude the varargs version of the method.
+            return collectionSetters.computeIfAbsent(setterName, name ->
+                    findMethod(builderType, m -> m.getName().equals(name) && !m.getParameterTypes()[0].getName().startsWith("[L"))
+            );
+        }
+
+        Type getGenericParameterType(Method setterMethod) {
+            return genericParameterTypes.computeIfAbsent(setterMethod, m -> m.getGenericParameterTypes()[0]);
+        }
+    }
+
     /**
      * Given a map that conforms to what a valid DynamoDB request should look like, this function will convert into
      * a DynamoDBRequest object from AWS SDK. This is done using Java's reflection API.
@@ -495,9 +865,10 @@ public class DynamoPlugin extends BasePlugin {
             throws IllegalAccessException, InvocationTargetException, NoSuchMethodException,
             AppsmithPluginException, ClassNotFoundException {
 
-        final Class<?> builderType = Class.forName(type.getName() + "$Builder");
+        final SdkBuilderMethods builderMethods = getBuilderMethods(type);
+        final Class<?> builderType = builderMethods.builderType;
 
-        final Object builder = type.getMethod("builder").invoke(null);
+        final Object builder = builderMethods.builderMethod.invoke(null);
 
         if (mapping != null) {
             for (final Map.Entry<String, Object> entry : mapping.entrySet()) {
@@ -508,11 +879,7 @@ public class DynamoPlugin extends BasePlugin {
                     // AWS SDK has two data types that are represented as Strings in JSON, namely strings and binary.
                     // We look at the parameter types for the setter method to decide which it should be, and then set
                     // convert the value if needed before calling the setter.
-                    final Method setterMethod = findMethod(builderType, method -> {
-                        final Class<?>[] parameterTypes = method.getParameterTypes();
-                        return method.getName().equals(setterName)
-                                && (SdkBytes.class.isAssignableFrom(parameterTypes[0]) || String.class.isAssignableFrom(parameterTypes[0]));
-                    });
+                    final Method setterMethod = builderMethods.getStringSetter(setterName);
                     if (setterMethod == null) {
                         throw new AppsmithPluginException(
                                 AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
@@ -535,8 +902,8 @@ public class DynamoPlugin extends BasePlugin {
                 } else if (value instanceof Map) {
                     // For maps, we go recursive, applying this transformation to each value, and replacing with the
                     // result in the map. Generic types in the setter method's signature are used to convert the values.
-                    final Method setterMethod = findMethod(builderType, m -> m.getName().equals(setterName));
-                    final Type parameterType = setterMethod.getGenericParameterTypes()[0];
+                    final Method setterMethod = builderMethods.getMapSetter(setterName);
+                    final Type parameterType = builderMethods.getGenericParameterType(setterMethod);
                     if (parameterType instanceof ParameterizedType) {
                         final ParameterizedType valueType = (ParameterizedType) parameterType;
                         final Map<String, Object> transformedMap = new HashMap<>();
@@ -561,9 +928,8 @@ public class DynamoPlugin extends BasePlugin {
                 } else if (value instanceof Collection) {
                     // For linear collections, the process is similar to that of maps.
                     final Collection<Object> valueAsCollection = (Collection) value;
-                    // Find method by name and exclude the varargs version of the method.
-                    final Method setterMethod = findMethod(builderType, m -> m.getName().equals(setterName) && !m.getParameterTypes()[0].getName().startsWith("[L"));
-                    Type valueType = ((ParameterizedType) setterMethod.getGenericParameterTypes()[0]).getActualTypeArguments()[0];
+                    final Method setterMethod = builderMethods.getCollectionSetter(setterName);
+                    Type valueType = ((ParameterizedType) builderMethods.getGenericParameterType(setterMethod)).getActualTypeArguments()[0];
                     if (valueType instanceof WildcardType) {
                         // This occurs when the method's parameter is typed as `Collection<? extends Map<...>>`. Example op: `BatchGetItem`.
                         valueType = ((WildcardType) valueType).getUpperBounds()[0];
@@ -590,7 +956,7 @@ public class DynamoPlugin extends BasePlugin {
             }
         }
 
-        return (T) builderType.getMethod("build").invoke(builder);
+        return (T) builderMethods.buildMethod.invoke(builder);
     }
 
     public static Object plainToSdk(Map<String, Object> mapping, Type type)
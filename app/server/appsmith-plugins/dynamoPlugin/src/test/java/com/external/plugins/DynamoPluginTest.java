@@ -6,6 +6,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import lombok.extern.log4j.Log4j;
 import org.junit.BeforeClass;
@@ -302,6 +303,98 @@ public class DynamoPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testScanFetchAllPages() {
+        final String body = "{\n" +
+                "  \"TableName\": \"cities\",\n" +
+                "  \"Limit\": 1\n" +
+                "}\n";
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("Scan");
+        actionConfiguration.setBody(body);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("fetchAllPages", "YES")));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    final Map<String, Object> response = (Map<String, Object>) result.getBody();
+                    List<Map<String, Object>> items = (List<Map<String, Object>>) response.get("Items");
+                    assertEquals(2, items.size());
+                    assertEquals(2, response.get("Count"));
+                    assertEquals(false, response.get("Truncated"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testScanFetchAllPagesWithItemBudget() {
+        final String body = "{\n" +
+                "  \"TableName\": \"cities\",\n" +
+                "  \"Limit\": 1\n" +
+                "}\n";
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("Scan");
+        actionConfiguration.setBody(body);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(
+                new Property("fetchAllPages", "YES"),
+                new Property("maxItems", "1")
+        ));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    final Map<String, Object> response = (Map<String, Object>) result.getBody();
+                    List<Map<String, Object>> items = (List<Map<String, Object>>) response.get("Items");
+                    assertEquals(1, items.size());
+                    assertEquals(true, response.get("Truncated"));
+                    assertNotNull(response.get("LastEvaluatedKey"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testParallelSegmentScan() {
+        final String body = "{\n" +
+                "  \"TableName\": \"cities\"\n" +
+                "}\n";
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("Scan");
+        actionConfiguration.setBody(body);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(
+                new Property("fetchAllPages", "YES"),
+                new Property("maxItems", ""),
+                new Property("maxResponseSize", ""),
+                new Property("segments", "4")
+        ));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    List<Map<String, Object>> items =
+                            (List<Map<String, Object>>) ((Map<String, Object>) result.getBody()).get("Items");
+                    assertEquals(2, items.size());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testBatchGetItem() {
         final String body = "{\n" +
@@ -12,6 +12,8 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.DefaultPluginSchedulerProvider;
+import com.appsmith.external.services.PluginSchedulerProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.Header;
 import org.apache.http.HttpHost;
@@ -34,7 +36,6 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
@@ -59,7 +60,15 @@ public class ElasticSearchPlugin extends BasePlugin {
     @Extension
     public static class ElasticSearchPluginExecutor implements PluginExecutor<RestClient> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler;
+
+        public ElasticSearchPluginExecutor() {
+            this(DefaultPluginSchedulerProvider.getInstance());
+        }
+
+        public ElasticSearchPluginExecutor(PluginSchedulerProvider pluginSchedulerProvider) {
+            this.scheduler = pluginSchedulerProvider.getScheduler("elasticsearch-plugin");
+        }
 
         @Override
         public Mono<ActionExecutionResult> execute(RestClient client,
@@ -15,6 +15,8 @@ import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.DefaultPluginSchedulerProvider;
+import com.appsmith.external.services.PluginSchedulerProvider;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.api.core.ApiFuture;
 import com.google.auth.oauth2.GoogleCredentials;
@@ -37,7 +39,6 @@ import org.springframework.util.CollectionUtils;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -45,11 +46,13 @@ import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -79,15 +82,76 @@ public class FirestorePlugin extends BasePlugin {
     private static final int FIELDVALUE_DELETE_PROPERTY_INDEX = 9;
     private static final String FIELDVALUE_TIMESTAMP_METHOD_NAME = "serverTimestamp";
 
+    /*
+     * - The document-level methods are resolved once on `DocumentReference`, instead of looking them up via reflection
+     *   for every execution.
+     */
+    private static final Map<com.external.plugins.Method, java.lang.reflect.Method> DOCUMENT_LEVEL_METHODS =
+            getDocumentLevelMethods();
+
+    private static final Map<String, java.lang.reflect.Method> FIELDVALUE_METHODS = new ConcurrentHashMap<>();
+
     public FirestorePlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
+    private static Map<com.external.plugins.Method, java.lang.reflect.Method> getDocumentLevelMethods() {
+        Map<com.external.plugins.Method, java.lang.reflect.Method> documentLevelMethods =
+                new EnumMap<>(com.external.plugins.Method.class);
+
+        for (com.external.plugins.Method method : com.external.plugins.Method.values()) {
+            if (!method.isDocumentLevel()) {
+                continue;
+            }
+
+            final String methodName = method.toString().split("_")[0].toLowerCase();
+            try {
+                switch (method) {
+                    case GET_DOCUMENT:
+                    case DELETE_DOCUMENT:
+                        documentLevelMethods.put(method, DocumentReference.class.getMethod(methodName));
+                        break;
+                    case SET_DOCUMENT:
+                    case CREATE_DOCUMENT:
+                    case UPDATE_DOCUMENT:
+                        documentLevelMethods.put(method, DocumentReference.class.getMethod(methodName, Map.class));
+                        break;
+                    default:
+                        break;
+                }
+            } catch (NoSuchMethodException e) {
+                /*
+                 * - Leave this method out of the map. Executing it will then report an error for this operation.
+                 */
+            }
+        }
+
+        return Collections.unmodifiableMap(documentLevelMethods);
+    }
+
+    private static java.lang.reflect.Method getFieldValueMethod(String fieldValueName) throws NoSuchMethodException {
+        java.lang.reflect.Method fieldValueMethod = FIELDVALUE_METHODS.get(fieldValueName);
+        if (fieldValueMethod == null) {
+            fieldValueMethod = FieldValue.class.getMethod(fieldValueName);
+            FIELDVALUE_METHODS.putIfAbsent(fieldValueName, fieldValueMethod);
+        }
+
+        return fieldValueMethod;
+    }
+
     @Slf4j
     @Extension
     public static class FirestorePluginExecutor implements PluginExecutor<Firestore> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler;
+
+        public FirestorePluginExecutor() {
+            this(DefaultPluginSchedulerProvider.getInstance());
+        }
+
+        public FirestorePluginExecutor(PluginSchedulerProvider pluginSchedulerProvider) {
+            this.scheduler = pluginSchedulerProvider.getScheduler("firestore-plugin");
+        }
 
         @Override
         @Deprecated
@@ -397,7 +461,7 @@ public class FirestorePlugin extends BasePlugin {
                                      *   specified obj argument is ignored. It may be null.
                                      * - Ref: https://docs.oracle.com/javase/8/docs/api/java/lang/reflect/Method.html#invoke-java.lang.Object-java.lang.Object...-
                                      */
-                                    FieldValue.class.getMethod(fieldValueName).invoke(null)
+                                    getFieldValueMethod(fieldValueName).invoke(null)
                             );
                         } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
                             /*
@@ -419,34 +483,32 @@ public class FirestorePlugin extends BasePlugin {
             return Mono.just(method)
                     // Get the actual Java method to be called.
                     .flatMap(method1 -> {
+                        switch (method1) {
+                            case GET_DOCUMENT:
+                            case DELETE_DOCUMENT:
+                                break;
+                            case SET_DOCUMENT:
+                            case CREATE_DOCUMENT:
+                            case UPDATE_DOCUMENT:
+                                requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  query, null,
+                                        null, null));
+                                break;
+                            default:
+                                return Mono.error(new AppsmithPluginException(
+                                        AppsmithPluginError.PLUGIN_ERROR,
+                                        "Invalid document-level method " + method1.toString()
+                                ));
+                        }
 
-
-                        final String methodName = method1.toString().split("_")[0].toLowerCase();
-                        try {
-                            switch (method1) {
-                                case GET_DOCUMENT:
-                                case DELETE_DOCUMENT:
-                                    return Mono.justOrEmpty(DocumentReference.class.getMethod(methodName));
-                                case SET_DOCUMENT:
-                                case CREATE_DOCUMENT:
-                                case UPDATE_DOCUMENT:
-                                    requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  query, null,
-                                            null, null));
-                                    return Mono.justOrEmpty(DocumentReference.class.getMethod(methodName, Map.class));
-                                default:
-                                    return Mono.error(new AppsmithPluginException(
-                                            AppsmithPluginError.PLUGIN_ERROR,
-                                            "Invalid document-level method " + method1.toString()
-                                    ));
-                            }
-
-                        } catch (NoSuchMethodException e) {
+                        final java.lang.reflect.Method operationMethod = DOCUMENT_LEVEL_METHODS.get(method1);
+                        if (operationMethod == null) {
                             return Mono.error(new AppsmithPluginException(
                                     AppsmithPluginError.PLUGIN_ERROR,
                                     "Error getting actual method for operation " + method1.toString()
                             ));
-
                         }
+
+                        return Mono.just(operationMethod);
                     })
                     // Call that method and get a Future of the result.
                     .flatMap(operationMethod -> {
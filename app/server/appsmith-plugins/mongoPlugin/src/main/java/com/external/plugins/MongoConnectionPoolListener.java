@@ -0,0 +1,59 @@
+package com.external.plugins;
+
+import com.appsmith.external.models.ConnectionPoolStats;
+import com.mongodb.event.ConnectionAddedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListenerAdapter;
+import com.mongodb.event.ConnectionPoolWaitQueueEnteredEvent;
+import com.mongodb.event.ConnectionPoolWaitQueueExitedEvent;
+import com.mongodb.event.ConnectionRemovedEvent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps count of the connections in the pools of a {@link com.mongodb.reactivestreams.client.MongoClient}, since the
+ * client doesn't expose the state of its pools. The counts add up the pools to all the servers the client talks to.
+ */
+public class MongoConnectionPoolListener extends ConnectionPoolListenerAdapter {
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger total = new AtomicInteger();
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        active.incrementAndGet();
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        active.decrementAndGet();
+    }
+
+    @Override
+    public void waitQueueEntered(ConnectionPoolWaitQueueEnteredEvent event) {
+        pending.incrementAndGet();
+    }
+
+    @Override
+    public void waitQueueExited(ConnectionPoolWaitQueueExitedEvent event) {
+        pending.decrementAndGet();
+    }
+
+    @Override
+    public void connectionAdded(ConnectionAddedEvent event) {
+        total.incrementAndGet();
+    }
+
+    @Override
+    public void connectionRemoved(ConnectionRemovedEvent event) {
+        total.decrementAndGet();
+    }
+
+    public ConnectionPoolStats getStats() {
+        final int activeCount = active.get();
+        final int totalCount = total.get();
+        return new ConnectionPoolStats(activeCount, Math.max(totalCount - activeCount, 0), pending.get(), totalCount);
+    }
+}
@@ -11,6 +11,7 @@ import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.ConnectionPoolStats;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
@@ -24,6 +25,10 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.DefaultPluginSchedulerProvider;
+import com.appsmith.external.services.PluginSchedulerProvider;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
@@ -42,7 +47,6 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -52,11 +56,13 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -166,7 +172,20 @@ public class MongoPlugin extends BasePlugin {
     @Extension
     public static class MongoPluginExecutor implements PluginExecutor<MongoClient>, SmartSubstitutionInterface {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler;
+
+        // The pool listener of every client created by this executor. Clients are weakly referenced so that those closed
+        // without going through datasourceDestroy, like the ones used to test a datasource, don't stay in here.
+        private final Map<MongoClient, MongoConnectionPoolListener> poolListeners =
+                Collections.synchronizedMap(new WeakHashMap<>());
+
+        public MongoPluginExecutor() {
+            this(DefaultPluginSchedulerProvider.getInstance());
+        }
+
+        public MongoPluginExecutor(PluginSchedulerProvider pluginSchedulerProvider) {
+            this.scheduler = pluginSchedulerProvider.getScheduler("mongo-plugin");
+        }
 
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
@@ -452,7 +471,15 @@ public class MongoPlugin extends BasePlugin {
                             return Mono.error(e);
                         }
                     })
-                    .map(MongoClients::create)
+                    .map(uri -> {
+                        final MongoConnectionPoolListener poolListener = new MongoConnectionPoolListener();
+                        final MongoClient mongoClient = MongoClients.create(MongoClientSettings.builder()
+                                .applyConnectionString(new ConnectionString(uri))
+                                .applyToConnectionPoolSettings(builder -> builder.addConnectionPoolListener(poolListener))
+                                .build());
+                        poolListeners.put(mongoClient, poolListener);
+                        return mongoClient;
+                    })
                     .onErrorMap(
                             IllegalArgumentException.class,
                             error ->
@@ -652,10 +679,17 @@ public class MongoPlugin extends BasePlugin {
         @Override
         public void datasourceDestroy(MongoClient mongoClient) {
             if (mongoClient != null) {
+                poolListeners.remove(mongoClient);
                 mongoClient.close();
             }
         }
 
+        @Override
+        public ConnectionPoolStats getConnectionPoolStats(MongoClient mongoClient) {
+            final MongoConnectionPoolListener poolListener = mongoClient == null ? null : poolListeners.get(mongoClient);
+            return poolListener == null ? null : poolListener.getStats();
+        }
+
         private boolean hostStringHasConnectionURIHead(String host) {
             if (!StringUtils.isEmpty(host) && (host.contains("mongodb://") || host.contains("mongodb+srv"))) {
                 return true;
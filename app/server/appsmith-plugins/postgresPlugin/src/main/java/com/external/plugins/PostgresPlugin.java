@@ -10,6 +10,7 @@ import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolStats;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
@@ -22,6 +23,8 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.DefaultPluginSchedulerProvider;
+import com.appsmith.external.services.PluginSchedulerProvider;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
@@ -35,7 +38,6 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.sql.Array;
@@ -116,7 +118,15 @@ public class PostgresPlugin extends BasePlugin {
     @Extension
     public static class PostgresPluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler;
+
+        public PostgresPluginExecutor() {
+            this(DefaultPluginSchedulerProvider.getInstance());
+        }
+
+        public PostgresPluginExecutor(PluginSchedulerProvider pluginSchedulerProvider) {
+            this.scheduler = pluginSchedulerProvider.getScheduler("postgres-plugin");
+        }
 
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n" +
@@ -265,18 +275,6 @@ public class PostgresPlugin extends BasePlugin {
                 PreparedStatement preparedQuery = null;
                 boolean isResultSet;
 
-                HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
-
-                int idleConnections = poolProxy.getIdleConnections();
-                int activeConnections = poolProxy.getActiveConnections();
-                int totalConnections = poolProxy.getTotalConnections();
-                int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                System.out.println(Thread.currentThread().getName() + ": Before executing postgres query [" +
-                        query +
-                        "] Hikari Pool stats : active - " + activeConnections +
-                        ", idle - " + idleConnections +
-                        ", awaiting - " + threadsAwaitingConnection +
-                        ", total - " + totalConnections);
                 try {
                     if (FALSE.equals(preparedStatement)) {
                         statement = connectionFromPool.createStatement();
@@ -378,14 +376,6 @@ public class PostgresPlugin extends BasePlugin {
                     System.out.println(Thread.currentThread().getName() + ": In the PostgresPlugin, got action execution error");
                     return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
                 } finally {
-                    idleConnections = poolProxy.getIdleConnections();
-                    activeConnections = poolProxy.getActiveConnections();
-                    totalConnections = poolProxy.getTotalConnections();
-                    threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                    System.out.println(Thread.currentThread().getName() + ": After executing postgres query, Hikari Pool stats active - " + activeConnections +
-                            ", idle - " + idleConnections +
-                            ", awaiting - " + threadsAwaitingConnection +
-                            ", total - " + totalConnections);
                     if (resultSet != null) {
                         try {
                             resultSet.close();
@@ -501,6 +491,21 @@ public class PostgresPlugin extends BasePlugin {
             }
         }
 
+        @Override
+        public ConnectionPoolStats getConnectionPoolStats(HikariDataSource connection) {
+            final HikariPoolMXBean poolProxy = connection == null ? null : connection.getHikariPoolMXBean();
+            if (poolProxy == null) {
+                return null;
+            }
+
+            return new ConnectionPoolStats(
+                    poolProxy.getActiveConnections(),
+                    poolProxy.getIdleConnections(),
+                    poolProxy.getThreadsAwaitingConnection(),
+                    poolProxy.getTotalConnections()
+            );
+        }
+
         @Override
         public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
             Set<String> invalids = new HashSet<>();
@@ -586,18 +591,6 @@ public class PostgresPlugin extends BasePlugin {
                     return Mono.error(e instanceof StaleConnectionException ? e : new StaleConnectionException());
                 }
 
-                HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
-
-                int idleConnections = poolProxy.getIdleConnections();
-                int activeConnections = poolProxy.getActiveConnections();
-                int totalConnections = poolProxy.getTotalConnections();
-                int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                System.out.println(Thread.currentThread().getName() + ": Before getting postgres db structure" +
-                        " Hikari Pool stats : active - " + activeConnections +
-                        ", idle - " + idleConnections +
-                        ", awaiting - " + threadsAwaitingConnection +
-                        ", total - " + totalConnections);
-
                 // Ref: <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
                 try (Statement statement = connectionFromPool.createStatement()) {
 
@@ -733,15 +726,6 @@ public class PostgresPlugin extends BasePlugin {
                             throwable.getMessage()
                     ));
                 } finally {
-                    idleConnections = poolProxy.getIdleConnections();
-                    activeConnections = poolProxy.getActiveConnections();
-                    totalConnections = poolProxy.getTotalConnections();
-                    threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                    System.out.println(Thread.currentThread().getName() + ": After postgres db structure, Hikari Pool stats active - " + activeConnections +
-                            ", idle - " + idleConnections +
-                            ", awaiting - " + threadsAwaitingConnection +
-                            ", total - " + totalConnections);
-
                     if (connectionFromPool != null) {
                         try {
                             // Return the connection back to the pool
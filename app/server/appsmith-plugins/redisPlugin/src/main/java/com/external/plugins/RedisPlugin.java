@@ -5,6 +5,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolStats;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
@@ -12,6 +13,8 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.DefaultPluginSchedulerProvider;
+import com.appsmith.external.services.PluginSchedulerProvider;
 import com.external.utils.RedisURIUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
@@ -20,7 +23,6 @@ import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
@@ -50,7 +52,15 @@ public class RedisPlugin extends BasePlugin {
     @Extension
     public static class RedisPluginExecutor implements PluginExecutor<JedisPool> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler;
+
+        public RedisPluginExecutor() {
+            this(DefaultPluginSchedulerProvider.getInstance());
+        }
+
+        public RedisPluginExecutor(PluginSchedulerProvider pluginSchedulerProvider) {
+            this.scheduler = pluginSchedulerProvider.getScheduler("redis-plugin");
+        }
 
         @Override
         public Mono<ActionExecutionResult> execute(JedisPool jedisPool,
@@ -193,6 +203,17 @@ public class RedisPlugin extends BasePlugin {
                     .subscribe();
         }
 
+        @Override
+        public ConnectionPoolStats getConnectionPoolStats(JedisPool jedisPool) {
+            if (jedisPool == null || jedisPool.isClosed()) {
+                return null;
+            }
+
+            final int active = jedisPool.getNumActive();
+            final int idle = jedisPool.getNumIdle();
+            return new ConnectionPoolStats(active, idle, jedisPool.getNumWaiters(), active + idle);
+        }
+
         @Override
         public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
             Set<String> invalids = new HashSet<>();
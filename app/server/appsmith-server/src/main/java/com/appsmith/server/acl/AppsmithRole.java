@@ -3,6 +3,7 @@ package com.appsmith.server.acl;
 import lombok.Getter;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 
@@ -43,6 +44,13 @@ public enum AppsmithRole {
         this.permissions = permissions;
     }
 
+    /**
+     * The roles that members of an organization can have.
+     */
+    public static Set<AppsmithRole> getOrganizationRoles() {
+        return EnumSet.of(ORGANIZATION_ADMIN, ORGANIZATION_DEVELOPER, ORGANIZATION_VIEWER);
+    }
+
     public static AppsmithRole generateAppsmithRoleFromName(String name) {
         List<AppsmithRole> appsmithRoles = Arrays.asList(AppsmithRole.values());
         for (AppsmithRole role : appsmithRoles) {
@@ -151,6 +151,13 @@ public class PolicyGenerator {
     }
 
     public Set<Policy> getLateralPolicies(AclPermission permission, Set<String> userNames, Class<? extends BaseDomain> destinationEntity) {
+        return getLateralPolicies(permission, userNames, new HashSet<>(), destinationEntity);
+    }
+
+    public Set<Policy> getLateralPolicies(AclPermission permission,
+                                          Set<String> userNames,
+                                          Set<String> groupIds,
+                                          Class<? extends BaseDomain> destinationEntity) {
         Set<DefaultEdge> lateralEdges = lateralGraph.outgoingEdgesOf(permission);
         return lateralEdges.stream()
                 .map(edge -> lateralGraph.getEdgeTarget(edge))
@@ -162,7 +169,7 @@ public class PolicyGenerator {
                     return false;
                 })
                 .map(lateralPermission -> Policy.builder().permission(lateralPermission.getValue())
-                        .users(userNames).build())
+                        .users(userNames).groups(groupIds).build())
                 .collect(Collectors.toSet());
     }
 
@@ -181,16 +188,18 @@ public class PolicyGenerator {
         // document
         Set<Policy> childPolicySet = new HashSet<>();
         Set<DefaultEdge> edges = hierarchyGraph.outgoingEdgesOf(aclPermission);
+        // Policies read from older documents may not have any groups.
+        Set<String> groups = policy.getGroups() == null ? new HashSet<>() : policy.getGroups();
         for (DefaultEdge edge : edges) {
             AclPermission childPermission = hierarchyGraph.getEdgeTarget(edge);
 
             if (childPermission.getEntity().equals(destinationEntity)) {
                 childPolicySet.add(Policy.builder().permission(childPermission.getValue())
-                        .users(policy.getUsers()).build());
+                        .users(policy.getUsers()).groups(groups).build());
             }
 
             // Check the lateral graph to derive the child permissions that must be given to this document
-            childPolicySet.addAll(getLateralPolicies(childPermission, policy.getUsers(), destinationEntity));
+            childPolicySet.addAll(getLateralPolicies(childPermission, policy.getUsers(), groups, destinationEntity));
         }
 
         return childPolicySet;
@@ -43,6 +43,11 @@ public class CommonConfig {
 
     private List<String> allowedDomains;
 
+    // When enabled, the policies of everything in an organization reference the organization's role groups instead of
+    // its members. Existing organizations are converted on startup, and new organizations are created this way.
+    @Value("${appsmith.acl.role-groups.enabled:false}")
+    private boolean isRoleGroupsEnabled;
+
     @Bean
     public Scheduler scheduler() {
         return Schedulers.newElastic(ELASTIC_THREAD_POOL_NAME);
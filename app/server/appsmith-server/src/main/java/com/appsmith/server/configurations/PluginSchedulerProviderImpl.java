@@ -0,0 +1,127 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.external.services.PluginSchedulerProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides each plugin with its own bounded scheduler for blocking calls to datasources. Every scheduler is backed by
+ * a thread pool with a fixed maximum number of threads and a bounded queue of waiting tasks, so a slow datasource can
+ * not make the server spawn threads without limit. Tasks beyond the queue limit are rejected, which the action
+ * execution flow reports as an overloaded datasource.
+ * <p>
+ * The pool size, active threads, queued tasks and rejections of each scheduler are reported as metrics, tagged with the
+ * plugin name.
+ */
+@Slf4j
+@Component
+public class PluginSchedulerProviderImpl implements PluginSchedulerProvider, DisposableBean {
+
+    private static final String METRIC_PREFIX = "appsmith.plugin.scheduler";
+
+    private final MeterRegistry meterRegistry;
+
+    private final int maxThreads;
+
+    private final int queueSize;
+
+    private final boolean useVirtualThreads;
+
+    private final Map<String, Scheduler> schedulers = new ConcurrentHashMap<>();
+
+    public PluginSchedulerProviderImpl(MeterRegistry meterRegistry,
+                                       @Value("${appsmith.plugin.scheduler.max-threads:0}") int maxThreads,
+                                       @Value("${appsmith.plugin.scheduler.queue-size:1000}") int queueSize,
+                                       @Value("${appsmith.plugin.scheduler.virtual-threads:false}") boolean useVirtualThreads) {
+        this.meterRegistry = meterRegistry;
+        this.maxThreads = maxThreads > 0 ? maxThreads : 10 * Runtime.getRuntime().availableProcessors();
+        this.queueSize = queueSize;
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    @Override
+    public Scheduler getScheduler(String pluginName) {
+        return schedulers.computeIfAbsent(pluginName, this::createScheduler);
+    }
+
+    private Scheduler createScheduler(String pluginName) {
+        final Tags tags = Tags.of("plugin", pluginName);
+        final Counter rejectedCounter = meterRegistry.counter(METRIC_PREFIX + ".rejected", tags);
+
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                maxThreads,
+                maxThreads,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueSize),
+                getThreadFactory(pluginName),
+                (task, pool) -> {
+                    rejectedCounter.increment();
+                    throw new RejectedExecutionException("Scheduler for " + pluginName + " is overloaded.");
+                }
+        );
+        // Let idle threads die, so that plugins that are rarely used don't hold on to their threads.
+        executor.allowCoreThreadTimeOut(true);
+
+        new ExecutorServiceMetrics(executor, METRIC_PREFIX, tags).bindTo(meterRegistry);
+
+        log.debug("Created scheduler for {} with {} threads and a queue of {} tasks.", pluginName, maxThreads, queueSize);
+        return Schedulers.fromExecutorService(executor, pluginName);
+    }
+
+    private ThreadFactory getThreadFactory(String pluginName) {
+        if (useVirtualThreads) {
+            final ThreadFactory virtualThreadFactory = getVirtualThreadFactory(pluginName + "-virtual-");
+            if (virtualThreadFactory != null) {
+                return virtualThreadFactory;
+            }
+        }
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, pluginName + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Virtual threads are only available on newer JDKs, so they are looked up reflectively. If they are not available,
+     * this returns null and the scheduler falls back to platform threads.
+     */
+    private ThreadFactory getVirtualThreadFactory(String namePrefix) {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            final Method factoryMethod = builderClass.getMethod("factory");
+            return (ThreadFactory) factoryMethod.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads are not supported on this JVM. Using platform threads for plugin schedulers.");
+            return null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        schedulers.values().forEach(Scheduler::dispose);
+    }
+}
@@ -23,10 +23,12 @@ public class FieldName {
     public static String WIDGET_NAME = "widgetName";
     public static String DYNAMIC_BINDINGS = "dynamicBindings";
     public static String DYNAMIC_BINDING_PATH_LIST = "dynamicBindingPathList";
+    public static String DYNAMIC_TRIGGER_PATH_LIST = "dynamicTriggerPathList";
     public static String KEY = "key";
     public static String CHILDREN = "children";
     public static String ORIGIN = "origin";
     public static String USER = "user";
+    public static String GROUP = "group";
     public static String PROVIDER_ID = "providerId";
     public static String CATEGORY = "category";
     public static String PAGE = "page";
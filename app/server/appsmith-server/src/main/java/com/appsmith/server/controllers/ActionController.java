@@ -3,15 +3,18 @@ package com.appsmith.server.controllers;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.server.constants.Url;
+import com.appsmith.server.domains.PublishedApplicationBundle;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionMoveDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
 import com.appsmith.server.dtos.LayoutDTO;
 import com.appsmith.server.dtos.RefactorActionNameDTO;
 import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.helpers.ConditionalGetUtils;
 import com.appsmith.server.services.ActionCollectionService;
 import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.NewActionService;
+import com.appsmith.server.services.PublishedApplicationBundleService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -41,14 +44,17 @@ public class ActionController {
     private final ActionCollectionService actionCollectionService;
     private final LayoutActionService layoutActionService;
     private final NewActionService newActionService;
+    private final PublishedApplicationBundleService publishedApplicationBundleService;
 
     @Autowired
     public ActionController(ActionCollectionService actionCollectionService,
                             LayoutActionService layoutActionService,
-                            NewActionService newActionService) {
+                            NewActionService newActionService,
+                            PublishedApplicationBundleService publishedApplicationBundleService) {
         this.actionCollectionService = actionCollectionService;
         this.layoutActionService = layoutActionService;
         this.newActionService = newActionService;
+        this.publishedApplicationBundleService = publishedApplicationBundleService;
     }
 
     @PostMapping
@@ -88,9 +94,19 @@ public class ActionController {
     }
 
     @GetMapping("/view")
-    public Mono<ResponseDTO<List<ActionViewDTO>>> getActionsForViewMode(@RequestParam String applicationId) {
-        return newActionService.getActionsForViewMode(applicationId).collectList()
-                .map(actions -> new ResponseDTO<>(HttpStatus.OK.value(), actions, null));
+    public Mono<ResponseDTO<List<ActionViewDTO>>> getActionsForViewMode(@RequestParam String applicationId,
+                                                                        ServerWebExchange exchange) {
+        // An application that has not been published with bundles has no bundle, and is served without an ETag.
+        return publishedApplicationBundleService.findByApplicationId(applicationId)
+                .doOnError(error -> log.error("Unable to load the published bundle of application {}", applicationId, error))
+                .defaultIfEmpty(new PublishedApplicationBundle())
+                .flatMap(bundle -> ConditionalGetUtils.withETag(
+                        exchange,
+                        bundle.getVersion(),
+                        bundle.getUpdatedAt(),
+                        newActionService.getActionsForViewMode(applicationId).collectList()
+                                .map(actions -> new ResponseDTO<>(HttpStatus.OK.value(), actions, null))
+                ));
     }
 
     @PutMapping("/executeOnLoad/{id}")
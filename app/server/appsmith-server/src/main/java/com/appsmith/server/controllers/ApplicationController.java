@@ -2,7 +2,6 @@ package com.appsmith.server.controllers;
 
 import com.appsmith.server.constants.Url;
 import com.appsmith.server.domains.Application;
-import com.appsmith.server.domains.ApplicationJson;
 import com.appsmith.server.dtos.ApplicationAccessDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.UserHomepageDTO;
@@ -15,6 +14,7 @@ import com.appsmith.server.solutions.ApplicationForkingService;
 import com.appsmith.server.solutions.ImportExportApplicationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -33,6 +33,7 @@ import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
@@ -146,12 +147,13 @@ public class ApplicationController extends BaseController<ApplicationService, Ap
     }
 
     @GetMapping("/export/{id}")
-    public Mono<ResponseEntity<ApplicationJson>> getApplicationFile(@PathVariable String id) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getApplicationFile(@PathVariable String id,
+                                                                   ServerWebExchange exchange) {
         log.debug("Going to export application with id: {}", id);
 
-        return importExportApplicationService.exportApplicationById(id)
-                .map(fetchedResource -> {
-                    String applicationName = fetchedResource.getExportedApplication().getName();
+        return importExportApplicationService.exportApplicationFileById(id, exchange.getResponse().bufferFactory())
+                .map(tuple -> {
+                    String applicationName = tuple.getT1();
                     HttpHeaders responseHeaders = new HttpHeaders();
                     ContentDisposition contentDisposition = ContentDisposition
                         .builder("attachment")
@@ -160,7 +162,7 @@ public class ApplicationController extends BaseController<ApplicationService, Ap
                     responseHeaders.setContentDisposition(contentDisposition);
                     responseHeaders.setContentType(MediaType.APPLICATION_JSON);
 
-                    return new ResponseEntity(fetchedResource, responseHeaders, HttpStatus.OK);
+                    return new ResponseEntity<>(tuple.getT2(), responseHeaders, HttpStatus.OK);
                 });
     }
 
@@ -3,6 +3,8 @@ package com.appsmith.server.controllers;
 import com.appsmith.server.constants.Url;
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.dtos.CommentThreadsPaginatedDTO;
+import com.appsmith.server.dtos.CommentsPaginatedDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.services.CommentService;
 import lombok.extern.slf4j.Slf4j;
@@ -61,6 +63,27 @@ public class CommentController extends BaseController<CommentService, Comment, S
                 .map(threads -> new ResponseDTO<>(HttpStatus.OK.value(), threads, null));
     }
 
+    @GetMapping("/threads/page")
+    public Mono<ResponseDTO<CommentThreadsPaginatedDTO>> getCommentThreadPage(
+            @RequestParam String applicationId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "10") int commentLimit
+    ) {
+        return service.getThreadsByApplicationId(applicationId, cursor, limit, commentLimit)
+                .map(page -> new ResponseDTO<>(HttpStatus.OK.value(), page, null));
+    }
+
+    @GetMapping("/threads/{threadId}/comments")
+    public Mono<ResponseDTO<CommentsPaginatedDTO>> getComments(
+            @PathVariable String threadId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return service.getCommentsByThreadId(threadId, cursor, limit)
+                .map(page -> new ResponseDTO<>(HttpStatus.OK.value(), page, null));
+    }
+
     @PutMapping("/threads/{threadId}")
     public Mono<ResponseDTO<CommentThread>> updateThread(
             @Valid @RequestBody CommentThread resource,
@@ -5,6 +5,7 @@ import com.appsmith.server.domains.Layout;
 import com.appsmith.server.dtos.LayoutDTO;
 import com.appsmith.server.dtos.RefactorNameDTO;
 import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.helpers.ConditionalGetUtils;
 import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.LayoutService;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
@@ -43,8 +45,10 @@ public class LayoutController {
     }
 
     @GetMapping("/{layoutId}/pages/{pageId}")
-    public Mono<ResponseDTO<Layout>> getLayout(@PathVariable String pageId, @PathVariable String layoutId) {
-        return service.getLayout(pageId, layoutId, false)
+    public Mono<ResponseDTO<Layout>> getLayout(@PathVariable String pageId,
+                                               @PathVariable String layoutId,
+                                               ServerWebExchange exchange) {
+        return ConditionalGetUtils.withLastModified(exchange, service.getLayout(pageId, layoutId, false), Layout::getUpdatedAt)
                 .map(created -> new ResponseDTO<>(HttpStatus.OK.value(), created, null));
     }
 
@@ -56,8 +60,10 @@ public class LayoutController {
     }
 
     @GetMapping("/{layoutId}/pages/{pageId}/view")
-    public Mono<ResponseDTO<Layout>> getLayoutView(@PathVariable String pageId, @PathVariable String layoutId) {
-        return service.getLayout(pageId, layoutId, true)
+    public Mono<ResponseDTO<Layout>> getLayoutView(@PathVariable String pageId,
+                                                   @PathVariable String layoutId,
+                                                   ServerWebExchange exchange) {
+        return ConditionalGetUtils.withLastModified(exchange, service.getLayout(pageId, layoutId, true), Layout::getUpdatedAt)
                 .map(created -> new ResponseDTO<>(HttpStatus.OK.value(), created, null));
     }
 
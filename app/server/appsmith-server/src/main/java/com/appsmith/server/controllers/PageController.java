@@ -1,17 +1,22 @@
 package com.appsmith.server.controllers;
 
 import com.appsmith.server.constants.Url;
+import com.appsmith.server.domains.PublishedApplicationBundle;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
 import com.appsmith.server.dtos.CRUDPageResourceDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.helpers.CompressedResponseCache;
+import com.appsmith.server.helpers.ConditionalGetUtils;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.NewPageService;
+import com.appsmith.server.services.PublishedApplicationBundleService;
 import com.appsmith.server.solutions.CreateDBTablePageSolution;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -26,6 +31,7 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
+import java.util.TreeSet;
 
 @RestController
 @RequestMapping(Url.PAGE_URL)
@@ -34,15 +40,21 @@ public class PageController {
     private final ApplicationPageService applicationPageService;
     private final NewPageService newPageService;
     private final CreateDBTablePageSolution createDBTablePageSolution;
-    
+    private final PublishedApplicationBundleService publishedApplicationBundleService;
+    private final CompressedResponseCache compressedResponseCache;
+
     @Autowired
     public PageController(ApplicationPageService applicationPageService,
                           NewPageService newPageService,
-                          CreateDBTablePageSolution createDBTablePageSolution
+                          CreateDBTablePageSolution createDBTablePageSolution,
+                          PublishedApplicationBundleService publishedApplicationBundleService,
+                          CompressedResponseCache compressedResponseCache
     ) {
         this.applicationPageService = applicationPageService;
         this.newPageService = newPageService;
         this.createDBTablePageSolution = createDBTablePageSolution;
+        this.publishedApplicationBundleService = publishedApplicationBundleService;
+        this.compressedResponseCache = compressedResponseCache;
     }
 
     @PostMapping
@@ -80,22 +92,52 @@ public class PageController {
     }
 
     @GetMapping("/view/application/{applicationId}")
-    public Mono<ResponseDTO<ApplicationPagesDTO>> getPageNamesByApplicationIdInViewMode(@PathVariable String applicationId) {
-        return newPageService.findApplicationPagesByApplicationIdAndViewMode(applicationId, true)
-                .map(resources -> new ResponseDTO<>(HttpStatus.OK.value(), resources, null));
+    public Mono<ResponseDTO<ApplicationPagesDTO>> getPageNamesByApplicationIdInViewMode(@PathVariable String applicationId,
+                                                                                      ServerWebExchange exchange) {
+        // An application that has not been published with bundles has no bundle, and is served without an ETag.
+        return publishedApplicationBundleService.findByApplicationId(applicationId)
+                .doOnError(error -> log.error("Unable to load the published bundle of application {}", applicationId, error))
+                .defaultIfEmpty(new PublishedApplicationBundle())
+                .flatMap(bundle -> ConditionalGetUtils.withETag(
+                        exchange,
+                        bundle.getVersion(),
+                        bundle.getUpdatedAt(),
+                        newPageService.findApplicationPagesByApplicationIdAndViewMode(applicationId, true)
+                                .map(resources -> new ResponseDTO<>(HttpStatus.OK.value(), resources, null))
+                ));
     }
 
     @GetMapping("/{pageId}")
-    public Mono<ResponseDTO<PageDTO>> getPageById(@PathVariable String pageId) {
-        return applicationPageService.getPage(pageId, false)
+    public Mono<ResponseDTO<PageDTO>> getPageById(@PathVariable String pageId, ServerWebExchange exchange) {
+        return ConditionalGetUtils.withLastModified(exchange, applicationPageService.getPage(pageId, false), PageDTO::getUpdatedAt)
                 .map(page -> new ResponseDTO<>(HttpStatus.OK.value(), page, null));
     }
 
-
+    /**
+     * Published pages are served from the published bundle of their application. Their compressed JSON is cached for
+     * each version of the bundle, so that large DSLs are not serialized again on every view.
+     */
     @GetMapping("/{pageId}/view")
-    public Mono<ResponseDTO<PageDTO>> getPageView(@PathVariable String pageId) {
-        return applicationPageService.getPage(pageId, true)
-                .map(page -> new ResponseDTO<>(HttpStatus.OK.value(), page, null));
+    public Mono<ResponseEntity<Object>> getPageView(@PathVariable String pageId, ServerWebExchange exchange) {
+        return publishedApplicationBundleService.findByPageId(pageId)
+                .flatMap(bundle -> Mono.zip(
+                        publishedApplicationBundleService.getPage(bundle, pageId),
+                        ConditionalGetUtils.userVersion(bundle.getVersion())
+                ).map(tuple -> {
+                    final PageDTO page = tuple.getT1();
+                    return compressedResponseCache.toResponseEntity(
+                            exchange.getRequest(),
+                            // The page lists the permissions of the user, so users with different permissions get
+                            // different responses.
+                            bundle.getVersion() + ":" + pageId + ":" + new TreeSet<>(page.getUserPermissions()),
+                            tuple.getT2(),
+                            bundle.getUpdatedAt(),
+                            () -> new ResponseDTO<>(HttpStatus.OK.value(), page, null)
+                    );
+                }))
+                // The application has not been published with bundles, so there is nothing to cache the page against.
+                .switchIfEmpty(Mono.defer(() -> applicationPageService.getPage(pageId, true)
+                        .map(page -> ResponseEntity.ok(new ResponseDTO<>(HttpStatus.OK.value(), page, null)))));
     }
 
     @GetMapping("{pageName}/application/{applicationName}/view")
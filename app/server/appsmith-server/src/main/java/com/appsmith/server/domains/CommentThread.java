@@ -1,6 +1,7 @@
 package com.appsmith.server.domains;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.springframework.data.annotation.Transient;
@@ -45,6 +46,21 @@ public class CommentThread extends AbstractCommentDomain {
     /** Edit/Published Mode */
     String mode;
 
+    /**
+     * Summary of the comments in this thread, kept up to date as comments are added and deleted, so that threads can be
+     * listed without loading their comments. The last activity is when the thread was created, or when the last
+     * comment was added to it, and threads are listed by it, latest first. These are read only in the API, so that
+     * thread updates from clients can't overwrite them.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    Long commentCount;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    Instant lastActivityAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    String lastCommentAuthorName;
+
     @Transient
     Boolean isViewed;
 
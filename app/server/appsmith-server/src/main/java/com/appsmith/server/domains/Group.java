@@ -32,6 +32,12 @@ public class Group extends BaseDomain {
 
     private Boolean isDefault = false;
 
+    /**
+     * Usernames of the members of this group. The policies of documents reference the group, so adding or removing a
+     * member only changes this group.
+     */
+    Set<String> members;
+
     /**
      * If the display name is null or empty, then just return the actual group name. This is just to ensure that
      * the client is never sent an empty group name for displaying on the UI.
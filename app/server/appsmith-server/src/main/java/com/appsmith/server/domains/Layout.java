@@ -11,6 +11,7 @@ import net.minidev.json.JSONObject;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Getter
@@ -56,6 +57,11 @@ public class Layout extends BaseDomain {
     @JsonIgnore
     Set<String> mongoEscapedWidgetNames;
 
+    // The paths in the DSL of the widget names, bindings and triggers that use each name, so that renaming a widget or
+    // an action only changes those paths. The paths are relative to the DSL, and have its Mongo escaped keys.
+    @JsonIgnore
+    Map<String, Set<String>> dslReferences;
+
     /**
      * If view mode, the dsl returned should be the publishedDSL, else if the edit mode is on (view mode = false)
      * the dsl returned should be JSONObject dsl
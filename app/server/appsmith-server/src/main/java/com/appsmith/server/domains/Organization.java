@@ -11,6 +11,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 
 import javax.validation.constraints.NotBlank;
 import java.util.List;
+import java.util.Map;
 
 
 @Getter
@@ -41,6 +42,14 @@ public class Organization extends BaseDomain {
     @JsonIgnore
     private String logoAssetId;
 
+    /**
+     * Ids of the groups for each of the organization roles, keyed by the name of the {@link com.appsmith.server.acl.AppsmithRole}.
+     * If this is set, the policies of everything in the organization reference these groups instead of the members,
+     * and the members are only listed in the groups.
+     */
+    @JsonIgnore
+    private Map<String, String> roleGroupIds;
+
     public String makeSlug() {
         return toSlug(name);
     }
@@ -0,0 +1,50 @@
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.BaseDomain;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * An email waiting in the outbox to be sent. The email is removed from the outbox once it is sent, or once it has
+ * failed to be sent too many times.
+ */
+@Getter
+@Setter
+@ToString(exclude = {"body", "digestParams"})
+@NoArgsConstructor
+@Document
+public class PendingEmail extends BaseDomain {
+
+    String to;
+
+    String subject;
+
+    // The rendered HTML body of the email.
+    String body;
+
+    // Emails to the same recipient with the same digest template are sent together as a single email, rendered with the
+    // digest template, if they are waiting in the outbox at the same time.
+    String digestTemplate;
+
+    // Format of the subject of the digest email, which is given the number of emails in the digest.
+    String digestSubjectFormat;
+
+    // The parameters the body of this email was rendered with. The digest template is given these of every email in it.
+    Map<String, Object> digestParams;
+
+    Integer attempts;
+
+    // The email is not sent before this time. It is pushed back while a worker sends the email, and after every failure.
+    Instant nextAttemptAt;
+
+    // Set by the worker that is sending this email.
+    String claimId;
+
+    String lastError;
+}
@@ -0,0 +1,67 @@
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.PageDTO;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A read-only copy of everything needed to view a published application: its pages with their published layouts
+ * (including the DSL and the actions to run on page load), and its published actions. It is created every time the
+ * application is published, so that viewing the application doesn't need to query and filter the pages and actions,
+ * which also carry the unpublished state.
+ * <p>
+ * The policies of the pages and actions are copied as well, so that permissions can be checked without querying them.
+ * The bundle is removed whenever these policies change, and is created again the next time the application is viewed.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@Document
+public class PublishedApplicationBundle extends BaseDomain {
+
+    String applicationId;
+
+    String organizationId;
+
+    // Changes every time the bundle is created. It is used as the ETag of the responses served from the bundle.
+    String version;
+
+    // The published pages, in the order of the application's published pages.
+    List<BundledPage> pages;
+
+    List<BundledAction> actions;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class BundledPage {
+
+        String pageId;
+
+        Boolean isDefault;
+
+        PageDTO page;
+
+        Set<Policy> policies;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class BundledAction {
+
+        ActionViewDTO action;
+
+        Set<Policy> policies;
+    }
+}
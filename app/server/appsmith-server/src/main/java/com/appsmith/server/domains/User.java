@@ -57,6 +57,12 @@ public class User extends BaseDomain implements UserDetails, OidcUser {
     // users in that particular group document as well.
     private Set<String> groupIds = new HashSet<>();
 
+    // Ids of the groups that list this user as a member, such as the role groups of organizations. Membership is kept
+    // on the groups, so this is looked up on every request, and is neither saved with the user nor in the session.
+    @Transient
+    @JsonIgnore
+    private transient Set<String> memberGroupIds;
+
     // These permissions are in addition to the privileges provided by the groupIds. We can assign individual permissions
     // to users instead of creating a group for them. To be used only for one-off permissions.
     // During evaluation a union of the group permissions and user-specific permissions will take effect.
@@ -130,6 +136,23 @@ public class User extends BaseDomain implements UserDetails, OidcUser {
         return Boolean.TRUE.equals(isAnonymous);
     }
 
+    /**
+     * All the groups whose policies apply to this user, i.e., the groups assigned to the user and the groups that list
+     * the user as a member.
+     */
+    @Transient
+    @JsonIgnore
+    public Set<String> getAllGroupIds() {
+        Set<String> allGroupIds = new HashSet<>();
+        if (groupIds != null) {
+            allGroupIds.addAll(groupIds);
+        }
+        if (memberGroupIds != null) {
+            allGroupIds.addAll(memberGroupIds);
+        }
+        return allGroupIds;
+    }
+
     @Transient
     @JsonIgnore
     public String computeFirstName() {
@@ -0,0 +1,20 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.server.domains.Comment;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class CommentsPaginatedDTO {
+
+    List<Comment> comments;
+
+    /**
+     * Cursor to get the next page with, or null if this is the last page.
+     */
+    String nextCursor;
+
+}
@@ -44,4 +44,9 @@ public class PageDTO {
     @Transient
     Long lastUpdatedTime;
 
+    // When the page was last modified, with the full precision, to be used for the ETag and Last-Modified headers.
+    @Transient
+    @JsonIgnore
+    Instant updatedAt;
+
 }
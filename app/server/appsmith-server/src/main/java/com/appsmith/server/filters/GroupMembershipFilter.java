@@ -0,0 +1,44 @@
+package com.appsmith.server.filters;
+
+import com.appsmith.server.domains.User;
+import com.appsmith.server.helpers.GroupMembershipCache;
+import com.appsmith.server.repositories.GroupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.stream.Collectors;
+
+/**
+ * Sets the groups that list the current user as a member on the user in the security context, so that the ACL checks
+ * of this request include the policies given to those groups. Group membership is looked up on every request, rather
+ * than when the user logs in, since members are added to and removed from groups by other users.
+ * <p>
+ * This runs after the security filters, so the security context of the request is already loaded.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupMembershipFilter implements WebFilter {
+
+    private final GroupRepository groupRepository;
+    private final GroupMembershipCache groupMembershipCache;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(context -> context.getAuthentication())
+                .filter(authentication -> authentication.getPrincipal() instanceof User)
+                .map(authentication -> (User) authentication.getPrincipal())
+                // The anonymous user is shared by all requests, and is never a member of any group.
+                .filter(user -> !user.isAnonymous())
+                .flatMap(user -> groupMembershipCache
+                        .get(user.getUsername(), username -> groupRepository.findIdsByMember(username)
+                                .collect(Collectors.toUnmodifiableSet()))
+                        .doOnNext(user::setMemberGroupIds))
+                .then(Mono.defer(() -> chain.filter(exchange)));
+    }
+}
@@ -0,0 +1,110 @@
+package com.appsmith.server.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches gzip compressed JSON responses of documents that only change with their version, like published page DSLs.
+ * These are large and read far more often than they change, so serializing and compressing them on every request is
+ * wasted work. Responses that can't be served compressed, or that fail to be serialized here, are left to the regular
+ * encoders, and to the server's compression.
+ */
+@Slf4j
+@Component
+public class CompressedResponseCache {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, byte[]> cache;
+
+    public CompressedResponseCache(ObjectMapper objectMapper,
+                                   @Value("${appsmith.cache.compressed-response.max-size-mb:64}") long maxSizeMb) {
+        this.objectMapper = objectMapper;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxSizeMb * 1024 * 1024)
+                .<String, byte[]>weigher((key, value) -> value.length)
+                .build();
+    }
+
+    /**
+     * Builds the response for the given body, along with its ETag and Last-Modified headers. Spring answers with a 304
+     * instead, if the client's copy is current.
+     *
+     * @param request      The current request.
+     * @param key          Identifies the serialized body. It must change whenever the body changes, so it should
+     *                     include the version, and anything about the body that is specific to the user.
+     * @param version      The version of the body, used for the ETag.
+     * @param lastModified When the body was last modified. If null, no Last-Modified header is set.
+     * @param body         Supplies the body, if it is not in the cache, or can't be served compressed.
+     */
+    public ResponseEntity<Object> toResponseEntity(ServerHttpRequest request,
+                                                   String key,
+                                                   String version,
+                                                   Instant lastModified,
+                                                   Supplier<Object> body) {
+        final ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(ConditionalGetUtils.eTagOf(version))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+
+        if (!acceptsGzip(request)) {
+            return builder.body(body.get());
+        }
+
+        final byte[] compressed;
+        try {
+            compressed = cache.get(key, () -> gzip(objectMapper.writeValueAsBytes(body.get())));
+        } catch (ExecutionException e) {
+            log.warn("Unable to compress response {}. Serving it as is.", key, e.getCause());
+            return builder.body(body.get());
+        }
+
+        return builder
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                .body(compressed);
+    }
+
+    static boolean acceptsGzip(ServerHttpRequest request) {
+        for (String header : request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : header.split(",")) {
+                final String[] parts = coding.trim().split(";");
+                if (!GZIP.equalsIgnoreCase(parts[0].trim())) {
+                    continue;
+                }
+                // An encoding with a q value of 0 is explicitly not acceptable.
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,123 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.User;
+import com.google.common.hash.Hashing;
+import org.springframework.http.CacheControl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Helpers to let clients revalidate the responses they have cached with an ETag, instead of downloading them again.
+ */
+public final class ConditionalGetUtils {
+
+    private ConditionalGetUtils() {
+    }
+
+    /**
+     * Same as {@link #withETag(ServerWebExchange, String, Instant, Mono)}, without a Last-Modified header.
+     */
+    public static <T> Mono<T> withETag(ServerWebExchange exchange, String version, Mono<T> body) {
+        return withETag(exchange, version, null, body);
+    }
+
+    /**
+     * Sets the ETag for the given version on the response and, if the client already has this version, sets the status
+     * to 304 Not Modified and drops the body. The body is still subscribed to, so that permissions are checked before
+     * the client is told that its copy is current.
+     * <p>
+     * The ETag also includes a digest of the current user's groups, so that a client isn't told its copy is current
+     * after the permissions it was built with have changed.
+     * <p>
+     * The version must be read before the body is built. If the body then turns out to be newer than the version, the
+     * client only fetches it again on its next request, rather than keeping a stale copy.
+     *
+     * @param exchange     The current exchange.
+     * @param version      The version of the body. If null, no ETag is set and the body is returned as is.
+     * @param lastModified When the body was last modified. If null, no Last-Modified header is set.
+     * @param body         The body of the response.
+     * @return The body, or empty if the client's copy is current.
+     */
+    public static <T> Mono<T> withETag(ServerWebExchange exchange, String version, Instant lastModified, Mono<T> body) {
+        if (version == null || version.isEmpty()) {
+            return body;
+        }
+
+        return userVersion(version)
+                .flatMap(userVersion -> body.flatMap(value ->
+                        checkNotModified(exchange, eTagOf(userVersion), lastModified) ? Mono.empty() : Mono.just(value)));
+    }
+
+    /**
+     * Like {@link #withETag(ServerWebExchange, String, Instant, Mono)}, for documents that are versioned by the time
+     * they were last modified. Since this time is only known once the body has been built, this saves bandwidth but not
+     * the work of building the body.
+     *
+     * @param exchange             The current exchange.
+     * @param body                 The body of the response.
+     * @param lastModifiedFunction Gets the time the body was last modified. If it returns null, the body is returned as is.
+     * @return The body, or empty if the client's copy is current.
+     */
+    public static <T> Mono<T> withLastModified(ServerWebExchange exchange,
+                                               Mono<T> body,
+                                               Function<T, Instant> lastModifiedFunction) {
+        return body.flatMap(value -> {
+            final Instant lastModified = lastModifiedFunction.apply(value);
+            if (lastModified == null) {
+                return Mono.just(value);
+            }
+
+            // Last-Modified only has a precision of seconds, so the ETag, which has the full precision, is what tells
+            // apart two changes made within the same second.
+            return userVersion(String.valueOf(lastModified.toEpochMilli()))
+                    .map(userVersion -> checkNotModified(exchange, eTagOf(userVersion), lastModified))
+                    .flatMap(notModified -> notModified ? Mono.empty() : Mono.just(value));
+        });
+    }
+
+    /**
+     * Adds a digest of the current user, and of the groups they are in, to the given version. The permissions of a user
+     * come from these groups, and the role groups they are a member of are only looked up every few seconds, so a
+     * change in membership must change the ETag even when the document itself has not changed.
+     *
+     * @param version The version of the document.
+     * @return The version for the current user, or the version as is if there is no user.
+     */
+    public static Mono<String> userVersion(String version) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(Authentication::getPrincipal)
+                .filter(principal -> principal instanceof User)
+                .map(principal -> {
+                    final User user = (User) principal;
+                    final String digest = Hashing.murmur3_128()
+                            .hashString(user.getUsername() + ":" + new TreeSet<>(user.getAllGroupIds()), StandardCharsets.UTF_8)
+                            .toString();
+                    return version + ":" + digest;
+                })
+                .defaultIfEmpty(version);
+    }
+
+    /**
+     * The body can differ a little between users, like in the permissions it lists, so the ETag is weak.
+     */
+    public static String eTagOf(String version) {
+        return "W/\"" + version + "\"";
+    }
+
+    private static boolean checkNotModified(ServerWebExchange exchange, String eTag, Instant lastModified) {
+        // The browser must ask the server before using its cached copy, since the version may have changed.
+        exchange.getResponse().getHeaders().setCacheControl(CacheControl.noCache().cachePrivate());
+        return lastModified == null
+                ? exchange.checkNotModified(eTag)
+                : exchange.checkNotModified(eTag, lastModified);
+    }
+}
@@ -0,0 +1,82 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ConnectionPoolStats;
+import com.appsmith.external.plugins.PluginExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Publishes the state of the connection pool of every datasource connection on this server as the
+ * {@value #GAUGE_NAME} gauges, tagged by the datasource, the plugin and the state of the connections.
+ * <p>
+ * The gauges read the state from the plugin through {@link PluginExecutor#getConnectionPoolStats(Object)} only when the
+ * metrics are collected, so nothing is done for them while actions are executed.
+ */
+@Component
+public class ConnectionPoolMetrics {
+
+    public static final String GAUGE_NAME = "appsmith.datasource.connections";
+
+    private final MeterRegistry meterRegistry;
+
+    // This is DatasourceId mapped to the gauges of its current connection.
+    private final Map<String, List<Meter>> datasourceMeters = new ConcurrentHashMap<>();
+
+    public ConnectionPoolMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Publishes the gauges of a new connection of the datasource, in place of those of its previous connection. Nothing
+     * is published if the plugin doesn't report the state of the connection's pool.
+     */
+    public void register(String datasourceId, String plugin, PluginExecutor<Object> pluginExecutor, Object connection) {
+        remove(datasourceId);
+
+        if (connection == null || pluginExecutor.getConnectionPoolStats(connection) == null) {
+            return;
+        }
+
+        final Tags tags = Tags.of("datasource", datasourceId, "plugin", plugin == null ? "unknown" : plugin);
+        datasourceMeters.put(datasourceId, List.of(
+                register("active", ConnectionPoolStats::getActive, tags, pluginExecutor, connection),
+                register("idle", ConnectionPoolStats::getIdle, tags, pluginExecutor, connection),
+                register("pending", ConnectionPoolStats::getPending, tags, pluginExecutor, connection),
+                register("total", ConnectionPoolStats::getTotal, tags, pluginExecutor, connection)
+        ));
+    }
+
+    /**
+     * Removes the gauges of the datasource's connection, once the connection is destroyed.
+     */
+    public void remove(String datasourceId) {
+        final List<Meter> meters = datasourceMeters.remove(datasourceId);
+        if (meters != null) {
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    private Meter register(String state,
+                           ToIntFunction<ConnectionPoolStats> statGetter,
+                           Tags tags,
+                           PluginExecutor<Object> pluginExecutor,
+                           Object connection) {
+        // The gauge only holds a weak reference to the connection, so it doesn't keep a destroyed connection around.
+        return Gauge
+                .builder(GAUGE_NAME, connection, conn -> {
+                    final ConnectionPoolStats stats = pluginExecutor.getConnectionPoolStats(conn);
+                    return stats == null ? Double.NaN : statGetter.applyAsInt(stats);
+                })
+                .tags(tags)
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,81 @@
+package com.appsmith.server.helpers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes a JSON document piece by piece, handing out what has been written so far as a {@link DataBuffer} whenever
+ * {@link #drain()} is called. This lets large documents, like exported applications, be sent to the client as their
+ * parts are read from the database, instead of being built and serialized in memory as a whole.
+ * <p>
+ * The writer is not thread safe, so the pieces must be written one after the other, like with {@code concatMap}.
+ */
+public class DataBufferJsonWriter implements Closeable {
+
+    private final DataBufferFactory bufferFactory;
+
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    private final JsonGenerator generator;
+
+    public DataBufferJsonWriter(ObjectMapper objectMapper, DataBufferFactory bufferFactory) throws IOException {
+        this.bufferFactory = bufferFactory;
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        // Values are serialized with the given mapper, so they are written the same as in a regular response.
+        this.generator.setCodec(objectMapper);
+    }
+
+    public DataBufferJsonWriter startObject() throws IOException {
+        generator.writeStartObject();
+        return this;
+    }
+
+    public DataBufferJsonWriter endObject() throws IOException {
+        generator.writeEndObject();
+        return this;
+    }
+
+    public DataBufferJsonWriter startArray(String fieldName) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        return this;
+    }
+
+    public DataBufferJsonWriter endArray() throws IOException {
+        generator.writeEndArray();
+        return this;
+    }
+
+    public DataBufferJsonWriter writeField(String fieldName, Object value) throws IOException {
+        generator.writeObjectField(fieldName, value);
+        return this;
+    }
+
+    /**
+     * Writes a value, as an element of the array that was last started.
+     */
+    public DataBufferJsonWriter writeValue(Object value) throws IOException {
+        generator.writeObject(value);
+        return this;
+    }
+
+    /**
+     * @return What has been written since the last call, which is then discarded from the writer.
+     */
+    public DataBuffer drain() throws IOException {
+        generator.flush();
+        final DataBuffer dataBuffer = bufferFactory.wrap(outputStream.toByteArray());
+        outputStream.reset();
+        return dataBuffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,217 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Keeps track of connection and timeout failures of action executions for each datasource. After a number of such
+ * failures in a row, the circuit for the datasource opens, and executions on it fail immediately instead of waiting
+ * for the full timeout and recreating the datasource connection every time. Once the open duration has passed, a
+ * single execution is let through as a probe. If it succeeds, the circuit closes again. Otherwise it opens for twice as
+ * long as before, up to a maximum duration.
+ * <p>
+ * Failures of the query itself, like a syntax error, are not counted, since they don't say anything about the health
+ * of the datasource.
+ */
+@Slf4j
+@Component
+public class DatasourceCircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final long maxOpenDurationMillis;
+    private final Clock clock;
+    private final Counter rejectedCounter;
+
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    public DatasourceCircuitBreaker(MeterRegistry meterRegistry,
+                                    @Value("${appsmith.execution.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                                    @Value("${appsmith.execution.circuit-breaker.open-duration-seconds:30}") long openDurationSeconds,
+                                    @Value("${appsmith.execution.circuit-breaker.max-open-duration-seconds:300}") long maxOpenDurationSeconds) {
+        this(meterRegistry, failureThreshold, openDurationSeconds, maxOpenDurationSeconds, Clock.systemUTC());
+    }
+
+    DatasourceCircuitBreaker(MeterRegistry meterRegistry,
+                             int failureThreshold,
+                             long openDurationSeconds,
+                             long maxOpenDurationSeconds,
+                             Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationSeconds * 1000;
+        this.maxOpenDurationMillis = Math.max(maxOpenDurationSeconds, openDurationSeconds) * 1000;
+        this.clock = clock;
+        this.rejectedCounter = meterRegistry.counter("appsmith.execution.circuit.rejected");
+    }
+
+    /**
+     * Runs the given execution on the datasource, unless the circuit for the datasource is open.
+     *
+     * @param datasourceId   Id of the datasource. Embedded datasources, which have no id, are not tracked.
+     * @param datasourceName Name of the datasource, used in the error message when the circuit is open.
+     * @param execution      The execution to be run.
+     * @return The execution, or an error if the circuit for this datasource is open.
+     */
+    public <T> Mono<T> run(String datasourceId, String datasourceName, Mono<T> execution) {
+        if (datasourceId == null || failureThreshold <= 0) {
+            return execution;
+        }
+
+        return Mono.defer(() -> {
+            final Circuit circuit = circuits.computeIfAbsent(datasourceId, id -> new Circuit());
+            final long now = clock.millis();
+            final Boolean isProbe = circuit.tryEnter(now);
+
+            if (isProbe == null) {
+                rejectedCounter.increment();
+                final long retryInSeconds = Math.max(1, (circuit.getOpenUntil() - now + 999) / 1000);
+                return Mono.error(new AppsmithException(AppsmithError.DATASOURCE_CIRCUIT_OPEN, datasourceName, retryInSeconds));
+            }
+
+            if (isProbe) {
+                log.debug("Circuit for datasource {} is half open. Letting a probe execution through.", datasourceId);
+            }
+
+            return execution
+                    .doOnSuccess(result -> circuit.onSuccess(isProbe))
+                    .doOnError(error -> {
+                        if (isCircuitFailure(error)) {
+                            if (circuit.onFailure(isProbe, clock.millis())) {
+                                log.info("Opening circuit for datasource {} after repeated connection failures.", datasourceId);
+                            }
+                        } else if (error instanceof AppsmithException || error instanceof RejectedExecutionException) {
+                            // The execution was stopped by Appsmith before reaching the datasource, like when the
+                            // execution queue is full. This says nothing about the datasource either way.
+                            circuit.onCancel(isProbe);
+                        } else {
+                            // The datasource responded, even if with an error.
+                            circuit.onSuccess(isProbe);
+                        }
+                    })
+                    .doOnCancel(() -> circuit.onCancel(isProbe));
+        });
+    }
+
+    /**
+     * Checks if the error is caused by the datasource being unreachable or unresponsive, as opposed to an error in the
+     * query being executed.
+     */
+    static boolean isCircuitFailure(Throwable error) {
+        if (error instanceof AppsmithPluginException) {
+            final AppsmithPluginError pluginError = ((AppsmithPluginException) error).getError();
+            if (pluginError == AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR
+                    || pluginError == AppsmithPluginError.PLUGIN_DATASOURCE_TIMEOUT_ERROR) {
+                return true;
+            }
+        }
+
+        Throwable cause = error;
+        // Guard against cyclic cause chains.
+        for (int depth = 0; cause != null && depth < 10; depth++) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof StaleConnectionException
+                    || cause instanceof ConnectException
+                    || cause instanceof NoRouteToHostException
+                    || cause instanceof SocketTimeoutException
+                    || cause instanceof UnknownHostException
+                    || cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+    private class Circuit {
+
+        private int consecutiveFailures = 0;
+
+        private boolean isOpen = false;
+
+        private boolean isProbeRunning = false;
+
+        private long openUntil = 0;
+
+        private long lastOpenDuration = 0;
+
+        /**
+         * @return false if the execution can go through normally, true if it goes through as the probe of a half
+         * open circuit, and null if the execution is not allowed.
+         */
+        synchronized Boolean tryEnter(long now) {
+            if (!isOpen) {
+                return false;
+            }
+
+            if (now < openUntil || isProbeRunning) {
+                return null;
+            }
+
+            isProbeRunning = true;
+            return true;
+        }
+
+        synchronized void onSuccess(boolean isProbe) {
+            consecutiveFailures = 0;
+            if (isProbe) {
+                isProbeRunning = false;
+                isOpen = false;
+                lastOpenDuration = 0;
+            }
+        }
+
+        /**
+         * @return true if this failure opened the circuit.
+         */
+        synchronized boolean onFailure(boolean isProbe, long now) {
+            if (isProbe) {
+                isProbeRunning = false;
+                lastOpenDuration = Math.min(lastOpenDuration * 2, maxOpenDurationMillis);
+                openUntil = now + lastOpenDuration;
+                return false;
+            }
+
+            consecutiveFailures++;
+            if (!isOpen && consecutiveFailures >= failureThreshold) {
+                isOpen = true;
+                lastOpenDuration = openDurationMillis;
+                openUntil = now + lastOpenDuration;
+                return true;
+            }
+
+            return false;
+        }
+
+        synchronized void onCancel(boolean isProbe) {
+            if (isProbe) {
+                // The probe didn't reach the datasource, so let the next execution probe instead.
+                isProbeRunning = false;
+            }
+        }
+
+        synchronized long getOpenUntil() {
+            return openUntil;
+        }
+    }
+}
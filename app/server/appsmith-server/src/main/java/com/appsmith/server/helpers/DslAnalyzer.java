@@ -0,0 +1,397 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import net.minidev.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Goes over the widgets of a page's DSL once, whenever the page is saved, and collects everything the server needs to
+ * know about them: the names of the widgets, the mustache keys of their dynamic bindings and the names these keys
+ * use, the paths where each name is used, and the tables whose columns had to be escaped to be stored in Mongo. The
+ * columns are escaped along the way.
+ * <p>
+ * The DSL is read and escaped where it is, rather than copied, and the binding paths are followed without splitting
+ * them, since large pages have thousands of widgets and are saved every few seconds while they are being edited.
+ */
+public class DslAnalyzer {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String pageId;
+    private final String layoutId;
+
+    @Getter
+    private final Set<String> widgetNames = new HashSet<>();
+
+    // The mustache keys found in the dynamic bindings of the widgets, like `fetchUsers.data[0].name`
+    @Getter
+    private final Set<String> mustacheKeys = new HashSet<>();
+
+    // The top level names used by the mustache keys, some of which are the names of actions, like `fetchUsers`
+    @Getter
+    private final Set<String> bindingNames = new HashSet<>();
+
+    @Getter
+    private final Set<String> escapedWidgetNames = new HashSet<>();
+
+    // The paths of the widget names, bindings and triggers that use each name, to be saved as Layout.dslReferences
+    @Getter
+    private final Map<String, Set<String>> references = new HashMap<>();
+
+    // Reused for every binding, since a page has thousands of them
+    private final Set<String> bindingKeys = new HashSet<>();
+    private final Set<String> bindingNamesOfPath = new HashSet<>();
+
+    private DslAnalyzer(String pageId, String layoutId) {
+        this.pageId = pageId;
+        this.layoutId = layoutId;
+    }
+
+    /**
+     * Walks the DSL and extracts all the widget names and dynamic bindings from it.
+     * A widget is expected to have a few properties defining its own behaviour, with any mustache bindings present
+     * in them aggregated in the field dynamicBindingsPathList.
+     * A widget may also have other widgets as children, each of which will follow the same structure
+     * Refer to FieldName.DEFAULT_PAGE_LAYOUT for a template
+     *
+     * @param dsl      DSL of the page, which has the columns of its tables escaped when this returns.
+     * @param pageId   Used in the errors about invalid bindings.
+     * @param layoutId Used in the errors about invalid bindings.
+     * @return The analyzer, with everything found in the DSL.
+     * @throws AppsmithException if a dynamic binding path of a widget does not lead to a binding.
+     */
+    public static DslAnalyzer analyze(JSONObject dsl, String pageId, String layoutId) throws AppsmithException {
+        final DslAnalyzer analyzer = new DslAnalyzer(pageId, layoutId);
+        analyzer.analyzeWidget(dsl, "");
+
+        // Many widgets bind to the same keys, so the names are only extracted once the keys have been de-duplicated.
+        for (String mustacheKey : analyzer.mustacheKeys) {
+            MustacheHelper.extractWordsAndAddToSet(analyzer.bindingNames, mustacheKey);
+        }
+
+        return analyzer;
+    }
+
+    /**
+     * @param widgetPath Path of the widget in the DSL, followed by a dot unless it's the root.
+     */
+    private void analyzeWidget(Map<String, Object> widget, String widgetPath) {
+        final Object widgetName = widget.get(FieldName.WIDGET_NAME);
+        if (widgetName == null) {
+            // This isnt a valid widget configuration. No need to traverse this.
+            return;
+        }
+
+        // Since we are parsing this widget in this, add it to the global set of widgets found so far in the DSL.
+        widgetNames.add(widgetName.toString());
+        if (isReferenceName(widgetName.toString())) {
+            addReference(widgetName.toString(), widgetPath + FieldName.WIDGET_NAME);
+        }
+
+        final boolean isTable = FieldName.TABLE_WIDGET.equals(widget.get(FieldName.WIDGET_TYPE));
+
+        // Widgets will not have FieldName.DYNAMIC_BINDING_PATH_LIST if there are no bindings in that widget.
+        // Hence we skip over the extraction of the bindings from that widget.
+        final Object dynamicBindingPathList = widget.get(FieldName.DYNAMIC_BINDING_PATH_LIST);
+        if (dynamicBindingPathList instanceof List) {
+            for (Object dynamicBindingPath : (List<?>) dynamicBindingPathList) {
+                final String fieldPath = String.valueOf(((Map<?, ?>) dynamicBindingPath).get(FieldName.KEY));
+                final String binding = findBinding(widget, fieldPath, true);
+                if (binding != null) {
+                    addBinding(binding, widgetPath, fieldPath, isTable, true);
+                }
+            }
+        }
+
+        // Triggers are only run when the users act on the widgets, so they are indexed for renames, but don't make
+        // actions run on page load. Like before they were indexed, invalid triggers are let through.
+        final Object dynamicTriggerPathList = widget.get(FieldName.DYNAMIC_TRIGGER_PATH_LIST);
+        if (dynamicTriggerPathList instanceof List) {
+            for (Object dynamicTriggerPath : (List<?>) dynamicTriggerPathList) {
+                if (!(dynamicTriggerPath instanceof Map)) {
+                    continue;
+                }
+                final String fieldPath = String.valueOf(((Map<?, ?>) dynamicTriggerPath).get(FieldName.KEY));
+                final String trigger = findBinding(widget, fieldPath, false);
+                if (trigger != null) {
+                    addBinding(trigger, widgetPath, fieldPath, isTable, false);
+                }
+            }
+        }
+
+        // Escape the widget keys if required. Only Table widget has this behaviour.
+        if (isTable) {
+            WidgetSpecificUtils.escapeTableWidgetPrimaryColumns(widget, escapedWidgetNames);
+        }
+
+        final List<Map<String, Object>> children = WidgetSpecificUtils.getChildren(widget);
+        for (int i = 0; i < children.size(); i++) {
+            analyzeWidget(children.get(i), widgetPath + FieldName.CHILDREN + "." + i + ".");
+        }
+    }
+
+    /**
+     * Follows the path to the field of the widget that holds a binding.
+     * Valid forms of the fieldPath could be:
+     * root.field.list[index].childField.anotherList.indexWithDotOperator.multidimensionalList[index1][index2]
+     *
+     * @param isStrict Whether a path that doesn't lead to a binding is an error, rather than ignored.
+     * @return The binding, or null if the path leads to a field that can't have bindings, like a number.
+     */
+    private String findBinding(Map<String, Object> widget, String fieldPath, boolean isStrict) {
+        // For nested fields, the parent to search in shifts by one level for every field in the path
+        Object parent = widget;
+        final int length = fieldPath.length();
+        int fieldStart = 0;
+
+        // This loop ends at either a leaf node, or the last identified JSON field (by throwing an exception)
+        while (fieldStart < length && !(parent instanceof String)) {
+            final int fieldEnd = findFieldEnd(fieldPath, fieldStart);
+
+            if (!isBlank(fieldPath, fieldStart, fieldEnd)) {
+                if (parent instanceof Map) {
+                    parent = ((Map<?, ?>) parent).get(fieldPath.substring(fieldStart, fieldEnd));
+                } else if (parent instanceof List) {
+                    final int index = parseIndex(fieldPath, fieldStart, fieldEnd);
+                    final List<?> list = (List<?>) parent;
+                    // If the index being referred does not exist, the path would not exist.
+                    parent = index < 0 || index >= list.size() ? null : list.get(index);
+                } else {
+                    // Neither a JSON field nor a leaf node, like a number. There are no bindings to find here.
+                    return null;
+                }
+
+                if (parent == null) {
+                    if (isStrict) {
+                        throw invalidReference(widget, fieldPath, null);
+                    }
+                    return null;
+                }
+            }
+
+            fieldStart = fieldEnd + 1;
+        }
+
+        // Only extract mustache keys from leaf nodes
+        if (!(parent instanceof String)) {
+            return null;
+        }
+
+        final String binding = (String) parent;
+        // We found the path. But if the path does not have any mustache bindings, throw the error
+        if (!MustacheHelper.laxIsBindingPresentInString(binding)) {
+            if (!isStrict) {
+                return null;
+            }
+            try {
+                throw invalidReference(widget, fieldPath, objectMapper.writeValueAsString(binding));
+            } catch (JsonProcessingException e) {
+                throw new AppsmithException(AppsmithError.JSON_PROCESSING_ERROR, binding);
+            }
+        }
+
+        return binding;
+    }
+
+    private void addBinding(String binding, String widgetPath, String fieldPath, boolean isTable, boolean isDynamicBinding) {
+        bindingKeys.clear();
+        bindingNamesOfPath.clear();
+
+        // Stricter extraction of dynamic bindings
+        MustacheHelper.extractMustacheKeysAndAddToSet(bindingKeys, binding);
+        if (isDynamicBinding) {
+            mustacheKeys.addAll(bindingKeys);
+        }
+
+        for (String bindingKey : bindingKeys) {
+            MustacheHelper.extractWordsAndAddToSet(bindingNamesOfPath, bindingKey);
+        }
+        if (bindingNamesOfPath.isEmpty()) {
+            return;
+        }
+
+        final String path = toDslPath(widgetPath, fieldPath, isTable);
+        for (String name : bindingNamesOfPath) {
+            addReference(name, path);
+        }
+    }
+
+    private void addReference(String name, String path) {
+        references.computeIfAbsent(name, key -> new HashSet<>()).add(path);
+    }
+
+    /**
+     * Turns the path of a binding in a widget into the path of the binding in the DSL, with dots between all the
+     * fields, and the escaped names of the columns of tables.
+     */
+    private static String toDslPath(String widgetPath, String fieldPath, boolean isTable) {
+        final StringBuilder path = new StringBuilder(widgetPath.length() + fieldPath.length()).append(widgetPath);
+        final int length = fieldPath.length();
+        int fieldCount = 0;
+        boolean isPrimaryColumn = false;
+
+        for (int fieldStart = 0; fieldStart < length; ) {
+            final int fieldEnd = findFieldEnd(fieldPath, fieldStart);
+            if (!isBlank(fieldPath, fieldStart, fieldEnd)) {
+                String field = fieldPath.substring(fieldStart, fieldEnd);
+                if (isPrimaryColumn && FieldName.MONGO_UNESCAPED_ID.equals(field)) {
+                    field = FieldName.MONGO_ESCAPE_ID;
+                } else if (isPrimaryColumn && FieldName.MONGO_UNESCAPED_CLASS.equals(field)) {
+                    field = FieldName.MONGO_ESCAPE_CLASS;
+                }
+                isPrimaryColumn = isTable && fieldCount == 0 && FieldName.PRIMARY_COLUMNS.equals(field);
+
+                if (fieldCount++ > 0) {
+                    path.append('.');
+                }
+                path.append(field);
+            }
+            fieldStart = fieldEnd + 1;
+        }
+
+        return path.toString();
+    }
+
+    /**
+     * Replaces a name where it is used in the DSL, at the paths found by the analysis of the DSL, that are saved with
+     * it as Layout.dslReferences. Only these paths are read and changed, and in them only the uses of the name in the
+     * mustache keys, or the whole name of the widget, are replaced.
+     *
+     * @param dsl     DSL of the page, as it is saved, with the columns of its tables escaped.
+     * @param paths   Paths where the name is used.
+     * @param oldName Name to be replaced.
+     * @param newName Name to replace it with.
+     * @return Whether the name was found at all the paths. If it wasn't, the DSL has changed since the paths were
+     * found, and it is left as it was.
+     */
+    public static boolean replaceName(JSONObject dsl, Collection<String> paths, String oldName, String newName) {
+        final List<Object> parents = new ArrayList<>(paths.size());
+        final List<Object> fields = new ArrayList<>(paths.size());
+        final List<String> replacements = new ArrayList<>(paths.size());
+
+        // All the paths are checked before any of them are changed, so that a stale path doesn't leave the DSL half done.
+        for (String path : paths) {
+            Object parent = null;
+            Object field = null;
+            Object value = dsl;
+            for (int fieldStart = 0; fieldStart <= path.length(); ) {
+                final int fieldEnd = path.indexOf('.', fieldStart) < 0 ? path.length() : path.indexOf('.', fieldStart);
+                parent = value;
+                if (value instanceof Map) {
+                    field = path.substring(fieldStart, fieldEnd);
+                    value = ((Map<?, ?>) value).get(field);
+                } else if (value instanceof List) {
+                    final int index = parseIndex(path, fieldStart, fieldEnd);
+                    if (index < 0 || index >= ((List<?>) value).size()) {
+                        return false;
+                    }
+                    field = index;
+                    value = ((List<?>) value).get(index);
+                } else {
+                    return false;
+                }
+                fieldStart = fieldEnd + 1;
+            }
+
+            if (!(value instanceof String)) {
+                return false;
+            }
+
+            final boolean isWidgetName = path.equals(FieldName.WIDGET_NAME) || path.endsWith("." + FieldName.WIDGET_NAME);
+            final String replacement = isWidgetName && oldName.equals(value)
+                    ? newName
+                    : MustacheHelper.replaceNameInMustacheKeys((String) value, oldName, newName);
+            if (replacement.equals(value)) {
+                return false;
+            }
+
+            parents.add(parent);
+            fields.add(field);
+            replacements.add(replacement);
+        }
+
+        for (int i = 0; i < parents.size(); i++) {
+            if (fields.get(i) instanceof Integer) {
+                ((List<Object>) parents.get(i)).set((Integer) fields.get(i), replacements.get(i));
+            } else {
+                ((Map<Object, Object>) parents.get(i)).put(fields.get(i), replacements.get(i));
+            }
+        }
+
+        return true;
+    }
+
+    private AppsmithException invalidReference(Map<String, Object> widget, String fieldPath, String binding) {
+        return new AppsmithException(AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE,
+                asString(widget.get(FieldName.WIDGET_TYPE)),
+                asString(widget.get(FieldName.WIDGET_NAME)),
+                asString(widget.get(FieldName.WIDGET_ID)),
+                fieldPath, pageId, layoutId, binding);
+    }
+
+    private static String asString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Names are saved as keys of Layout.dslReferences, so names that Mongo doesn't allow as keys are left out. The
+     * names used by bindings are always allowed, but the names of widgets may be anything.
+     */
+    private static boolean isReferenceName(String name) {
+        return !name.isEmpty() && name.charAt(0) != '$' && name.indexOf('.') < 0;
+    }
+
+    private static int findFieldEnd(String fieldPath, int fieldStart) {
+        int fieldEnd = fieldStart;
+        while (fieldEnd < fieldPath.length() && !isPathSeparator(fieldPath.charAt(fieldEnd))) {
+            fieldEnd++;
+        }
+        return fieldEnd;
+    }
+
+    private static boolean isPathSeparator(char character) {
+        return character == '.' || character == '[' || character == ']';
+    }
+
+    private static boolean isBlank(String string, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(string.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The list index in the path between the given positions, or -1 if it isn't a number.
+     */
+    private static int parseIndex(String string, int start, int end) {
+        // Indices with more digits than this can't be in a list
+        if (end - start > 9) {
+            return -1;
+        }
+
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            final char character = string.charAt(i);
+            if (character < '0' || character > '9') {
+                return -1;
+            }
+            index = index * 10 + (character - '0');
+        }
+        return index;
+    }
+}
@@ -0,0 +1,291 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of action executions that run at the same time against a single datasource and, optionally,
+ * against all datasources of an organization. Executions beyond the limit wait in a bounded queue, and are rejected
+ * once the queue is full.
+ * <p>
+ * Waiting executions are grouped by a fairness key (like the application and user that triggered them), and a free
+ * slot is given to these groups in turn. This way, one application firing a large number of queries can not starve
+ * the other applications that use the same datasource.
+ */
+@Slf4j
+@Component
+public class ExecutionConcurrencyLimiter {
+
+    private static final String METRIC_PREFIX = "appsmith.execution.queue";
+    private static final String DATASOURCE_SCOPE = "datasource";
+    private static final String ORGANIZATION_SCOPE = "organization";
+
+    private final int maxConcurrentPerDatasource;
+    private final int maxQueuedPerDatasource;
+    private final int maxConcurrentPerOrganization;
+    private final int maxQueuedPerOrganization;
+
+    private final Map<String, Limiter> datasourceLimiters = new ConcurrentHashMap<>();
+    private final Map<String, Limiter> organizationLimiters = new ConcurrentHashMap<>();
+
+    private final Timer datasourceWaitTimer;
+    private final Timer organizationWaitTimer;
+    private final Counter datasourceRejectedCounter;
+    private final Counter organizationRejectedCounter;
+
+    public ExecutionConcurrencyLimiter(MeterRegistry meterRegistry,
+                                       @Value("${appsmith.execution.datasource.max-concurrency:50}") int maxConcurrentPerDatasource,
+                                       @Value("${appsmith.execution.datasource.max-queued:200}") int maxQueuedPerDatasource,
+                                       @Value("${appsmith.execution.organization.max-concurrency:0}") int maxConcurrentPerOrganization,
+                                       @Value("${appsmith.execution.organization.max-queued:500}") int maxQueuedPerOrganization) {
+        this.maxConcurrentPerDatasource = maxConcurrentPerDatasource;
+        this.maxQueuedPerDatasource = maxQueuedPerDatasource;
+        this.maxConcurrentPerOrganization = maxConcurrentPerOrganization;
+        this.maxQueuedPerOrganization = maxQueuedPerOrganization;
+
+        this.datasourceWaitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .tag("scope", DATASOURCE_SCOPE)
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+        this.organizationWaitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .tag("scope", ORGANIZATION_SCOPE)
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+        this.datasourceRejectedCounter = meterRegistry.counter(METRIC_PREFIX + ".rejected", "scope", DATASOURCE_SCOPE);
+        this.organizationRejectedCounter = meterRegistry.counter(METRIC_PREFIX + ".rejected", "scope", ORGANIZATION_SCOPE);
+    }
+
+    /**
+     * Runs the given execution once there is a free slot for its datasource and organization.
+     *
+     * @param datasourceId   Id of the datasource being queried. Embedded datasources, which have no id, are not limited.
+     * @param datasourceName Name of the datasource, used in the error message when the queue is full.
+     * @param organizationId Id of the organization the action belongs to.
+     * @param fairnessKey    Key by which waiting executions are grouped for fair scheduling.
+     * @param execution      The execution to be run.
+     * @return The execution, delayed until a slot is free, or an error if the queue is full.
+     */
+    public <T> Mono<T> limit(String datasourceId,
+                             String datasourceName,
+                             String organizationId,
+                             String fairnessKey,
+                             Mono<T> execution) {
+
+        Mono<T> limitedExecution = execution;
+
+        // The organization permit is the inner one, so it is only taken once the datasource permit has been granted,
+        // and is released before it. Executions waiting in the queue of a busy datasource don't hold on to the
+        // organization's slots, which the other datasources of the organization can then use.
+        if (organizationId != null && maxConcurrentPerOrganization > 0) {
+            final Limiter limiter = organizationLimiters.computeIfAbsent(
+                    organizationId,
+                    id -> new Limiter(maxConcurrentPerOrganization, maxQueuedPerOrganization, organizationWaitTimer)
+            );
+            limitedExecution = withPermit(limiter, fairnessKey, limitedExecution, organizationRejectedCounter,
+                    "the datasources of this organization");
+        }
+
+        if (datasourceId != null && maxConcurrentPerDatasource > 0) {
+            final Limiter limiter = datasourceLimiters.computeIfAbsent(
+                    datasourceId,
+                    id -> new Limiter(maxConcurrentPerDatasource, maxQueuedPerDatasource, datasourceWaitTimer)
+            );
+            limitedExecution = withPermit(limiter, fairnessKey, limitedExecution, datasourceRejectedCounter,
+                    "datasource " + datasourceName);
+        }
+
+        return limitedExecution;
+    }
+
+    private <T> Mono<T> withPermit(Limiter limiter,
+                                   String fairnessKey,
+                                   Mono<T> execution,
+                                   Counter rejectedCounter,
+                                   String target) {
+        return limiter.acquire(fairnessKey)
+                .switchIfEmpty(Mono.defer(() -> {
+                    rejectedCounter.increment();
+                    log.debug("Execution queue is full for {}. Rejecting the execution.", target);
+                    return Mono.error(new AppsmithException(AppsmithError.EXECUTION_QUEUE_FULL, target));
+                }))
+                .flatMap(permit -> execution.doFinally(signalType -> permit.release()));
+    }
+
+    /**
+     * A slot taken from a limiter. Releasing it more than once has no effect.
+     */
+    static class Permit {
+
+        private final Limiter limiter;
+
+        private final AtomicBoolean isReleased = new AtomicBoolean(false);
+
+        Permit(Limiter limiter) {
+            this.limiter = limiter;
+        }
+
+        void release() {
+            if (isReleased.compareAndSet(false, true)) {
+                limiter.release();
+            }
+        }
+    }
+
+    /**
+     * An execution waiting for a slot. It is either given a slot or cancelled, whichever happens first.
+     */
+    private static class Waiter {
+
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final MonoSink<Permit> sink;
+
+        private final String fairnessKey;
+
+        private final long enqueuedAt = System.nanoTime();
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        Waiter(MonoSink<Permit> sink, String fairnessKey) {
+            this.sink = sink;
+            this.fairnessKey = fairnessKey;
+        }
+    }
+
+    static class Limiter {
+
+        private final int maxConcurrent;
+
+        private final int maxQueued;
+
+        private final Timer waitTimer;
+
+        private int active = 0;
+
+        private int queued = 0;
+
+        // Waiting executions, grouped by fairness key. The groups are kept in the order in which they are to be served.
+        private final LinkedHashMap<String, Deque<Waiter>> waiters = new LinkedHashMap<>();
+
+        Limiter(int maxConcurrent, int maxQueued, Timer waitTimer) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.waitTimer = waitTimer;
+        }
+
+        /**
+         * @return A Mono that gives a permit once a slot is free, or completes empty if the queue is full.
+         */
+        Mono<Permit> acquire(String fairnessKey) {
+            return Mono.create(sink -> {
+                final Waiter waiter = new Waiter(sink, fairnessKey == null ? "" : fairnessKey);
+
+                synchronized (this) {
+                    if (active < maxConcurrent) {
+                        active++;
+                        waiter.state.set(Waiter.GRANTED);
+                    } else if (queued >= maxQueued) {
+                        waiter.state.set(Waiter.CANCELLED);
+                    } else {
+                        queued++;
+                        waiters.computeIfAbsent(waiter.fairnessKey, key -> new ArrayDeque<>()).addLast(waiter);
+                    }
+                }
+
+                if (waiter.state.get() == Waiter.GRANTED) {
+                    waitTimer.record(0, TimeUnit.NANOSECONDS);
+                    sink.success(new Permit(this));
+                    return;
+                } else if (waiter.state.get() == Waiter.CANCELLED) {
+                    sink.success();
+                    return;
+                }
+
+                sink.onCancel(() -> {
+                    if (waiter.state.compareAndSet(Waiter.WAITING, Waiter.CANCELLED)) {
+                        remove(waiter);
+                    } else if (waiter.state.get() == Waiter.GRANTED) {
+                        // The slot was given to this waiter, but it was cancelled before it could take it.
+                        release();
+                    }
+                });
+            });
+        }
+
+        void release() {
+            while (true) {
+                final Waiter next;
+                synchronized (this) {
+                    next = pollNextWaiter();
+                    if (next == null) {
+                        active--;
+                        return;
+                    }
+                }
+
+                // The slot is handed over to the next waiter, unless it has been cancelled in the meantime.
+                if (next.state.compareAndSet(Waiter.WAITING, Waiter.GRANTED)) {
+                    waitTimer.record(System.nanoTime() - next.enqueuedAt, TimeUnit.NANOSECONDS);
+                    next.sink.success(new Permit(this));
+                    return;
+                }
+            }
+        }
+
+        private Waiter pollNextWaiter() {
+            final Iterator<Map.Entry<String, Deque<Waiter>>> iterator = waiters.entrySet().iterator();
+            if (!iterator.hasNext()) {
+                return null;
+            }
+
+            final Map.Entry<String, Deque<Waiter>> entry = iterator.next();
+            final Deque<Waiter> group = entry.getValue();
+            final Waiter waiter = group.pollFirst();
+            // Move this group to the end of the line, so that the other groups are served before it again.
+            iterator.remove();
+            if (!group.isEmpty()) {
+                waiters.put(entry.getKey(), group);
+            }
+            queued--;
+            return waiter;
+        }
+
+        private synchronized void remove(Waiter waiter) {
+            final Deque<Waiter> group = waiters.get(waiter.fairnessKey);
+            if (group != null && group.remove(waiter)) {
+                queued--;
+                if (group.isEmpty()) {
+                    waiters.remove(waiter.fairnessKey);
+                }
+            }
+        }
+
+        synchronized int getActive() {
+            return active;
+        }
+
+        synchronized int getQueued() {
+            return queued;
+        }
+    }
+}
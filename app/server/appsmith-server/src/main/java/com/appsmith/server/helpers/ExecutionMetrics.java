@@ -0,0 +1,140 @@
+package com.appsmith.server.helpers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.lang.Boolean.TRUE;
+
+/**
+ * Measures the time taken by each stage of an action execution, and publishes it as the
+ * {@value #TIMER_NAME} timer, tagged by the stage, the plugin, the datasource and the view mode.
+ * <p>
+ * The plugin and datasource of an execution are only known once they are fetched, so the times of the stages are
+ * collected by a {@link Recorder} for each execution, and are all published with the same tags when it finishes.
+ */
+@Slf4j
+@Component
+public class ExecutionMetrics {
+
+    public static final String TIMER_NAME = "appsmith.action.execution";
+
+    public static final String ACTION_FETCH = "action_fetch";
+    public static final String DATASOURCE_FETCH = "datasource_fetch";
+    public static final String PLUGIN_RESOLUTION = "plugin_resolution";
+    public static final String AUTHENTICATION = "authentication";
+    public static final String CONNECTION = "connection";
+    // The time the plugin takes to prepare the action before the query is started, which is where most plugins
+    // substitute the parameters into the action.
+    public static final String PREPARATION = "preparation";
+    public static final String PLUGIN_EXECUTION = "plugin_execution";
+    public static final String POST_PROCESSING = "post_processing";
+    public static final String ANALYTICS = "analytics";
+    public static final String TOTAL = "total";
+
+    private static final String UNKNOWN = "unknown";
+    private static final String EMBEDDED_DATASOURCE = "embedded";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean isDatasourceTagEnabled;
+
+    public ExecutionMetrics(MeterRegistry meterRegistry,
+                            @Value("${appsmith.execution.metrics.datasource-tag.enabled:true}") boolean isDatasourceTagEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.isDatasourceTagEnabled = isDatasourceTagEnabled;
+    }
+
+    public Recorder newRecorder(Boolean viewMode) {
+        return new Recorder(TRUE.equals(viewMode));
+    }
+
+    /**
+     * Collects the time taken by the stages of a single execution.
+     */
+    public class Recorder {
+
+        private final boolean viewMode;
+        private final Map<String, Long> stageNanos = new ConcurrentHashMap<>();
+        private volatile String plugin = UNKNOWN;
+        private volatile String datasourceId = UNKNOWN;
+
+        private Recorder(boolean viewMode) {
+            this.viewMode = viewMode;
+        }
+
+        public void setPlugin(String plugin) {
+            if (plugin != null) {
+                this.plugin = plugin;
+            }
+        }
+
+        public void setDatasourceId(String datasourceId) {
+            this.datasourceId = datasourceId == null ? EMBEDDED_DATASOURCE : datasourceId;
+        }
+
+        /**
+         * Adds the time taken by a stage. Stages that run more than once, like the plugin execution when it is retried,
+         * add up.
+         */
+        public void record(String stage, long nanos) {
+            stageNanos.merge(stage, nanos, Long::sum);
+        }
+
+        /**
+         * Records the time from the subscription to the given publisher until it terminates as the given stage.
+         */
+        public <T> Mono<T> time(String stage, Mono<T> mono) {
+            return Mono.defer(() -> {
+                final long start = System.nanoTime();
+                final Runnable recordStage = () -> record(stage, System.nanoTime() - start);
+                // The time is recorded before the result is passed on, so the stage is recorded before the whole
+                // execution finishes and is published.
+                return mono.doOnTerminate(recordStage).doOnCancel(recordStage);
+            });
+        }
+
+        /**
+         * Records the time taken by the whole execution, and publishes the times of all the stages once it finishes.
+         */
+        public <T> Mono<T> timeExecution(Mono<T> execution) {
+            return Mono.defer(() -> {
+                final long start = System.nanoTime();
+                final Runnable finish = () -> {
+                    record(TOTAL, System.nanoTime() - start);
+                    publish();
+                };
+                return execution.doOnTerminate(finish).doOnCancel(finish);
+            });
+        }
+
+        private void publish() {
+            final Tags tags = Tags.of(
+                    "plugin", plugin,
+                    "datasource", isDatasourceTagEnabled ? datasourceId : UNKNOWN,
+                    "viewMode", String.valueOf(viewMode)
+            );
+
+            stageNanos.forEach((stage, nanos) -> Timer.builder(TIMER_NAME)
+                    .tags(tags)
+                    .tag("stage", stage)
+                    .register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS));
+
+            if (log.isDebugEnabled()) {
+                log.debug("Execution stages for plugin {} and datasource {} (ms): {}", plugin, datasourceId,
+                        stageNanos.entrySet().stream()
+                                .map(entry -> entry.getKey() + "=" + TimeUnit.NANOSECONDS.toMillis(entry.getValue()))
+                                .collect(Collectors.joining(", ")));
+            }
+        }
+    }
+}
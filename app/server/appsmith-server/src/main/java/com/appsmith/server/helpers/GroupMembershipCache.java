@@ -0,0 +1,58 @@
+package com.appsmith.server.helpers;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Caches the ids of the groups that list a user as a member, keyed by the username. These are needed for the ACL
+ * checks of every request the user makes, while they only change when the user joins or leaves an organization.
+ * <p>
+ * Entries are evicted when the user is added to or removed from a group on this server instance, and also expire after
+ * a short while, so that changes made on another instance are picked up soon.
+ */
+@Component
+public class GroupMembershipCache {
+
+    private final Cache<String, Mono<Set<String>>> cache;
+
+    public GroupMembershipCache(@Value("${appsmith.cache.group-memberships.max-size:10000}") long maxSize,
+                                @Value("${appsmith.cache.group-memberships.ttl-seconds:10}") long ttlSeconds) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Gets the ids of the groups the given user is a member of, loading them if they are not in the cache. Concurrent
+     * requests for the same user share a single load.
+     *
+     * @param username Username of the user.
+     * @param loader   Loads the group ids of the user.
+     * @return The ids of the groups the user is a member of.
+     */
+    public Mono<Set<String>> get(String username, Function<String, Mono<Set<String>>> loader) {
+        final ConcurrentMap<String, Mono<Set<String>>> cacheMap = cache.asMap();
+        final Mono<Set<String>> groupIdsMono = cacheMap.computeIfAbsent(username, key -> loader.apply(key).cache());
+
+        return groupIdsMono
+                // Remove the failed load from the cache so it is tried again next time.
+                .doOnError(error -> cacheMap.remove(username, groupIdsMono));
+    }
+
+    /**
+     * Removes the groups of the given users from the cache. This should be called after the users are added to or
+     * removed from a group.
+     */
+    public void evict(Iterable<String> usernames) {
+        cache.invalidateAll(usernames);
+    }
+}
@@ -0,0 +1,63 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.NewPage;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Caches the metadata of the pages of an application (names, hidden flags and policies, but not the layouts), keyed by
+ * the application id. This is used to list the pages of an application, which happens every time an application is
+ * opened and on every page navigation.
+ * <p>
+ * The cached pages are shared between all users, so permissions have to be checked on every read. Entries are evicted
+ * when a page of the application is created, renamed, deleted or published, and also expire after a while, since
+ * pages may be changed by another server instance.
+ */
+@Component
+public class PageIndexCache {
+
+    private final Cache<String, Mono<Map<String, NewPage>>> cache;
+
+    public PageIndexCache(@Value("${appsmith.cache.page-index.max-size:10000}") long maxSize,
+                          @Value("${appsmith.cache.page-index.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Gets the pages of the given application, keyed by the page id, loading them if they are not in the cache.
+     * Concurrent requests for the same application share a single load.
+     *
+     * @param applicationId Id of the application.
+     * @param loader        Loads the pages of the application. It must not depend on the current user.
+     * @return The pages of the application.
+     */
+    public Mono<Map<String, NewPage>> get(String applicationId, Function<String, Mono<Map<String, NewPage>>> loader) {
+        final ConcurrentMap<String, Mono<Map<String, NewPage>>> cacheMap = cache.asMap();
+        final Mono<Map<String, NewPage>> pagesMono = cacheMap.computeIfAbsent(applicationId, id -> loader.apply(id).cache());
+
+        return pagesMono
+                // Remove the failed load from the cache so it is tried again next time.
+                .doOnError(error -> cacheMap.remove(applicationId, pagesMono));
+    }
+
+    /**
+     * Removes the pages of the given application from the cache. This should be called after any of the pages are
+     * created, renamed, deleted or published.
+     */
+    public void evict(String applicationId) {
+        if (applicationId != null) {
+            cache.invalidate(applicationId);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import lombok.Value;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in a list of documents that is sorted by a time and then by id, like comment threads sorted by their last
+ * activity. The next page of the list is made of the documents that sort after the last document of the current page,
+ * so pages don't shift when documents are added to the start of the list, as they would with an offset.
+ * <p>
+ * Clients get cursors as opaque strings, and send them back as they are to get the next page.
+ */
+@Value
+public class PaginationCursor {
+
+    private static final String SEPARATOR = ":";
+
+    Instant timestamp;
+
+    String id;
+
+    public String encode() {
+        final String value = timestamp.toEpochMilli() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor A cursor given by {@link #encode()}, or null for the start of the list.
+     * @return The decoded cursor, or null if the given cursor is null or empty.
+     */
+    public static PaginationCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        try {
+            final String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final String[] parts = value.split(SEPARATOR, 2);
+            if (parts.length == 2 && ObjectId.isValid(parts[1])) {
+                return new PaginationCursor(Instant.ofEpochMilli(Long.parseLong(parts[0])), parts[1]);
+            }
+        } catch (IllegalArgumentException e) {
+            // Not valid base64 or not a number. This is reported as an invalid cursor below.
+        }
+
+        throw new AppsmithException(AppsmithError.INVALID_PARAMETER, "cursor");
+    }
+}
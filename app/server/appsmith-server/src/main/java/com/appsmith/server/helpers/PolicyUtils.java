@@ -4,19 +4,30 @@ import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Action;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Datasource;
-import com.appsmith.server.domains.NewAction;
-import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.Page;
+import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.domains.QCommentThread;
+import com.appsmith.server.domains.QDatasource;
+import com.appsmith.server.domains.QNewAction;
+import com.appsmith.server.domains.QNewPage;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.repositories.AppsmithRepository;
 import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.CommentThreadRepository;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.PublishedApplicationBundleRepository;
+import com.mongodb.client.result.UpdateResult;
 import lombok.AllArgsConstructor;
 import org.apache.commons.collections.CollectionUtils;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -33,6 +44,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_DATASOURCES;
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Component
 @AllArgsConstructor
@@ -44,6 +57,9 @@ public class PolicyUtils {
     private final NewPageRepository newPageRepository;
     private final NewActionRepository newActionRepository;
     private final CommentThreadRepository commentThreadRepository;
+    private final PageIndexCache pageIndexCache;
+    private final PublishedApplicationBundleRepository publishedApplicationBundleRepository;
+    private final PublishedApplicationBundleCache publishedApplicationBundleCache;
 
     public <T extends BaseDomain> T addPoliciesToExistingObject(Map<String, Policy> policyMap, T obj) {
         // Making a deep copy here so we don't modify the `policyMap` object.
@@ -143,131 +159,187 @@ public class PolicyUtils {
                 .collect(Collectors.toMap(Policy::getPermission, Function.identity()));
     }
 
-    public Flux<Datasource> updateWithNewPoliciesToDatasourcesByOrgId(String orgId, Map<String, Policy> newPoliciesMap, boolean addPolicyToObject) {
-
-        return datasourceRepository
-                // fetch datasources with execute permissions so that app viewers can invite other app viewers
-                .findAllByOrganizationId(orgId, AclPermission.EXECUTE_DATASOURCES)
-                // In case we have come across a datasource for this organization that the current user is not allowed to manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .map(datasource -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newPoliciesMap, datasource);
-                    } else {
-                        return removePoliciesFromExistingObject(newPoliciesMap, datasource);
-                    }
+    /**
+     * Given a set of AclPermissions, generate all policies (including policies from lateral permissions) for the group.
+     * The policies reference the group rather than its members, so they don't change when members join or leave.
+     */
+    public Map<String, Policy> generatePolicyFromPermissionForGroup(Set<AclPermission> permissions, String groupId) {
+        return permissions.stream()
+                .map(perm -> {
+                    Policy policyWithCurrentPermission = Policy.builder().permission(perm.getValue())
+                            .groups(Set.of(groupId)).build();
+                    Set<Policy> policiesForGroup = policyGenerator.getLateralPolicies(perm, Set.of(), Set.of(groupId), null);
+                    policiesForGroup.add(policyWithCurrentPermission);
+                    return policiesForGroup;
                 })
-                .collectList()
-                .flatMapMany(updatedDatasources -> datasourceRepository.saveAll(updatedDatasources));
+                .flatMap(Collection::stream)
+                .collect(Collectors.toMap(Policy::getPermission, Function.identity()));
     }
 
-    public Flux<Datasource> updateWithNewPoliciesToDatasourcesByDatasourceIds(Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
-
-        return datasourceRepository
-                .findAllByIds(ids, MANAGE_DATASOURCES)
-                // In case we have come across a datasource the current user is not allowed to manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .flatMap(datasource -> {
-                    Datasource updatedDatasource;
-                    if (addPolicyToObject) {
-                        updatedDatasource = addPoliciesToExistingObject(datasourcePolicyMap, datasource);
-                    } else {
-                        updatedDatasource = removePoliciesFromExistingObject(datasourcePolicyMap, datasource);
-                    }
+    public Mono<UpdateResult> updateWithNewPoliciesToDatasourcesByOrgId(String orgId, Map<String, Policy> newPoliciesMap, boolean addPolicyToObject) {
+        // Update datasources with execute permissions so that app viewers can invite other app viewers
+        return updatePolicies(
+                datasourceRepository,
+                List.of(where(fieldName(QDatasource.datasource.organizationId)).is(orgId)),
+                AclPermission.EXECUTE_DATASOURCES,
+                newPoliciesMap,
+                addPolicyToObject
+        );
+    }
 
-                    return Mono.just(updatedDatasource);
-                })
-                .collectList()
-                .flatMapMany(datasources -> datasourceRepository.saveAll(datasources));
+    public Mono<UpdateResult> updateWithNewPoliciesToDatasourcesByDatasourceIds(Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
+        if (ids.isEmpty()) {
+            return Mono.just(UpdateResult.acknowledged(0L, 0L, null));
+        }
+
+        return updatePolicies(
+                datasourceRepository,
+                List.of(where(fieldName(QDatasource.datasource.id)).in(ids)),
+                MANAGE_DATASOURCES,
+                datasourcePolicyMap,
+                addPolicyToObject
+        );
     }
 
-    public Flux<Application> updateWithNewPoliciesToApplicationsByOrgId(String orgId, Map<String, Policy> newAppPoliciesMap, boolean addPolicyToObject) {
-
-        return applicationRepository
-                // fetch applications with read permissions so that app viewers can invite other app viewers
-                .findByOrganizationId(orgId, AclPermission.READ_APPLICATIONS)
-                // In case we have come across an application for this organization that the current user is not allowed to manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .map(application -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newAppPoliciesMap, application);
-                    } else {
-                        return removePoliciesFromExistingObject(newAppPoliciesMap, application);
-                    }
-                })
-                .collectList()
-                .flatMapMany(updatedApplications -> applicationRepository.saveAll(updatedApplications));
+    public Mono<UpdateResult> updateWithNewPoliciesToApplicationsByOrgId(String orgId, Map<String, Policy> newAppPoliciesMap, boolean addPolicyToObject) {
+        // Update applications with read permissions so that app viewers can invite other app viewers
+        return updatePolicies(
+                applicationRepository,
+                List.of(where(fieldName(QApplication.application.organizationId)).is(orgId)),
+                AclPermission.READ_APPLICATIONS,
+                newAppPoliciesMap,
+                addPolicyToObject
+        );
     }
 
-    public Flux<NewPage> updateWithApplicationPermissionsToAllItsPages(String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject) {
+    public Mono<UpdateResult> updateWithApplicationPermissionsToAllItsPages(Collection<String> applicationIds, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject) {
 
-        // Instead of fetching pages from the application object, we fetch pages from the page repository. This ensures that all the published
+        // Instead of fetching pages from the application object, we update pages from the page repository. This ensures that all the published
         // AND the unpublished pages are updated with the new policy change [This covers the edge cases where a page may exist
         // in published app but has been deleted in the edit mode]. This means that we don't have to do any special treatment
         // during deployment of the application to handle edge cases.
-        return newPageRepository
-                // fetch pages with read permissions so that app viewers can invite other app viewers
-                .findByApplicationId(applicationId, AclPermission.READ_PAGES)
-                .switchIfEmpty(Mono.empty())
-                .map(page -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newPagePoliciesMap, page);
-                    } else {
-                        return removePoliciesFromExistingObject(newPagePoliciesMap, page);
-                    }
-                })
-                .collectList()
-                .flatMapMany(updatedPages -> newPageRepository
-                        .saveAll(updatedPages));
+        return updatePolicies(
+                        newPageRepository,
+                        List.of(where(fieldName(QNewPage.newPage.applicationId)).in(applicationIds)),
+                        // Update pages with read permissions so that app viewers can invite other app viewers
+                        AclPermission.READ_PAGES,
+                        newPagePoliciesMap,
+                        addPolicyToObject
+                )
+                // The cached pages and the published bundles hold the old policies.
+                .flatMap(result -> Flux.fromIterable(applicationIds)
+                        .flatMap(applicationId -> {
+                            pageIndexCache.evict(applicationId);
+                            return deletePublishedBundle(applicationId);
+                        })
+                        .then(Mono.just(result)));
     }
 
-    public Flux<CommentThread> updateWithApplicationPermissionsToAllItsCommentThreads(
-            String applicationId, Map<String, Policy> commentThreadPolicyMap, boolean addPolicyToObject) {
-
-        return
-                // fetch comment threads with read permissions
-                commentThreadRepository.findByApplicationId(applicationId, AclPermission.READ_THREAD)
-                .switchIfEmpty(Mono.empty())
-                .map(thread -> {
-                    if(!Boolean.TRUE.equals(thread.getIsPrivate())) {
-                        if (addPolicyToObject) {
-                            return addPoliciesToExistingObject(commentThreadPolicyMap, thread);
-                        } else {
-                            return removePoliciesFromExistingObject(commentThreadPolicyMap, thread);
-                        }
-                    }
-                    return thread;
-                })
-                .collectList()
-                .flatMapMany(commentThreadRepository::saveAll);
+    public Mono<UpdateResult> updateWithApplicationPermissionsToAllItsCommentThreads(
+            Collection<String> applicationIds, Map<String, Policy> commentThreadPolicyMap, boolean addPolicyToObject) {
+
+        // Private threads are only visible to their authors, and don't get the policies of the application.
+        return updatePolicies(
+                commentThreadRepository,
+                List.of(
+                        where(fieldName(QCommentThread.commentThread.applicationId)).in(applicationIds),
+                        where(fieldName(QCommentThread.commentThread.isPrivate)).ne(true)
+                ),
+                AclPermission.READ_THREAD,
+                commentThreadPolicyMap,
+                addPolicyToObject
+        );
     }
 
     /**
-     * Instead of fetching actions by pageId, fetch actions by applicationId and then update the action policies
-     * using the new ActionPoliciesMap. This ensures the following :
-     * 1. Instead of bulk updating actions page wise, we do bulk update of actions in one go for the entire application.
-     * 2. If the action is associated with different pages (in published/unpublished page due to movement of action), fetching
+     * Instead of updating actions by pageId, update actions by applicationId with the new ActionPoliciesMap. This ensures
+     * the following :
+     * 1. Instead of updating actions page wise, we update the actions in one go for all the applications.
+     * 2. If the action is associated with different pages (in published/unpublished page due to movement of action), updating
      * actions by applicationId ensures that we update ALL the actions and don't have to do special handling for the same.
      *
-     * @param applicationId
+     * @param applicationIds
      * @param newActionPoliciesMap
      * @param addPolicyToObject
      * @return
      */
-    public Flux<NewAction> updateWithPagePermissionsToAllItsActions(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
-
-        return newActionRepository
-                .findByApplicationId(applicationId)
-                .switchIfEmpty(Mono.empty())
-                .map(action -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newActionPoliciesMap, action);
-                    } else {
-                        return removePoliciesFromExistingObject(newActionPoliciesMap, action);
-                    }
-                })
+    public Mono<UpdateResult> updateWithPagePermissionsToAllItsActions(Collection<String> applicationIds, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
+
+        return updatePolicies(
+                        newActionRepository,
+                        List.of(where(fieldName(QNewAction.newAction.applicationId)).in(applicationIds)),
+                        null,
+                        newActionPoliciesMap,
+                        addPolicyToObject
+                )
+                // The published bundles hold the old policies.
+                .flatMap(result -> Flux.fromIterable(applicationIds)
+                        .flatMap(this::deletePublishedBundle)
+                        .then(Mono.just(result)));
+    }
+
+    /**
+     * Adds or removes the policies of an organization member to or from everything in the organization, i.e., its
+     * datasources, applications, pages, actions and shared comment threads. The policies of the organization itself are
+     * not changed here.
+     * <p>
+     * Every collection is changed with server side updates that don't load the documents, so the cost of adding or
+     * removing a member depends on the number of collections rather than on the number of documents in the organization.
+     * The given policies can be for any number of users, so that adding several users at once takes the same updates as
+     * adding one.
+     *
+     * @param orgId        Id of the organization.
+     * @param orgPolicyMap Policies of the member(s) on the organization, keyed by permission.
+     * @param addPolicies  Whether the policies are to be added or removed.
+     * @return Empty when all the updates are done.
+     */
+    public Mono<Void> updateWithNewPoliciesToOrganizationResources(String orgId, Map<String, Policy> orgPolicyMap, boolean addPolicies) {
+        Map<String, Policy> applicationPolicyMap = generateInheritedPoliciesFromSourcePolicies(orgPolicyMap, Organization.class, Application.class);
+        Map<String, Policy> datasourcePolicyMap = generateInheritedPoliciesFromSourcePolicies(orgPolicyMap, Organization.class, Datasource.class);
+        Map<String, Policy> pagePolicyMap = generateInheritedPoliciesFromSourcePolicies(applicationPolicyMap, Application.class, Page.class);
+        Map<String, Policy> actionPolicyMap = generateInheritedPoliciesFromSourcePolicies(pagePolicyMap, Page.class, Action.class);
+        Map<String, Policy> commentThreadPolicyMap = generateInheritedPoliciesFromSourcePolicies(
+                applicationPolicyMap, Application.class, CommentThread.class
+        );
+
+        // The applications are found before their policies are changed, since removing the policies can take away the
+        // permission they are found with.
+        return applicationRepository.findIdsByOrganizationId(orgId, AclPermission.READ_APPLICATIONS)
                 .collectList()
-                .flatMapMany(updatedActions -> newActionRepository.saveAll(updatedActions));
+                .flatMap(applicationIds -> {
+                    Mono<UpdateResult> updatedDatasourcesMono = updateWithNewPoliciesToDatasourcesByOrgId(orgId, datasourcePolicyMap, addPolicies);
+                    if (applicationIds.isEmpty()) {
+                        return updatedDatasourcesMono.then();
+                    }
+
+                    return Mono.when(
+                            updatedDatasourcesMono,
+                            updateWithNewPoliciesToApplicationsByOrgId(orgId, applicationPolicyMap, addPolicies),
+                            updateWithApplicationPermissionsToAllItsPages(applicationIds, pagePolicyMap, addPolicies),
+                            updateWithPagePermissionsToAllItsActions(applicationIds, actionPolicyMap, addPolicies),
+                            updateWithApplicationPermissionsToAllItsCommentThreads(applicationIds, commentThreadPolicyMap, addPolicies)
+                    );
+                });
+    }
+
+    private <T extends BaseDomain> Mono<UpdateResult> updatePolicies(AppsmithRepository<T> repository,
+                                                                     List<Criteria> criteria,
+                                                                     AclPermission permission,
+                                                                     Map<String, Policy> policyMap,
+                                                                     boolean addPolicies) {
+        if (addPolicies) {
+            return repository.addPolicies(criteria, permission, policyMap.values());
+        }
+        return repository.removePolicies(criteria, permission, policyMap.values());
+    }
+
+    /**
+     * Deletes the published bundle of the application, so that it is created again with the new policies the next time
+     * the application is viewed.
+     */
+    private Mono<Void> deletePublishedBundle(String applicationId) {
+        return publishedApplicationBundleRepository.deleteByApplicationId(applicationId)
+                .doFinally(signalType -> publishedApplicationBundleCache.evict(applicationId));
     }
 
     public Map<String, Policy> generateInheritedPoliciesFromSourcePolicies(Map<String, Policy> sourcePolicyMap,
@@ -303,6 +375,42 @@ public class PolicyUtils {
         return false;
     }
 
+    /**
+     * Checks the given policies for the permission in the same way as the ACL queries in the repositories, i.e., the
+     * permission is present if it is given to the user, to any of the user's groups or to the anonymous user.
+     */
+    public boolean isPermissionPresentForUser(Set<Policy> policies, String permission, User user) {
+        return getPermissionsForUser(policies, user).contains(permission);
+    }
+
+    /**
+     * Gets all the permissions given to the user, to any of the user's groups or to the anonymous user by the given
+     * policies. This is the same as the user permissions set on objects fetched from the repositories.
+     */
+    public Set<String> getPermissionsForUser(Set<Policy> policies, User user) {
+        if (policies == null || policies.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> permissions = new HashSet<>();
+
+        for (Policy policy : policies) {
+            final Set<String> policyUsers = policy.getUsers();
+            if (policyUsers != null
+                    && (policyUsers.contains(user.getUsername()) || policyUsers.contains(FieldName.ANONYMOUS_USER))) {
+                permissions.add(policy.getPermission());
+                continue;
+            }
+
+            final Set<String> policyGroups = policy.getGroups();
+            if (policyGroups != null && user.getAllGroupIds().stream().anyMatch(policyGroups::contains)) {
+                permissions.add(policy.getPermission());
+            }
+        }
+
+        return permissions;
+    }
+
     public Set<String> findUsernamesWithPermission(Set<Policy> policies, AclPermission permission) {
         if (CollectionUtils.isNotEmpty(policies) && permission != null) {
             final String permissionString = permission.getValue();
@@ -0,0 +1,152 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.PublishedApplicationBundle;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * An in-memory LRU cache of published application bundles, keyed by the application id, along with an index from page
+ * ids to application ids. The cached bundles are shared between all users and must not be modified.
+ * <p>
+ * Since a bundle holds the DSLs of all the pages of an application, bundles can differ in size by orders of magnitude.
+ * The cache is therefore bounded by the total serialized size of the bundles it holds, not by their number.
+ * <p>
+ * Entries are evicted when an application is published, its permissions change or its pages are deleted, and also
+ * expire after a while, since these may happen on another server instance.
+ */
+@Slf4j
+@Component
+public class PublishedApplicationBundleCache {
+
+    // The weight of a bundle whose size could not be measured.
+    private static final int DEFAULT_WEIGHT_IN_KB = 1024;
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, CachedBundle> bundles;
+
+    // Loads in progress, so that concurrent requests for the same application share a single load.
+    private final ConcurrentMap<String, Mono<CachedBundle>> loads = new ConcurrentHashMap<>();
+
+    private final Cache<String, String> applicationIdsByPageId;
+
+    public PublishedApplicationBundleCache(ObjectMapper objectMapper,
+                                           @Value("${appsmith.cache.published-bundle.max-size-mb:256}") long maxSizeInMb,
+                                           @Value("${appsmith.cache.published-bundle.ttl-seconds:60}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.bundles = CacheBuilder.newBuilder()
+                .maximumWeight(maxSizeInMb * 1024)
+                .weigher((String applicationId, CachedBundle cachedBundle) -> cachedBundle.weightInKb)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.applicationIdsByPageId = CacheBuilder.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Gets the bundle of the given application, loading it if it is not in the cache. Concurrent requests for the same
+     * application share a single load. The loader may complete empty if the application has no bundle, and this is
+     * cached as well until the entry is evicted or expires.
+     */
+    public Mono<PublishedApplicationBundle> get(String applicationId,
+                                                Function<String, Mono<PublishedApplicationBundle>> loader) {
+        final CachedBundle cachedBundle = bundles.getIfPresent(applicationId);
+        if (cachedBundle != null) {
+            return Mono.justOrEmpty(cachedBundle.bundle);
+        }
+
+        return loads.computeIfAbsent(applicationId, id -> load(id, loader))
+                .flatMap(loadedBundle -> Mono.justOrEmpty(loadedBundle.bundle));
+    }
+
+    private Mono<CachedBundle> load(String applicationId, Function<String, Mono<PublishedApplicationBundle>> loader) {
+        final AtomicReference<Mono<CachedBundle>> load = new AtomicReference<>();
+        load.set(loader.apply(applicationId)
+                .map(bundle -> new CachedBundle(Optional.of(bundle), weigh(bundle)))
+                .defaultIfEmpty(new CachedBundle(Optional.empty(), 1))
+                .doOnNext(cachedBundle -> {
+                    // If the application was evicted while its bundle was being loaded, the bundle may be out of date
+                    // already, and is not cached.
+                    if (loads.remove(applicationId, load.get())) {
+                        bundles.put(applicationId, cachedBundle);
+                        cachedBundle.bundle.ifPresent(bundle -> bundle.getPages().forEach(
+                                page -> applicationIdsByPageId.put(page.getPageId(), applicationId)));
+                    }
+                })
+                // Remove the failed load so it is tried again next time.
+                .doOnError(error -> loads.remove(applicationId, load.get()))
+                .cache());
+        return load.get();
+    }
+
+    private int weigh(PublishedApplicationBundle bundle) {
+        final CountingOutputStream outputStream = new CountingOutputStream(ByteStreams.nullOutputStream());
+        try {
+            objectMapper.writeValue(outputStream, bundle);
+        } catch (IOException e) {
+            log.warn("Unable to measure the size of the published bundle of application {}.", bundle.getApplicationId(), e);
+            return DEFAULT_WEIGHT_IN_KB;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, outputStream.getCount() / 1024 + 1);
+    }
+
+    /**
+     * @return The id of the application the page belongs to, if a bundle with this page has been loaded, or null.
+     */
+    public String getApplicationIdForPage(String pageId) {
+        return applicationIdsByPageId.getIfPresent(pageId);
+    }
+
+    public void evict(String applicationId) {
+        if (applicationId == null) {
+            return;
+        }
+
+        loads.remove(applicationId);
+        final CachedBundle cachedBundle = bundles.getIfPresent(applicationId);
+        bundles.invalidate(applicationId);
+        if (cachedBundle != null) {
+            cachedBundle.bundle.ifPresent(bundle -> bundle.getPages().forEach(
+                    page -> applicationIdsByPageId.invalidate(page.getPageId())));
+        }
+    }
+
+    /**
+     * Forgets the application of the given page. This should be called when the page is deleted.
+     */
+    public void evictPage(String pageId) {
+        if (pageId != null) {
+            applicationIdsByPageId.invalidate(pageId);
+        }
+    }
+
+    private static class CachedBundle {
+
+        // Empty if the application has no bundle.
+        private final Optional<PublishedApplicationBundle> bundle;
+
+        private final int weightInKb;
+
+        CachedBundle(Optional<PublishedApplicationBundle> bundle, int weightInKb) {
+            this.bundle = bundle;
+            this.weightInKb = weightInKb;
+        }
+    }
+}
@@ -9,6 +9,10 @@ import java.io.StringWriter;
 import java.util.Map;
 
 public class TemplateUtils {
+
+    // The factory keeps the templates it has compiled, so each template is only read and compiled once.
+    private static final MustacheFactory MUSTACHE_FACTORY = new DefaultMustacheFactory();
+
     /**
      * This function replaces the variables in an email template to actual values. It uses the Mustache SDK.
      *
@@ -19,9 +23,8 @@ public class TemplateUtils {
      * @throws IOException bubbled from Mustache renderer.
      */
     public static String parseTemplate(String template, Map<String, ? extends Object> params) throws IOException {
-        MustacheFactory mf = new DefaultMustacheFactory();
         StringWriter stringWriter = new StringWriter();
-        Mustache mustache = mf.compile(template);
+        Mustache mustache = MUSTACHE_FACTORY.compile(template);
         mustache.execute(stringWriter, params).flush();
         return stringWriter.toString();
     }
@@ -1,77 +1,126 @@
 package com.appsmith.server.helpers;
 
 import com.appsmith.server.constants.FieldName;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
+import org.springframework.util.CollectionUtils;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 @Slf4j
 public class WidgetSpecificUtils {
 
-    private static ObjectMapper objectMapper = new ObjectMapper();
-    private static JSONParser jsonParser = new JSONParser(JSONParser.MODE_PERMISSIVE);
-
-    public static JSONObject escapeTableWidgetPrimaryColumns(JSONObject dsl, Set<String> escapedWidgetNames) {
-        Set<String> keySet = dsl.keySet();
-
-        if (keySet.contains(FieldName.PRIMARY_COLUMNS)) {
-            Map primaryColumns = (Map) dsl.get(FieldName.PRIMARY_COLUMNS);
-
-            Map newPrimaryColumns = new HashMap();
+    /**
+     * Renames the columns of a table widget that Mongo can't store as keys, like `_id`, to their escaped names. The
+     * columns are renamed in place, since only a few tables have such columns.
+     *
+     * @param dsl                The table widget.
+     * @param escapedWidgetNames The name of the table is added to this if any of its columns were renamed.
+     * @return The same table widget.
+     */
+    public static <T extends Map<String, Object>> T escapeTableWidgetPrimaryColumns(T dsl, Set<String> escapedWidgetNames) {
+        if (renamePrimaryColumns(dsl, FieldName.MONGO_UNESCAPED_ID, FieldName.MONGO_ESCAPE_ID,
+                FieldName.MONGO_UNESCAPED_CLASS, FieldName.MONGO_ESCAPE_CLASS)) {
+            escapedWidgetNames.add(String.valueOf(dsl.get(FieldName.WIDGET_NAME)));
+        }
+        return dsl;
+    }
 
-            Boolean updateRequired = false;
+    public static <T extends Map<String, Object>> T unEscapeTableWidgetPrimaryColumns(T dsl) {
+        renamePrimaryColumns(dsl, FieldName.MONGO_ESCAPE_ID, FieldName.MONGO_UNESCAPED_ID,
+                FieldName.MONGO_ESCAPE_CLASS, FieldName.MONGO_UNESCAPED_CLASS);
+        return dsl;
+    }
 
-            for (String columnName : (Set<String>) primaryColumns.keySet()) {
-                if (columnName.equals(FieldName.MONGO_UNESCAPED_ID)) {
-                    updateRequired = true;
-                    newPrimaryColumns.put(FieldName.MONGO_ESCAPE_ID, primaryColumns.get(columnName));
-                } else if (columnName.equals(FieldName.MONGO_UNESCAPED_CLASS)) {
-                    updateRequired = true;
-                    newPrimaryColumns.put(FieldName.MONGO_ESCAPE_CLASS, primaryColumns.get(columnName));
-                } else {
-                    newPrimaryColumns.put(columnName, primaryColumns.get(columnName));
-                }
-            }
-            if (updateRequired) {
-                dsl.put(FieldName.PRIMARY_COLUMNS, newPrimaryColumns);
-                escapedWidgetNames.add(dsl.getAsString(FieldName.WIDGET_NAME));
-            }
-        }
+    /**
+     * Walks the widgets of the DSL, and gives back the original names of the columns of the tables that were escaped
+     * when the DSL was saved. The DSL is updated in place.
+     */
+    public static JSONObject unEscapeDslKeys(JSONObject dsl, Set<String> escapedWidgetNames) {
+        unEscapeWidgetKeys(dsl, escapedWidgetNames);
         return dsl;
     }
 
-    public static JSONObject unEscapeTableWidgetPrimaryColumns(JSONObject dsl) {
+    private static void unEscapeWidgetKeys(Map<String, Object> widget, Set<String> escapedWidgetNames) {
+        Object widgetName = widget.get(FieldName.WIDGET_NAME);
+
+        if (widgetName == null) {
+            // This isnt a valid widget configuration. No need to traverse further.
+            return;
+        }
 
-        Set<String> keySet = dsl.keySet();
+        if (escapedWidgetNames.contains(widgetName)
+                && FieldName.TABLE_WIDGET.equals(widget.get(FieldName.WIDGET_TYPE))) {
+            // UnEscape Table widget keys
+            // Since this is a table widget, it wouldnt have children. We can safely return from here with updated dsl
+            unEscapeTableWidgetPrimaryColumns(widget);
+            return;
+        }
 
-        if (keySet.contains(FieldName.PRIMARY_COLUMNS)) {
-            Map primaryColumns = (Map) dsl.get(FieldName.PRIMARY_COLUMNS);
+        // Fetch the children of the current node in the DSL and recursively iterate over them
+        for (Map<String, Object> child : getChildren(widget)) {
+            unEscapeWidgetKeys(child, escapedWidgetNames);
+        }
+    }
 
-            Map newPrimaryColumns = new HashMap();
+    /**
+     * Gives the children of a widget, after dropping the empty ones from the widget.
+     */
+    static List<Map<String, Object>> getChildren(Map<String, Object> widget) {
+        Object children = widget.get(FieldName.CHILDREN);
+        if (!(children instanceof List)) {
+            return List.of();
+        }
 
-            Boolean updateRequired = false;
+        List<Map<String, Object>> childWidgets = (List<Map<String, Object>>) children;
+        boolean hasEmptyChildren = false;
+        for (Map<String, Object> child : childWidgets) {
+            if (CollectionUtils.isEmpty(child)) {
+                hasEmptyChildren = true;
+                break;
+            }
+        }
 
-            for (String columnName : (Set<String>) primaryColumns.keySet()) {
-                if (columnName.equals(FieldName.MONGO_ESCAPE_ID)) {
-                    updateRequired = true;
-                    newPrimaryColumns.put(FieldName.MONGO_UNESCAPED_ID, primaryColumns.get(columnName));
-                } else if (columnName.equals(FieldName.MONGO_ESCAPE_CLASS)) {
-                    updateRequired = true;
-                    newPrimaryColumns.put(FieldName.MONGO_UNESCAPED_CLASS, primaryColumns.get(columnName));
-                } else {
-                    newPrimaryColumns.put(columnName, primaryColumns.get(columnName));
+        if (hasEmptyChildren) {
+            List<Map<String, Object>> nonEmptyChildren = new ArrayList<>(childWidgets.size());
+            for (Map<String, Object> child : childWidgets) {
+                if (!CollectionUtils.isEmpty(child)) {
+                    nonEmptyChildren.add(child);
                 }
             }
-            if (updateRequired) {
-                dsl.put(FieldName.PRIMARY_COLUMNS, newPrimaryColumns);
-            }
+            widget.put(FieldName.CHILDREN, nonEmptyChildren);
+            childWidgets = nonEmptyChildren;
         }
-        return dsl;
+
+        return childWidgets;
     }
 
+    /**
+     * Renames the two given columns of a table widget, if it has them.
+     *
+     * @return Whether any column was renamed.
+     */
+    private static boolean renamePrimaryColumns(Map<String, Object> dsl,
+                                                String fromId, String toId,
+                                                String fromClass, String toClass) {
+        Object primaryColumns = dsl.get(FieldName.PRIMARY_COLUMNS);
+        if (!(primaryColumns instanceof Map)) {
+            return false;
+        }
+
+        Map<String, Object> columns = (Map<String, Object>) primaryColumns;
+        boolean isRenamed = false;
+        if (columns.containsKey(fromId)) {
+            columns.put(toId, columns.remove(fromId));
+            isRenamed = true;
+        }
+        if (columns.containsKey(fromClass)) {
+            columns.put(toClass, columns.remove(fromClass));
+            isRenamed = true;
+        }
+        return isRenamed;
+    }
 }
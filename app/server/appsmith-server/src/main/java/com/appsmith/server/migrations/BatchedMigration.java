@@ -0,0 +1,250 @@
+package com.appsmith.server.migrations;
+
+import com.appsmith.external.models.BaseDomain;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Applies a change to many documents of a collection, with memory use that doesn't depend on the size of the
+ * collection. This is meant for migrations over large collections, like actions and pages, which would otherwise load
+ * the whole collection with {@code findAll} and save each document on its own.
+ * <p>
+ * The documents are read with a cursor, and the updates returned for them are sent in unordered bulk writes of
+ * {@link #batchSize} updates. Only the fields in the updates are written, so the rest of each document, and its
+ * auditing fields, are left as they are. If more than one thread is used, the collection is split into ranges of
+ * {@code _id}, which are migrated in parallel.
+ * <p>
+ * Progress is logged as the migration goes, and counted in the {@code appsmith.migration.documents} metric.
+ * <pre>
+ * BatchedMigration.&lt;NewAction&gt;builder()
+ *         .mongoOperations(mongoTemplate)
+ *         .entityClass(NewAction.class)
+ *         .name("set-mongo-actions-type-to-raw")
+ *         .criteria(where("pluginId").is(mongoPlugin.getId()))
+ *         .build()
+ *         .run(action -&gt; new Update().set(...));
+ * </pre>
+ */
+@Slf4j
+@Builder
+public class BatchedMigration<T extends BaseDomain> {
+
+    private static final String METRIC_NAME = "appsmith.migration.documents";
+
+    private static final long PROGRESS_LOG_INTERVAL_MILLIS = 10_000;
+
+    // Each thread gets several ranges, since documents are rarely spread evenly over time, and so over their ids.
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    @NonNull
+    private final MongoOperations mongoOperations;
+
+    @NonNull
+    private final Class<T> entityClass;
+
+    /**
+     * Name of the migration, used in the logs and metrics. This is usually the id of the change set.
+     */
+    @NonNull
+    private final String name;
+
+    /**
+     * Selects the documents to migrate. If null, all documents in the collection are migrated.
+     */
+    private final Criteria criteria;
+
+    /**
+     * The fields to read from each document. If empty, whole documents are read.
+     */
+    @Builder.Default
+    private final List<String> fields = List.of();
+
+    @Builder.Default
+    private final int batchSize = 1000;
+
+    @Builder.Default
+    private final int threads = 1;
+
+    @Builder.Default
+    private final MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    /**
+     * Runs the migration, and waits for it to finish.
+     *
+     * @param updateFunction Gives the update to apply to a document, or null if the document doesn't need any change.
+     *                       It may be called from several threads at once.
+     * @return The number of documents that were modified.
+     */
+    public long run(Function<T, Update> updateFunction) {
+        final Progress progress = new Progress();
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        final List<Criteria> partitions = getPartitions();
+        log.info("Migration {}: starting with {} partitions on {} threads.", name, partitions.size(), threads);
+
+        if (partitions.size() == 1) {
+            migratePartition(partitions.get(0), updateFunction, progress);
+        } else {
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (Criteria partition : partitions) {
+                    futures.add(executor.submit(() -> migratePartition(partition, updateFunction, progress)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException
+                        ? (RuntimeException) e.getCause()
+                        : new IllegalStateException("Migration " + name + " failed.", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Migration " + name + " was interrupted.", e);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        final long durationNanos = sample.stop(meterRegistry.timer("appsmith.migration.duration", "migration", name));
+        log.info("Migration {}: finished. Scanned {} and modified {} documents in {} seconds.",
+                name, progress.scanned.get(), progress.modified.get(), TimeUnit.NANOSECONDS.toSeconds(durationNanos));
+        return progress.modified.get();
+    }
+
+    private void migratePartition(Criteria partition, Function<T, Update> updateFunction, Progress progress) {
+        final Query query = new Query(partition).cursorBatchSize(batchSize).noCursorTimeout();
+        fields.forEach(field -> query.fields().include(field));
+
+        BulkOperations bulkOperations = null;
+        int pendingUpdates = 0;
+
+        try (CloseableIterator<T> documents = mongoOperations.stream(query, entityClass)) {
+            while (documents.hasNext()) {
+                final T document = documents.next();
+                progress.scannedCounter.increment();
+                progress.scanned.incrementAndGet();
+
+                final Update update = updateFunction.apply(document);
+                if (update == null) {
+                    continue;
+                }
+
+                if (bulkOperations == null) {
+                    bulkOperations = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass);
+                }
+                bulkOperations.updateOne(new Query(where("_id").is(document.getId())), update);
+                pendingUpdates++;
+
+                if (pendingUpdates >= batchSize) {
+                    executeBatch(bulkOperations, progress);
+                    bulkOperations = null;
+                    pendingUpdates = 0;
+                }
+            }
+        }
+
+        if (bulkOperations != null) {
+            executeBatch(bulkOperations, progress);
+        }
+    }
+
+    private void executeBatch(BulkOperations bulkOperations, Progress progress) {
+        final BulkWriteResult result = bulkOperations.execute();
+        progress.modifiedCounter.increment(result.getModifiedCount());
+        progress.modified.addAndGet(result.getModifiedCount());
+
+        final long now = System.currentTimeMillis();
+        final long lastLoggedAt = progress.lastLoggedAt.get();
+        if (now - lastLoggedAt >= PROGRESS_LOG_INTERVAL_MILLIS && progress.lastLoggedAt.compareAndSet(lastLoggedAt, now)) {
+            log.info("Migration {}: scanned {} and modified {} documents so far.",
+                    name, progress.scanned.get(), progress.modified.get());
+        }
+    }
+
+    /**
+     * Splits the documents to migrate into ranges of {@code _id}, by the time in the ids. Only ObjectId ids can be split
+     * this way, so if the collection has other ids, or a single thread is used, there is a single range.
+     */
+    private List<Criteria> getPartitions() {
+        final Criteria baseCriteria = criteria == null ? new Criteria() : criteria;
+        if (threads <= 1) {
+            return List.of(baseCriteria);
+        }
+
+        final MongoCollection<Document> collection = mongoOperations.getCollection(
+                mongoOperations.getCollectionName(entityClass));
+        final Document idProjection = new Document("_id", 1);
+        final Document first = collection.find().projection(idProjection).sort(new Document("_id", 1)).first();
+        final Document last = collection.find().projection(idProjection).sort(new Document("_id", -1)).first();
+
+        // Ids of other types sort either before ObjectIds (like numbers and strings) or after them (like booleans and
+        // dates), so only if both the smallest and the largest id are ObjectIds, all of them are.
+        if (first == null || last == null
+                || !(first.get("_id") instanceof ObjectId) || !(last.get("_id") instanceof ObjectId)) {
+            return List.of(baseCriteria);
+        }
+
+        final long start = first.getObjectId("_id").getTimestamp();
+        final long end = last.getObjectId("_id").getTimestamp() + 1L;
+        final int count = (int) Math.min((long) threads * PARTITIONS_PER_THREAD, end - start);
+        if (count <= 1) {
+            return List.of(baseCriteria);
+        }
+
+        List<Criteria> partitions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Criteria idCriteria = where("_id");
+            // The first and last ranges are left open, so that documents inserted meanwhile are not missed.
+            if (i > 0) {
+                idCriteria = idCriteria.gte(boundary(start + (end - start) * i / count));
+            }
+            if (i < count - 1) {
+                idCriteria = idCriteria.lt(boundary(start + (end - start) * (i + 1) / count));
+            }
+            partitions.add(new Criteria().andOperator(baseCriteria, idCriteria));
+        }
+        return partitions;
+    }
+
+    /**
+     * @return The smallest ObjectId with the given timestamp.
+     */
+    private static ObjectId boundary(long timestampSeconds) {
+        return new ObjectId(String.format("%08x%016x", timestampSeconds, 0L));
+    }
+
+    private class Progress {
+        final AtomicLong scanned = new AtomicLong();
+        final AtomicLong modified = new AtomicLong();
+        final AtomicLong lastLoggedAt = new AtomicLong(System.currentTimeMillis());
+        final Counter scannedCounter = meterRegistry.counter(METRIC_NAME, "migration", name, "result", "scanned");
+        final Counter modifiedCounter = meterRegistry.counter(METRIC_NAME, "migration", name, "result", "modified");
+    }
+}
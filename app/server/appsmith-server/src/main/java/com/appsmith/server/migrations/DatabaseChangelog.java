@@ -8,15 +8,19 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Policy;
 import com.appsmith.external.models.Property;
+import com.appsmith.external.models.QBaseDomain;
 import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.services.EncryptionService;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.AppsmithRole;
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.constants.Appsmith;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Action;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.Collection;
+import com.appsmith.server.domains.Comment;
+import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Config;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.Group;
@@ -28,12 +32,17 @@ import com.appsmith.server.domains.Organization;
 import com.appsmith.server.domains.OrganizationPlugin;
 import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.PasswordResetToken;
+import com.appsmith.server.domains.PendingEmail;
 import com.appsmith.server.domains.Permission;
 import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.PublishedApplicationBundle;
 import com.appsmith.server.domains.PluginType;
 import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.domains.QComment;
+import com.appsmith.server.domains.QCommentThread;
 import com.appsmith.server.domains.QConfig;
 import com.appsmith.server.domains.QDatasource;
+import com.appsmith.server.domains.QGroup;
 import com.appsmith.server.domains.QNewAction;
 import com.appsmith.server.domains.QOrganization;
 import com.appsmith.server.domains.QPlugin;
@@ -47,6 +56,7 @@ import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.dtos.OrganizationPluginStatus;
 import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.services.OrganizationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.cloudyrock.mongock.ChangeLog;
@@ -71,6 +81,8 @@ import org.springframework.data.mongodb.UncategorizedMongoDbException;
 import org.springframework.data.mongodb.core.CollectionCallback;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.index.IndexOperations;
@@ -107,6 +119,7 @@ import static com.appsmith.server.acl.AclPermission.ORGANIZATION_INVITE_USERS;
 import static com.appsmith.server.acl.AclPermission.READ_ACTIONS;
 import static com.appsmith.server.helpers.CollectionUtils.isNullOrEmpty;
 import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.notDeleted;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
@@ -2799,4 +2812,263 @@ public class DatabaseChangelog {
             mongoTemplate.save(plugin);
         }
     }
+
+    @ChangeSet(order = "079", id = "add-published-application-bundle-indices", author = "")
+    public void addPublishedApplicationBundleIndices(MongoTemplate mongoTemplate) {
+        ensureIndexes(mongoTemplate, PublishedApplicationBundle.class,
+                makeIndex("applicationId").unique(),
+                makeIndex("pages.pageId")
+        );
+    }
+
+    /**
+     * Declares the indexes needed by the frequent queries of the custom repositories, so that none of them has to scan
+     * a whole collection. This runs on every start, so that an index that is added here, or that has been dropped from
+     * the database, is created without a new change set. Creating an index that already exists does nothing.
+     * <p>
+     * The permission checks on the policies are left out of these indexes. They are combined with the filters below,
+     * which already narrow the query down to a few documents, and indexing the users in every policy would make the
+     * indexes much larger, and every change to the sharing of a document more expensive.
+     * <p>
+     * The query plans of these queries are checked against these indexes in {@code RepositoryQueryPlanTests}.
+     */
+    @ChangeSet(order = "080", id = "ensure-repository-query-indices", author = "", runAlways = true)
+    public void ensureRepositoryQueryIndices(MongoTemplate mongoTemplate) {
+        // Actions are looked up by page, and by name within a page, in both edit and view modes. The compound index on
+        // the unpublished page replaces the one on the page alone, which is one of its prefixes.
+        dropIndexIfExists(mongoTemplate, NewAction.class, "unpublishedAction_pageId");
+        ensureIndexes(mongoTemplate, NewAction.class,
+                makeIndex("unpublishedAction.pageId", "unpublishedAction.name")
+                        .named("unpublishedAction_pageId_name"),
+                makeIndex("publishedAction.pageId", "publishedAction.name")
+                        .named("publishedAction_pageId_name"),
+                // Used to check whether a datasource is used by any action, before it is deleted.
+                makeIndex("unpublishedAction.datasource._id")
+                        .named("unpublishedAction_datasourceId"),
+                makeIndex("publishedAction.datasource._id")
+                        .named("publishedAction_datasourceId")
+        );
+
+        ensureIndexes(mongoTemplate, Application.class,
+                makeIndex("clonedFromApplicationId")
+        );
+
+        ensureIndexes(mongoTemplate, CommentThread.class,
+                makeIndex("applicationId", "isPrivate")
+                        .named("applicationId_isPrivate"),
+                // Threads are listed in pages, latest activity first.
+                makeIndex("applicationId", "lastActivityAt", "_id")
+                        .named("applicationId_lastActivityAt")
+        );
+
+        ensureIndexes(mongoTemplate, Comment.class,
+                makeIndex("threadId", "createdAt")
+                        .named("threadId_createdAt"),
+                makeIndex("authorId")
+        );
+
+        // The groups of the current user are looked up by membership on every request.
+        ensureIndexes(mongoTemplate, Group.class,
+                makeIndex("members")
+        );
+
+        // The outbox is polled for due emails, and the emails claimed by a worker are read back by the claim. Held
+        // digestible emails are claimed by their recipient and digest template along with the due ones.
+        ensureIndexes(mongoTemplate, PendingEmail.class,
+                makeIndex("nextAttemptAt"),
+                makeIndex("claimId"),
+                makeIndex("to", "digestTemplate")
+        );
+    }
+
+    /**
+     * Fills in the summary of the comments of the threads that were created before the summary was kept up to date on
+     * them. The comments of all threads are summarized with a single aggregation, instead of a query for each thread.
+     */
+    @ChangeSet(order = "081", id = "add-comment-summary-to-threads", author = "")
+    public void addCommentSummaryToThreads(MongoTemplate mongoTemplate) {
+        final String threadIdField = fieldName(QComment.comment.threadId);
+        final String createdAtField = fieldName(QBaseDomain.baseDomain.createdAt);
+        final String commentCountField = fieldName(QCommentThread.commentThread.commentCount);
+        final String lastActivityAtField = fieldName(QCommentThread.commentThread.lastActivityAt);
+        final String lastCommentAuthorNameField = fieldName(QCommentThread.commentThread.lastCommentAuthorName);
+
+        final Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(notDeleted()),
+                Aggregation.sort(Sort.by(Sort.Direction.ASC, threadIdField, createdAtField)),
+                Aggregation.group(threadIdField)
+                        .count().as(commentCountField)
+                        .last(createdAtField).as(lastActivityAtField)
+                        .last(fieldName(QComment.comment.authorName)).as(lastCommentAuthorNameField)
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        final Map<String, Document> summaries = new HashMap<>();
+        for (Document summary : mongoTemplate.aggregate(aggregation, Comment.class, Document.class)) {
+            summaries.put(summary.getString("_id"), summary);
+        }
+
+        BatchedMigration.<CommentThread>builder()
+                .mongoOperations(mongoTemplate)
+                .entityClass(CommentThread.class)
+                .name("add-comment-summary-to-threads")
+                .criteria(where(commentCountField).exists(false))
+                .fields(List.of(createdAtField))
+                .build()
+                .run(thread -> {
+                    final Document summary = summaries.get(thread.getId());
+                    if (summary == null) {
+                        final Instant createdAt = thread.getCreatedAt() != null
+                                ? thread.getCreatedAt()
+                                : new ObjectId(thread.getId()).getDate().toInstant();
+                        return new Update()
+                                .set(commentCountField, 0L)
+                                .set(lastActivityAtField, createdAt);
+                    }
+                    return new Update()
+                            .set(commentCountField, ((Number) summary.get(commentCountField)).longValue())
+                            .set(lastActivityAtField, summary.get(lastActivityAtField))
+                            .set(lastCommentAuthorNameField, summary.getString(lastCommentAuthorNameField));
+                });
+    }
+
+    /**
+     * Converts the organizations to reference their role groups in policies, instead of their members, if role groups
+     * are enabled. For each organization, a group is created for each role with the members that have the role. The
+     * group is then given the policies of the role on everything in the organization, and the members are removed from
+     * the same policies, which they now get through the group.
+     * <p>
+     * This runs on every startup, so that organizations are converted whenever role groups are enabled. Converted
+     * organizations have their role group ids set, and are skipped. Organizations are only marked as converted in
+     * batches, so the conversion of an organization may run again after a crash. It reuses the role groups it already
+     * created for the organization, and the policy updates have no effect the second time.
+     */
+    @ChangeSet(order = "082", id = "convert-organization-members-to-role-groups", author = "", runAlways = true)
+    public void convertOrganizationMembersToRoleGroups(MongoTemplate mongoTemplate,
+                                                       CommonConfig commonConfig,
+                                                       PolicyUtils policyUtils) {
+        if (!commonConfig.isRoleGroupsEnabled()) {
+            return;
+        }
+
+        final String roleGroupIdsField = fieldName(QOrganization.organization.roleGroupIds);
+
+        BatchedMigration.<Organization>builder()
+                .mongoOperations(mongoTemplate)
+                .entityClass(Organization.class)
+                .name("convert-organization-members-to-role-groups")
+                .criteria(where(roleGroupIdsField).exists(false))
+                .fields(List.of(fieldName(QOrganization.organization.userRoles)))
+                .build()
+                .run(organization -> new Update()
+                        .set(roleGroupIdsField, convertMembersToRoleGroups(mongoTemplate, policyUtils, organization)));
+    }
+
+    private static Map<String, String> convertMembersToRoleGroups(MongoTemplate mongoTemplate,
+                                                                  PolicyUtils policyUtils,
+                                                                  Organization organization) {
+        final String organizationId = organization.getId();
+
+        final Query applicationsQuery = query(where(fieldName(QApplication.application.organizationId)).is(organizationId));
+        applicationsQuery.fields().include(fieldName(QApplication.application.id));
+        final List<String> applicationIds = mongoTemplate.find(applicationsQuery, Application.class)
+                .stream()
+                .map(Application::getId)
+                .collect(Collectors.toList());
+
+        final Document organizationFilter = new Document("_id", new ObjectId(organizationId));
+        final Document organizationIdFilter = new Document(FieldName.ORGANIZATION_ID, organizationId);
+        final Document applicationIdFilter = new Document(FieldName.APPLICATION_ID, new Document("$in", applicationIds));
+        // Private threads are only visible to their authors, and don't get the policies of the application.
+        final Document sharedThreadFilter = new Document("$and", List.of(
+                applicationIdFilter,
+                new Document(fieldName(QCommentThread.commentThread.isPrivate), new Document("$ne", true))
+        ));
+
+        final Map<String, String> roleGroupIds = new HashMap<>();
+
+        for (AppsmithRole role : AppsmithRole.getOrganizationRoles()) {
+            final Set<String> usernames = new HashSet<>();
+            if (organization.getUserRoles() != null) {
+                for (UserRole userRole : organization.getUserRoles()) {
+                    final AppsmithRole memberRole = userRole.getRole() != null
+                            ? userRole.getRole()
+                            : AppsmithRole.generateAppsmithRoleFromName(userRole.getRoleName());
+                    if (role.equals(memberRole)) {
+                        usernames.add(userRole.getUsername());
+                    }
+                }
+            }
+
+            final Query groupQuery = query(where(fieldName(QGroup.group.organizationId)).is(organizationId)
+                    .and(fieldName(QGroup.group.name)).is(role.getName()));
+            Group group = mongoTemplate.findOne(groupQuery, Group.class);
+            if (group == null) {
+                group = new Group();
+                group.setName(role.getName());
+                group.setOrganizationId(organizationId);
+            }
+            group.setPermissions(role.getPermissions().stream().map(AclPermission::getValue).collect(Collectors.toSet()));
+            group.setMembers(usernames);
+            group = mongoTemplate.save(group);
+            roleGroupIds.put(role.name(), group.getId());
+
+            final Map<String, Policy> orgPolicyMap = policyUtils.generatePolicyFromPermissionForGroup(role.getPermissions(), group.getId());
+            final Map<String, Policy> applicationPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(orgPolicyMap, Organization.class, Application.class);
+            final Map<String, Policy> datasourcePolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(orgPolicyMap, Organization.class, Datasource.class);
+            final Map<String, Policy> pagePolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(applicationPolicyMap, Application.class, Page.class);
+            final Map<String, Policy> actionPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(pagePolicyMap, Page.class, Action.class);
+            final Map<String, Policy> commentThreadPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(applicationPolicyMap, Application.class, CommentThread.class);
+
+            replaceMembersWithGroup(mongoTemplate, Organization.class, organizationFilter, orgPolicyMap, usernames);
+            replaceMembersWithGroup(mongoTemplate, Datasource.class, organizationIdFilter, datasourcePolicyMap, usernames);
+            replaceMembersWithGroup(mongoTemplate, Application.class, organizationIdFilter, applicationPolicyMap, usernames);
+            if (!applicationIds.isEmpty()) {
+                replaceMembersWithGroup(mongoTemplate, NewPage.class, applicationIdFilter, pagePolicyMap, usernames);
+                replaceMembersWithGroup(mongoTemplate, NewAction.class, applicationIdFilter, actionPolicyMap, usernames);
+                replaceMembersWithGroup(mongoTemplate, CommentThread.class, sharedThreadFilter, commentThreadPolicyMap, usernames);
+            }
+        }
+
+        return roleGroupIds;
+    }
+
+    /**
+     * Adds the groups of the given policies to the policies with the same permissions in all the documents matching the
+     * filter, and removes the given users from these policies. Each policy is updated with the positional operator, as
+     * array filters are not supported before MongoDB 3.6. The filters don't match on the policies, so the positional
+     * operator refers to the policy with the permission.
+     */
+    private static void replaceMembersWithGroup(MongoTemplate mongoTemplate,
+                                                Class<?> entityClass,
+                                                Document filter,
+                                                Map<String, Policy> groupPolicyMap,
+                                                Set<String> usernames) {
+        final String policiesField = fieldName(QBaseDomain.baseDomain.policies);
+        final MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass));
+
+        for (Policy policy : groupPolicyMap.values()) {
+            final List<String> groupIds = new ArrayList<>(policy.getGroups());
+            collection.updateMany(
+                    new Document("$and", List.of(
+                            filter,
+                            new Document(policiesField + ".permission", new Document("$ne", policy.getPermission()))
+                    )),
+                    new Document("$push", new Document(policiesField, new Document("permission", policy.getPermission())
+                            .append("users", new ArrayList<>())
+                            .append("groups", groupIds)))
+            );
+
+            final Document update = new Document("$addToSet", new Document(policiesField + ".$.groups", new Document("$each", groupIds)));
+            if (!usernames.isEmpty()) {
+                update.append("$pullAll", new Document(policiesField + ".$.users", new ArrayList<>(usernames)));
+            }
+            collection.updateMany(
+                    new Document("$and", List.of(
+                            filter,
+                            new Document(policiesField + ".permission", policy.getPermission())
+                    )),
+                    update
+            );
+        }
+    }
 }
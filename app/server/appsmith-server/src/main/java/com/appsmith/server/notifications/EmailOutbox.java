@@ -0,0 +1,366 @@
+package com.appsmith.server.notifications;
+
+import com.appsmith.external.models.QBaseDomain;
+import com.appsmith.server.configurations.EmailConfig;
+import com.appsmith.server.domains.PendingEmail;
+import com.appsmith.server.domains.QPendingEmail;
+import com.appsmith.server.helpers.TemplateUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+
+/**
+ * A durable outbox of emails, kept in a Mongo collection so that emails are not lost when the server restarts.
+ * <p>
+ * A scheduled worker claims the emails that are due, and sends them over a single SMTP connection. Emails that fail are
+ * tried again later, with an exponential backoff. Emails that can be digested, like comment notifications, are held in
+ * the outbox for a short while, and the ones to the same recipient are sent together as a single email.
+ */
+@Slf4j
+@Component
+public class EmailOutbox {
+
+    private static final String ID_FIELD = fieldName(QBaseDomain.baseDomain.id);
+    private static final String NEXT_ATTEMPT_AT_FIELD = fieldName(QPendingEmail.pendingEmail.nextAttemptAt);
+    private static final String CLAIM_ID_FIELD = fieldName(QPendingEmail.pendingEmail.claimId);
+    private static final String TO_FIELD = fieldName(QPendingEmail.pendingEmail.to);
+    private static final String DIGEST_TEMPLATE_FIELD = fieldName(QPendingEmail.pendingEmail.digestTemplate);
+    private static final String ATTEMPTS_FIELD = fieldName(QPendingEmail.pendingEmail.attempts);
+
+    private final ReactiveMongoOperations mongoOperations;
+    private final JavaMailSender javaMailSender;
+
+    private final InternetAddress MAIL_FROM;
+    private final InternetAddress REPLY_TO;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration digestDelay;
+    private final Duration claimDuration;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Duration queryTimeout;
+
+    public EmailOutbox(ReactiveMongoOperations mongoOperations,
+                       JavaMailSender javaMailSender,
+                       EmailConfig emailConfig,
+                       @Value("${appsmith.email.outbox.batch-size:100}") int batchSize,
+                       @Value("${appsmith.email.outbox.max-attempts:8}") int maxAttempts,
+                       @Value("${appsmith.email.outbox.digest-delay-seconds:60}") long digestDelaySeconds,
+                       @Value("${appsmith.email.outbox.claim-seconds:300}") long claimSeconds,
+                       @Value("${appsmith.email.outbox.retry-backoff-seconds:30}") long retryBackoffSeconds,
+                       @Value("${appsmith.email.outbox.max-retry-backoff-seconds:3600}") long maxRetryBackoffSeconds,
+                       @Value("${appsmith.email.outbox.query-timeout-seconds:30}") long queryTimeoutSeconds) {
+        this.mongoOperations = mongoOperations;
+        this.javaMailSender = javaMailSender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.digestDelay = Duration.ofSeconds(digestDelaySeconds);
+        this.claimDuration = Duration.ofSeconds(claimSeconds);
+        this.retryBackoff = Duration.ofSeconds(retryBackoffSeconds);
+        this.maxRetryBackoff = Duration.ofSeconds(maxRetryBackoffSeconds);
+        this.queryTimeout = Duration.ofSeconds(queryTimeoutSeconds);
+
+        MAIL_FROM = makeAddress(emailConfig.getMailFrom());
+        REPLY_TO = makeAddress(emailConfig.getReplyTo());
+    }
+
+    /**
+     * Adds an email to the outbox, to be sent as soon as possible.
+     *
+     * @param to      Single valid string email address to send to.
+     * @param subject Subject string.
+     * @param body    HTML body of the message.
+     */
+    public Mono<PendingEmail> add(String to, String subject, String body) {
+        final PendingEmail email = new PendingEmail();
+        email.setTo(to);
+        email.setSubject(subject);
+        email.setBody(body);
+        email.setAttempts(0);
+        email.setNextAttemptAt(Instant.now());
+        return mongoOperations.insert(email);
+    }
+
+    /**
+     * Adds an email to the outbox that is held for a short while, so that it can be sent in a digest together with the
+     * other emails with the same digest template to the same recipient.
+     *
+     * @param digestTemplate      Template the digest is rendered with. It is given the `params` of all the emails in
+     *                            the digest as `Emails`, and their number as `Email_Count`.
+     * @param digestSubjectFormat Format of the subject of the digest, which is given the number of emails in it.
+     * @param params              The parameters the body of this email was rendered with.
+     */
+    public Mono<PendingEmail> addDigestible(String to,
+                                            String subject,
+                                            String body,
+                                            String digestTemplate,
+                                            String digestSubjectFormat,
+                                            Map<String, ?> params) {
+        final PendingEmail email = new PendingEmail();
+        email.setTo(to);
+        email.setSubject(subject);
+        email.setBody(body);
+        email.setDigestTemplate(digestTemplate);
+        email.setDigestSubjectFormat(digestSubjectFormat);
+        email.setDigestParams(new HashMap<>(params));
+        email.setAttempts(0);
+        email.setNextAttemptAt(Instant.now().plus(digestDelay));
+        return mongoOperations.insert(email);
+    }
+
+    /**
+     * Sends the emails in the outbox that are due, one batch at a time. Every query is blocked on for at most the query
+     * timeout, so that a slow database doesn't hold up the thread of the scheduled tasks indefinitely.
+     */
+    @Scheduled(initialDelayString = "${appsmith.email.outbox.poll-interval-ms:5000}",
+            fixedDelayString = "${appsmith.email.outbox.poll-interval-ms:5000}")
+    public void flush() {
+        List<PendingEmail> batch;
+        do {
+            batch = claimDueEmails();
+            if (!batch.isEmpty()) {
+                sendBatch(batch);
+            }
+        } while (batch.size() >= batchSize);
+    }
+
+    /**
+     * Claims a batch of due emails, by pushing back their next attempt, so that the workers on other server instances
+     * don't send them too. If this worker stops before the emails are sent, they are picked up again once the claim
+     * runs out.
+     * <p>
+     * When a digestible email is due, the digestible emails held for the same digest of the same recipient are claimed
+     * along with it, even if they are not due yet, so that they are all sent in the same digest. Only emails that have
+     * not been tried yet and are not claimed by another worker are added this way.
+     */
+    private List<PendingEmail> claimDueEmails() {
+        final Instant now = Instant.now();
+        final Criteria dueCriteria = Criteria.where(NEXT_ATTEMPT_AT_FIELD).lte(now);
+
+        final Query dueQuery = Query.query(dueCriteria)
+                .with(Sort.by(NEXT_ATTEMPT_AT_FIELD))
+                .limit(batchSize);
+        dueQuery.fields().include(ID_FIELD).include(TO_FIELD).include(DIGEST_TEMPLATE_FIELD);
+
+        final List<PendingEmail> dueEmails = mongoOperations.find(dueQuery, PendingEmail.class)
+                .collectList()
+                .block(queryTimeout);
+        if (dueEmails == null || dueEmails.isEmpty()) {
+            return List.of();
+        }
+
+        final List<String> dueIds = new ArrayList<>();
+        final Map<String, Criteria> digestCriteria = new LinkedHashMap<>();
+        for (final PendingEmail email : dueEmails) {
+            dueIds.add(email.getId());
+            if (email.getDigestTemplate() != null) {
+                digestCriteria.computeIfAbsent(email.getTo() + "\n" + email.getDigestTemplate(), key -> Criteria
+                        .where(TO_FIELD).is(email.getTo())
+                        .and(DIGEST_TEMPLATE_FIELD).is(email.getDigestTemplate()));
+            }
+        }
+
+        Criteria claimCriteria = Criteria.where(ID_FIELD).in(dueIds).andOperator(dueCriteria);
+        if (!digestCriteria.isEmpty()) {
+            final Criteria heldDigestCriteria = new Criteria().andOperator(
+                    Criteria.where(CLAIM_ID_FIELD).exists(false).and(ATTEMPTS_FIELD).is(0),
+                    new Criteria().orOperator(digestCriteria.values().toArray(new Criteria[0]))
+            );
+            claimCriteria = new Criteria().orOperator(claimCriteria, heldDigestCriteria);
+        }
+
+        final String claimId = UUID.randomUUID().toString();
+        final List<PendingEmail> claimedEmails = mongoOperations
+                .updateMulti(
+                        Query.query(claimCriteria),
+                        Update.update(CLAIM_ID_FIELD, claimId).set(NEXT_ATTEMPT_AT_FIELD, now.plus(claimDuration)),
+                        PendingEmail.class
+                )
+                .thenMany(mongoOperations.find(Query.query(Criteria.where(CLAIM_ID_FIELD).is(claimId)), PendingEmail.class))
+                .collectList()
+                .block(queryTimeout);
+
+        return claimedEmails == null ? List.of() : claimedEmails;
+    }
+
+    private void sendBatch(List<PendingEmail> batch) {
+        final Map<MimeMessage, List<PendingEmail>> messages = new LinkedHashMap<>();
+        final List<PendingEmail> unsendableEmails = new ArrayList<>();
+
+        for (final List<PendingEmail> emails : groupDigests(batch)) {
+            try {
+                messages.put(createMessage(emails), emails);
+            } catch (MessagingException | IOException | RuntimeException e) {
+                log.error("Unable to create the mime message while sending an email to {} with subject: {}. Cause: ",
+                        emails.get(0).getTo(), emails.get(0).getSubject(), e);
+                unsendableEmails.addAll(emails);
+            }
+        }
+
+        final List<PendingEmail> sentEmails = new ArrayList<>(unsendableEmails);
+        final List<PendingEmail> failedEmails = new ArrayList<>();
+        String error = null;
+
+        if (messages.isEmpty()) {
+            remove(sentEmails);
+            return;
+        }
+
+        try {
+            // All the messages are sent over the same connection.
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            messages.values().forEach(sentEmails::addAll);
+        } catch (MailSendException e) {
+            log.warn("Unable to send some of {} emails. Cause: ", messages.size(), e);
+            error = e.getMessage();
+            final Set<Object> failedMessages = e.getFailedMessages().keySet();
+            messages.forEach((message, emails) -> {
+                // When the connection itself fails, no messages are listed as failed.
+                if (failedMessages.isEmpty() || failedMessages.contains(message)) {
+                    failedEmails.addAll(emails);
+                } else {
+                    sentEmails.addAll(emails);
+                }
+            });
+        } catch (MailException e) {
+            log.warn("Unable to send {} emails. Cause: ", messages.size(), e);
+            error = e.getMessage();
+            messages.values().forEach(failedEmails::addAll);
+        }
+
+        log.debug("Sent {} emails, {} failed and will be retried", messages.size() - failedEmails.size(), failedEmails.size());
+
+        // Emails that can't be sent at all are removed along with the sent ones, as retrying them wouldn't help.
+        remove(sentEmails);
+        scheduleRetries(failedEmails, error);
+    }
+
+    /**
+     * Groups the emails into the ones that are sent together. Digestible emails to the same recipient with the same
+     * digest template are grouped, and every other email is sent on its own.
+     */
+    private static Collection<List<PendingEmail>> groupDigests(List<PendingEmail> batch) {
+        final Map<String, List<PendingEmail>> groups = new LinkedHashMap<>();
+        for (final PendingEmail email : batch) {
+            final String key = email.getDigestTemplate() == null
+                    ? email.getId()
+                    : email.getTo() + "\n" + email.getDigestTemplate();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(email);
+        }
+        return groups.values();
+    }
+
+    private MimeMessage createMessage(List<PendingEmail> emails) throws MessagingException, IOException {
+        final PendingEmail firstEmail = emails.get(0);
+
+        String subject = firstEmail.getSubject();
+        String body = firstEmail.getBody();
+        if (emails.size() > 1) {
+            final List<Map<String, Object>> emailParams = emails.stream()
+                    .map(PendingEmail::getDigestParams)
+                    .collect(Collectors.toList());
+            final Map<String, Object> digestParams = new HashMap<>(firstEmail.getDigestParams());
+            digestParams.put("Emails", emailParams);
+            digestParams.put("Email_Count", emails.size());
+
+            subject = String.format(firstEmail.getDigestSubjectFormat(), emails.size());
+            body = TemplateUtils.parseTemplate(firstEmail.getDigestTemplate(), digestParams);
+        }
+
+        final MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        final MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "utf-8");
+        helper.setTo(firstEmail.getTo());
+        if (MAIL_FROM != null) {
+            helper.setFrom(MAIL_FROM);
+        }
+        if (REPLY_TO != null) {
+            helper.setReplyTo(REPLY_TO);
+        }
+        helper.setSubject(subject);
+        helper.setText(body, true);
+        return mimeMessage;
+    }
+
+    private void remove(List<PendingEmail> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+
+        final List<String> ids = emails.stream().map(PendingEmail::getId).collect(Collectors.toList());
+        mongoOperations.remove(Query.query(Criteria.where(ID_FIELD).in(ids)), PendingEmail.class).block(queryTimeout);
+    }
+
+    private void scheduleRetries(List<PendingEmail> emails, String error) {
+        final List<PendingEmail> abandonedEmails = new ArrayList<>();
+
+        for (final PendingEmail email : emails) {
+            final int attempts = (email.getAttempts() == null ? 0 : email.getAttempts()) + 1;
+            if (attempts >= maxAttempts) {
+                log.error("Giving up sending the email to {} with subject: {} after {} attempts. Cause: {}",
+                        email.getTo(), email.getSubject(), attempts, error);
+                abandonedEmails.add(email);
+                continue;
+            }
+
+            mongoOperations
+                    .updateFirst(
+                            Query.query(Criteria.where(ID_FIELD).is(email.getId())),
+                            new Update()
+                                    .set(fieldName(QPendingEmail.pendingEmail.attempts), attempts)
+                                    .set(NEXT_ATTEMPT_AT_FIELD, Instant.now().plus(getBackoff(attempts)))
+                                    .set(fieldName(QPendingEmail.pendingEmail.lastError), error)
+                                    .unset(CLAIM_ID_FIELD),
+                            PendingEmail.class
+                    )
+                    .block(queryTimeout);
+        }
+
+        remove(abandonedEmails);
+    }
+
+    Duration getBackoff(int attempts) {
+        // Doubles with every attempt, up to the maximum.
+        final Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+
+    private static InternetAddress makeAddress(String address) {
+        try {
+            return new InternetAddress(address, "Appsmith");
+        } catch (UnsupportedEncodingException e) {
+            log.error("Encoding error creating Appsmith mail address {}.", address, e);
+            return null;
+        }
+    }
+}
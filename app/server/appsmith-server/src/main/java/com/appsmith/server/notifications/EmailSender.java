@@ -3,20 +3,13 @@ package com.appsmith.server.notifications;
 import com.appsmith.server.configurations.EmailConfig;
 import com.appsmith.server.helpers.TemplateUtils;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import javax.mail.MessagingException;
-import javax.mail.internet.InternetAddress;
-import javax.mail.internet.MimeMessage;
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.util.Map;
+import java.util.function.Function;
 
 import static com.appsmith.server.helpers.ValidationUtils.validateEmail;
 
@@ -24,107 +17,78 @@ import static com.appsmith.server.helpers.ValidationUtils.validateEmail;
 @Slf4j
 public class EmailSender {
 
-    private final JavaMailSender javaMailSender;
+    private final EmailOutbox emailOutbox;
 
     private final EmailConfig emailConfig;
 
-    private final InternetAddress MAIL_FROM;
-
-    private final InternetAddress REPLY_TO;
-
-    public EmailSender(JavaMailSender javaMailSender, EmailConfig emailConfig) {
-        this.javaMailSender = javaMailSender;
+    public EmailSender(EmailOutbox emailOutbox, EmailConfig emailConfig) {
+        this.emailOutbox = emailOutbox;
         this.emailConfig = emailConfig;
-
-        MAIL_FROM = makeFromAddress();
-        REPLY_TO = makeReplyTo();
     }
 
+    /**
+     * Renders the email from the given template, and adds it to the outbox, from which it is sent in the background.
+     *
+     * @param to      Single valid string email address to send to. Multiple addresses doesn't work.
+     * @param subject Subject string.
+     * @param text    Name of the template of the HTML body of the email.
+     * @param params  Values of the variables in the template.
+     */
     public Mono<Boolean> sendMail(String to, String subject, String text, Map<String, ? extends Object> params) {
-
-        /**
-         * Creating a publisher which sends email in a blocking fashion, subscribing on the bounded elastic
-         * scheduler and then subscribing to it so that the publisher starts emitting immediately. We do not
-         * wait for the blocking call of `sendMailSync` to finish. BoundedElastic scheduler would ensure that
-         * when the number of tasks go beyond the number of available threads, the tasks would be deferred till
-         * a thread becomes available without overloading the server.
-         */
-        Mono.fromCallable(() -> {
-                    try {
-                        return TemplateUtils.parseTemplate(text, params);
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(e);
-                    }
-                })
-                .doOnNext(emailBody -> {
-                    sendMailSync(to, subject, emailBody);
-                })
-                .subscribeOn(Schedulers.boundedElastic())
-                .subscribe();
-
-        // Creating a hot source which would be created, emitted, and returned immediately.
-        return Mono.just(Boolean.TRUE);
+        return addToOutbox(to, subject, text, params, body -> emailOutbox.add(to, subject, body).then());
     }
 
     /**
-     * [Synchronous]This function sends an HTML email to the user from the default email address
+     * Same as {@link #sendMail(String, String, String, Map)}, except that the email is held in the outbox for a short
+     * while. If there are other emails with the same digest template to the same recipient in the outbox by then, they
+     * are all sent together as a single email, rendered from the digest template.
      *
-     * @param to      Single valid string email address to send to. Multiple addresses doesn't work.
-     * @param subject Subject string.
-     * @param text    HTML Body of the message. This method assumes UTF-8.
+     * @param digestTemplate      Name of the template of the HTML body of the digest. It gets the `params` of each of the
+     *                            emails as `Emails`, and their number as `Email_Count`.
+     * @param digestSubjectFormat Format of the subject of the digest, which gets the number of emails in it.
      */
-    private void sendMailSync(String to, String subject, String text) {
+    public Mono<Boolean> sendDigestibleMail(String to,
+                                            String subject,
+                                            String text,
+                                            Map<String, ? extends Object> params,
+                                            String digestTemplate,
+                                            String digestSubjectFormat) {
+        return addToOutbox(to, subject, text, params, body -> emailOutbox
+                .addDigestible(to, subject, body, digestTemplate, digestSubjectFormat, params)
+                .then());
+    }
+
+    private Mono<Boolean> addToOutbox(String to,
+                                      String subject,
+                                      String text,
+                                      Map<String, ? extends Object> params,
+                                      Function<String, Mono<Void>> outboxAdder) {
         log.debug("Got request to send email to: {} with subject: {}", to, subject);
         // Don't send an email for local, dev or test environments
         if (!emailConfig.isEmailEnabled()) {
-            return;
+            return Mono.just(Boolean.TRUE);
         }
 
         // Check if the email address is valid. It's possible for certain OAuth2 providers to not return the email ID
         if (to == null || !validateEmail(to)) {
             log.error("The email ID: {} is not valid. Not sending an email", to);
-            return;
-        }
-
-        log.debug("Going to send email to {} with subject {}", to, subject);
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "utf-8");
-
-        try {
-            helper.setTo(to);
-            if (MAIL_FROM != null) {
-                helper.setFrom(MAIL_FROM);
-            }
-            if (REPLY_TO != null) {
-                helper.setReplyTo(REPLY_TO);
-            }
-            helper.setSubject(subject);
-            helper.setText(text, true);
-            javaMailSender.send(mimeMessage);
-
-            log.debug("Email sent successfully to {} with subject {}", to, subject);
-        } catch (MessagingException e) {
-            log.error("Unable to create the mime message while sending an email to {} with subject: {}. Cause: ", to, subject, e);
-        } catch (MailException e) {
-            log.error("Unable to send email. Cause: ", e);
-        }
-    }
-
-    private InternetAddress makeFromAddress() {
-        try {
-            return new InternetAddress(this.emailConfig.getMailFrom(), "Appsmith");
-        } catch (UnsupportedEncodingException e) {
-            log.error("Encoding error creating Appsmith mail from address.", e);
-            return null;
+            return Mono.just(Boolean.TRUE);
         }
-    }
 
-    private InternetAddress makeReplyTo() {
-        try {
-            return new InternetAddress(this.emailConfig.getReplyTo(), "Appsmith");
-        } catch (UnsupportedEncodingException e) {
-            log.error("Encoding error creating Appsmith reply to address.", e);
-            return null;
-        }
+        // Failing to add the email to the outbox doesn't fail the operation that sends the email.
+        return Mono.fromCallable(() -> {
+                    try {
+                        return TemplateUtils.parseTemplate(text, params);
+                    } catch (IOException e) {
+                        throw Exceptions.propagate(e);
+                    }
+                })
+                .flatMap(outboxAdder)
+                .doOnSuccess(ignored -> log.debug("Email to {} with subject {} added to the outbox", to, subject))
+                .onErrorResume(error -> {
+                    log.error("Unable to add the email to {} with subject: {} to the outbox. Cause: ", to, subject, error);
+                    return Mono.empty();
+                })
+                .thenReturn(Boolean.TRUE);
     }
 }
@@ -1,12 +1,15 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.User;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Criteria;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface AppsmithRepository<T> {
@@ -20,4 +23,8 @@ public interface AppsmithRepository<T> {
     Flux<T> queryAll(List<Criteria> criterias, AclPermission permission, Sort sort);
 
     T setUserPermissionsInObject(T obj, User user);
+
+    Mono<UpdateResult> addPolicies(List<Criteria> criterias, AclPermission permission, Collection<Policy> policies);
+
+    Mono<UpdateResult> removePolicies(List<Criteria> criterias, AclPermission permission, Collection<Policy> policies);
 }
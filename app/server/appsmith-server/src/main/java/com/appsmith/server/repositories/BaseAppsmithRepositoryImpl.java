@@ -10,13 +10,23 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.MongoCollection;
 import com.querydsl.core.types.Path;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -25,9 +35,14 @@ import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
@@ -41,12 +56,28 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
 
     protected final MongoConverter mongoConverter;
 
+    private final QueryMapper queryMapper;
+
+    // The version of the server doesn't change while the application is running, so this is only checked once.
+    private final Mono<List<Integer>> serverVersion;
+
+    private final Mono<Boolean> isPipelineUpdateSupported;
+
+    private final Mono<Boolean> isArrayFilterSupported;
+
+    // Number of documents read and updated at a time when publishing without a pipeline update.
+    private static final int PUBLISH_BATCH_SIZE = 500;
+
     @Autowired
     public BaseAppsmithRepositoryImpl(ReactiveMongoOperations mongoOperations,
                                       MongoConverter mongoConverter) {
         this.mongoOperations = mongoOperations;
         this.mongoConverter = mongoConverter;
         this.genericDomain = (Class<T>) GenericTypeResolver.resolveTypeArgument(getClass(), BaseAppsmithRepositoryImpl.class);
+        this.queryMapper = new QueryMapper(mongoConverter);
+        this.serverVersion = Mono.defer(this::getServerVersion).cache();
+        this.isPipelineUpdateSupported = serverVersion.map(version -> isAtLeast(version, 4, 2));
+        this.isArrayFilterSupported = serverVersion.map(version -> isAtLeast(version, 3, 6));
     }
 
     public static final String fieldName(Path path) {
@@ -72,8 +103,9 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
                         .and("permission").is(permission.getValue())
                 );
 
+        // Any one of the user's groups is enough to have the permission.
         Criteria groupCriteria = Criteria.where(fieldName(QBaseDomain.baseDomain.policies))
-                .elemMatch(Criteria.where("groups").all(user.getGroupIds())
+                .elemMatch(Criteria.where("groups").in(user.getAllGroupIds())
                         .and("permission").is(permission.getValue()));
 
         return new Criteria().orOperator(userCriteria, groupCriteria, anonymousUserCriteria);
@@ -139,6 +171,30 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
                 });
     }
 
+    /**
+     * Applies the update to the document with the given id, if the user has the given permission on it. Only the fields
+     * in the update are written, so the rest of the document is neither loaded nor overwritten.
+     *
+     * @return The result of the update, which matched no document if the user doesn't have the permission.
+     */
+    protected Mono<UpdateResult> updateById(String id, Update update, AclPermission permission) {
+        if (id == null) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ID));
+        }
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .flatMap(auth -> {
+                    User user = (User) auth.getPrincipal();
+                    Query query = new Query(getIdCriteria(id));
+                    query.addCriteria(new Criteria().andOperator(notDeleted(), userAcl(user, permission)));
+
+                    update.set(fieldName(QBaseDomain.baseDomain.updatedAt), Instant.now())
+                            .set(fieldName(QBaseDomain.baseDomain.modifiedBy), user.getUsername());
+
+                    return mongoOperations.updateFirst(query, update, this.genericDomain);
+                });
+    }
+
     protected Mono<T> queryOne(List<Criteria> criterias, AclPermission aclPermission) {
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> ctx.getAuthentication())
@@ -179,6 +235,14 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
     }
 
     public Flux<T> queryAll(List<Criteria> criterias, AclPermission aclPermission, Sort sort) {
+        return queryAll(criterias, aclPermission, sort, 0);
+    }
+
+    /**
+     * Same as {@link #queryAll(List, AclPermission, Sort)}, but returns at most the given number of documents. A limit
+     * of zero returns all documents.
+     */
+    protected Flux<T> queryAll(List<Criteria> criterias, AclPermission aclPermission, Sort sort, int limit) {
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> ctx.getAuthentication())
                 .flatMapMany(auth -> {
@@ -187,6 +251,7 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
                     if (sort != null) {
                         query.with(sort);
                     }
+                    query.limit(limit);
 
                     return mongoOperations.query(this.genericDomain)
                             .matching(query)
@@ -195,9 +260,298 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
                 });
     }
 
+    /**
+     * Finds all the documents matching the criteria that the user has the given permission on, and deletes them with a
+     * single query.
+     *
+     * @return The deleted documents.
+     */
+    protected Flux<T> findAllAndRemove(List<Criteria> criterias, AclPermission aclPermission) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .flatMapMany(auth -> mongoOperations.findAllAndRemove(
+                        createQueryWithPermission(criterias, auth, aclPermission), this.genericDomain));
+    }
+
+    /**
+     * Copies the unpublished field of all the documents matching the criteria, that the user has the given permission
+     * on, into their published field. Documents that have not changed since they were last published are matched but
+     * not modified, so the cost of publishing scales with the changes rather than the number of documents.
+     * <p>
+     * On MongoDB 4.2 and above, this is a single update with an aggregation pipeline, so the documents never leave the
+     * database. Older versions don't support such updates, so there only the two fields are read, in batches, and the
+     * documents of each batch that have changed are updated with a single bulk write.
+     *
+     * @return The number of documents matched and modified.
+     */
+    protected Mono<UpdateResult> publishAll(List<Criteria> criterias,
+                                            AclPermission aclPermission,
+                                            String unpublishedField,
+                                            String publishedField) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .zipWith(isPipelineUpdateSupported)
+                .flatMap(tuple -> {
+                    final Authentication auth = tuple.getT1();
+                    final String username = ((User) auth.getPrincipal()).getUsername();
+                    final Document filter = queryMapper.getMappedObject(
+                            createQueryWithPermission(criterias, auth, aclPermission).getQueryObject(),
+                            mongoConverter.getMappingContext().getPersistentEntity(this.genericDomain)
+                    );
+
+                    if (tuple.getT2()) {
+                        return publishAllWithPipeline(filter, username, unpublishedField, publishedField);
+                    }
+                    return publishAllWithBulkWrite(filter, username, unpublishedField, publishedField);
+                });
+    }
+
+    private Mono<UpdateResult> publishAllWithPipeline(Document filter,
+                                                      String username,
+                                                      String unpublishedField,
+                                                      String publishedField) {
+        final Document isUnchanged = new Document("$eq", List.of("$" + publishedField, "$" + unpublishedField));
+        final String updatedAt = fieldName(QBaseDomain.baseDomain.updatedAt);
+        final String modifiedBy = fieldName(QBaseDomain.baseDomain.modifiedBy);
+
+        // All the fields of a stage are computed from the document as it was before the stage, so the audit fields are
+        // only updated if the published field is about to change.
+        final Document set = new Document(publishedField, "$" + unpublishedField)
+                .append(updatedAt, new Document("$cond", List.of(isUnchanged, "$" + updatedAt, "$$NOW")))
+                .append(modifiedBy, new Document("$cond", List.of(isUnchanged, "$" + modifiedBy, new Document("$literal", username))));
+
+        return mongoOperations
+                .execute(this.genericDomain, collection -> collection.updateMany(filter, List.of(new Document("$set", set))))
+                .next();
+    }
+
+    private Mono<UpdateResult> publishAllWithBulkWrite(Document filter,
+                                                       String username,
+                                                       String unpublishedField,
+                                                       String publishedField) {
+        return mongoOperations
+                .execute(this.genericDomain, collection -> Flux.from(collection.find(filter)
+                                .projection(Projections.include(unpublishedField, publishedField))
+                                .batchSize(PUBLISH_BATCH_SIZE))
+                        .buffer(PUBLISH_BATCH_SIZE)
+                        .concatMap(documents -> {
+                            final Date now = new Date();
+                            final List<WriteModel<Document>> updates = new ArrayList<>();
+                            for (Document document : documents) {
+                                final Object unpublished = document.get(unpublishedField);
+                                if (Objects.equals(unpublished, document.get(publishedField))) {
+                                    continue;
+                                }
+                                updates.add(new UpdateOneModel<>(
+                                        new Document("_id", document.get("_id")),
+                                        new Document("$set", new Document(publishedField, unpublished)
+                                                .append(fieldName(QBaseDomain.baseDomain.updatedAt), now)
+                                                .append(fieldName(QBaseDomain.baseDomain.modifiedBy), username))
+                                ));
+                            }
+
+                            if (updates.isEmpty()) {
+                                return Mono.just(UpdateResult.acknowledged(documents.size(), 0L, null));
+                            }
+                            return Mono.from(collection.bulkWrite(updates, new BulkWriteOptions().ordered(false)))
+                                    .map(result -> UpdateResult.acknowledged(documents.size(), (long) result.getModifiedCount(), null));
+                        })
+                        .reduce(UpdateResult.acknowledged(0L, 0L, null), (total, batch) -> UpdateResult.acknowledged(
+                                total.getMatchedCount() + batch.getMatchedCount(),
+                                total.getModifiedCount() + batch.getModifiedCount(),
+                                null
+                        )))
+                .next();
+    }
+
+    /**
+     * Gets the ids of all the documents matching the criteria that the user has the given permission on, without
+     * loading the rest of the documents.
+     */
+    protected Flux<String> queryAllIds(List<Criteria> criterias, AclPermission aclPermission) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .flatMapMany(auth -> {
+                    Query query = createQueryWithPermission(criterias, auth, aclPermission);
+                    query.fields().include(fieldName(QBaseDomain.baseDomain.id));
+                    return mongoOperations.find(query, this.genericDomain);
+                })
+                .map(BaseDomain::getId);
+    }
+
+    /**
+     * Adds the users and groups of the given policies to the policies with the same permissions, in all the documents
+     * matching the criteria that the user has the given permission on. Documents that don't have a policy for one of
+     * the permissions get the given policy as it is.
+     * <p>
+     * The documents are updated by the database, with one update for all the permissions, plus one for each permission
+     * that is missing from some of the documents. They are never loaded, so the cost doesn't depend on their size, and
+     * concurrent changes to other fields are not overwritten. MongoDB versions before 3.6 don't support array filters,
+     * so there the ids of the documents are read first, and they are updated with one update for each permission.
+     *
+     * @return The result of the last update.
+     */
+    public Mono<UpdateResult> addPolicies(List<Criteria> criterias, AclPermission aclPermission, Collection<Policy> policies) {
+        final String policiesField = fieldName(QBaseDomain.baseDomain.policies);
+        return updatePolicies(criterias, aclPermission, policies, "$addToSet", (collection, filter, audit) -> {
+            List<Mono<UpdateResult>> updates = new ArrayList<>();
+            for (Policy policy : policies) {
+                final Document missingPolicyFilter = new Document("$and", List.of(
+                        filter,
+                        new Document(policiesField + ".permission", new Document("$ne", policy.getPermission()))
+                ));
+                final Document newPolicy = new Document("permission", policy.getPermission())
+                        .append("users", toList(policy.getUsers()))
+                        .append("groups", toList(policy.getGroups()));
+                updates.add(Mono.from(collection.updateMany(
+                        missingPolicyFilter,
+                        new Document("$push", new Document(policiesField, newPolicy)).append("$set", audit)
+                )));
+            }
+            return updates;
+        });
+    }
+
+    /**
+     * Removes the users and groups of the given policies from the policies with the same permissions, in all the
+     * documents matching the criteria that the user has the given permission on. Like
+     * {@link #addPolicies(List, AclPermission, Collection)}, this is a single update run by the database.
+     *
+     * @return The result of the update.
+     */
+    public Mono<UpdateResult> removePolicies(List<Criteria> criterias, AclPermission aclPermission, Collection<Policy> policies) {
+        return updatePolicies(criterias, aclPermission, policies, "$pullAll", (collection, filter, audit) -> List.of());
+    }
+
+    private interface PolicyUpdatesBuilder {
+        List<Mono<UpdateResult>> build(MongoCollection<Document> collection, Document filter, Document audit);
+    }
+
+    /**
+     * Updates the users and groups of the policies in all the matching documents with the given array operator, after
+     * running the updates given by the builder. Each policy is matched by its permission with an array filter, so all
+     * the policies are changed in a single update. On servers without array filters, the matching documents are found
+     * first, and each policy is then updated with the positional operator in a separate update. The documents are
+     * matched by their ids there, so that the positional operator refers to the policy with the permission, and the
+     * documents are still updated if an earlier update removes the user's own permission.
+     */
+    private Mono<UpdateResult> updatePolicies(List<Criteria> criterias,
+                                              AclPermission aclPermission,
+                                              Collection<Policy> policies,
+                                              String operator,
+                                              PolicyUpdatesBuilder preUpdatesBuilder) {
+        final String policiesField = fieldName(QBaseDomain.baseDomain.policies);
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .zipWith(isArrayFilterSupported)
+                .flatMap(tuple -> {
+                    final Authentication auth = tuple.getT1();
+                    final Document filter = queryMapper.getMappedObject(
+                            createQueryWithPermission(criterias, auth, aclPermission).getQueryObject(),
+                            mongoConverter.getMappingContext().getPersistentEntity(this.genericDomain)
+                    );
+                    final Document audit = new Document(fieldName(QBaseDomain.baseDomain.updatedAt), new Date())
+                            .append(fieldName(QBaseDomain.baseDomain.modifiedBy), ((User) auth.getPrincipal()).getUsername());
+
+                    if (!tuple.getT2()) {
+                        return mongoOperations
+                                .execute(this.genericDomain, collection -> Flux.from(collection.find(filter)
+                                                .projection(Projections.include("_id")))
+                                        .map(document -> document.get("_id"))
+                                        .collectList()
+                                        .filter(ids -> !ids.isEmpty())
+                                        .flatMapMany(ids -> {
+                                            final Document idFilter = new Document("_id", new Document("$in", ids));
+                                            List<Mono<UpdateResult>> updates = new ArrayList<>(preUpdatesBuilder.build(collection, idFilter, audit));
+                                            for (Policy policy : policies) {
+                                                final Document changes = policyChanges(operator, policy, policiesField + ".$.");
+                                                if (changes.isEmpty()) {
+                                                    continue;
+                                                }
+                                                updates.add(Mono.from(collection.updateMany(
+                                                        new Document("$and", List.of(
+                                                                idFilter,
+                                                                new Document(policiesField + ".permission", policy.getPermission())
+                                                        )),
+                                                        new Document(operator, changes).append("$set", audit)
+                                                )));
+                                            }
+                                            return Flux.concat(updates);
+                                        }))
+                                .last(UpdateResult.acknowledged(0L, 0L, null));
+                    }
+
+                    final Document changes = new Document();
+                    final List<Document> arrayFilters = new ArrayList<>();
+                    for (Policy policy : policies) {
+                        final String identifier = "p" + arrayFilters.size();
+                        final Document policyChanges = policyChanges(operator, policy, policiesField + ".$[" + identifier + "].");
+                        // An array filter that no field uses is rejected by the database.
+                        if (!policyChanges.isEmpty()) {
+                            changes.putAll(policyChanges);
+                            arrayFilters.add(new Document(identifier + ".permission", policy.getPermission()));
+                        }
+                    }
+
+                    return mongoOperations
+                            .execute(this.genericDomain, collection -> {
+                                List<Mono<UpdateResult>> updates = new ArrayList<>(preUpdatesBuilder.build(collection, filter, audit));
+                                if (!changes.isEmpty()) {
+                                    updates.add(Mono.from(collection.updateMany(
+                                            filter,
+                                            new Document(operator, changes).append("$set", audit),
+                                            new UpdateOptions().arrayFilters(arrayFilters)
+                                    )));
+                                }
+                                return Flux.concat(updates);
+                            })
+                            .last(UpdateResult.acknowledged(0L, 0L, null));
+                });
+    }
+
+    /**
+     * @return The changes to the users and groups of the policy at the given path, with the given array operator.
+     */
+    private static Document policyChanges(String operator, Policy policy, String policyPath) {
+        final Document changes = new Document();
+        if (!CollectionUtils.isEmpty(policy.getUsers())) {
+            changes.put(policyPath + "users", arrayOperand(operator, policy.getUsers()));
+        }
+        if (!CollectionUtils.isEmpty(policy.getGroups())) {
+            changes.put(policyPath + "groups", arrayOperand(operator, policy.getGroups()));
+        }
+        return changes;
+    }
+
+    private static Object arrayOperand(String operator, Set<String> values) {
+        // Values are added with `$each`, so that they are added one by one rather than as a single nested array.
+        return "$addToSet".equals(operator) ? new Document("$each", toList(values)) : toList(values);
+    }
+
+    private static List<String> toList(Set<String> values) {
+        return values == null ? new ArrayList<>() : new ArrayList<>(values);
+    }
+
+    private Mono<List<Integer>> getServerVersion() {
+        return mongoOperations.executeCommand(new Document("buildInfo", 1))
+                .map(buildInfo -> buildInfo.getList("versionArray", Integer.class))
+                .onErrorResume(error -> {
+                    log.warn("Unable to get the version of the MongoDB server. Not using pipeline updates or array filters.", error);
+                    return Mono.just(List.of());
+                });
+    }
+
+    private static boolean isAtLeast(List<Integer> version, int major, int minor) {
+        if (version.size() < 2) {
+            return false;
+        }
+        return version.get(0) > major || (version.get(0).equals(major) && version.get(1) >= minor);
+    }
+
     public T setUserPermissionsInObject(T obj, User user) {
 
         Set<String> permissions = new HashSet<>();
+        Set<String> userGroupIds = user.getAllGroupIds();
 
         for (Policy policy : obj.getPolicies()) {
             Set<String> policyUsers = policy.getUsers();
@@ -209,9 +563,9 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
                 permissions.add(policy.getPermission());
             }
 
-            if (user.getGroupIds() != null) {
-                for (String groupId : user.getGroupIds()) {
-                    if (policyGroups != null && policyGroups.contains(groupId)) {
+            if (policyGroups != null) {
+                for (String groupId : userGroupIds) {
+                    if (policyGroups.contains(groupId)) {
                         permissions.add(policy.getPermission());
                         break;
                     }
@@ -60,6 +60,12 @@ public class CustomApplicationRepositoryImpl extends BaseAppsmithRepositoryImpl<
         return queryAll(List.of(orgIdCriteria), permission);
     }
 
+    @Override
+    public Flux<String> findIdsByOrganizationId(String orgId, AclPermission permission) {
+        Criteria orgIdCriteria = where(fieldName(QApplication.application.organizationId)).is(orgId);
+        return queryAllIds(List.of(orgIdCriteria), permission);
+    }
+
     @Override
     public Flux<Application> findByMultipleOrganizationIds(Set<String> orgIds, AclPermission permission) {
         Criteria orgIdsCriteria = where(fieldName(QApplication.application.organizationId)).in(orgIds);
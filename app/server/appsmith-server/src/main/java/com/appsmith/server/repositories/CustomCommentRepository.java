@@ -1,9 +1,16 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Comment;
+import com.appsmith.server.helpers.PaginationCursor;
 import com.mongodb.client.result.UpdateResult;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface CustomCommentRepository extends AppsmithRepository<Comment> {
 
     Mono<UpdateResult> pushReaction(String commentId, Comment.Reaction reaction);
@@ -12,4 +19,8 @@ public interface CustomCommentRepository extends AppsmithRepository<Comment> {
 
     Mono<Void> updateAuthorNames(String authorId, String authorName);
 
+    Flux<Comment> findByThreadId(String threadId, PaginationCursor after, int limit, AclPermission permission);
+
+    Mono<Map<String, List<Comment>>> findByThreadIdsGroupedByThread(Collection<String> threadIds, int limitPerThread);
+
 }
@@ -1,17 +1,29 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.external.models.QBaseDomain;
+import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.QComment;
+import com.appsmith.server.helpers.PaginationCursor;
 import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Component
@@ -72,4 +84,60 @@ public class CustomCommentRepositoryImpl extends BaseAppsmithRepositoryImpl<Comm
                 .then();
     }
 
+    /**
+     * Gets a page of the comments of a thread, oldest first.
+     *
+     * @param after Cursor of the last comment of the previous page, or null for the first page.
+     * @param limit Maximum number of comments to return.
+     */
+    @Override
+    public Flux<Comment> findByThreadId(String threadId, PaginationCursor after, int limit, AclPermission permission) {
+        final String createdAt = fieldName(QBaseDomain.baseDomain.createdAt);
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(where(fieldName(QComment.comment.threadId)).is(threadId));
+        if (after != null) {
+            criteria.add(new Criteria().orOperator(
+                    where(createdAt).gt(after.getTimestamp()),
+                    where(createdAt).is(after.getTimestamp()).and("_id").gt(new ObjectId(after.getId()))
+            ));
+        }
+
+        return queryAll(criteria, permission, Sort.by(Sort.Direction.ASC, createdAt, "_id"), limit);
+    }
+
+    /**
+     * Gets the comments of the given threads, oldest first. The comments are not checked for permissions, since they
+     * can only be read through their threads.
+     * <p>
+     * With a limit, there is one limited query for each thread, which the index on the thread id and creation time
+     * serves without reading the rest of the comments of long threads. Without a limit, all the comments are read with
+     * a single sorted query, and grouped by thread as they are read.
+     *
+     * @param limitPerThread Maximum number of comments to get for each thread, or zero for all of them.
+     * @return The comments, keyed by the id of their thread. Threads without comments are left out.
+     */
+    @Override
+    public Mono<Map<String, List<Comment>>> findByThreadIdsGroupedByThread(Collection<String> threadIds, int limitPerThread) {
+        final String threadId = fieldName(QComment.comment.threadId);
+        final String createdAt = fieldName(QBaseDomain.baseDomain.createdAt);
+
+        if (limitPerThread <= 0) {
+            Query query = new Query(new Criteria().andOperator(where(threadId).in(threadIds), notDeleted()))
+                    .with(Sort.by(Sort.Direction.ASC, threadId, createdAt));
+            return mongoOperations.find(query, Comment.class)
+                    .collect(LinkedHashMap::new, (Map<String, List<Comment>> commentsByThreadId, Comment comment) ->
+                            commentsByThreadId.computeIfAbsent(comment.getThreadId(), id -> new ArrayList<>()).add(comment));
+        }
+
+        return Flux.fromIterable(threadIds)
+                .flatMap(id -> {
+                    Query query = new Query(new Criteria().andOperator(where(threadId).is(id), notDeleted()))
+                            .with(Sort.by(Sort.Direction.ASC, createdAt))
+                            .limit(limitPerThread);
+                    return mongoOperations.find(query, Comment.class).collectList();
+                })
+                .filter(comments -> !comments.isEmpty())
+                .collectMap(comments -> comments.get(0).getThreadId());
+    }
+
 }
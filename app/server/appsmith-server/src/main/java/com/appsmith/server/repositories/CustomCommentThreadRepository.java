@@ -1,7 +1,10 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.helpers.PaginationCursor;
 import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -10,7 +13,11 @@ import java.util.Set;
 
 public interface CustomCommentThreadRepository extends AppsmithRepository<CommentThread> {
     Flux<CommentThread> findByApplicationId(String applicationId, AclPermission permission);
+    Flux<CommentThread> findByApplicationId(String applicationId, PaginationCursor after, int limit, AclPermission permission);
+    Mono<UpdateResult> addComment(String threadId, Comment comment, Set<String> subscribers);
+    Mono<UpdateResult> removeComment(String threadId);
     Mono<UpdateResult> addToSubscribers(String threadId, Set<String> usernames);
+    Mono<UpdateResult> makePublic(String threadId, String sequenceId, Set<Policy> policies, AclPermission permission);
     Mono<CommentThread> findPrivateThread(String applicationId);
     Mono<Long> countUnreadThreads(String applicationId, String userEmail);
 }
@@ -1,10 +1,16 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.QCommentThread;
+import com.appsmith.server.helpers.PaginationCursor;
 import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -14,6 +20,8 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -35,6 +43,62 @@ public class CustomCommentThreadRepositoryImpl extends BaseAppsmithRepositoryImp
         return queryAll(List.of(criteria), permission);
     }
 
+    /**
+     * Gets a page of the threads of an application, latest activity first.
+     *
+     * @param after Cursor of the last thread of the previous page, or null for the first page.
+     * @param limit Maximum number of threads to return.
+     */
+    @Override
+    public Flux<CommentThread> findByApplicationId(String applicationId,
+                                                   PaginationCursor after,
+                                                   int limit,
+                                                   AclPermission permission) {
+        final String lastActivityAt = fieldName(QCommentThread.commentThread.lastActivityAt);
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(where(fieldName(QCommentThread.commentThread.applicationId)).is(applicationId));
+        if (after != null) {
+            criteria.add(new Criteria().orOperator(
+                    where(lastActivityAt).lt(after.getTimestamp()),
+                    where(lastActivityAt).is(after.getTimestamp()).and("_id").lt(new ObjectId(after.getId()))
+            ));
+        }
+
+        final Sort sort = Sort.by(Sort.Direction.DESC, lastActivityAt, "_id");
+        return queryAll(criteria, permission, sort, limit);
+    }
+
+    /**
+     * Updates the summary of the comments of a thread for a comment that was added to it, and adds the given usernames
+     * to the subscribers of the thread, in a single update.
+     */
+    @Override
+    public Mono<UpdateResult> addComment(String threadId, Comment comment, Set<String> subscribers) {
+        final Instant createdAt = comment.getCreatedAt() != null ? comment.getCreatedAt() : Instant.now();
+        Update update = new Update()
+                .inc(fieldName(QCommentThread.commentThread.commentCount), 1)
+                .max(fieldName(QCommentThread.commentThread.lastActivityAt), createdAt)
+                .set(fieldName(QCommentThread.commentThread.lastCommentAuthorName), comment.getAuthorName());
+        if (!CollectionUtils.isEmpty(subscribers)) {
+            update.addToSet(fieldName(QCommentThread.commentThread.subscribers)).each(subscribers);
+        }
+
+        return mongoOperations.updateFirst(Query.query(where("id").is(threadId)), update, CommentThread.class);
+    }
+
+    /**
+     * Updates the summary of the comments of a thread for a comment that was deleted from it. The last activity is left
+     * as it is, since it's only used to sort the threads.
+     */
+    @Override
+    public Mono<UpdateResult> removeComment(String threadId) {
+        return mongoOperations.updateFirst(
+                Query.query(where("id").is(threadId)),
+                new Update().inc(fieldName(QCommentThread.commentThread.commentCount), -1),
+                CommentThread.class
+        );
+    }
+
     /**
      * Adds the provided username i.e. email address to the subscriber list of this thread
      * @return updated result object
@@ -48,6 +112,19 @@ public class CustomCommentThreadRepositoryImpl extends BaseAppsmithRepositoryImp
         );
     }
 
+    /**
+     * Makes a private thread public, with the given sequence id and policies. Only these fields are written, so that
+     * the summary of the comments of the thread, which may be updated at the same time, is not overwritten.
+     */
+    @Override
+    public Mono<UpdateResult> makePublic(String threadId, String sequenceId, Set<Policy> policies, AclPermission permission) {
+        Update update = new Update()
+                .set(fieldName(QCommentThread.commentThread.isPrivate), false)
+                .set(fieldName(QCommentThread.commentThread.sequenceId), sequenceId)
+                .set(fieldName(QCommentThread.commentThread.policies), policies);
+        return updateById(threadId, update, permission);
+    }
+
     @Override
     public Mono<CommentThread> findPrivateThread(String applicationId) {
         List<Criteria> criteria = List.of(
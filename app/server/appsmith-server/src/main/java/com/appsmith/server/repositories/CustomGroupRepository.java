@@ -1,8 +1,18 @@
 package com.appsmith.server.repositories;
 
 import com.appsmith.server.domains.Group;
+import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
 
 public interface CustomGroupRepository extends AppsmithRepository<Group> {
     Flux<Group> getAllByOrganizationId(String organizationId);
+
+    Flux<String> findIdsByMember(String username);
+
+    Mono<UpdateResult> addMembers(String groupId, Collection<String> usernames);
+
+    Mono<UpdateResult> removeMember(String groupId, String username);
 }
@@ -2,13 +2,18 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.server.domains.Group;
 import com.appsmith.server.domains.QGroup;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
@@ -28,4 +33,31 @@ public class CustomGroupRepositoryImpl extends BaseAppsmithRepositoryImpl<Group>
 
         return queryAll(List.of(orgIdCriteria), null);
     }
+
+    @Override
+    public Flux<String> findIdsByMember(String username) {
+        Query query = new Query(where(fieldName(QGroup.group.members)).is(username));
+        query.fields().include(fieldName(QGroup.group.id));
+
+        return mongoOperations.find(query, Group.class)
+                .map(Group::getId);
+    }
+
+    @Override
+    public Mono<UpdateResult> addMembers(String groupId, Collection<String> usernames) {
+        return mongoOperations.updateFirst(
+                new Query(getIdCriteria(groupId)),
+                new Update().addToSet(fieldName(QGroup.group.members)).each(usernames.toArray()),
+                Group.class
+        );
+    }
+
+    @Override
+    public Mono<UpdateResult> removeMember(String groupId, String username) {
+        return mongoOperations.updateFirst(
+                new Query(getIdCriteria(groupId)),
+                new Update().pull(fieldName(QGroup.group.members), username),
+                Group.class
+        );
+    }
 }
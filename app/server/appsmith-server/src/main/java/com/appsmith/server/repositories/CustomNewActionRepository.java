@@ -2,6 +2,7 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewAction;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -22,6 +23,10 @@ public interface CustomNewActionRepository extends AppsmithRepository<NewAction>
 
     Flux<NewAction> findUnpublishedActionsByPageIdAndExecuteOnLoadSetByUserTrue(String pageId, AclPermission permission);
 
+    Flux<NewAction> findUnpublishedActionsByJsonPathKeysUsingNameAndPageId(String name, String pageId, AclPermission permission);
+
+    Mono<UpdateResult> updateUnpublishedActionConfiguration(NewAction newAction, AclPermission permission);
+
     Flux<NewAction> findUnpublishedActionsForRestApiOnLoad(Set<String> names,
                                                            String pageId,
                                                            String httpMethod,
@@ -37,4 +42,10 @@ public interface CustomNewActionRepository extends AppsmithRepository<NewAction>
     Flux<NewAction> findByApplicationIdAndViewMode(String applicationId, Boolean viewMode, AclPermission aclPermission);
 
     Mono<Long> countByDatasourceId(String datasourceId);
+
+    Flux<NewAction> findAllAndRemoveDeletedInEditMode(String applicationId, AclPermission aclPermission);
+
+    Mono<UpdateResult> publishActions(String applicationId, AclPermission aclPermission);
+
+    Flux<String> findDistinctDatasourceIdsByApplicationId(String applicationId);
 }
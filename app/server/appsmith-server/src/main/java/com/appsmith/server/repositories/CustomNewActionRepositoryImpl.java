@@ -1,10 +1,12 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.QActionConfiguration;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.QNewAction;
 import com.appsmith.server.domains.User;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
@@ -12,6 +14,7 @@ import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
@@ -20,6 +23,7 @@ import reactor.core.publisher.Mono;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
@@ -243,6 +247,44 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
         return queryAll(criteriaList, permission);
     }
 
+    /**
+     * Finds the unpublished actions of the page that may use the given name in their bindings, by matching the name with
+     * the json path keys of the actions in the database. The match is loose, so that the actions using the name, as
+     * found by {@link MustacheHelper#extractWordsAndAddToSet}, are never left out, but a few others may be found too.
+     */
+    @Override
+    public Flux<NewAction> findUnpublishedActionsByJsonPathKeysUsingNameAndPageId(String name, String pageId, AclPermission permission) {
+        List<Criteria> criteriaList = new ArrayList<>();
+
+        Criteria jsonPathKeysCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.jsonPathKeys))
+                .regex("(^|[^a-zA-Z_])" + Pattern.quote(name) + "($|[^a-zA-Z0-9_])");
+        criteriaList.add(jsonPathKeysCriteria);
+
+        Criteria pageCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.pageId)).is(pageId);
+        criteriaList.add(pageCriteria);
+
+        // In case an action has been deleted in edit mode, but still exists in deployed mode, NewAction object would exist. To handle this, only fetch non-deleted actions
+        Criteria deletedCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).is(null);
+        criteriaList.add(deletedCriteria);
+
+        return queryAll(criteriaList, permission);
+    }
+
+    /**
+     * Sets the configuration and the json path keys of the unpublished action, without writing the rest of the action.
+     */
+    @Override
+    public Mono<UpdateResult> updateUnpublishedActionConfiguration(NewAction newAction, AclPermission permission) {
+        final String unpublishedAction = fieldName(QNewAction.newAction.unpublishedAction);
+        Update update = new Update()
+                .set(unpublishedAction + "." + fieldName(QNewAction.newAction.unpublishedAction.actionConfiguration),
+                        newAction.getUnpublishedAction().getActionConfiguration())
+                .set(unpublishedAction + "." + fieldName(QNewAction.newAction.unpublishedAction.jsonPathKeys),
+                        newAction.getUnpublishedAction().getJsonPathKeys());
+
+        return updateById(newAction.getId(), update, permission);
+    }
+
     @Override
     public Flux<NewAction> findByApplicationId(String applicationId, AclPermission aclPermission, Sort sort) {
 
@@ -286,4 +328,51 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
 
         return mongoOperations.count(query, "newAction");
     }
+
+    /**
+     * Deletes the actions of the application which have been deleted in edit mode, with a single query. This is done when
+     * the application is published, since they are then no longer needed in view mode either.
+     *
+     * @return The deleted actions.
+     */
+    @Override
+    public Flux<NewAction> findAllAndRemoveDeletedInEditMode(String applicationId, AclPermission aclPermission) {
+        Criteria applicationIdCriterion = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        Criteria deletedCriterion = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).ne(null);
+
+        return findAllAndRemove(List.of(applicationIdCriterion, deletedCriterion), aclPermission);
+    }
+
+    /**
+     * Publishes all the actions of the application by copying their unpublished action into the published action, in a
+     * single update. Actions that haven't changed since they were last published are matched but not modified.
+     */
+    @Override
+    public Mono<UpdateResult> publishActions(String applicationId, AclPermission aclPermission) {
+        Criteria applicationIdCriterion = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        Criteria notDeletedCriterion = where(fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).is(null);
+
+        return publishAll(
+                List.of(applicationIdCriterion, notDeletedCriterion),
+                aclPermission,
+                fieldName(QNewAction.newAction.unpublishedAction),
+                fieldName(QNewAction.newAction.publishedAction)
+        );
+    }
+
+    /**
+     * Gets the ids of the saved datasources used by the published or the unpublished actions of the application, without
+     * loading the actions. Actions with embedded datasources have no datasource id, and are left out.
+     */
+    @Override
+    public Flux<String> findDistinctDatasourceIdsByApplicationId(String applicationId) {
+        Query query = new Query(where(fieldName(QNewAction.newAction.applicationId)).is(applicationId));
+
+        return Flux.concat(
+                        mongoOperations.findDistinct(query, fieldName(QNewAction.newAction.unpublishedAction) + ".datasource._id", "newAction", Object.class),
+                        mongoOperations.findDistinct(query, fieldName(QNewAction.newAction.publishedAction) + ".datasource._id", "newAction", Object.class)
+                )
+                .map(Object::toString)
+                .distinct();
+    }
 }
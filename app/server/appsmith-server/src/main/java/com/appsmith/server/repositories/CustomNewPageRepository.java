@@ -2,9 +2,11 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewPage;
+import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CustomNewPageRepository extends AppsmithRepository<NewPage> {
@@ -19,4 +21,10 @@ public interface CustomNewPageRepository extends AppsmithRepository<NewPage> {
     Flux<NewPage> findAllByIds(List<String> ids, AclPermission aclPermission);
 
     Mono<String> getNameByPageId(String pageId, boolean isPublishedName);
+
+    Flux<NewPage> findPageMetadataByApplicationId(String applicationId);
+
+    Flux<NewPage> findPageMetadataByIds(Collection<String> pageIds);
+
+    Mono<UpdateResult> publishPages(String applicationId, Collection<String> pageIds, AclPermission aclPermission);
 }
@@ -5,6 +5,7 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.QLayout;
 import com.appsmith.server.domains.QNewPage;
 import com.appsmith.server.dtos.PageDTO;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -15,6 +16,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
@@ -131,4 +133,61 @@ public class CustomNewPageRepositoryImpl extends BaseAppsmithRepositoryImpl<NewP
                     return p.getUnpublishedPage().getName();
                 });
     }
+
+    /**
+     * Fetches the pages of an application with only the fields needed to list them, i.e., the names, hidden flags and
+     * policies. The layouts, which hold the DSL of each page, are left out, since they can be very large.
+     * <p>
+     * Permissions are NOT checked by this query, so that the result can be shared by all users of the application. The
+     * caller is responsible for checking the policies of the returned pages.
+     */
+    @Override
+    public Flux<NewPage> findPageMetadataByApplicationId(String applicationId) {
+        return findPageMetadata(where(fieldName(QNewPage.newPage.applicationId)).is(applicationId));
+    }
+
+    /**
+     * Like {@link #findPageMetadataByApplicationId(String)}, but for the given pages. Permissions are NOT checked.
+     */
+    @Override
+    public Flux<NewPage> findPageMetadataByIds(Collection<String> pageIds) {
+        return findPageMetadata(where(fieldName(QNewPage.newPage.id)).in(pageIds));
+    }
+
+    private Flux<NewPage> findPageMetadata(Criteria criteria) {
+        final String unpublishedPageKey = fieldName(QNewPage.newPage.unpublishedPage);
+        final String publishedPageKey = fieldName(QNewPage.newPage.publishedPage);
+
+        Query query = new Query(criteria);
+        query.addCriteria(notDeleted());
+        query.fields()
+                .include(fieldName(QNewPage.newPage.id))
+                .include(fieldName(QNewPage.newPage.applicationId))
+                .include(fieldName(QNewPage.newPage.policies))
+                .include(unpublishedPageKey + "." + fieldName(QNewPage.newPage.unpublishedPage.name))
+                .include(unpublishedPageKey + "." + fieldName(QNewPage.newPage.unpublishedPage.isHidden))
+                .include(unpublishedPageKey + "." + fieldName(QNewPage.newPage.unpublishedPage.deletedAt))
+                .include(publishedPageKey + "." + fieldName(QNewPage.newPage.publishedPage.name))
+                .include(publishedPageKey + "." + fieldName(QNewPage.newPage.publishedPage.isHidden))
+                .include(publishedPageKey + "." + fieldName(QNewPage.newPage.publishedPage.deletedAt));
+
+        return mongoOperations.find(query, NewPage.class);
+    }
+
+    /**
+     * Publishes the given pages of the application by copying their unpublished page into the published page, in a
+     * single update. Pages that haven't changed since they were last published are matched but not modified.
+     */
+    @Override
+    public Mono<UpdateResult> publishPages(String applicationId, Collection<String> pageIds, AclPermission aclPermission) {
+        Criteria applicationIdCriterion = where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
+        Criteria idsCriterion = where("id").in(pageIds);
+
+        return publishAll(
+                List.of(applicationIdCriterion, idsCriterion),
+                aclPermission,
+                fieldName(QNewPage.newPage.unpublishedPage),
+                fieldName(QNewPage.newPage.publishedPage)
+        );
+    }
 }
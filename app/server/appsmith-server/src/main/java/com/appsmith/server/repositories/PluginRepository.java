@@ -6,12 +6,16 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Repository
 public interface PluginRepository extends BaseRepository<Plugin, String>, CustomPluginRepository {
     Mono<Plugin> findByName(String name);
 
     Mono<Plugin> findByPackageName(String packageName);
 
+    Flux<Plugin> findByPackageNameIn(Collection<String> packageNames);
+
     Mono<Plugin> findById(String id);
 
     Flux<Plugin> findByDefaultInstall(Boolean isDefaultInstall);
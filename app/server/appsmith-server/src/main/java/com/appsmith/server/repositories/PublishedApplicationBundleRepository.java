@@ -0,0 +1,15 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.domains.PublishedApplicationBundle;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface PublishedApplicationBundleRepository extends BaseRepository<PublishedApplicationBundle, String> {
+
+    Mono<PublishedApplicationBundle> findByApplicationId(String applicationId);
+
+    Mono<PublishedApplicationBundle> findByPagesPageId(String pageId);
+
+    Mono<Void> deleteByApplicationId(String applicationId);
+}
@@ -1,7 +1,5 @@
 package com.appsmith.server.services;
 
-import com.appsmith.external.helpers.AppsmithEventContext;
-import com.appsmith.external.helpers.AppsmithEventContextType;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
@@ -17,6 +15,7 @@ import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
+import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.PageNameIdDTO;
 import com.appsmith.server.exceptions.AppsmithError;
@@ -34,11 +33,14 @@ import reactor.core.publisher.Mono;
 import javax.annotation.Nullable;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.appsmith.external.helpers.BeanCopyUtils.copyNewFieldValuesIntoOldObject;
 import static com.appsmith.server.acl.AclPermission.MANAGE_ACTIONS;
 import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
 import static com.appsmith.server.acl.AclPermission.MANAGE_PAGES;
@@ -61,6 +63,7 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
     private final ApplicationRepository applicationRepository;
     private final NewPageService newPageService;
     private final NewActionService newActionService;
+    private final PublishedApplicationBundleService publishedApplicationBundleService;
 
     public ApplicationPageServiceImpl(ApplicationService applicationService,
                                       SessionUserService sessionUserService,
@@ -70,7 +73,8 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                                       PolicyGenerator policyGenerator,
                                       ApplicationRepository applicationRepository,
                                       NewPageService newPageService,
-                                      NewActionService newActionService) {
+                                      NewActionService newActionService,
+                                      PublishedApplicationBundleService publishedApplicationBundleService) {
         this.applicationService = applicationService;
         this.sessionUserService = sessionUserService;
         this.organizationService = organizationService;
@@ -80,6 +84,7 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
         this.applicationRepository = applicationRepository;
         this.newPageService = newPageService;
         this.newActionService = newActionService;
+        this.publishedApplicationBundleService = publishedApplicationBundleService;
     }
 
     public Mono<PageDTO> createPage(PageDTO page) {
@@ -150,6 +155,18 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
 
     @Override
     public Mono<PageDTO> getPage(String pageId, boolean viewMode) {
+        if (viewMode) {
+            // Published pages are served from the published bundle of the application, which already has the DSL
+            // unescaped. If the application has not been published, this falls back to fetching the page itself.
+            return publishedApplicationBundleService.findByPageId(pageId)
+                    .flatMap(bundle -> publishedApplicationBundleService.getPage(bundle, pageId))
+                    .switchIfEmpty(Mono.defer(() -> getPageFromRepository(pageId, true)));
+        }
+
+        return getPageFromRepository(pageId, false);
+    }
+
+    private Mono<PageDTO> getPageFromRepository(String pageId, boolean viewMode) {
         AclPermission permission = viewMode ? READ_PAGES : MANAGE_PAGES;
         return newPageService.findPageById(pageId, permission, viewMode)
                 .map(newPage -> {
@@ -298,6 +315,7 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                 .flatMap(application -> {
                     log.debug("Archiving pages for applicationId: {}", id);
                     return newPageService.archivePagesByApplicationId(id, MANAGE_PAGES)
+                            .then(publishedApplicationBundleService.deleteBundle(id))
                             .thenReturn(application);
                 })
                 .flatMap(applicationService::archive);
@@ -316,32 +334,38 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
 
     private Mono<PageDTO> clonePageGivenApplicationId(String pageId, String applicationId,
                                                       @Nullable String newPageNameSuffix) {
-        // Find the source page and then prune the page layout fields to only contain the required fields that should be
-        // copied.
         Mono<PageDTO> sourcePageMono = newPageService.findPageById(pageId, MANAGE_PAGES, false)
-                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE, pageId)))
-                .flatMap(page -> Flux.fromIterable(page.getLayouts())
-                        .map(layout -> {
-                            Layout newLayout = new Layout();
-                            String id = new ObjectId().toString();
-                            newLayout.setId(id);
-                            newLayout.setMongoEscapedWidgetNames(layout.getMongoEscapedWidgetNames());
-                            newLayout.setDsl(layout.getDsl());
-                            return newLayout;
-                        })
-                        .collectList()
-                        .map(layouts -> {
-                            page.setLayouts(layouts);
-                            return page;
-                        })
-                );
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE, pageId)));
 
-        Flux<NewAction> sourceActionFlux = newActionService.findByPageId(pageId, MANAGE_ACTIONS)
-                // In case there are no actions in the page being cloned, return empty
-                .switchIfEmpty(Flux.empty());
+        // Only the actions which are in this page in edit mode are cloned, and not the ones which have since been
+        // deleted or moved to another page.
+        Mono<List<NewAction>> sourceActionsMono = newActionService.findByPageId(pageId, MANAGE_ACTIONS)
+                .filter(action -> action.getUnpublishedAction() != null
+                        && action.getUnpublishedAction().getDeletedAt() == null
+                        && pageId.equals(action.getUnpublishedAction().getPageId()))
+                .collectList();
+
+        return Mono.zip(sourcePageMono, sourceActionsMono)
+                .flatMap(tuple -> {
+                    final PageDTO page = tuple.getT1();
+                    final List<NewAction> actions = tuple.getT2();
+
+                    // Generate the ids of the cloned actions up front, so that the on load actions of the cloned
+                    // layouts can refer to them, instead of being computed again once the actions have been created.
+                    final Map<String, String> actionIdsMap = new HashMap<>();
+                    for (NewAction action : actions) {
+                        final String newActionId = new ObjectId().toString();
+                        actionIdsMap.put(action.getId(), newActionId);
+                        action.setId(newActionId);
+                    }
+
+                    if (page.getLayouts() != null) {
+                        page.setLayouts(page.getLayouts()
+                                .stream()
+                                .map(layout -> cloneLayout(layout, actionIdsMap))
+                                .collect(Collectors.toList()));
+                    }
 
-        return sourcePageMono
-                .flatMap(page -> {
                     Mono<ApplicationPagesDTO> pageNamesMono = newPageService
                             .findApplicationPagesByApplicationIdAndViewMode(page.getApplicationId(), false);
                     return pageNamesMono
@@ -370,41 +394,21 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                                 page.setId(null);
                                 page.setApplicationId(applicationId);
                                 return newPageService.createDefault(page);
-                            });
-                })
-                .flatMap(clonedPage -> {
-                    String newPageId = clonedPage.getId();
-                    return sourceActionFlux
-                            .flatMap(action -> {
-                                // Set new page id in the actionDTO
-                                action.getUnpublishedAction().setPageId(newPageId);
-
-                                /*
-                                 * - Now create the new action from the template of the source action.
-                                 * - Use CLONE_PAGE context to make sure that page / application clone quirks are
-                                 *   taken care of - e.g. onPageLoad setting is copied from action setting instead of
-                                 *   being set to off by default.
-                                 */
-                                AppsmithEventContext eventContext = new AppsmithEventContext(AppsmithEventContextType.CLONE_PAGE);
-                                return layoutActionService.createAction(
-                                        action.getUnpublishedAction(),
-                                        eventContext
-                                );
                             })
-                            .collectList()
-                            .thenReturn(clonedPage);
+                            // Insert all the actions of the page at once.
+                            .flatMap(clonedPage -> newActionService.insertClonedActions(clonedPage, actions)
+                                    .then(Mono.just(clonedPage)));
                 })
-                // Calculate the onload actions for this page now that the page and actions have been created
-                .flatMap(savedPage -> {
-                    List<Layout> layouts = savedPage.getLayouts();
-
-                    return Flux.fromIterable(layouts)
-                            .flatMap(layout -> {
-                                layout.setDsl(layoutActionService.unescapeMongoSpecialCharacters(layout));
-                                return layoutActionService.updateLayout(savedPage.getId(), layout.getId(), layout);
-                            })
-                            .collectList()
-                            .thenReturn(savedPage);
+                .map(savedPage -> {
+                    // The DSL is stored escaped, but is returned unescaped like when the page is fetched.
+                    for (Layout layout : savedPage.getLayouts()) {
+                        if (layout.getDsl() != null
+                                && layout.getMongoEscapedWidgetNames() != null
+                                && !layout.getMongoEscapedWidgetNames().isEmpty()) {
+                            layout.setDsl(layoutActionService.unescapeMongoSpecialCharacters(layout));
+                        }
+                    }
+                    return savedPage;
                 })
                 .flatMap(page -> {
                     Mono<Application> applicationMono = applicationService.findById(page.getApplicationId(), MANAGE_APPLICATIONS);
@@ -420,6 +424,52 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                 });
     }
 
+    /**
+     * Copies the unpublished fields of the layout that were computed when it was last updated, like its on load actions,
+     * so that they don't need to be computed again for the copy.
+     *
+     * @param layout       The layout to be copied.
+     * @param actionIdsMap The ids of the copied actions, by the ids of the original actions, to update the on load
+     *                     actions with.
+     * @return The copy of the layout, with a new id.
+     */
+    private Layout cloneLayout(Layout layout, Map<String, String> actionIdsMap) {
+        Layout newLayout = new Layout();
+        newLayout.setId(new ObjectId().toString());
+        newLayout.setScreen(layout.getScreen());
+        newLayout.setMongoEscapedWidgetNames(layout.getMongoEscapedWidgetNames());
+        newLayout.setDsl(layout.getDsl());
+        newLayout.setDslReferences(layout.getDslReferences());
+        newLayout.setWidgetNames(layout.getWidgetNames());
+        newLayout.setAllOnPageLoadActionNames(layout.getAllOnPageLoadActionNames());
+        newLayout.setAllOnPageLoadActionEdges(layout.getAllOnPageLoadActionEdges());
+        newLayout.setActionsUsedInDynamicBindings(layout.getActionsUsedInDynamicBindings());
+
+        if (layout.getLayoutOnLoadActions() != null) {
+            List<HashSet<DslActionDTO>> onLoadActions = new ArrayList<>();
+            for (Set<DslActionDTO> actionSet : layout.getLayoutOnLoadActions()) {
+                HashSet<DslActionDTO> newActionSet = new HashSet<>();
+                for (DslActionDTO action : actionSet) {
+                    final String newActionId = actionIdsMap.get(action.getId());
+                    if (newActionId == null) {
+                        // The action is no longer in this page.
+                        continue;
+                    }
+                    DslActionDTO newAction = new DslActionDTO();
+                    copyNewFieldValuesIntoOldObject(action, newAction);
+                    newAction.setId(newActionId);
+                    newActionSet.add(newAction);
+                }
+                if (!newActionSet.isEmpty()) {
+                    onLoadActions.add(newActionSet);
+                }
+            }
+            newLayout.setLayoutOnLoadActions(onLoadActions);
+        }
+
+        return newLayout;
+    }
+
     private Mono<PageDTO> clonePageGivenApplicationId(String pageId, String applicationId) {
         return clonePageGivenApplicationId(pageId, applicationId, null);
     }
@@ -567,7 +617,7 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
                 .cache();
 
-        Flux<NewPage> publishApplicationAndPages = applicationMono
+        Mono<UpdateResult> publishApplicationAndPages = applicationMono
                 //Return all the pages in the Application
                 .flatMap(application -> {
                     List<ApplicationPage> pages = application.getPages();
@@ -596,13 +646,11 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                     publishedPageIds.addAll(editedPageIds);
                     publishedPageIds.removeAll(editedPageIds);
 
-                    Mono<List<Boolean>> archivePageListMono;
+                    Mono<Boolean> archivePageListMono;
                     if (!publishedPageIds.isEmpty()) {
-                        archivePageListMono = Flux.fromStream(publishedPageIds.stream())
-                                .flatMap(id -> newPageService.archiveById(id))
-                                .collectList();
+                        archivePageListMono = newPageService.archiveAllById(new ArrayList<>(publishedPageIds));
                     } else {
-                        archivePageListMono = Mono.just(new ArrayList<>());
+                        archivePageListMono = Mono.just(false);
                     }
 
                     application.setPublishedPages(pages);
@@ -614,37 +662,24 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                     return Mono.zip(archivePageListMono, applicationService.save(application))
                             .thenReturn(pages);
                 })
-                .flatMapMany(Flux::fromIterable)
-                //In each page, copy each layout's dsl to publishedDsl field
-                .flatMap(applicationPage -> newPageService
-                        .findById(applicationPage.getId(), MANAGE_PAGES)
-                        .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE, applicationPage.getId())))
-                        .map(page -> {
-                            page.setPublishedPage(page.getUnpublishedPage());
-                            return page;
-                        }))
-                .collectList()
-                .flatMapMany(newPageService::saveAll);
-
-        Flux<NewAction> publishedActionsFlux = newActionService
-                .findAllByApplicationIdAndViewMode(applicationId, false, MANAGE_ACTIONS, null)
-                .flatMap(newAction -> {
-                    // If the action was deleted in edit mode, now this can be safely deleted from the repository
-                    if (newAction.getUnpublishedAction().getDeletedAt() != null) {
-                        return newActionService.delete(newAction.getId())
-                                .then(Mono.empty());
-                    }
-                    // Publish the action by copying the unpublished actionDTO to published actionDTO
-                    newAction.setPublishedAction(newAction.getUnpublishedAction());
-                    return Mono.just(newAction);
-                })
-                .collectList()
-                .flatMapMany(actions -> newActionService.saveAll(actions));
+                // In each page, copy the unpublished page, with its layouts, to the published page. This is a single
+                // update on the database, which only modifies the pages that have changed since the last publish.
+                .flatMap(pages -> newPageService.publishPages(
+                        applicationId,
+                        pages.stream().map(ApplicationPage::getId).collect(Collectors.toList()),
+                        MANAGE_PAGES
+                ));
+
+        // If the action was deleted in edit mode, now this can be safely deleted from the repository. The rest of the
+        // actions are published by copying the unpublished actionDTO to published actionDTO.
+        Mono<UpdateResult> publishedActionsMono = newActionService.publishActions(applicationId, MANAGE_ACTIONS);
 
         return Mono.when(
-                publishApplicationAndPages.collectList(),
-                publishedActionsFlux.collectList()
+                publishApplicationAndPages,
+                publishedActionsMono
         )
+                // Now that the pages and actions have been published, create the bundle that viewers are served from.
+                .then(publishedApplicationBundleService.createBundle(applicationId))
                 .then(applicationMono);
     }
 
@@ -2,6 +2,8 @@ package com.appsmith.server.services;
 
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.dtos.CommentThreadsPaginatedDTO;
+import com.appsmith.server.dtos.CommentsPaginatedDTO;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -16,6 +18,10 @@ public interface CommentService extends CrudService<Comment, String> {
 
     Mono<List<CommentThread>> getThreadsByApplicationId(String applicationId);
 
+    Mono<CommentThreadsPaginatedDTO> getThreadsByApplicationId(String applicationId, String cursor, int limit, int commentLimit);
+
+    Mono<CommentsPaginatedDTO> getCommentsByThreadId(String threadId, String cursor, int limit);
+
     Mono<Comment> deleteComment(String id);
 
     Mono<CommentThread> deleteThread(String threadId);
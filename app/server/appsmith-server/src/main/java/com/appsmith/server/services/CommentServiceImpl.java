@@ -11,9 +11,12 @@ import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Notification;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.UserData;
+import com.appsmith.server.dtos.CommentThreadsPaginatedDTO;
+import com.appsmith.server.dtos.CommentsPaginatedDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.CommentUtils;
+import com.appsmith.server.helpers.PaginationCursor;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.helpers.TemplateUtils;
 import com.appsmith.server.repositories.CommentRepository;
@@ -39,7 +42,6 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -56,6 +58,8 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
     private static final String HOW_TO_TAG_USER_COMMENT = "bot/howToTagUser.html";
     private static final String HOW_TO_TAG_BOT_COMMENT = "bot/howToTagBot.html";
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentThreadRepository threadRepository;
     private final UserDataRepository userDataRepository;
 
@@ -155,7 +159,9 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
                             commentThread.getAuthorUsername()
                     ).get(AclPermission.MANAGE_THREAD.getValue()));
                     commentThread.setPolicies(policies);
-                    return threadRepository.save(commentThread);
+                    return threadRepository
+                            .makePublic(commentThread.getId(), commentThread.getSequenceId(), policies, AclPermission.COMMENT_ON_THREAD)
+                            .thenReturn(commentThread);
         });
     }
 
@@ -182,21 +188,23 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
         comment.setAuthorUsername(user.getUsername());
         comment.setAuthorName(authorName);
 
-        Mono<Comment> commentMono;
+        Set<String> subscribersFromThisComment = Set.of();
         if (!TRUE.equals(commentThread.getIsPrivate())) {
-            Set<String> subscribersFromThisComment = CommentUtils.getSubscriberUsernames(comment);
+            subscribersFromThisComment = CommentUtils.getSubscriberUsernames(comment);
             // add them to current thread so that we don't need to query again
             if (commentThread.getSubscribers() != null) {
                 commentThread.getSubscribers().addAll(subscribersFromThisComment);
             } else {
                 commentThread.setSubscribers(subscribersFromThisComment);
             }
-            commentMono = threadRepository.addToSubscribers(commentThread.getId(), subscribersFromThisComment)
-                    .then(repository.save(comment));
-        } else {
-            commentMono = repository.save(comment);
         }
 
+        // The new subscribers are added along with the update to the comment summary of the thread.
+        final Set<String> newSubscribers = subscribersFromThisComment;
+        Mono<Comment> commentMono = repository.save(comment)
+                .flatMap(savedComment -> threadRepository.addComment(commentThread.getId(), savedComment, newSubscribers)
+                        .thenReturn(savedComment));
+
         return commentMono.flatMap(savedComment -> {
             boolean isPrivateThread = TRUE.equals(commentThread.getIsPrivate());
             Mono<Boolean> publishEmail = emailEventHandler.publish(
@@ -283,6 +291,7 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
                     .collectList()
                     .map(commentList -> {
                         commentThread.setComments(commentList);
+                        commentThread.setCommentCount((long) commentList.size());
                         commentThread.setIsViewed(true);
                         return commentThread;
                     });
@@ -342,6 +351,11 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
                         }
                     }
 
+                    // The summary of the comments is only changed along with the comments.
+                    commentThread.setCommentCount(null);
+                    commentThread.setLastActivityAt(null);
+                    commentThread.setLastCommentAuthorName(null);
+
                     return threadRepository
                             .updateById(threadId, commentThread, AclPermission.READ_THREAD)
                             .flatMap(updatedThread -> {
@@ -404,36 +418,107 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
     public Mono<List<CommentThread>> getThreadsByApplicationId(String applicationId) {
         return threadRepository.findByApplicationId(applicationId, AclPermission.READ_THREAD)
                 .collectList()
-                .flatMap(threads -> Mono.zip(
-                        Mono.just(threads),
-                        sessionUserService.getCurrentUser()
-                ))
+                .zipWith(sessionUserService.getCurrentUser())
+                .flatMap(tuple -> addComments(tuple.getT1(), tuple.getT2(), 0));
+    }
+
+    /**
+     * Gets a page of the threads of an application, latest activity first. Each thread comes with its first few
+     * comments, and the rest of them can be loaded with {@link #getCommentsByThreadId}.
+     *
+     * @param cursor       Cursor given with the previous page, or null for the first page.
+     * @param limit        Maximum number of threads in the page.
+     * @param commentLimit Maximum number of comments to include with each thread.
+     */
+    @Override
+    public Mono<CommentThreadsPaginatedDTO> getThreadsByApplicationId(String applicationId,
+                                                                      String cursor,
+                                                                      int limit,
+                                                                      int commentLimit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "limit"));
+        }
+        if (commentLimit < 0 || commentLimit > MAX_PAGE_SIZE) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "commentLimit"));
+        }
+
+        // Deferred, so that an invalid cursor is reported as an error of the returned Mono.
+        return Flux.defer(() -> threadRepository.findByApplicationId(
+                        applicationId, PaginationCursor.decode(cursor), limit, AclPermission.READ_THREAD))
+                .collectList()
+                .zipWith(sessionUserService.getCurrentUser())
                 .flatMap(tuple -> {
-                    List<CommentThread> threads = tuple.getT1();
-                    User user = tuple.getT2();
-                    final Map<String, CommentThread> threadsByThreadId = new HashMap<>();
+                    final List<CommentThread> threads = tuple.getT1();
+                    if (commentLimit == 0) {
+                        threads.forEach(thread -> setIsViewed(thread, tuple.getT2()));
+                        return Mono.just(threads);
+                    }
+                    return addComments(threads, tuple.getT2(), commentLimit);
+                })
+                .map(threads -> {
+                    CommentThreadsPaginatedDTO page = new CommentThreadsPaginatedDTO();
+                    page.setThreads(threads);
+                    if (threads.size() == limit) {
+                        final CommentThread lastThread = threads.get(threads.size() - 1);
+                        page.setNextCursor(new PaginationCursor(lastThread.getLastActivityAt(), lastThread.getId()).encode());
+                    }
+                    return page;
+                });
+    }
 
-                    for (CommentThread thread : threads) {
-                        thread.setComments(new LinkedList<>());
-                        if (thread.getViewedByUsers() != null && thread.getViewedByUsers().contains(user.getUsername())) {
-                            thread.setIsViewed(true);
-                        } else {
-                            thread.setIsViewed(false);
-                        }
-                        threadsByThreadId.put(thread.getId(), thread);
+    /**
+     * Gets a page of the comments of a thread, oldest first.
+     *
+     * @param cursor Cursor given with the previous page, or null for the first page.
+     * @param limit  Maximum number of comments in the page.
+     */
+    @Override
+    public Mono<CommentsPaginatedDTO> getCommentsByThreadId(String threadId, String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "limit"));
+        }
+
+        return threadRepository.findById(threadId, AclPermission.READ_THREAD)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND, "comment thread", threadId)))
+                .flatMap(thread -> repository
+                        .findByThreadId(threadId, PaginationCursor.decode(cursor), limit, AclPermission.READ_COMMENT)
+                        .collectList())
+                .map(comments -> {
+                    CommentsPaginatedDTO page = new CommentsPaginatedDTO();
+                    page.setComments(comments);
+                    if (comments.size() == limit) {
+                        final Comment lastComment = comments.get(comments.size() - 1);
+                        page.setNextCursor(new PaginationCursor(lastComment.getCreatedAt(), lastComment.getId()).encode());
                     }
+                    return page;
+                });
+    }
 
-                    return repository.findByThreadIdInOrderByCreatedAt(new ArrayList<>(threadsByThreadId.keySet()))
-                            // TODO: Can we use `doOnSuccess` here?
-                            .map(comment -> {
-                                threadsByThreadId.get(comment.getThreadId()).getComments().add(comment);
-                                return comment;
-                            })
-                            .then()
-                            .thenReturn(threads);
+    /**
+     * Loads the comments of the given threads and sets them in the threads.
+     *
+     * @param limitPerThread Maximum number of comments to load for each thread, or zero for all of them.
+     */
+    private Mono<List<CommentThread>> addComments(List<CommentThread> threads, User user, int limitPerThread) {
+        final List<String> threadIds = new ArrayList<>();
+        for (CommentThread thread : threads) {
+            setIsViewed(thread, user);
+            threadIds.add(thread.getId());
+        }
+
+        return repository.findByThreadIdsGroupedByThread(threadIds, limitPerThread)
+                .map(commentsByThreadId -> {
+                    for (CommentThread thread : threads) {
+                        thread.setComments(commentsByThreadId.getOrDefault(thread.getId(), new ArrayList<>()));
+                    }
+                    return threads;
                 });
     }
 
+    private static void setIsViewed(CommentThread thread, User user) {
+        thread.setIsViewed(thread.getViewedByUsers() != null && thread.getViewedByUsers().contains(user.getUsername()));
+    }
+
     /**
      * This function performs a soft delete for the comment.
      *
@@ -445,6 +530,8 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
         return repository.findById(id, AclPermission.MANAGE_COMMENT)
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.COMMENT, id)))
                 .flatMap(repository::archive)
+                .flatMap(deletedComment -> threadRepository.removeComment(deletedComment.getThreadId())
+                        .thenReturn(deletedComment))
                 .flatMap(analyticsService::sendDeleteEvent);
     }
 
@@ -502,6 +589,9 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
         commentThread.setAuthorName(user.getName());
         commentThread.setAuthorUsername(user.getUsername());
         commentThread.setViewedByUsers(Set.of(user.getUsername()));
+        // The comments are counted as they are added to the thread, once it has been saved.
+        commentThread.setCommentCount(0L);
+        commentThread.setLastActivityAt(Instant.now());
 
         final Set<Policy> policies = new HashSet<>();
         Mono<Long> commentSeq;
@@ -581,7 +671,9 @@ public class CommentServiceImpl extends BaseService<CommentRepository, Comment,
         block.setType("unstyled");
         block.setDepth(0);
         body.setEntityMap(entityMap);
-        return repository.save(comment);
+        return repository.save(comment)
+                .flatMap(savedComment -> threadRepository.addComment(commentThread.getId(), savedComment, null)
+                        .thenReturn(savedComment));
     }
 
     @Override
@@ -8,6 +8,7 @@ import com.appsmith.external.services.EncryptionService;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.ConnectionPoolMetrics;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,16 +32,19 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
     private final PluginService pluginService;
     private final PluginExecutorHelper pluginExecutorHelper;
     private final EncryptionService encryptionService;
+    private final ConnectionPoolMetrics connectionPoolMetrics;
 
     @Autowired
     public DatasourceContextServiceImpl(DatasourceService datasourceService,
                                         PluginService pluginService,
                                         PluginExecutorHelper pluginExecutorHelper,
-                                        EncryptionService encryptionService) {
+                                        EncryptionService encryptionService,
+                                        ConnectionPoolMetrics connectionPoolMetrics) {
         this.datasourceService = datasourceService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.encryptionService = encryptionService;
+        this.connectionPoolMetrics = connectionPoolMetrics;
         this.datasourceContextMap = new ConcurrentHashMap<>();
     }
 
@@ -79,18 +83,21 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
         return datasourceMono
                 .zipWhen(datasource1 -> {
                     Mono<Plugin> pluginMono = datasourceMono
-                            .flatMap(resource -> pluginService.findById(resource.getPluginId()));
+                            .flatMap(resource -> pluginService.findById(resource.getPluginId()))
+                            .cache();
 
                     // Datasource Context has not been created for this resource on this machine. Create one now.
-                    return pluginExecutorHelper.getPluginExecutor(pluginMono);
+                    return Mono.zip(pluginMono, pluginExecutorHelper.getPluginExecutor(pluginMono));
                 })
                 .flatMap(objects -> {
                     Datasource datasource1 = objects.getT1();
 
-                    PluginExecutor<Object> pluginExecutor = objects.getT2();
+                    Plugin plugin = objects.getT2().getT1();
+                    PluginExecutor<Object> pluginExecutor = objects.getT2().getT2();
 
                     if (isStale) {
                         final Object connection = datasourceContextMap.get(datasourceId).getConnection();
+                        connectionPoolMetrics.remove(datasourceId);
                         if (connection != null) {
                             try {
                                 pluginExecutor.datasourceDestroy(connection);
@@ -127,6 +134,10 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
                                 // When a connection object exists and makes sense for the plugin, we put it in the
                                 // context. Example, DB plugins.
                                 datasourceContext.setConnection(connection);
+                                if (datasource1.getId() != null) {
+                                    connectionPoolMetrics.register(
+                                            datasourceId, plugin.getPackageName(), pluginExecutor, connection);
+                                }
                                 return datasourceContext;
                             })
                             .defaultIfEmpty(
@@ -174,6 +185,7 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
                     final PluginExecutor<Object> pluginExecutor = tuple.getT2();
                     log.info("Clearing datasource context for datasource ID {}.", datasource.getId());
                     pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
+                    connectionPoolMetrics.remove(datasourceId);
                     return datasourceContextMap.remove(datasourceId);
                 });
     }
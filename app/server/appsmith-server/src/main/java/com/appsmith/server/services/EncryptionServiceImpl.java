@@ -2,24 +2,44 @@ package com.appsmith.server.services;
 
 import com.appsmith.external.services.EncryptionService;
 import com.appsmith.server.configurations.EncryptionConfig;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.codec.binary.Hex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.encrypt.Encryptors;
 import org.springframework.security.crypto.encrypt.TextEncryptor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
 public class EncryptionServiceImpl implements EncryptionService {
     private final EncryptionConfig encryptionConfig;
 
     private TextEncryptor textEncryptor;
 
+    /**
+     * Decrypted values, keyed by their encrypted text. Every read of a datasource decrypts its secrets, and datasources
+     * are read on every action execution, so the same few values are decrypted over and over. The encryption is
+     * deterministic, so an encrypted text always decrypts to the same value, and entries never go stale. They are only
+     * kept for a short while, so that secrets don't linger in memory after they stop being used.
+     */
+    private final Cache<String, String> decryptedValues;
+
     @Autowired
-    public EncryptionServiceImpl(EncryptionConfig encryptionConfig) {
+    public EncryptionServiceImpl(EncryptionConfig encryptionConfig,
+                                 @Value("${appsmith.cache.decrypted-values.max-size:1000}") long cacheMaxSize,
+                                 @Value("${appsmith.cache.decrypted-values.ttl-seconds:60}") long cacheTtlSeconds) {
         this.encryptionConfig = encryptionConfig;
         String saltInHex = Hex.encodeHexString(encryptionConfig.getSalt().getBytes());
+        // The key is derived from the password once here, and the same cipher is used for all values.
         this.textEncryptor = Encryptors.queryableText(encryptionConfig.getPassword(),
                 saltInHex);
+        this.decryptedValues = CacheBuilder.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
     }
 
     @Override
@@ -29,6 +49,6 @@ public class EncryptionServiceImpl implements EncryptionService {
 
     @Override
     public String decryptString(String encryptedText) {
-        return textEncryptor.decrypt(encryptedText);
+        return decryptedValues.asMap().computeIfAbsent(encryptedText, textEncryptor::decrypt);
     }
 }
@@ -1,8 +1,12 @@
 package com.appsmith.server.services;
 
+import com.appsmith.server.acl.AppsmithRole;
 import com.appsmith.server.domains.Group;
+import com.appsmith.server.domains.Organization;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.Set;
 
 public interface GroupService extends CrudService<Group, String> {
@@ -12,4 +16,10 @@ public interface GroupService extends CrudService<Group, String> {
     Flux<Group> createDefaultGroupsForOrg(String organizationId);
 
     Flux<Group> getByOrganizationId(String organizationId);
+
+    Mono<Organization> createRoleGroupsForOrg(Organization organization);
+
+    Mono<Void> addMembersToRoleGroup(Organization organization, AppsmithRole role, Collection<String> usernames);
+
+    Mono<Void> removeMemberFromRoleGroup(Organization organization, AppsmithRole role, String username);
 }
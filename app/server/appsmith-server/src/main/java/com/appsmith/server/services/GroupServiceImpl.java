@@ -1,8 +1,15 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.acl.AclConstants;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.acl.AppsmithRole;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Group;
+import com.appsmith.server.domains.Organization;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.GroupMembershipCache;
+import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.repositories.GroupRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +21,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import javax.validation.Validator;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -26,6 +40,8 @@ public class GroupServiceImpl extends BaseService<GroupRepository, Group, String
 
     private final GroupRepository repository;
     private final SessionUserService sessionUserService;
+    private final PolicyUtils policyUtils;
+    private final GroupMembershipCache groupMembershipCache;
 
     @Autowired
     public GroupServiceImpl(Scheduler scheduler,
@@ -34,10 +50,14 @@ public class GroupServiceImpl extends BaseService<GroupRepository, Group, String
                             ReactiveMongoTemplate reactiveMongoTemplate,
                             GroupRepository repository,
                             AnalyticsService analyticsService,
-                            SessionUserService sessionUserService) {
+                            SessionUserService sessionUserService,
+                            PolicyUtils policyUtils,
+                            GroupMembershipCache groupMembershipCache) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.repository = repository;
         this.sessionUserService = sessionUserService;
+        this.policyUtils = policyUtils;
+        this.groupMembershipCache = groupMembershipCache;
     }
 
     @Override
@@ -105,4 +125,69 @@ public class GroupServiceImpl extends BaseService<GroupRepository, Group, String
         return this.repository.getAllByOrganizationId(organizationId);
     }
 
+    /**
+     * Creates a group for each of the organization roles, and gives the permissions of the roles on the organization to
+     * these groups. Everything created in the organization inherits its policies from the organization, so it also
+     * references these groups rather than the members. The organization is not saved here.
+     *
+     * @param organization The organization for which we are creating role groups
+     * @return The organization with the ids of its role groups and their policies.
+     */
+    @Override
+    public Mono<Organization> createRoleGroupsForOrg(Organization organization) {
+        log.debug("Going to create role groups for organization: {}", organization.getId());
+
+        return Flux.fromIterable(AppsmithRole.getOrganizationRoles())
+                .concatMap(role -> {
+                    Group group = new Group();
+                    group.setName(role.getName());
+                    group.setOrganizationId(organization.getId());
+                    group.setPermissions(role.getPermissions().stream()
+                            .map(AclPermission::getValue)
+                            .collect(Collectors.toSet()));
+                    group.setMembers(new HashSet<>());
+                    return repository.save(group)
+                            .map(savedGroup -> Tuples.of(role, savedGroup.getId()));
+                })
+                .collectList()
+                .map(roleGroups -> {
+                    Map<String, String> roleGroupIds = new HashMap<>();
+                    for (Tuple2<AppsmithRole, String> roleGroup : roleGroups) {
+                        final AppsmithRole role = roleGroup.getT1();
+                        final String groupId = roleGroup.getT2();
+                        roleGroupIds.put(role.name(), groupId);
+                        policyUtils.addPoliciesToExistingObject(
+                                policyUtils.generatePolicyFromPermissionForGroup(role.getPermissions(), groupId),
+                                organization
+                        );
+                    }
+                    organization.setRoleGroupIds(roleGroupIds);
+                    return organization;
+                });
+    }
+
+    @Override
+    public Mono<Void> addMembersToRoleGroup(Organization organization, AppsmithRole role, Collection<String> usernames) {
+        return getRoleGroupId(organization, role)
+                .flatMap(groupId -> repository.addMembers(groupId, usernames))
+                .doOnSuccess(result -> groupMembershipCache.evict(usernames))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> removeMemberFromRoleGroup(Organization organization, AppsmithRole role, String username) {
+        return getRoleGroupId(organization, role)
+                .flatMap(groupId -> repository.removeMember(groupId, username))
+                .doOnSuccess(result -> groupMembershipCache.evict(Set.of(username)))
+                .then();
+    }
+
+    private Mono<String> getRoleGroupId(Organization organization, AppsmithRole role) {
+        final Map<String, String> roleGroupIds = organization.getRoleGroupIds();
+        if (roleGroupIds == null || !roleGroupIds.containsKey(role.name())) {
+            return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.GROUP, role.getName()));
+        }
+        return Mono.just(roleGroupIds.get(role.name()));
+    }
+
 }
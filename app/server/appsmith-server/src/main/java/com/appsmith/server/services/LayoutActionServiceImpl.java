@@ -2,8 +2,6 @@ package com.appsmith.server.services;
 
 import com.appsmith.external.helpers.AppsmithEventContext;
 import com.appsmith.external.helpers.AppsmithEventContextType;
-import com.appsmith.external.helpers.MustacheHelper;
-import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.server.constants.AnalyticsEvents;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.ActionDependencyEdge;
@@ -22,33 +20,26 @@ import com.appsmith.server.dtos.RefactorActionNameDTO;
 import com.appsmith.server.dtos.RefactorNameDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.DslAnalyzer;
 import com.appsmith.server.helpers.WidgetSpecificUtils;
 import com.appsmith.server.solutions.PageLoadActionsUtil;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
-import net.minidev.json.parser.ParseException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import static com.appsmith.external.helpers.MustacheHelper.extractWordsAndAddToSet;
 import static com.appsmith.server.acl.AclPermission.MANAGE_ACTIONS;
 import static com.appsmith.server.acl.AclPermission.MANAGE_PAGES;
 import static com.appsmith.server.acl.AclPermission.READ_PAGES;
@@ -67,14 +58,6 @@ public class LayoutActionServiceImpl implements LayoutActionService {
     private JSONParser jsonParser = new JSONParser(JSONParser.MODE_PERMISSIVE);
 
 
-    /*
-     * To replace fetchUsers in `{{JSON.stringify(fetchUsers)}}` with getUsers, the following regex is required :
-     * `\\b(fetchUsers)\\b`. To achieve this the following strings preWord and postWord are declared here to be used
-     * at run time to create the regex pattern.
-     */
-    private final String preWord = "\\b(";
-    private final String postWord = ")\\b";
-
     public LayoutActionServiceImpl(ObjectMapper objectMapper,
                                    AnalyticsService analyticsService,
                                    NewPageService newPageService,
@@ -184,6 +167,10 @@ public class LayoutActionServiceImpl implements LayoutActionService {
     /**
      * Assumption here is that the refactoring name provided is indeed unique and is fit to be replaced everywhere.
      * <p>
+     * The name is only replaced where it is used: at the paths of the DSL saved with it as its references, and in the
+     * bindings of the actions with json path keys using it. Nothing else is loaded or written, apart from the layout,
+     * which is saved once with its on load actions updated for the new name.
+     * <p>
      * At this point, the user must have MANAGE_PAGES and MANAGE_ACTIONS permissions for page and action respectively
      *
      * @param pageId
@@ -193,243 +180,65 @@ public class LayoutActionServiceImpl implements LayoutActionService {
      * @return
      */
     private Mono<LayoutDTO> refactorName(String pageId, String layoutId, String oldName, String newName) {
-        String regexPattern = preWord + oldName + postWord;
-        Pattern oldNamePattern = Pattern.compile(regexPattern);
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        if (pageId != null) {
-            params.add(FieldName.PAGE_ID, pageId);
-        }
-
-        Mono<PageDTO> updatePageMono = newPageService
+        Mono<Layout> updateLayoutMono = newPageService
                 // fetch the unpublished page
                 .findPageById(pageId, MANAGE_PAGES, false)
                 .flatMap(page -> {
-                    List<Layout> layouts = page.getLayouts();
-                    for (Layout layout : layouts) {
-                        if (layout.getId().equals(layoutId) && layout.getDsl() != null) {
-                            String dslString = "";
-                            try {
-                                dslString = objectMapper.writeValueAsString(layout.getDsl());
-                            } catch (JsonProcessingException e) {
-                                log.debug("Exception caught during conversion of DSL Json object to String. ", e);
-                            }
-                            Matcher matcher = oldNamePattern.matcher(dslString);
-                            String newDslString = matcher.replaceAll(newName);
-                            try {
-                                JSONParser parser = new JSONParser(JSONParser.MODE_PERMISSIVE);
-                                JSONObject json = (JSONObject) parser.parse(newDslString);
-                                layout.setDsl(json);
-                            } catch (ParseException e) {
-                                log.debug("Exception caught during DSL conversion from string to Json object. ", e);
-                            }
-                            // DSL has removed all the old names and replaced it with new name. If the change of name
-                            // was one of the mongoEscaped widgets, then update the names in the set as well
-                            Set<String> mongoEscapedWidgetNames = layout.getMongoEscapedWidgetNames();
-                            if (mongoEscapedWidgetNames != null && mongoEscapedWidgetNames.contains(oldName)) {
-                                mongoEscapedWidgetNames.remove(oldName);
-                                mongoEscapedWidgetNames.add(newName);
+                    for (Layout layout : page.getLayouts()) {
+                        if (layout.getId().equals(layoutId)) {
+                            if (layout.getDsl() != null) {
+                                replaceNameInDsl(pageId, layout, oldName, newName);
                             }
-                            page.setLayouts(layouts);
-                            // Since the page has most probably changed, save the page and return.
-                            return newPageService.saveUnpublishedPage(page);
+                            return Mono.just(layout);
                         }
                     }
-                    // If we have reached here, the layout was not found and the page should be returned as is.
-                    return Mono.just(page);
+                    // If we have reached here, the layout was not found and there is nothing to refactor.
+                    return Mono.empty();
                 });
 
         Mono<Set<String>> updateActionsMono = newActionService
-                .findByPageIdAndViewMode(pageId, false, MANAGE_ACTIONS)
-                /*
-                 * Assuming that the datasource should not be dependent on the widget and hence not going through the same
-                 * to look for replacement pattern.
-                 */
-                .flatMap(newAction -> {
-                    ActionDTO action = newAction.getUnpublishedAction();
-                    Boolean actionUpdateRequired = false;
-                    ActionConfiguration actionConfiguration = action.getActionConfiguration();
-                    Set<String> jsonPathKeys = action.getJsonPathKeys();
-
-                    if (jsonPathKeys != null && !jsonPathKeys.isEmpty()) {
-                        // Since json path keys actually contain the entire inline js function instead of just the widget/action
-                        // name, we can not simply use the set.contains(obj) function. We need to iterate over all the keys
-                        // in the set and see if the old name is a substring of the json path key.
-                        for (String key : jsonPathKeys) {
-                            if (key.contains(oldName)) {
-                                actionUpdateRequired = true;
-                            }
-                        }
-                    }
-
-                    if (!actionUpdateRequired || actionConfiguration == null) {
-                        return Mono.just(newAction);
-                    }
-                    // if actionupdateRequired is true AND actionConfiguration is not null
-                    try {
-                        String actionConfigurationAsString = objectMapper.writeValueAsString(actionConfiguration);
-                        Matcher matcher = oldNamePattern.matcher(actionConfigurationAsString);
-                        String newActionConfigurationAsString = matcher.replaceAll(newName);
-                        ActionConfiguration newActionConfiguration = objectMapper.readValue(newActionConfigurationAsString, ActionConfiguration.class);
-                        action.setActionConfiguration(newActionConfiguration);
-                        newAction = newActionService.extractAndSetJsonPathKeys(newAction);
-                        return newActionService.save(newAction);
-                    } catch (JsonProcessingException e) {
-                        log.debug("Exception caught during conversion between string and action configuration object ", e);
-                        return Mono.just(newAction);
-                    }
-                })
+                .replaceNameInUnpublishedActionsInPage(pageId, oldName, newName)
                 .map(savedAction -> savedAction.getUnpublishedAction().getName())
                 .collect(toSet());
 
-        return Mono.zip(updateActionsMono, updatePageMono)
+        return Mono.zip(updateActionsMono, updateLayoutMono)
                 .flatMap(tuple -> {
                     Set<String> updatedActionNames = tuple.getT1();
-                    PageDTO page = tuple.getT2();
+                    Layout layout = tuple.getT2();
                     log.debug("Actions updated due to refactor name in page {} are : {}", pageId, updatedActionNames);
-                    List<Layout> layouts = page.getLayouts();
-                    for (Layout layout : layouts) {
-                        if (layout.getId().equals(layoutId)) {
-                            layout.setDsl(this.unescapeMongoSpecialCharacters(layout));
-                            return updateLayout(page.getId(), layout.getId(), layout);
-                        }
-                    }
-                    return Mono.empty();
+                    layout.setDsl(this.unescapeMongoSpecialCharacters(layout));
+                    return updateLayout(pageId, layoutId, layout);
                 });
     }
 
     /**
-     * Walks the DSL and extracts all the widget names from it.
-     * A widget is expected to have a few properties defining its own behaviour, with any mustache bindings present
-     * in them aggregated in the field dynamicBindingsPathList.
-     * A widget may also have other widgets as children, each of which will follow the same structure
-     * Refer to FieldName.DEFAULT_PAGE_LAYOUT for a template
-     *
-     * @param dsl
-     * @param widgetNames
-     * @param dynamicBindings
-     * @param pageId
-     * @param layoutId
-     * @param escapedWidgetNames
-     * @return
+     * Replaces the name where it is used in the DSL of the layout, as it was saved, with the columns of its tables
+     * escaped.
      */
-    private JSONObject extractAllWidgetNamesAndDynamicBindingsFromDSL(JSONObject dsl,
-                                                                      Set<String> widgetNames,
-                                                                      Set<String> dynamicBindings,
-                                                                      String pageId,
-                                                                      String layoutId,
-                                                                      Set<String> escapedWidgetNames) throws AppsmithException {
-        if (dsl.get(FieldName.WIDGET_NAME) == null) {
-            // This isnt a valid widget configuration. No need to traverse this.
-            return dsl;
-        }
-
-        String widgetName = dsl.getAsString(FieldName.WIDGET_NAME);
-        String widgetId = dsl.getAsString(FieldName.WIDGET_ID);
-        String widgetType = dsl.getAsString(FieldName.WIDGET_TYPE);
-
-        // Since we are parsing this widget in this, add it to the global set of widgets found so far in the DSL.
-        widgetNames.add(widgetName);
-
-        // Start by picking all fields where we expect to find dynamic bindings for this particular widget
-        ArrayList<Object> dynamicallyBoundedPathList = (ArrayList<Object>) dsl.get(FieldName.DYNAMIC_BINDING_PATH_LIST);
-
-        // Widgets will not have FieldName.DYNAMIC_BINDING_PATH_LIST if there are no bindings in that widget.
-        // Hence we skip over the extraction of the bindings from that widget.
-        if (dynamicallyBoundedPathList != null) {
-            // Each of these might have nested structures, so we iterate through them to find the leaf node for each
-            for (Object x : dynamicallyBoundedPathList) {
-                final String fieldPath = String.valueOf(((Map) x).get(FieldName.KEY));
-                String[] fields = fieldPath.split("[].\\[]");
-                // For nested fields, the parent dsl to search in would shift by one level every iteration
-                Object parent = dsl;
-                Iterator<String> fieldsIterator = Arrays.stream(fields).filter(fieldToken -> !fieldToken.isBlank()).iterator();
-                boolean isLeafNode = false;
-                // This loop will end at either a leaf node, or the last identified JSON field (by throwing an exception)
-                // Valid forms of the fieldPath for this search could be:
-                // root.field.list[index].childField.anotherList.indexWithDotOperator.multidimensionalList[index1][index2]
-                while (fieldsIterator.hasNext()) {
-                    String nextKey = fieldsIterator.next();
-                    if (parent instanceof JSONObject) {
-                        parent = ((JSONObject) parent).get(nextKey);
-                    } else if (parent instanceof Map) {
-                        parent = ((Map<String, ?>) parent).get(nextKey);
-                    } else if (parent instanceof List) {
-                        if (Pattern.matches(Pattern.compile("[0-9]+").toString(), nextKey)) {
-                            try {
-                                parent = ((List) parent).get(Integer.parseInt(nextKey));
-                            } catch (IndexOutOfBoundsException e) {
-                                // The index being referred does not exist. Hence the path would not exist.
-                                throw new AppsmithException(AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE, widgetType,
-                                        widgetName, widgetId, fieldPath, pageId, layoutId, null);
-                            }
-                        } else {
-                            throw new AppsmithException(AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE, widgetType,
-                                    widgetName, widgetId, fieldPath, pageId, layoutId, null);
-                        }
-                    }
-                    // After updating the parent, check for the types
-                    if (parent == null) {
-                        throw new AppsmithException(AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE, widgetType,
-                                widgetName, widgetId, fieldPath, pageId, layoutId, null);
-                    } else if (parent instanceof String) {
-                        // If we get String value, then this is a leaf node
-                        isLeafNode = true;
-                    }
-                }
-                // Only extract mustache keys from leaf nodes
-                if (isLeafNode) {
-
-                    // We found the path. But if the path does not have any mustache bindings, throw the error
-                    if (!MustacheHelper.laxIsBindingPresentInString((String) parent)) {
-                        try {
-                            String bindingAsString = objectMapper.writeValueAsString(parent);
-                            throw new AppsmithException(AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE, widgetType,
-                                    widgetName, widgetId, fieldPath, pageId, layoutId, bindingAsString);
-                        } catch (JsonProcessingException e) {
-                            throw new AppsmithException(AppsmithError.JSON_PROCESSING_ERROR, parent);
-                        }
-                    }
-
-                    // Stricter extraction of dynamic bindings
-                    Set<String> mustacheKeysFromFields = MustacheHelper.extractMustacheKeysFromFields(parent);
-                    dynamicBindings.addAll(mustacheKeysFromFields);
-                }
+    private void replaceNameInDsl(String pageId, Layout layout, String oldName, String newName) {
+        Map<String, Set<String>> references = layout.getDslReferences();
+        boolean isReplaced = references != null && DslAnalyzer.replaceName(
+                layout.getDsl(), references.getOrDefault(oldName, Set.of()), oldName, newName);
+
+        if (!isReplaced) {
+            // The layout was saved before its references were kept, or its DSL was changed without them, e.g. by a
+            // migration. So the references are found again, for which the DSL is unescaped, and escaped back.
+            JSONObject dsl = this.unescapeMongoSpecialCharacters(layout);
+            DslAnalyzer dslAnalyzer = DslAnalyzer.analyze(dsl, pageId, layout.getId());
+            DslAnalyzer.replaceName(dsl, dslAnalyzer.getReferences().getOrDefault(oldName, Set.of()), oldName, newName);
+            layout.setDsl(dsl);
+            if (!dslAnalyzer.getEscapedWidgetNames().isEmpty()) {
+                layout.setMongoEscapedWidgetNames(dslAnalyzer.getEscapedWidgetNames());
             }
         }
 
-        // Escape the widget keys if required and update dsl and escapedWidgetNames
-        removeSpecialCharactersFromKeys(dsl, escapedWidgetNames);
-
-        // Fetch the children of the current node in the DSL and recursively iterate over them to extract bindings
-        ArrayList<Object> children = (ArrayList<Object>) dsl.get(FieldName.CHILDREN);
-        ArrayList<Object> newChildren = new ArrayList<>();
-        if (children != null) {
-            for (int i = 0; i < children.size(); i++) {
-                Map data = (Map) children.get(i);
-                JSONObject object = new JSONObject();
-                // If the children tag exists and there are entries within it
-                if (!CollectionUtils.isEmpty(data)) {
-                    object.putAll(data);
-                    JSONObject child = extractAllWidgetNamesAndDynamicBindingsFromDSL(object, widgetNames, dynamicBindings, pageId, layoutId, escapedWidgetNames);
-                    newChildren.add(child);
-                }
-            }
-            dsl.put(FieldName.CHILDREN, newChildren);
-        }
-
-        return dsl;
-    }
-
-    private JSONObject removeSpecialCharactersFromKeys(JSONObject dsl, Set<String> escapedWidgetNames) {
-        String widgetType = dsl.getAsString(FieldName.WIDGET_TYPE);
-
-        // Only Table widget has this behaviour.
-        if (widgetType != null && widgetType.equals(FieldName.TABLE_WIDGET)) {
-            return WidgetSpecificUtils.escapeTableWidgetPrimaryColumns(dsl, escapedWidgetNames);
+        // DSL has removed all the old names and replaced it with new name. If the change of name
+        // was one of the mongoEscaped widgets, then update the names in the set as well
+        Set<String> mongoEscapedWidgetNames = layout.getMongoEscapedWidgetNames();
+        if (mongoEscapedWidgetNames != null && mongoEscapedWidgetNames.contains(oldName)) {
+            mongoEscapedWidgetNames.remove(oldName);
+            mongoEscapedWidgetNames.add(newName);
         }
-
-        return dsl;
     }
 
     /**
@@ -599,31 +408,25 @@ public class LayoutActionServiceImpl implements LayoutActionService {
             return Mono.just(generateResponseDTO(layout));
         }
 
-        Set<String> widgetNames = new HashSet<>();
-        Set<String> jsSnippetsInDynamicBindings = new HashSet<>();
-        Set<String> escapedWidgetNames = new HashSet<>();
+        final DslAnalyzer dslAnalyzer;
         try {
-            dsl = extractAllWidgetNamesAndDynamicBindingsFromDSL(dsl, widgetNames, jsSnippetsInDynamicBindings, pageId, layoutId, escapedWidgetNames);
+            dslAnalyzer = DslAnalyzer.analyze(dsl, pageId, layoutId);
         } catch (Throwable t) {
             return sendUpdateLayoutAnalyticsEvent(pageId, layoutId, dsl, false, t)
                     .then(Mono.error(t));
         }
 
-        layout.setWidgetNames(widgetNames);
+        layout.setWidgetNames(dslAnalyzer.getWidgetNames());
+        layout.setDslReferences(dslAnalyzer.getReferences());
 
+        Set<String> escapedWidgetNames = dslAnalyzer.getEscapedWidgetNames();
         if (!escapedWidgetNames.isEmpty()) {
             layout.setMongoEscapedWidgetNames(escapedWidgetNames);
         }
 
         // dynamicBindingNames is a set of all words extracted from js snippets which could also contain the names
-        // of the actions 
-        Set<String> dynamicBindingNames = new HashSet<>();
-        if (!CollectionUtils.isEmpty(jsSnippetsInDynamicBindings)) {
-            for (String mustacheKey : jsSnippetsInDynamicBindings) {
-                // Extract all the words in the dynamic bindings
-                extractWordsAndAddToSet(dynamicBindingNames, mustacheKey);
-            }
-        }
+        // of the actions
+        Set<String> dynamicBindingNames = dslAnalyzer.getBindingNames();
 
         Set<String> actionNames = new HashSet<>();
         Set<ActionDependencyEdge> edges = new HashSet<>();
@@ -719,46 +522,7 @@ public class LayoutActionServiceImpl implements LayoutActionService {
         JSONObject dsl = layout.getDsl();
 
         // Unescape specific widgets
-        dsl = unEscapeDslKeys(dsl, layout.getMongoEscapedWidgetNames());
-
-        return dsl;
-    }
-
-    private JSONObject unEscapeDslKeys(JSONObject dsl, Set<String> escapedWidgetNames) {
-
-        String widgetName = (String) dsl.get(FieldName.WIDGET_NAME);
-
-        if (widgetName == null) {
-            // This isnt a valid widget configuration. No need to traverse further.
-            return dsl;
-        }
-
-        if (escapedWidgetNames.contains(widgetName)) {
-            // We should escape the widget keys
-            String widgetType = dsl.getAsString(FieldName.WIDGET_TYPE);
-            if (widgetType.equals(FieldName.TABLE_WIDGET)) {
-                // UnEscape Table widget keys
-                // Since this is a table widget, it wouldnt have children. We can safely return from here with updated dsl
-                return WidgetSpecificUtils.unEscapeTableWidgetPrimaryColumns(dsl);
-            }
-        }
-
-        // Fetch the children of the current node in the DSL and recursively iterate over them to extract bindings
-        ArrayList<Object> children = (ArrayList<Object>) dsl.get(FieldName.CHILDREN);
-        ArrayList<Object> newChildren = new ArrayList<>();
-        if (children != null) {
-            for (int i = 0; i < children.size(); i++) {
-                Map data = (Map) children.get(i);
-                JSONObject object = new JSONObject();
-                // If the children tag exists and there are entries within it
-                if (!CollectionUtils.isEmpty(data)) {
-                    object.putAll(data);
-                    JSONObject child = unEscapeDslKeys(object, escapedWidgetNames);
-                    newChildren.add(child);
-                }
-            }
-            dsl.put(FieldName.CHILDREN, newChildren);
-        }
+        dsl = WidgetSpecificUtils.unEscapeDslKeys(dsl, layout.getMongoEscapedWidgetNames());
 
         return dsl;
     }
@@ -66,6 +66,8 @@ public class LayoutServiceImpl implements LayoutService {
                     //Because the findByIdAndLayoutsId call returned non-empty result, we are guaranteed to find the layoutId here.
                     Layout matchedLayout = layoutList.stream().filter(layout -> layout.getId().equals(layoutId)).findFirst().get();
                     matchedLayout.setViewMode(viewMode);
+                    // Layouts are embedded in the page, so they are versioned by the page.
+                    matchedLayout.setUpdatedAt(page.getUpdatedAt());
                     return matchedLayout;
                 });
     }
@@ -8,6 +8,8 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import org.springframework.util.MultiValueMap;
 import reactor.core.publisher.Flux;
@@ -43,6 +45,8 @@ public interface NewActionService extends CrudService<NewAction, String> {
 
     Flux<NewAction> findUnpublishedActionsInPageByNames(Set<String> names, String pageId);
 
+    Flux<NewAction> replaceNameInUnpublishedActionsInPage(String pageId, String oldName, String newName);
+
     Mono<NewAction> findById(String id);
 
     Mono<NewAction> findById(String id, AclPermission aclPermission);
@@ -65,6 +69,10 @@ public interface NewActionService extends CrudService<NewAction, String> {
 
     Flux<NewAction> saveAll(List<NewAction> actions);
 
+    Mono<UpdateResult> publishActions(String applicationId, AclPermission permission);
+
+    Flux<NewAction> insertClonedActions(PageDTO page, List<NewAction> actions);
+
     Flux<NewAction> findByPageId(String pageId);
 
     List<String> extractMustacheKeysInOrder(String query);
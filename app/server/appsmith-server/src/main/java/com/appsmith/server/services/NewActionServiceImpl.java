@@ -6,7 +6,6 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
-import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.Policy;
@@ -16,11 +15,9 @@ import com.appsmith.external.models.WidgetType;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
-import com.appsmith.server.constants.AnalyticsEvents;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Action;
 import com.appsmith.server.domains.ActionProvider;
-import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
@@ -31,19 +28,23 @@ import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
+import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.DatasourceCircuitBreaker;
+import com.appsmith.server.helpers.ExecutionConcurrencyLimiter;
+import com.appsmith.server.helpers.ExecutionMetrics;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.repositories.NewActionRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.appsmith.server.solutions.ExecutionAnalyticsPublisher;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ArrayUtils;
-import org.apache.commons.lang3.ObjectUtils;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -67,7 +68,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -94,12 +97,14 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
     private final PluginExecutorHelper pluginExecutorHelper;
     private final MarketplaceService marketplaceService;
     private final PolicyGenerator policyGenerator;
-    private final NewPageService newPageService;
-    private final ApplicationService applicationService;
     private final SessionUserService sessionUserService;
     private final PolicyUtils policyUtils;
-    private final ObjectMapper objectMapper;
     private final AuthenticationValidator authenticationValidator;
+    private final ExecutionConcurrencyLimiter executionConcurrencyLimiter;
+    private final DatasourceCircuitBreaker datasourceCircuitBreaker;
+    private final PublishedApplicationBundleService publishedApplicationBundleService;
+    private final ExecutionAnalyticsPublisher executionAnalyticsPublisher;
+    private final ExecutionMetrics executionMetrics;
 
     public NewActionServiceImpl(Scheduler scheduler,
                                 Validator validator,
@@ -113,11 +118,14 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                                 PluginExecutorHelper pluginExecutorHelper,
                                 MarketplaceService marketplaceService,
                                 PolicyGenerator policyGenerator,
-                                NewPageService newPageService,
-                                ApplicationService applicationService,
                                 SessionUserService sessionUserService,
                                 PolicyUtils policyUtils,
-                                AuthenticationValidator authenticationValidator) {
+                                AuthenticationValidator authenticationValidator,
+                                ExecutionConcurrencyLimiter executionConcurrencyLimiter,
+                                DatasourceCircuitBreaker datasourceCircuitBreaker,
+                                PublishedApplicationBundleService publishedApplicationBundleService,
+                                ExecutionAnalyticsPublisher executionAnalyticsPublisher,
+                                ExecutionMetrics executionMetrics) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.repository = repository;
         this.datasourceService = datasourceService;
@@ -126,12 +134,14 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.marketplaceService = marketplaceService;
         this.policyGenerator = policyGenerator;
-        this.newPageService = newPageService;
-        this.applicationService = applicationService;
         this.sessionUserService = sessionUserService;
         this.policyUtils = policyUtils;
         this.authenticationValidator = authenticationValidator;
-        this.objectMapper = new ObjectMapper();
+        this.executionConcurrencyLimiter = executionConcurrencyLimiter;
+        this.datasourceCircuitBreaker = datasourceCircuitBreaker;
+        this.publishedApplicationBundleService = publishedApplicationBundleService;
+        this.executionAnalyticsPublisher = executionAnalyticsPublisher;
+        this.executionMetrics = executionMetrics;
     }
 
     private Boolean validateActionName(String name) {
@@ -436,8 +446,9 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
         AtomicReference<String> actionName = new AtomicReference<>();
         // Initialize the name to be empty value
         actionName.set("");
+        final ExecutionMetrics.Recorder metrics = executionMetrics.newRecorder(executeActionDTO.getViewMode());
         // 2. Fetch the action from the DB and check if it can be executed
-        Mono<NewAction> actionMono = repository.findById(actionId, EXECUTE_ACTIONS)
+        Mono<NewAction> actionMono = metrics.time(ExecutionMetrics.ACTION_FETCH, repository.findById(actionId, EXECUTE_ACTIONS))
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId)))
                 .cache();
 
@@ -479,7 +490,9 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                 .flatMap(action -> {
                     // Global datasource requires us to fetch the datasource from DB.
                     if (action.getDatasource() != null && action.getDatasource().getId() != null) {
-                        return datasourceService.findById(action.getDatasource().getId(), EXECUTE_DATASOURCES)
+                        return metrics
+                                .time(ExecutionMetrics.DATASOURCE_FETCH,
+                                        datasourceService.findById(action.getDatasource().getId(), EXECUTE_DATASOURCES))
                                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND,
                                         FieldName.DATASOURCE,
                                         action.getDatasource().getId())));
@@ -488,6 +501,7 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                     // This is a nested datasource. Return as is.
                     return Mono.just(action.getDatasource());
                 })
+                .doOnNext(datasource -> metrics.setDatasourceId(datasource.getId()))
                 .cache();
 
         Mono<Plugin> pluginMono = datasourceMono
@@ -509,9 +523,10 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                                 datasource.getName(),
                                 ArrayUtils.toString(invalids)));
                     }
-                    return pluginService.findById(datasource.getPluginId());
+                    return metrics.time(ExecutionMetrics.PLUGIN_RESOLUTION, pluginService.findById(datasource.getPluginId()));
                 })
-                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN)));
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN)))
+                .doOnNext(plugin -> metrics.setPlugin(plugin.getPackageName()));
 
         Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
 
@@ -538,30 +553,56 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                             Thread.currentThread().getName(),
                             action.getPageId(), actionId, action.getName());
 
-                    Mono<Datasource> validatedDatasourceMono = authenticationValidator.validateAuthentication(datasource).cache();
+                    Mono<Datasource> validatedDatasourceMono = metrics
+                            .time(ExecutionMetrics.AUTHENTICATION, authenticationValidator.validateAuthentication(datasource))
+                            .cache();
+
+                    // Executions waiting for a datasource are served in turns per application and user.
+                    Mono<String> fairnessKeyMono = Mono.zip(actionMono, sessionUserService.getCurrentUser())
+                            .map(tuple1 -> tuple1.getT1().getApplicationId() + ":" + tuple1.getT2().getUsername())
+                            .defaultIfEmpty(actionId);
 
                     Mono<ActionExecutionResult> executionMono = validatedDatasourceMono
-                            .flatMap(datasourceContextService::getDatasourceContext)
+                            .flatMap(datasource1 -> metrics.time(ExecutionMetrics.CONNECTION,
+                                    datasourceContextService.getDatasourceContext(datasource1)))
                             // Now that we have the context (connection details), execute the action.
-                            .flatMap(resourceContext -> validatedDatasourceMono
-                                    .flatMap(datasource1 -> {
-                                        return (Mono<ActionExecutionResult>) pluginExecutor.executeParameterized(
-                                                resourceContext.getConnection(),
-                                                executeActionDTO,
-                                                datasource1.getDatasourceConfiguration(),
-                                                actionConfiguration
+                            .flatMap(resourceContext -> Mono.zip(validatedDatasourceMono, actionMono, fairnessKeyMono)
+                                    .flatMap(tuple1 -> {
+                                        final Datasource datasource1 = tuple1.getT1();
+                                        // Plugins prepare the action, like substituting the parameters, when the
+                                        // execution is assembled, and run the query when it is subscribed to.
+                                        final long preparationStart = System.nanoTime();
+                                        final Mono<ActionExecutionResult> pluginExecutionMono =
+                                                (Mono<ActionExecutionResult>) pluginExecutor.executeParameterized(
+                                                        resourceContext.getConnection(),
+                                                        executeActionDTO,
+                                                        datasource1.getDatasourceConfiguration(),
+                                                        actionConfiguration
+                                                );
+                                        metrics.record(ExecutionMetrics.PREPARATION, System.nanoTime() - preparationStart);
+                                        return executionConcurrencyLimiter.limit(
+                                                datasource1.getId(),
+                                                datasource1.getName(),
+                                                tuple1.getT2().getOrganizationId(),
+                                                tuple1.getT3(),
+                                                metrics.time(ExecutionMetrics.PLUGIN_EXECUTION, pluginExecutionMono)
                                         );
                                     })
                             );
 
-                    return executionMono
+                    Mono<ActionExecutionResult> executionWithRetryMono = executionMono
                             .onErrorResume(StaleConnectionException.class, error -> {
                                 log.info("Looks like the connection is stale. Retrying with a fresh context.");
                                 return datasourceContextService
                                         .deleteDatasourceContext(datasource.getId())
                                         .then(executionMono);
                             })
-                            .timeout(Duration.ofMillis(timeoutDuration))
+                            .timeout(Duration.ofMillis(timeoutDuration));
+
+                    // Fail fast, without waiting for the timeout or recreating the connection, if the datasource has
+                    // been failing to respond.
+                    return datasourceCircuitBreaker
+                            .run(datasource.getId(), datasource.getName(), executionWithRetryMono)
                             .onErrorMap(TimeoutException.class,
                                     error -> new AppsmithPluginException(
                                             AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR,
@@ -575,6 +616,11 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                                             "Secondary stale connection error."
                                     )
                             )
+                            // The plugin's scheduler rejects new tasks when all its threads are busy and its queue is full.
+                            .onErrorMap(
+                                    RejectedExecutionException.class,
+                                    error -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTION_OVERLOADED_ERROR)
+                            )
                             .onErrorResume(e -> {
                                 log.debug("{}: In the action execution error mode.",
                                         Thread.currentThread().getName(), e);
@@ -614,7 +660,8 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                                             ActionDTO actionDTO = tuple2.getT2();
                                             Datasource datasourceFromDb = tuple2.getT3();
 
-                                            return Mono.when(sendExecuteAnalyticsEvent(actionFromDb, actionDTO, datasourceFromDb, executeActionDTO.getViewMode(), actionExecutionResult, timeElapsed))
+                                            return metrics
+                                                    .time(ExecutionMetrics.ANALYTICS, publishExecuteAnalyticsEvent(actionFromDb, actionDTO, datasourceFromDb, executeActionDTO.getViewMode(), actionExecutionResult, timeElapsed))
                                                     .thenReturn(result);
                                         });
                                     }
@@ -638,25 +685,24 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                     return Mono.just(new HashMap());
                 });
 
-        return Mono.zip(actionExecutionResultMono, editorConfigLabelMapMono)
-                .flatMap(tuple -> {
-                    ActionExecutionResult result = tuple.getT1();
-                    // In case the action was executed in view mode, do not return the request object
-                    if (TRUE.equals(executeActionDTO.getViewMode())) {
-                        result.setRequest(null);
-                        return Mono.just(result);
-                    }
-
-                    if (result.getRequest() == null || result.getRequest().getRequestParams() == null) {
-                        return Mono.just(result);
-                    }
+        return metrics.timeExecution(Mono.zip(actionExecutionResultMono, editorConfigLabelMapMono)
+                .map(tuple -> {
+                    final long postProcessingStart = System.nanoTime();
+                    ActionExecutionResult result = postProcessExecutionResult(tuple.getT1(), tuple.getT2(), executeActionDTO.getViewMode());
+                    metrics.record(ExecutionMetrics.POST_PROCESSING, System.nanoTime() - postProcessingStart);
+                    return result;
+                }));
+    }
 
-                    Map labelMap = tuple.getT2();
-                    transformRequestParams(result, labelMap);
+    private ActionExecutionResult postProcessExecutionResult(ActionExecutionResult result, Map labelMap, Boolean viewMode) {
+        // In case the action was executed in view mode, do not return the request object
+        if (TRUE.equals(viewMode)) {
+            result.setRequest(null);
+        } else if (result.getRequest() != null && result.getRequest().getRequestParams() != null) {
+            transformRequestParams(result, labelMap);
+        }
 
-                    return Mono.just(result);
-                })
-                .map(result -> addDataTypesAndSetSuggestedWidget(result, executeActionDTO.getViewMode()));
+        return addDataTypesAndSetSuggestedWidget(result, viewMode);
     }
 
     /*
@@ -751,7 +797,11 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
         return widgetTypeList;
     }
 
-    private Mono<ActionExecutionRequest> sendExecuteAnalyticsEvent(
+    /**
+     * Adds the analytics event of this execution to the buffer of the analytics publisher, which sends it later. Only the
+     * values at hand are put in the event, so this doesn't add any database reads to the execution.
+     */
+    private Mono<Void> publishExecuteAnalyticsEvent(
             NewAction action,
             ActionDTO actionDTO,
             Datasource datasource,
@@ -759,121 +809,33 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
             ActionExecutionResult actionExecutionResult,
             Long timeElapsed
     ) {
-
-        // Since we're loading the application from DB *only* for analytics, we check if analytics is
-        // active before making the call to DB.
         if (!analyticsService.isActive()) {
             return Mono.empty();
         }
 
-        ActionExecutionRequest actionExecutionRequest = actionExecutionResult.getRequest();
-        ActionExecutionRequest request;
-        if (actionExecutionRequest != null) {
-            // Do a deep copy of request to not edit
-            request = new ActionExecutionRequest(
-                    actionExecutionRequest.getQuery(),
-                    actionExecutionRequest.getBody(),
-                    actionExecutionRequest.getHeaders(),
-                    actionExecutionRequest.getHttpMethod(),
-                    actionExecutionRequest.getUrl(),
-                    actionExecutionRequest.getProperties(),
-                    actionExecutionRequest.getExecutionParameters(),
-                    null
-            );
-        } else {
-            request = new ActionExecutionRequest();
-        }
-
-        if (request.getHeaders() != null) {
-            JsonNode headers = (JsonNode) request.getHeaders();
-            try {
-                String headersAsString = objectMapper.writeValueAsString(headers);
-                request.setHeaders(headersAsString);
-            } catch (JsonProcessingException e) {
-                log.error(e.getMessage());
-            }
+        final ExecutionAnalyticsPublisher.ExecutionEvent.ExecutionEventBuilder eventBuilder = ExecutionAnalyticsPublisher.ExecutionEvent.builder()
+                .actionName(actionDTO.getName())
+                .pluginType(action.getPluginType())
+                .pluginId(action.getPluginId())
+                .datasourceName(datasource.getName())
+                .organizationId(action.getOrganizationId())
+                .applicationId(action.getApplicationId())
+                .pageId(actionDTO.getPageId())
+                .viewMode(viewMode)
+                .isSuccessfulExecution(actionExecutionResult.getIsExecutionSuccess())
+                .statusCode(actionExecutionResult.getStatusCode())
+                .timeElapsed(timeElapsed)
+                .request(ExecutionAnalyticsPublisher.serializeRequest(actionExecutionResult.getRequest()));
+        if (FALSE.equals(actionExecutionResult.getIsExecutionSuccess())) {
+            eventBuilder.error(ExecutionAnalyticsPublisher.serializeError(actionExecutionResult.getBody()));
         }
 
-        if (!CollectionUtils.isEmpty(request.getProperties())) {
-            final Map<String, String> stringProperties = new HashMap<>();
-            for (final Map.Entry<String, ?> entry : request.getProperties().entrySet()) {
-                String jsonValue;
-                try {
-                    jsonValue = objectMapper.writeValueAsString(entry.getValue());
-                } catch (JsonProcessingException e) {
-                    jsonValue = "\"Error serializing value to JSON.\"";
-                }
-                stringProperties.put(entry.getKey(), jsonValue);
-            }
-            request.setProperties(stringProperties);
-        }
-
-        return Mono.justOrEmpty(action.getApplicationId())
-                .flatMap(applicationService::findById)
-                .defaultIfEmpty(new Application())
-                .flatMap(application -> Mono.zip(
-                        Mono.just(application),
-                        sessionUserService.getCurrentUser(),
-                        newPageService.getNameByPageId(actionDTO.getPageId(), viewMode),
-                        pluginService.getById(action.getPluginId())
-                ))
-                .map(tuple -> {
-                    final Application application = tuple.getT1();
-                    final User user = tuple.getT2();
-                    final String pageName = tuple.getT3();
-                    final Plugin plugin = tuple.getT4();
-
-                    final PluginType pluginType = action.getPluginType();
-                    final Map<String, Object> data = new HashMap<>();
-
-                    data.putAll(Map.of(
-                            "username", user.getUsername(),
-                            "type", pluginType,
-                            "pluginName", plugin.getName(),
-                            "name", actionDTO.getName(),
-                            "datasource", Map.of(
-                                    "name", datasource.getName()
-                            ),
-                            "orgId", application.getOrganizationId(),
-                            "appId", action.getApplicationId(),
-                            "appMode", TRUE.equals(viewMode) ? "view" : "edit",
-                            "appName", application.getName(),
-                            "isExampleApp", application.isAppIsExample()
-                    ));
-
-                    data.putAll(Map.of(
-                            "request", request,
-                            "pageId", ObjectUtils.defaultIfNull(actionDTO.getPageId(), ""),
-                            "pageName", pageName,
-                            "isSuccessfulExecution", ObjectUtils.defaultIfNull(actionExecutionResult.getIsExecutionSuccess(), false),
-                            "statusCode", ObjectUtils.defaultIfNull(actionExecutionResult.getStatusCode(), ""),
-                            "timeElapsed", timeElapsed
-                    ));
-
-                    // Add the error message in case of erroneous execution
-                    if (FALSE.equals(actionExecutionResult.getIsExecutionSuccess())) {
-                        String errorJson;
-                        try {
-                            errorJson = objectMapper.writeValueAsString(actionExecutionResult.getBody());
-                        } catch (JsonProcessingException e) {
-                            log.warn("Unable to serialize action execution error result to JSON.", e);
-                            errorJson = "\"Failed to serialize error data to JSON.\"";
-                        }
-                        data.put("error", errorJson);
-                    }
-
-                    if (actionExecutionResult.getStatusCode() != null) {
-                        data.putAll(Map.of(
-                                "statusCode", actionExecutionResult.getStatusCode()
-                        ));
-                    }
-
-                    analyticsService.sendEvent(AnalyticsEvents.EXECUTE_ACTION.getEventName(), user.getUsername(), data);
-                    return request;
-                })
+        return sessionUserService.getCurrentUser()
+                .doOnNext(user -> executionAnalyticsPublisher.publish(eventBuilder.username(user.getUsername()).build()))
+                .then()
                 .onErrorResume(error -> {
                     log.warn("Error sending action execution data point", error);
-                    return Mono.just(request);
+                    return Mono.empty();
                 });
     }
 
@@ -916,6 +878,34 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                 .findUnpublishedActionsByNameInAndPageId(names, pageId, MANAGE_ACTIONS);
     }
 
+    /**
+     * Replaces a name in the bindings of the unpublished actions of the page, when the widget or action with the name
+     * is renamed. Only the actions with json path keys that may use the name are loaded, and only the configuration and
+     * the json path keys of those that do are written.
+     *
+     * @return The actions that were changed.
+     */
+    @Override
+    public Flux<NewAction> replaceNameInUnpublishedActionsInPage(String pageId, String oldName, String newName) {
+        return repository
+                .findUnpublishedActionsByJsonPathKeysUsingNameAndPageId(oldName, pageId, MANAGE_ACTIONS)
+                .filter(newAction -> newAction.getUnpublishedAction().getActionConfiguration() != null)
+                .flatMap(newAction -> {
+                    ActionDTO action = newAction.getUnpublishedAction();
+                    Set<String> jsonPathKeys = action.getJsonPathKeys();
+                    action.setActionConfiguration(
+                            MustacheHelper.replaceNameInFieldValues(action.getActionConfiguration(), oldName, newName));
+                    extractAndSetJsonPathKeys(newAction);
+
+                    if (Objects.equals(jsonPathKeys, action.getJsonPathKeys())) {
+                        // The keys only looked like they used the name, e.g. in a string, so nothing was replaced.
+                        return Mono.empty();
+                    }
+                    return repository.updateUnpublishedActionConfiguration(newAction, MANAGE_ACTIONS)
+                            .thenReturn(newAction);
+                });
+    }
+
     @Override
     public Mono<NewAction> findById(String id) {
         return repository.findById(id);
@@ -961,26 +951,11 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
             return Flux.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.APPLICATION_ID));
         }
 
-        // fetch the published actions by applicationId
-        // No need to sort the results
-        return findAllByApplicationIdAndViewMode(applicationId, true, EXECUTE_ACTIONS, null)
-                .map(action -> {
-                    ActionViewDTO actionViewDTO = new ActionViewDTO();
-                    actionViewDTO.setId(action.getId());
-                    actionViewDTO.setName(action.getPublishedAction().getName());
-                    actionViewDTO.setPageId(action.getPublishedAction().getPageId());
-                    actionViewDTO.setConfirmBeforeExecute(action.getPublishedAction().getConfirmBeforeExecute());
-                    if (action.getPublishedAction().getJsonPathKeys() != null && !action.getPublishedAction().getJsonPathKeys().isEmpty()) {
-                        Set<String> jsonPathKeys;
-                        jsonPathKeys = new HashSet<>();
-                        jsonPathKeys.addAll(action.getPublishedAction().getJsonPathKeys());
-                        actionViewDTO.setJsonPathKeys(jsonPathKeys);
-                    }
-                    if (action.getPublishedAction().getActionConfiguration() != null) {
-                        actionViewDTO.setTimeoutInMillisecond(action.getPublishedAction().getActionConfiguration().getTimeoutInMillisecond());
-                    }
-                    return actionViewDTO;
-                });
+        // The published actions are served from the published bundle of the application. If the application has not
+        // been published, there are no actions to view.
+        return publishedApplicationBundleService.findByApplicationId(applicationId)
+                .flatMap(publishedApplicationBundleService::getActions)
+                .flatMapMany(Flux::fromIterable);
     }
 
     @Override
@@ -1059,6 +1034,69 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
         return repository.saveAll(actions);
     }
 
+    /**
+     * Inserts copies of existing actions into the given page, with a single bulk insert. Unlike createAction, the
+     * copies are not validated again and their datasources and plugins are not looked up, since they have already been
+     * through that when the original actions were saved.
+     * <p>
+     * The ids of the copies may be set beforehand, so that references to them, like the on load actions in the layouts
+     * of the page, can be written before the copies are inserted. All other fields of the copies that are specific to
+     * the original actions are reset here.
+     *
+     * @param page    The page the copies are added to. It must have its id, application id and policies set.
+     * @param actions The copies of the actions, which are modified in place.
+     * @return The inserted actions.
+     */
+    @Override
+    public Flux<NewAction> insertClonedActions(PageDTO page, List<NewAction> actions) {
+        if (actions.isEmpty()) {
+            return Flux.empty();
+        }
+
+        final Set<Policy> actionPolicies = policyGenerator.getAllChildPolicies(page.getPolicies(), Page.class, Action.class);
+        final Instant now = Instant.now();
+
+        for (NewAction action : actions) {
+            if (action.getId() == null) {
+                action.setId(new ObjectId().toString());
+            }
+            // Since the id is already set, the copy is not seen as a new document, and isn't given a creation time.
+            action.setCreatedAt(now);
+            action.setUpdatedAt(null);
+            action.setApplicationId(page.getApplicationId());
+            action.setPolicies(new HashSet<>(actionPolicies));
+
+            final ActionDTO unpublishedAction = action.getUnpublishedAction();
+            unpublishedAction.setPageId(page.getId());
+            // Like in validateAndSaveActionToRepository, only a reference to an external datasource is stored.
+            if (unpublishedAction.getDatasource() != null && unpublishedAction.getDatasource().getId() != null) {
+                Datasource datasource = new Datasource();
+                datasource.setId(unpublishedAction.getDatasource().getId());
+                datasource.setPluginId(unpublishedAction.getDatasource().getPluginId());
+                unpublishedAction.setDatasource(datasource);
+            }
+
+            // The copy has not been published yet.
+            ActionDTO publishedAction = new ActionDTO();
+            publishedAction.setDatasource(new Datasource());
+            action.setPublishedAction(publishedAction);
+        }
+
+        return repository.insert(actions)
+                .flatMap(analyticsService::sendCreateEvent);
+    }
+
+    /**
+     * Publishes all the actions of the application. Actions that were deleted in edit mode are deleted for good, and
+     * the others are published with a single update on the database.
+     */
+    @Override
+    public Mono<UpdateResult> publishActions(String applicationId, AclPermission permission) {
+        return repository.findAllAndRemoveDeletedInEditMode(applicationId, permission)
+                .flatMap(analyticsService::sendDeleteEvent)
+                .then(repository.publishActions(applicationId, permission));
+    }
+
     @Override
     public Flux<NewAction> findByPageId(String pageId) {
         return repository.findByPageId(pageId);
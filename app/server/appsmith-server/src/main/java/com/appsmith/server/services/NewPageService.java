@@ -5,6 +5,7 @@ import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
 import com.appsmith.server.dtos.PageDTO;
+import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -52,7 +53,11 @@ public interface NewPageService extends CrudService<NewPage, String> {
 
     Mono<Boolean> archiveById(String id);
 
+    Mono<Boolean> archiveAllById(List<String> ids);
+
     Flux<NewPage> saveAll(List<NewPage> pages);
 
+    Mono<UpdateResult> publishPages(String applicationId, List<String> pageIds, AclPermission permission);
+
     Mono<String> getNameByPageId(String pageId, boolean isPublishedName);
 }
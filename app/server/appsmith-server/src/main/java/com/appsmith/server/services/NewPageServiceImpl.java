@@ -6,12 +6,17 @@ import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.PageNameIdDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PageIndexCache;
+import com.appsmith.server.helpers.PolicyUtils;
+import com.appsmith.server.helpers.PublishedApplicationBundleCache;
 import com.appsmith.server.repositories.NewPageRepository;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
@@ -27,7 +32,9 @@ import reactor.core.scheduler.Scheduler;
 
 import javax.validation.Validator;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -40,6 +47,11 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
 
     private final ApplicationService applicationService;
     private final UserDataService userDataService;
+    private final SessionUserService sessionUserService;
+    private final PolicyUtils policyUtils;
+    private final PageIndexCache pageIndexCache;
+    private final PublishedApplicationBundleService publishedApplicationBundleService;
+    private final PublishedApplicationBundleCache publishedApplicationBundleCache;
 
     @Autowired
     public NewPageServiceImpl(Scheduler scheduler,
@@ -48,10 +60,20 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
                               ReactiveMongoTemplate reactiveMongoTemplate,
                               NewPageRepository repository,
                               AnalyticsService analyticsService,
-                              ApplicationService applicationService, UserDataService userDataService) {
+                              ApplicationService applicationService, UserDataService userDataService,
+                              SessionUserService sessionUserService,
+                              PolicyUtils policyUtils,
+                              PageIndexCache pageIndexCache,
+                              PublishedApplicationBundleService publishedApplicationBundleService,
+                              PublishedApplicationBundleCache publishedApplicationBundleCache) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.applicationService = applicationService;
         this.userDataService = userDataService;
+        this.sessionUserService = sessionUserService;
+        this.policyUtils = policyUtils;
+        this.pageIndexCache = pageIndexCache;
+        this.publishedApplicationBundleService = publishedApplicationBundleService;
+        this.publishedApplicationBundleCache = publishedApplicationBundleCache;
     }
 
     @Override
@@ -79,6 +101,7 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
             page.setApplicationId(newPage.getApplicationId());
             page.setUserPermissions(newPage.getUserPermissions());
             page.setPolicies(newPage.getPolicies());
+            page.setUpdatedAt(newPage.getUpdatedAt());
             return Mono.just(page);
         }
 
@@ -112,6 +135,7 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
                     newPage.setUnpublishedPage(page);
                     return repository.save(newPage);
                 })
+                .doOnNext(savedPage -> pageIndexCache.evict(savedPage.getApplicationId()))
                 .flatMap(savedPage -> getPageByViewMode(savedPage, false));
     }
 
@@ -123,6 +147,7 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
         newPage.setApplicationId(object.getApplicationId());
         newPage.setPolicies(object.getPolicies());
         return super.create(newPage)
+                .doOnNext(page -> pageIndexCache.evict(page.getApplicationId()))
                 .flatMap(page -> getPageByViewMode(page, false));
     }
 
@@ -198,7 +223,7 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
                     return defaultPageId;
                 });
 
-        Mono<List<PageNameIdDTO>> pagesListMono = applicationMono
+        Mono<List<String>> pageIdsMono = applicationMono
                 .map(application -> {
                     List<ApplicationPage> pages;
                     if (Boolean.TRUE.equals(view)) {
@@ -207,9 +232,23 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
                         pages = application.getPages();
                     }
                     return pages.stream().map(page -> page.getId()).collect(Collectors.toList());
-                })
-                .flatMapMany(pageIds -> repository.findAllByIds(pageIds, READ_PAGES))
-                .collectList()
+                });
+
+        // Only the page metadata is read here, from the page index cache, so that the layouts of all the pages are not
+        // fetched from the database just to list their names.
+        Mono<List<NewPage>> readablePagesMono = Mono.zip(pageIdsMono, sessionUserService.getCurrentUser())
+                .flatMap(tuple -> {
+                    List<String> pageIds = tuple.getT1();
+                    User user = tuple.getT2();
+                    return getPageIndex(applicationId, pageIds)
+                            .map(pageIndex -> pageIds.stream()
+                                    .map(pageIndex::get)
+                                    .filter(page -> page != null && policyUtils.isPermissionPresentForUser(
+                                            page.getPolicies(), READ_PAGES.getValue(), user))
+                                    .collect(Collectors.toList()));
+                });
+
+        Mono<List<PageNameIdDTO>> pagesFromIndexMono = readablePagesMono
                 .zipWith(defaultPageIdMono)
                 .flatMap(tuple -> {
                     List<NewPage> pagesFromDb = tuple.getT1();
@@ -248,6 +287,17 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
                     return Mono.just(pageNameIdDTOList);
                 });
 
+        Mono<List<PageNameIdDTO>> pagesListMono;
+        if (Boolean.TRUE.equals(view)) {
+            // In view mode, the pages are listed from the published bundle of the application, if there is one.
+            pagesListMono = applicationMono
+                    .then(publishedApplicationBundleService.findByApplicationId(applicationId))
+                    .flatMap(publishedApplicationBundleService::getPageNames)
+                    .switchIfEmpty(pagesFromIndexMono);
+        } else {
+            pagesListMono = pagesFromIndexMono;
+        }
+
         return Mono.zip(applicationMono, pagesListMono)
                 .map(tuple -> {
                     Application application = tuple.getT1();
@@ -259,6 +309,38 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
                 });
     }
 
+    /**
+     * Gets the metadata of all the pages of the application, keyed by the page id, from the page index cache. Expected
+     * pages that are missing from the index, which can happen if pages were added on another server or without going
+     * through this service, are read directly from the database. The index is not reloaded for them, so that an id of
+     * a page that no longer exists doesn't cause a reload on every call.
+     */
+    private Mono<Map<String, NewPage>> getPageIndex(String applicationId, List<String> expectedPageIds) {
+        return pageIndexCache.get(applicationId, this::loadPageIndex)
+                .flatMap(pageIndex -> {
+                    List<String> missingPageIds = expectedPageIds.stream()
+                            .filter(pageId -> !pageIndex.containsKey(pageId))
+                            .collect(Collectors.toList());
+                    if (missingPageIds.isEmpty()) {
+                        return Mono.just(pageIndex);
+                    }
+                    return repository.findPageMetadataByIds(missingPageIds)
+                            .collectList()
+                            .map(missingPages -> {
+                                Map<String, NewPage> pages = new HashMap<>(pageIndex);
+                                for (NewPage page : missingPages) {
+                                    pages.put(page.getId(), page);
+                                }
+                                return pages;
+                            });
+                });
+    }
+
+    private Mono<Map<String, NewPage>> loadPageIndex(String applicationId) {
+        return repository.findPageMetadataByApplicationId(applicationId)
+                .collectMap(NewPage::getId);
+    }
+
     @Override
     public Mono<ApplicationPagesDTO> findNamesByApplicationNameAndViewMode(String applicationName, Boolean view) {
         Mono<Application> applicationMono = applicationService.findByName(applicationName, AclPermission.READ_APPLICATIONS)
@@ -319,7 +401,11 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
     public Mono<List<NewPage>> archivePagesByApplicationId(String applicationId, AclPermission permission) {
         return findNewPagesByApplicationId(applicationId, permission)
                 .flatMap(repository::archive)
-                .collectList();
+                .collectList()
+                .doOnNext(pages -> {
+                    pageIndexCache.evict(applicationId);
+                    pages.forEach(page -> publishedApplicationBundleCache.evictPage(page.getId()));
+                });
     }
 
     @Override
@@ -352,27 +438,77 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
                     copyNewFieldValuesIntoOldObject(page, dbPage.getUnpublishedPage());
                     return this.update(id, dbPage);
                 })
+                .doOnNext(savedPage -> pageIndexCache.evict(savedPage.getApplicationId()))
                 .flatMap(savedPage -> getPageByViewMode(savedPage, false));
     }
 
     @Override
     public Mono<NewPage> save(NewPage page) {
-        return repository.save(page);
+        return repository.save(page)
+                .doOnNext(savedPage -> pageIndexCache.evict(savedPage.getApplicationId()));
     }
 
     @Override
     public Mono<NewPage> archive(NewPage page) {
-        return repository.archive(page);
+        return repository.archive(page)
+                .doOnNext(archivedPage -> {
+                    pageIndexCache.evict(archivedPage.getApplicationId());
+                    publishedApplicationBundleCache.evictPage(archivedPage.getId());
+                });
     }
 
     @Override
     public Mono<Boolean> archiveById(String id) {
-        return repository.archiveById(id);
+        return archiveAllById(List.of(id));
+    }
+
+    @Override
+    public Mono<Boolean> archiveAllById(List<String> ids) {
+        // The applications of the pages are read before archiving them, so that their page indexes can be evicted.
+        return repository.findPageMetadataByIds(ids)
+                .map(NewPage::getApplicationId)
+                .collect(Collectors.toSet())
+                .flatMap(applicationIds -> repository.archiveAllById(ids)
+                        .doOnNext(isArchived -> {
+                            applicationIds.forEach(pageIndexCache::evict);
+                            ids.forEach(publishedApplicationBundleCache::evictPage);
+                        }));
     }
 
     @Override
     public Flux<NewPage> saveAll(List<NewPage> pages) {
-        return repository.saveAll(pages);
+        return repository.saveAll(pages)
+                .doOnNext(savedPage -> pageIndexCache.evict(savedPage.getApplicationId()));
+    }
+
+    /**
+     * Publishes the given pages of the application, with a single update on the database.
+     *
+     * @return An error if any of the pages doesn't exist or the user doesn't have the given permission on it, in which
+     * case the other pages may have been published already.
+     */
+    @Override
+    public Mono<UpdateResult> publishPages(String applicationId, List<String> pageIds, AclPermission permission) {
+        if (pageIds.isEmpty()) {
+            return Mono.just(UpdateResult.acknowledged(0L, 0L, null));
+        }
+
+        return repository.publishPages(applicationId, pageIds, permission)
+                .doFinally(signalType -> pageIndexCache.evict(applicationId))
+                .flatMap(result -> {
+                    if (result.getMatchedCount() == pageIds.size()) {
+                        return Mono.just(result);
+                    }
+                    // Look for the page that was not published, to report it.
+                    return Flux.fromIterable(pageIds)
+                            .concatMap(pageId -> findById(pageId, permission)
+                                    .hasElement()
+                                    .filter(isFound -> !isFound)
+                                    .map(isFound -> pageId))
+                            .next()
+                            .defaultIfEmpty(applicationId)
+                            .flatMap(pageId -> Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE, pageId)));
+                });
     }
 
     @Override
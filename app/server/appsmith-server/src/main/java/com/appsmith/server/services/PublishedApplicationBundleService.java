@@ -0,0 +1,26 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.domains.PublishedApplicationBundle;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.PageNameIdDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface PublishedApplicationBundleService {
+
+    Mono<PublishedApplicationBundle> createBundle(String applicationId);
+
+    Mono<Void> deleteBundle(String applicationId);
+
+    Mono<PublishedApplicationBundle> findByApplicationId(String applicationId);
+
+    Mono<PublishedApplicationBundle> findByPageId(String pageId);
+
+    Mono<PageDTO> getPage(PublishedApplicationBundle bundle, String pageId);
+
+    Mono<List<PageNameIdDTO>> getPageNames(PublishedApplicationBundle bundle);
+
+    Mono<List<ActionViewDTO>> getActions(PublishedApplicationBundle bundle);
+}
@@ -0,0 +1,267 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.ApplicationPage;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.PublishedApplicationBundle;
+import com.appsmith.server.domains.PublishedApplicationBundle.BundledAction;
+import com.appsmith.server.domains.PublishedApplicationBundle.BundledPage;
+import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.PageNameIdDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PolicyUtils;
+import com.appsmith.server.helpers.PublishedApplicationBundleCache;
+import com.appsmith.server.helpers.WidgetSpecificUtils;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.PublishedApplicationBundleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.appsmith.external.helpers.BeanCopyUtils.copyNewFieldValuesIntoOldObject;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PublishedApplicationBundleServiceImpl implements PublishedApplicationBundleService {
+
+    private final PublishedApplicationBundleRepository repository;
+    private final ApplicationRepository applicationRepository;
+    private final NewPageRepository newPageRepository;
+    private final NewActionRepository newActionRepository;
+    private final SessionUserService sessionUserService;
+    private final PolicyUtils policyUtils;
+    private final PublishedApplicationBundleCache bundleCache;
+
+    /**
+     * Creates the bundle of the given application from its published pages and actions, replacing any existing bundle.
+     * This should be called after the application has been published.
+     */
+    @Override
+    public Mono<PublishedApplicationBundle> createBundle(String applicationId) {
+        return buildBundle(applicationId)
+                .flatMap(this::saveBundle)
+                // If the application has nothing published, an old bundle must not be left behind.
+                .switchIfEmpty(Mono.defer(() -> deleteBundle(applicationId).then(Mono.empty())))
+                .doFinally(signalType -> bundleCache.evict(applicationId));
+    }
+
+    @Override
+    public Mono<Void> deleteBundle(String applicationId) {
+        return repository.deleteByApplicationId(applicationId)
+                .doFinally(signalType -> bundleCache.evict(applicationId));
+    }
+
+    /**
+     * Gets the bundle of the given application. If the application has been published but there is no bundle for it,
+     * like for applications published before bundles were introduced, the bundle is created.
+     *
+     * @return The bundle, which is shared and must not be modified, or empty if the application has not been published.
+     */
+    @Override
+    public Mono<PublishedApplicationBundle> findByApplicationId(String applicationId) {
+        if (applicationId == null) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.APPLICATION_ID));
+        }
+
+        return bundleCache.get(applicationId, this::loadBundle);
+    }
+
+    @Override
+    public Mono<PublishedApplicationBundle> findByPageId(String pageId) {
+        if (pageId == null) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.PAGE_ID));
+        }
+
+        final String cachedApplicationId = bundleCache.getApplicationIdForPage(pageId);
+        if (cachedApplicationId != null) {
+            return findByApplicationId(cachedApplicationId);
+        }
+
+        return repository.findByPagesPageId(pageId)
+                .map(PublishedApplicationBundle::getApplicationId)
+                // There may be no bundle for the application yet, so look up the application from the page.
+                .switchIfEmpty(Mono.defer(() -> newPageRepository.findById(pageId).map(NewPage::getApplicationId)))
+                .flatMap(this::findByApplicationId);
+    }
+
+    @Override
+    public Mono<PageDTO> getPage(PublishedApplicationBundle bundle, String pageId) {
+        return sessionUserService.getCurrentUser()
+                .flatMap(user -> {
+                    for (BundledPage bundledPage : bundle.getPages()) {
+                        if (!bundledPage.getPageId().equals(pageId)) {
+                            continue;
+                        }
+
+                        final Set<String> permissions = policyUtils.getPermissionsForUser(bundledPage.getPolicies(), user);
+                        if (!permissions.contains(AclPermission.READ_PAGES.getValue())) {
+                            break;
+                        }
+
+                        // The bundled page is shared, so the user permissions are set on a copy.
+                        PageDTO page = new PageDTO();
+                        copyNewFieldValuesIntoOldObject(bundledPage.getPage(), page);
+                        page.setUserPermissions(permissions);
+                        return Mono.just(page);
+                    }
+
+                    return Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.PAGE, pageId));
+                });
+    }
+
+    @Override
+    public Mono<List<PageNameIdDTO>> getPageNames(PublishedApplicationBundle bundle) {
+        return sessionUserService.getCurrentUser()
+                .map(user -> bundle.getPages()
+                        .stream()
+                        .filter(bundledPage -> policyUtils.isPermissionPresentForUser(
+                                bundledPage.getPolicies(), AclPermission.READ_PAGES.getValue(), user))
+                        .map(bundledPage -> {
+                            PageNameIdDTO pageNameIdDTO = new PageNameIdDTO();
+                            pageNameIdDTO.setId(bundledPage.getPageId());
+                            pageNameIdDTO.setName(bundledPage.getPage().getName());
+                            pageNameIdDTO.setIsHidden(bundledPage.getPage().getIsHidden());
+                            pageNameIdDTO.setIsDefault(Boolean.TRUE.equals(bundledPage.getIsDefault()));
+                            return pageNameIdDTO;
+                        })
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Mono<List<ActionViewDTO>> getActions(PublishedApplicationBundle bundle) {
+        return sessionUserService.getCurrentUser()
+                .map(user -> bundle.getActions()
+                        .stream()
+                        .filter(bundledAction -> policyUtils.isPermissionPresentForUser(
+                                bundledAction.getPolicies(), AclPermission.EXECUTE_ACTIONS.getValue(), user))
+                        .map(BundledAction::getAction)
+                        .collect(Collectors.toList()));
+    }
+
+    private Mono<PublishedApplicationBundle> loadBundle(String applicationId) {
+        return repository.findByApplicationId(applicationId)
+                .switchIfEmpty(Mono.defer(() -> buildBundle(applicationId).flatMap(this::saveBundle)))
+                .map(this::prepareBundle);
+    }
+
+    /**
+     * Builds the bundle from the published state of the application, without checking permissions. The permissions
+     * are checked against the policies copied into the bundle when it is read.
+     */
+    private Mono<PublishedApplicationBundle> buildBundle(String applicationId) {
+        return applicationRepository.findById(applicationId)
+                .filter(application -> application.getPublishedPages() != null && !application.getPublishedPages().isEmpty())
+                .flatMap(application -> Mono.zip(
+                        newPageRepository.findByApplicationId(applicationId, null).collectMap(NewPage::getId),
+                        newActionRepository.findByApplicationId(applicationId, null, null)
+                                .filter(action -> action.getPublishedAction() != null)
+                                .map(this::toBundledAction)
+                                .collectList()
+                ).map(tuple -> {
+                    final Map<String, NewPage> pagesById = tuple.getT1();
+
+                    List<BundledPage> bundledPages = new ArrayList<>();
+                    for (ApplicationPage applicationPage : application.getPublishedPages()) {
+                        final NewPage newPage = pagesById.get(applicationPage.getId());
+                        if (newPage == null || newPage.getPublishedPage() == null) {
+                            continue;
+                        }
+                        BundledPage bundledPage = new BundledPage();
+                        bundledPage.setPageId(newPage.getId());
+                        bundledPage.setIsDefault(applicationPage.getIsDefault());
+                        bundledPage.setPage(newPage.getPublishedPage());
+                        bundledPage.setPolicies(newPage.getPolicies());
+                        bundledPages.add(bundledPage);
+                    }
+
+                    PublishedApplicationBundle bundle = new PublishedApplicationBundle();
+                    bundle.setApplicationId(applicationId);
+                    bundle.setOrganizationId(application.getOrganizationId());
+                    bundle.setVersion(UUID.randomUUID().toString());
+                    bundle.setPages(bundledPages);
+                    bundle.setActions(tuple.getT2());
+                    return bundle;
+                }));
+    }
+
+    private BundledAction toBundledAction(NewAction action) {
+        final ActionDTO publishedAction = action.getPublishedAction();
+
+        ActionViewDTO actionViewDTO = new ActionViewDTO();
+        actionViewDTO.setId(action.getId());
+        actionViewDTO.setName(publishedAction.getName());
+        actionViewDTO.setPageId(publishedAction.getPageId());
+        actionViewDTO.setConfirmBeforeExecute(publishedAction.getConfirmBeforeExecute());
+        if (publishedAction.getJsonPathKeys() != null && !publishedAction.getJsonPathKeys().isEmpty()) {
+            actionViewDTO.setJsonPathKeys(new HashSet<>(publishedAction.getJsonPathKeys()));
+        }
+        if (publishedAction.getActionConfiguration() != null) {
+            actionViewDTO.setTimeoutInMillisecond(publishedAction.getActionConfiguration().getTimeoutInMillisecond());
+        }
+
+        BundledAction bundledAction = new BundledAction();
+        bundledAction.setAction(actionViewDTO);
+        bundledAction.setPolicies(action.getPolicies());
+        return bundledAction;
+    }
+
+    private Mono<PublishedApplicationBundle> saveBundle(PublishedApplicationBundle bundle) {
+        return repository.findByApplicationId(bundle.getApplicationId())
+                .map(existingBundle -> {
+                    bundle.setId(existingBundle.getId());
+                    return bundle;
+                })
+                .defaultIfEmpty(bundle)
+                .flatMap(repository::save)
+                .onErrorResume(error -> {
+                    // The bundle may be too large to be stored as a single document, or another server may have just
+                    // created it. It can still be used from memory, and will be built again when it is evicted.
+                    log.warn("Unable to save the published bundle of application {}.", bundle.getApplicationId(), error);
+                    return Mono.just(bundle);
+                });
+    }
+
+    /**
+     * Prepares a bundle read from the database to be served, by unescaping the DSLs of its pages. This is done once,
+     * when the bundle is loaded into the cache, instead of on every page view.
+     */
+    private PublishedApplicationBundle prepareBundle(PublishedApplicationBundle bundle) {
+        for (BundledPage bundledPage : bundle.getPages()) {
+            final PageDTO page = bundledPage.getPage();
+            page.setId(bundledPage.getPageId());
+            page.setApplicationId(bundle.getApplicationId());
+
+            final List<Layout> layouts = page.getLayouts();
+            if (layouts == null) {
+                continue;
+            }
+            for (Layout layout : layouts) {
+                if (layout.getDsl() == null ||
+                        layout.getMongoEscapedWidgetNames() == null ||
+                        layout.getMongoEscapedWidgetNames().isEmpty()) {
+                    continue;
+                }
+                layout.setDsl(WidgetSpecificUtils.unEscapeDslKeys(layout.getDsl(), layout.getMongoEscapedWidgetNames()));
+            }
+        }
+        return bundle;
+    }
+}
@@ -3,15 +3,9 @@ package com.appsmith.server.services;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.AppsmithRole;
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.constants.FieldName;
-import com.appsmith.server.domains.Action;
-import com.appsmith.server.domains.Application;
-import com.appsmith.server.domains.CommentThread;
-import com.appsmith.server.domains.Datasource;
-import com.appsmith.server.domains.NewAction;
-import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Organization;
-import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.UserRole;
 import com.appsmith.server.exceptions.AppsmithError;
@@ -25,7 +19,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
@@ -34,6 +27,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_ORGANIZATIONS;
 
@@ -46,6 +40,8 @@ public class UserOrganizationServiceImpl implements UserOrganizationService {
     private final UserDataRepository userDataRepository;
     private final PolicyUtils policyUtils;
     private final EmailSender emailSender;
+    private final GroupService groupService;
+    private final CommonConfig commonConfig;
 
     private static final String UPDATE_ROLE_EXISTING_USER_TEMPLATE = "email/updateRoleExistingUserTemplate.html";
 
@@ -55,13 +51,17 @@ public class UserOrganizationServiceImpl implements UserOrganizationService {
                                        UserRepository userRepository,
                                        UserDataRepository userDataRepository,
                                        PolicyUtils policyUtils,
-                                       EmailSender emailSender) {
+                                       EmailSender emailSender,
+                                       GroupService groupService,
+                                       CommonConfig commonConfig) {
         this.sessionUserService = sessionUserService;
         this.organizationRepository = organizationRepository;
         this.userRepository = userRepository;
         this.userDataRepository = userDataRepository;
         this.policyUtils = policyUtils;
         this.emailSender = emailSender;
+        this.groupService = groupService;
+        this.commonConfig = commonConfig;
     }
 
     /**
@@ -147,6 +147,9 @@ public class UserOrganizationServiceImpl implements UserOrganizationService {
             userRoles = new ArrayList<>();
         }
 
+        // A new organization has no members, and gets role groups if they are enabled.
+        final boolean isNewOrganization = userRoles.isEmpty();
+
         // Do not add the user if the user already exists in the organization
         for (UserRole role : userRoles) {
             if (role.getUsername().equals(userRole.getUsername())) {
@@ -162,33 +165,40 @@ public class UserOrganizationServiceImpl implements UserOrganizationService {
         // Add the user and its role to the organization
         userRoles.add(userRole);
 
-        // Generate all the policies for Organization, Application, Page and Actions for the current user
+        organization.setUserRoles(userRoles);
+
+        if (isNewOrganization && commonConfig.isRoleGroupsEnabled() && !usesRoleGroups(organization)) {
+            return groupService.createRoleGroupsForOrg(organization)
+                    .flatMap(orgWithRoleGroups -> groupService
+                            .addMembersToRoleGroup(orgWithRoleGroups, role, Set.of(user.getUsername()))
+                            .then(organizationRepository.save(orgWithRoleGroups)));
+        }
+
+        if (usesRoleGroups(organization)) {
+            // Only the role group is changed, since everything in the organization references the group.
+            return groupService.addMembersToRoleGroup(organization, role, Set.of(user.getUsername()))
+                    .then(organizationRepository.save(organization));
+        }
+
+        // Generate the policies for the Organization for the current user. The policies for everything in the
+        // organization are inherited from these.
         Set<AclPermission> rolePermissions = role.getPermissions();
         Map<String, Policy> orgPolicyMap = policyUtils.generatePolicyFromPermission(rolePermissions, user);
-        Map<String, Policy> applicationPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(orgPolicyMap, Organization.class, Application.class);
-        Map<String, Policy> datasourcePolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(orgPolicyMap, Organization.class, Datasource.class);
-        Map<String, Policy> pagePolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(applicationPolicyMap, Application.class, Page.class);
-        Map<String, Policy> actionPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(pagePolicyMap, Page.class, Action.class);
 
         //Now update the organization policies
         Organization updatedOrganization = policyUtils.addPoliciesToExistingObject(orgPolicyMap, organization);
-        updatedOrganization.setUserRoles(userRoles);
-
-        // Update the underlying application/page/action
-        Flux<Datasource> updatedDatasourcesFlux = policyUtils.updateWithNewPoliciesToDatasourcesByOrgId(updatedOrganization.getId(), datasourcePolicyMap, true);
-        Flux<Application> updatedApplicationsFlux = policyUtils.updateWithNewPoliciesToApplicationsByOrgId(updatedOrganization.getId(), applicationPolicyMap, true)
-                .cache();
-        Flux<NewPage> updatedPagesFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithApplicationPermissionsToAllItsPages(application.getId(), pagePolicyMap, true));
-        Flux<NewAction> updatedActionsFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithPagePermissionsToAllItsActions(application.getId(), actionPolicyMap, true));
-
-        return Mono.zip(updatedDatasourcesFlux.collectList(), updatedPagesFlux.collectList(), updatedActionsFlux.collectList(), Mono.just(updatedOrganization))
-                .flatMap(tuple -> {
-                    //By now all the datasources/applications/pages/actions have been updated. Just save the organization now
-                    Organization updatedOrgBeforeSave = tuple.getT4();
-                    return organizationRepository.save(updatedOrgBeforeSave);
-                });
+
+        // Update the underlying datasources/applications/pages/actions/comment threads
+        return policyUtils.updateWithNewPoliciesToOrganizationResources(updatedOrganization.getId(), orgPolicyMap, true)
+                //By now all the datasources/applications/pages/actions have been updated. Just save the organization now
+                .then(organizationRepository.save(updatedOrganization));
+    }
+
+    /**
+     * Whether the policies of everything in the organization reference its role groups, rather than its members.
+     */
+    private boolean usesRoleGroups(Organization organization) {
+        return organization.getRoleGroupIds() != null && !organization.getRoleGroupIds().isEmpty();
     }
 
     @Override
@@ -234,43 +244,25 @@ public class UserOrganizationServiceImpl implements UserOrganizationService {
             return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.USER + " in organization", organization.getName()));
         }
 
-        // Generate all the policies for Organization, Application, Page and Actions
+        organization.setUserRoles(userRoles);
+
+        if (usesRoleGroups(organization)) {
+            return groupService.removeMemberFromRoleGroup(organization, role, user.getUsername())
+                    .then(organizationRepository.save(organization));
+        }
+
+        // Generate the policies for the Organization for the user. The policies for everything in the organization
+        // are inherited from these.
         Set<AclPermission> rolePermissions = role.getPermissions();
         Map<String, Policy> orgPolicyMap = policyUtils.generatePolicyFromPermission(rolePermissions, user);
-        Map<String, Policy> applicationPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(orgPolicyMap, Organization.class, Application.class);
-        Map<String, Policy> datasourcePolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(orgPolicyMap, Organization.class, Datasource.class);
-        Map<String, Policy> pagePolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(applicationPolicyMap, Application.class, Page.class);
-        Map<String, Policy> actionPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(pagePolicyMap, Page.class, Action.class);
-        Map<String, Policy> commentThreadPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(
-                applicationPolicyMap, Application.class, CommentThread.class
-        );
 
         //Now update the organization policies
         Organization updatedOrganization = policyUtils.removePoliciesFromExistingObject(orgPolicyMap, organization);
-        updatedOrganization.setUserRoles(userRoles);
-
-        // Update the underlying application/page/action
-        Flux<Datasource> updatedDatasourcesFlux = policyUtils.updateWithNewPoliciesToDatasourcesByOrgId(updatedOrganization.getId(), datasourcePolicyMap, false);
-        Flux<Application> updatedApplicationsFlux = policyUtils.updateWithNewPoliciesToApplicationsByOrgId(updatedOrganization.getId(), applicationPolicyMap, false)
-                .cache();
-        Flux<NewPage> updatedPagesFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithApplicationPermissionsToAllItsPages(application.getId(), pagePolicyMap, false));
-        Flux<NewAction> updatedActionsFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithPagePermissionsToAllItsActions(application.getId(), actionPolicyMap, false));
-        Flux<CommentThread> updatedThreadsFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithApplicationPermissionsToAllItsCommentThreads(application.getId(), commentThreadPolicyMap, false));
-
-        return Mono.zip(
-                updatedDatasourcesFlux.collectList(),
-                updatedPagesFlux.collectList(),
-                updatedActionsFlux.collectList(),
-                updatedThreadsFlux.collectList(),
-                Mono.just(updatedOrganization)
-        ).flatMap(tuple -> {
+
+        // Update the underlying datasources/applications/pages/actions/comment threads
+        return policyUtils.updateWithNewPoliciesToOrganizationResources(updatedOrganization.getId(), orgPolicyMap, false)
                 //By now all the datasources/applications/pages/actions have been updated. Just save the organization now
-                Organization updatedOrgBeforeSave = tuple.getT5();
-                return organizationRepository.save(updatedOrgBeforeSave);
-        });
+                .then(organizationRepository.save(updatedOrganization));
     }
 
     private Mono<UserRole> updateMemberRole(Organization organization, User user, UserRole userRole, User currentUser, String originHeader) {
@@ -408,37 +400,24 @@ public class UserOrganizationServiceImpl implements UserOrganizationService {
         // Add the users to the organization roles
         userRoles.addAll(newUserRoles);
 
-        // Generate all the policies for Organization, Application, Page and Actions for the current user
+        organization.setUserRoles(userRoles);
+
+        if (usesRoleGroups(organization)) {
+            final Set<String> usernames = newUserRoles.stream().map(UserRole::getUsername).collect(Collectors.toSet());
+            return groupService.addMembersToRoleGroup(organization, role, usernames)
+                    .then(organizationRepository.save(organization));
+        }
+
+        // Generate the policies for the Organization for all the new users together, so that everything in the
+        // organization is updated once for all of them.
         Set<AclPermission> rolePermissions = role.getPermissions();
         Map<String, Policy> orgPolicyMap = policyUtils.generatePolicyFromPermissionForMultipleUsers(rolePermissions, users);
-        Map<String, Policy> applicationPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(orgPolicyMap, Organization.class, Application.class);
-        Map<String, Policy> datasourcePolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(orgPolicyMap, Organization.class, Datasource.class);
-        Map<String, Policy> pagePolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(applicationPolicyMap, Application.class, Page.class);
-        Map<String, Policy> commentThreadPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(
-                applicationPolicyMap, Application.class, CommentThread.class
-        );
-        Map<String, Policy> actionPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(pagePolicyMap, Page.class, Action.class);
 
         //Now update the organization policies
         Organization updatedOrganization = policyUtils.addPoliciesToExistingObject(orgPolicyMap, organization);
-        updatedOrganization.setUserRoles(userRoles);
-
-        // Update the underlying application/page/action
-        Flux<Datasource> updatedDatasourcesFlux = policyUtils.updateWithNewPoliciesToDatasourcesByOrgId(updatedOrganization.getId(), datasourcePolicyMap, true);
-        Flux<Application> updatedApplicationsFlux = policyUtils.updateWithNewPoliciesToApplicationsByOrgId(updatedOrganization.getId(), applicationPolicyMap, true)
-                .cache();
-        Flux<NewPage> updatedPagesFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithApplicationPermissionsToAllItsPages(application.getId(), pagePolicyMap, true));
-        Flux<NewAction> updatedActionsFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithPagePermissionsToAllItsActions(application.getId(), actionPolicyMap, true));
-        Flux<CommentThread> updatedThreadsFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithApplicationPermissionsToAllItsCommentThreads(application.getId(), commentThreadPolicyMap, true));
-
-        return Mono.when(
-                updatedDatasourcesFlux.collectList(),
-                updatedPagesFlux.collectList(),
-                updatedActionsFlux.collectList(),
-                updatedThreadsFlux.collectList())
+
+        // Update the underlying datasources/applications/pages/actions/comment threads
+        return policyUtils.updateWithNewPoliciesToOrganizationResources(updatedOrganization.getId(), orgPolicyMap, true)
                 //By now all the datasources/applications/pages/actions have been updated. Just save the organization now
                 .then(organizationRepository.save(updatedOrganization));
     }
@@ -51,7 +51,7 @@ public class ApplicationForkingService {
                     boolean allowFork = (
                             // Is this a non-anonymous user that has access to this application?
                             !user.isAnonymous()
-                                    && policyUtils.isPermissionPresentForUser(application.getPolicies(), AclPermission.MANAGE_APPLICATIONS.getValue(), user.getEmail())
+                                    && policyUtils.isPermissionPresentForUser(application.getPolicies(), AclPermission.MANAGE_APPLICATIONS.getValue(), user)
                     )
                             || Boolean.TRUE.equals(application.getForkingEnabled());
 
@@ -6,6 +6,7 @@ import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.UserRole;
 import com.appsmith.server.events.CommentAddedEvent;
 import com.appsmith.server.events.CommentThreadClosedEvent;
@@ -13,6 +14,7 @@ import com.appsmith.server.helpers.CommentUtils;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.notifications.EmailSender;
 import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.GroupRepository;
 import com.appsmith.server.repositories.OrganizationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +33,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
 
@@ -39,6 +42,8 @@ import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
 @Slf4j
 public class EmailEventHandler {
     private static final String COMMENT_ADDED_EMAIL_TEMPLATE = "email/commentAddedTemplate.html";
+    private static final String COMMENT_DIGEST_EMAIL_TEMPLATE = "email/commentDigestTemplate.html";
+    private static final String COMMENT_DIGEST_EMAIL_SUBJECT = "%d new comment notifications on Appsmith";
 
     private final ApplicationEventPublisher applicationEventPublisher;
     private final EmailSender emailSender;
@@ -46,6 +51,7 @@ public class EmailEventHandler {
     private final ApplicationRepository applicationRepository;
     private final PolicyUtils policyUtils;
     private final EmailConfig emailConfig;
+    private final GroupRepository groupRepository;
 
     public Mono<Boolean> publish(String authorUserName, String applicationId, Comment comment, String originHeader, Set<String> subscribers) {
         if(CollectionUtils.isEmpty(subscribers)) {  // no subscriber found, return without doing anything
@@ -107,17 +113,25 @@ public class EmailEventHandler {
         .subscribe();
     }
 
-    private String getCommentThreadLink(Application application, String pageId, String threadId, String username, String originHeader) {
-        Boolean canManageApplication = policyUtils.isPermissionPresentForUser(
-                application.getPolicies(), MANAGE_APPLICATIONS.getValue(), username
-        );
-        String urlPostfix = "/edit";
-        if (Boolean.FALSE.equals(canManageApplication)) {  // user has no permission to manage application
-            urlPostfix = "";
-        }
-        return String.format("%s/applications/%s/pages/%s%s?commentThreadId=%s&isCommentMode=true",
-                originHeader, application.getId(), pageId, urlPostfix, threadId
-        );
+    /**
+     * Links to the thread in edit mode if the receiver can manage the application, either themselves or through one of
+     * the groups they are a member of, and to the thread in view mode otherwise.
+     */
+    private Mono<String> getCommentThreadLink(Application application, String pageId, String threadId, String username, String originHeader) {
+        return groupRepository.findIdsByMember(username)
+                .collect(Collectors.toSet())
+                .map(memberGroupIds -> {
+                    User receiver = new User();
+                    receiver.setEmail(username);
+                    receiver.setMemberGroupIds(memberGroupIds);
+                    boolean canManageApplication = policyUtils.isPermissionPresentForUser(
+                            application.getPolicies(), MANAGE_APPLICATIONS.getValue(), receiver
+                    );
+                    String urlPostfix = canManageApplication ? "/edit" : "";
+                    return String.format("%s/applications/%s/pages/%s%s?commentThreadId=%s&isCommentMode=true",
+                            originHeader, application.getId(), pageId, urlPostfix, threadId
+                    );
+                });
     }
 
     private Mono<Boolean> getResolveThreadEmailSenderMono(UserRole receiverUserRole, CommentThread commentThread,
@@ -130,19 +144,21 @@ public class EmailEventHandler {
         templateParams.put("Commenter_Name", resolvedState.getAuthorName());
         templateParams.put("Application_Name", commentThread.getApplicationName());
         templateParams.put("Organization_Name", organization.getName());
-        templateParams.put("commentUrl", getCommentThreadLink(
-                application,
-                commentThread.getPageId(),
-                commentThread.getId(),
-                receiverUserRole.getUsername(),
-                originHeader)
-        );
         templateParams.put("Resolved", true);
 
         String emailSubject = String.format(
                 "%s has resolved comment in %s", resolvedState.getAuthorName(), commentThread.getApplicationName()
         );
-        return emailSender.sendMail(receiverEmail, emailSubject, COMMENT_ADDED_EMAIL_TEMPLATE, templateParams);
+        return getCommentThreadLink(
+                application,
+                commentThread.getPageId(),
+                commentThread.getId(),
+                receiverUserRole.getUsername(),
+                originHeader
+        ).flatMap(commentUrl -> {
+            templateParams.put("commentUrl", commentUrl);
+            return sendCommentMail(receiverEmail, emailSubject, templateParams);
+        });
     }
 
     private Mono<Boolean> getAddCommentEmailSenderMono(UserRole receiverUserRole, Comment comment, String originHeader,
@@ -156,13 +172,6 @@ public class EmailEventHandler {
         templateParams.put("Application_Name", comment.getApplicationName());
         templateParams.put("Organization_Name", organization.getName());
         templateParams.put("Comment_Body", CommentUtils.getCommentBody(comment));
-        templateParams.put("commentUrl", getCommentThreadLink(
-                application,
-                comment.getPageId(),
-                comment.getThreadId(),
-                receiverUserRole.getUsername(),
-                originHeader)
-        );
 
         String emailSubject = String.format(
                 "New comment from %s in %s", comment.getAuthorName(), comment.getApplicationName()
@@ -177,7 +186,17 @@ public class EmailEventHandler {
         } else {
             templateParams.put("Replied", true);
         }
-        return emailSender.sendMail(receiverEmail, emailSubject, COMMENT_ADDED_EMAIL_TEMPLATE, templateParams);
+        final String subject = emailSubject;
+        return getCommentThreadLink(
+                application,
+                comment.getPageId(),
+                comment.getThreadId(),
+                receiverUserRole.getUsername(),
+                originHeader
+        ).flatMap(commentUrl -> {
+            templateParams.put("commentUrl", commentUrl);
+            return sendCommentMail(receiverEmail, subject, templateParams);
+        });
     }
 
     private Mono<Boolean> geBotEmailSenderMono(Comment comment, String originHeader, Organization organization, Application application) {
@@ -187,19 +206,28 @@ public class EmailEventHandler {
         templateParams.put("Application_Name", comment.getApplicationName());
         templateParams.put("Organization_Name", organization.getName());
         templateParams.put("Comment_Body", CommentUtils.getCommentBody(comment));
-        templateParams.put("commentUrl", getCommentThreadLink(
+        templateParams.put("Mentioned", true);
+        String emailSubject = String.format("New comment for you from %s", comment.getAuthorName());
+
+        return getCommentThreadLink(
                 application,
                 comment.getPageId(),
                 comment.getThreadId(),
                 CommentConstants.APPSMITH_BOT_USERNAME,
-                originHeader)
-        );
-
-        templateParams.put("Mentioned", true);
-        String emailSubject = String.format("New comment for you from %s", comment.getAuthorName());
+                originHeader
+        ).flatMap(commentUrl -> {
+            templateParams.put("commentUrl", commentUrl);
+            return sendCommentMail(emailConfig.getSupportEmailAddress(), emailSubject, templateParams);
+        });
+    }
 
-        return emailSender.sendMail(
-                emailConfig.getSupportEmailAddress(), emailSubject, COMMENT_ADDED_EMAIL_TEMPLATE, templateParams
+    /**
+     * Comment notifications to the same user, like the ones of a busy discussion, are sent together in a digest.
+     */
+    private Mono<Boolean> sendCommentMail(String receiverEmail, String emailSubject, Map<String, Object> templateParams) {
+        return emailSender.sendDigestibleMail(
+                receiverEmail, emailSubject, COMMENT_ADDED_EMAIL_TEMPLATE, templateParams,
+                COMMENT_DIGEST_EMAIL_TEMPLATE, COMMENT_DIGEST_EMAIL_SUBJECT
         );
     }
 
@@ -7,6 +7,7 @@ import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Organization;
 import com.appsmith.server.domains.User;
@@ -22,7 +23,6 @@ import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.DatasourceService;
-import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.NewActionService;
 import com.appsmith.server.services.OrganizationService;
 import com.appsmith.server.services.SessionUserService;
@@ -37,6 +37,7 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -61,7 +62,6 @@ public class ExamplesOrganizationCloner {
     private final ApplicationPageService applicationPageService;
     private final NewPageRepository newPageRepository;
     private final NewActionService newActionService;
-    private final LayoutActionService layoutActionService;
 
     public Mono<Organization> cloneExamplesOrganization() {
         return sessionUserService
@@ -220,48 +220,27 @@ public class ExamplesOrganizationCloner {
                                     isDefault
                                             ? applicationPageService.makePageDefault(savedPage).thenReturn(savedPage)
                                             : Mono.just(savedPage))
-                            .flatMap(savedPage -> newPageRepository.findById(savedPage.getId()))
-                            .flatMapMany(savedPage -> {
-                                clonedPages.add(savedPage);
-                                return newActionService
-                                        .findByPageId(templatePageId)
-                                        .map(newAction -> {
-                                            ActionDTO action = newAction.getUnpublishedAction();
-                                            log.info("Preparing action for cloning {} {}.", action.getName(), newAction.getId());
-                                            action.setPageId(savedPage.getId());
-                                            return newAction;
-                                        });
-                            });
-                })
-                .flatMap(newAction -> {
-                    final String originalActionId = newAction.getId();
-                    log.info("Creating clone of action {}", originalActionId);
-                    makePristine(newAction);
-                    newAction.setOrganizationId(toOrganizationId);
-                    ActionDTO action = newAction.getUnpublishedAction();
-                    action.setCollectionId(null);
-
-                    Mono<ActionDTO> actionMono = Mono.just(action);
-                    final Datasource datasourceInsideAction = action.getDatasource();
-                    if (datasourceInsideAction != null) {
-                        if (datasourceInsideAction.getId() != null) {
-                            final String datasourceId = datasourceInsideAction.getId();
-                            if (!cloneDatasourceMonos.containsKey(datasourceId)) {
-                                cloneDatasourceMonos.put(datasourceId, cloneDatasource(datasourceId, toOrganizationId).cache());
-                            }
-                            actionMono = cloneDatasourceMonos.get(datasourceId)
-                                    .map(newDatasource -> {
-                                        action.setDatasource(newDatasource);
-                                        return action;
-                                    });
-                        } else {
-                            datasourceInsideAction.setOrganizationId(toOrganizationId);
-                        }
-                    }
-                    return actionMono
-                            .flatMap(layoutActionService::createAction)
-                            .map(ActionDTO::getId)
-                            .zipWith(Mono.justOrEmpty(originalActionId));
+                            .flatMap(savedPage -> newPageRepository.findById(savedPage.getId())
+                                    .map(clonedPage -> {
+                                        clonedPages.add(clonedPage);
+                                        return savedPage;
+                                    }))
+                            .flatMapMany(savedPage -> newActionService
+                                    .findByPageId(templatePageId)
+                                    .flatMap(newAction -> prepareActionForCloning(newAction, toOrganizationId, cloneDatasourceMonos))
+                                    .collectList()
+                                    .flatMapMany(actions -> {
+                                        // Pairs of the new id and the original id of each action.
+                                        final List<Tuple2<String, String>> actionIds = new ArrayList<>();
+                                        for (final NewAction action : actions) {
+                                            final String originalActionId = action.getId();
+                                            action.setId(new ObjectId().toString());
+                                            actionIds.add(Tuples.of(action.getId(), originalActionId));
+                                        }
+                                        // All the actions of the page are inserted at once.
+                                        return newActionService.insertClonedActions(savedPage, actions)
+                                                .thenMany(Flux.fromIterable(actionIds));
+                                    }));
                 })
                 // This call to `collectMap` will wait for all actions in all pages to have been processed, and so the
                 // `clonedPages` list will also contain all pages cloned.
@@ -275,6 +254,42 @@ public class ExamplesOrganizationCloner {
                 .collectList();
     }
 
+    /**
+     * Prepares a copy of the given action to be inserted into the given organization, by cloning its datasource into
+     * the organization if it hasn't been cloned already. The original id of the action is left in place.
+     */
+    private Mono<NewAction> prepareActionForCloning(NewAction newAction,
+                                                    String toOrganizationId,
+                                                    Map<String, Mono<Datasource>> cloneDatasourceMonos) {
+        final String originalActionId = newAction.getId();
+        log.info("Creating clone of action {}", originalActionId);
+        makePristine(newAction);
+        newAction.setId(originalActionId);
+        newAction.setOrganizationId(toOrganizationId);
+        ActionDTO action = newAction.getUnpublishedAction();
+        action.setCollectionId(null);
+
+        final Datasource datasourceInsideAction = action.getDatasource();
+        if (datasourceInsideAction == null) {
+            return Mono.just(newAction);
+        }
+
+        if (datasourceInsideAction.getId() == null) {
+            datasourceInsideAction.setOrganizationId(toOrganizationId);
+            return Mono.just(newAction);
+        }
+
+        final String datasourceId = datasourceInsideAction.getId();
+        if (!cloneDatasourceMonos.containsKey(datasourceId)) {
+            cloneDatasourceMonos.put(datasourceId, cloneDatasource(datasourceId, toOrganizationId).cache());
+        }
+        return cloneDatasourceMonos.get(datasourceId)
+                .map(newDatasource -> {
+                    action.setDatasource(newDatasource);
+                    return newAction;
+                });
+    }
+
     private Flux<NewPage> updateActionIdsInClonedPages(List<NewPage> clonedPages, Map<String, String> actionIdsMap) {
         final List<Mono<NewPage>> pageSaveMonos = new ArrayList<>();
 
@@ -0,0 +1,393 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.QBaseDomain;
+import com.appsmith.server.constants.AnalyticsEvents;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.PluginType;
+import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.domains.QNewPage;
+import com.appsmith.server.domains.QPlugin;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.services.AnalyticsService;
+import com.appsmith.server.services.ConfigService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+
+/**
+ * Sends the analytics events of action executions outside of the request that ran the action.
+ * <p>
+ * Executions only add a small event, holding the values already at hand, to a bounded in-memory buffer. A background
+ * worker drains the buffer in batches, looks up the names of the applications, pages and plugins of the whole batch at
+ * once (from a cache when possible), and sends the events. When executions come in faster than they can be sent, the
+ * oldest events in the buffer are dropped, since losing a few analytics events is better than slowing down executions
+ * or running out of memory.
+ */
+@Slf4j
+@Component
+public class ExecutionAnalyticsPublisher {
+
+    private static final String METRIC_PREFIX = "appsmith.analytics.execution";
+    private static final String TEMPLATE_APPLICATIONS_KEY = "templateApplications";
+
+    // Errors, and each field of a request, are cut to this length, so that the buffer doesn't hold on to large bodies
+    // of executions.
+    static final int MAX_ERROR_LENGTH = 4096;
+
+    private static final ObjectMapper ERROR_MAPPER = new ObjectMapper();
+
+    private final AnalyticsService analyticsService;
+    private final ConfigService configService;
+    private final ReactiveMongoOperations mongoOperations;
+
+    private final BlockingQueue<ExecutionEvent> buffer;
+    private final int batchSize;
+    private final Duration lookupTimeout;
+
+    private final Cache<String, Application> applicationCache;
+    private final Cache<String, NewPage> pageCache;
+    private final Cache<String, String> pluginNameCache;
+    private final Cache<String, Set<String>> templateApplicationIdsCache;
+
+    private final Counter droppedCounter;
+    private final Counter sentCounter;
+
+    public ExecutionAnalyticsPublisher(AnalyticsService analyticsService,
+                                       ConfigService configService,
+                                       ReactiveMongoOperations mongoOperations,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${appsmith.analytics.execution.buffer-size:10000}") int bufferSize,
+                                       @Value("${appsmith.analytics.execution.batch-size:500}") int batchSize,
+                                       @Value("${appsmith.analytics.execution.lookup-timeout-seconds:30}") long lookupTimeoutSeconds,
+                                       @Value("${appsmith.cache.analytics-metadata.max-size:10000}") long cacheMaxSize,
+                                       @Value("${appsmith.cache.analytics-metadata.ttl-seconds:300}") long cacheTtlSeconds) {
+        this.analyticsService = analyticsService;
+        this.configService = configService;
+        this.mongoOperations = mongoOperations;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.lookupTimeout = Duration.ofSeconds(lookupTimeoutSeconds);
+
+        this.applicationCache = buildCache(cacheMaxSize, cacheTtlSeconds);
+        this.pageCache = buildCache(cacheMaxSize, cacheTtlSeconds);
+        this.pluginNameCache = buildCache(cacheMaxSize, cacheTtlSeconds);
+        this.templateApplicationIdsCache = buildCache(1, cacheTtlSeconds);
+
+        this.droppedCounter = meterRegistry.counter(METRIC_PREFIX + ".dropped");
+        this.sentCounter = meterRegistry.counter(METRIC_PREFIX + ".sent");
+        meterRegistry.gaugeCollectionSize(METRIC_PREFIX + ".buffered", List.of(), buffer);
+    }
+
+    private static <V> Cache<String, V> buildCache(long maxSize, long ttlSeconds) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Adds the event of an execution to the buffer, dropping the oldest buffered event if the buffer is full. This never
+     * blocks, and doesn't do anything if analytics is not active.
+     */
+    public void publish(ExecutionEvent event) {
+        if (!analyticsService.isActive()) {
+            return;
+        }
+
+        while (!buffer.offer(event)) {
+            if (buffer.poll() != null) {
+                droppedCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * Sends all the events in the buffer, one batch at a time. Since this runs with a fixed delay, at most one flush runs
+     * at a time.
+     */
+    @Scheduled(initialDelayString = "${appsmith.analytics.execution.flush-interval-ms:1000}",
+            fixedDelayString = "${appsmith.analytics.execution.flush-interval-ms:1000}")
+    public void flush() {
+        final List<ExecutionEvent> batch = new ArrayList<>(batchSize);
+
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                sendBatch(batch);
+            } catch (Exception e) {
+                log.warn("Error sending a batch of {} action execution data points", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    private void sendBatch(List<ExecutionEvent> batch) {
+        final Map<String, Application> applications = getApplications(
+                collectIds(batch, ExecutionEvent::getApplicationId));
+        final Map<String, NewPage> pages = getPages(collectIds(batch, ExecutionEvent::getPageId));
+        final Map<String, String> pluginNames = getPluginNames(collectIds(batch, ExecutionEvent::getPluginId));
+        final Set<String> templateApplicationIds = getTemplateApplicationIds();
+
+        for (final ExecutionEvent event : batch) {
+            final Application application = applications.getOrDefault(event.getApplicationId(), new Application());
+
+            analyticsService.sendEvent(
+                    AnalyticsEvents.EXECUTE_ACTION.getEventName(),
+                    event.getUsername(),
+                    buildEventData(
+                            event,
+                            application,
+                            event.getApplicationId() != null && templateApplicationIds.contains(event.getApplicationId()),
+                            getPageName(pages.get(event.getPageId()), event.getViewMode()),
+                            pluginNames.get(event.getPluginId())
+                    )
+            );
+            sentCounter.increment();
+        }
+    }
+
+    private Map<String, Object> buildEventData(ExecutionEvent event,
+                                               Application application,
+                                               boolean isExampleApp,
+                                               String pageName,
+                                               String pluginName) {
+        final Map<String, Object> data = new HashMap<>();
+
+        data.put("username", event.getUsername());
+        data.put("type", event.getPluginType());
+        data.put("pluginName", pluginName);
+        data.put("name", event.getActionName());
+        data.put("datasource", Map.of("name", ObjectUtils.defaultIfNull(event.getDatasourceName(), "")));
+        data.put("orgId", ObjectUtils.defaultIfNull(event.getOrganizationId(), application.getOrganizationId()));
+        data.put("appId", event.getApplicationId());
+        data.put("appMode", TRUE.equals(event.getViewMode()) ? "view" : "edit");
+        data.put("appName", application.getName());
+        data.put("isExampleApp", isExampleApp);
+        data.put("request", ObjectUtils.defaultIfNull(event.getRequest(), Map.of()));
+        data.put("pageId", ObjectUtils.defaultIfNull(event.getPageId(), ""));
+        data.put("pageName", pageName);
+        data.put("isSuccessfulExecution", ObjectUtils.defaultIfNull(event.getIsSuccessfulExecution(), false));
+        data.put("statusCode", ObjectUtils.defaultIfNull(event.getStatusCode(), ""));
+        data.put("timeElapsed", event.getTimeElapsed());
+
+        // Add the error message in case of erroneous execution
+        if (FALSE.equals(event.getIsSuccessfulExecution())) {
+            data.put("error", event.getError());
+        }
+
+        return data;
+    }
+
+    /**
+     * Serializes the body of a failed execution for its event, cut to {@link #MAX_ERROR_LENGTH} characters. This is
+     * done when the event is created, so the buffered event only holds the string and not the body.
+     */
+    public static String serializeError(Object body) {
+        String errorJson;
+        try {
+            errorJson = ERROR_MAPPER.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            log.warn("Unable to serialize action execution error result to JSON.", e);
+            errorJson = "\"Failed to serialize error data to JSON.\"";
+        }
+        return truncate(errorJson);
+    }
+
+    /**
+     * Serializes the request of an execution for its event. Its body, headers, properties and parameters are replaced
+     * by their JSON, and every field is cut to {@link #MAX_ERROR_LENGTH} characters. Like {@link #serializeError(Object)},
+     * this is done when the event is created, so the buffered event doesn't hold on to the request.
+     */
+    public static Map<String, String> serializeRequest(ActionExecutionRequest request) {
+        if (request == null) {
+            return Map.of();
+        }
+
+        final Map<String, String> serializedRequest = new HashMap<>();
+        putIfNotNull(serializedRequest, "query", request.getQuery());
+        putIfNotNull(serializedRequest, "body", toJson(request.getBody()));
+        putIfNotNull(serializedRequest, "headers", toJson(request.getHeaders()));
+        putIfNotNull(serializedRequest, "httpMethod", request.getHttpMethod() == null ? null : request.getHttpMethod().name());
+        putIfNotNull(serializedRequest, "url", request.getUrl());
+        putIfNotNull(serializedRequest, "properties", CollectionUtils.isEmpty(request.getProperties()) ? null : toJson(request.getProperties()));
+        putIfNotNull(serializedRequest, "executionParameters", toJson(request.getExecutionParameters()));
+        putIfNotNull(serializedRequest, "requestParams", toJson(request.getRequestParams()));
+        return serializedRequest;
+    }
+
+    private static void putIfNotNull(Map<String, String> map, String key, String value) {
+        if (value != null) {
+            map.put(key, truncate(value));
+        }
+    }
+
+    private static String toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return ERROR_MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            return "\"Error serializing value to JSON.\"";
+        }
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_ERROR_LENGTH ? value.substring(0, MAX_ERROR_LENGTH) : value;
+    }
+
+    private static String getPageName(NewPage page, Boolean viewMode) {
+        if (page == null) {
+            return "";
+        }
+
+        final PageDTO pageDTO = TRUE.equals(viewMode) ? page.getPublishedPage() : page.getUnpublishedPage();
+        if (pageDTO != null) {
+            return pageDTO.getName();
+        }
+        // If the page hasn't been published, just send the unpublished page name
+        return page.getUnpublishedPage() == null ? "" : page.getUnpublishedPage().getName();
+    }
+
+    private static Set<String> collectIds(List<ExecutionEvent> batch, Function<ExecutionEvent, String> idGetter) {
+        return batch.stream()
+                .map(idGetter)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private Map<String, Application> getApplications(Set<String> ids) {
+        return getAll(applicationCache, ids, missingIds -> mongoOperations
+                .find(queryByIds(missingIds, fieldName(QApplication.application.name),
+                        fieldName(QApplication.application.organizationId)), Application.class)
+                .collectMap(Application::getId));
+    }
+
+    private Map<String, NewPage> getPages(Set<String> ids) {
+        // Only the names of the pages are needed, so their layouts, which hold the DSL, are not loaded.
+        return getAll(pageCache, ids, missingIds -> mongoOperations
+                .find(queryByIds(missingIds, fieldName(QNewPage.newPage.unpublishedPage.name),
+                        fieldName(QNewPage.newPage.publishedPage.name)), NewPage.class)
+                .collectMap(NewPage::getId));
+    }
+
+    private Map<String, String> getPluginNames(Set<String> ids) {
+        return getAll(pluginNameCache, ids, missingIds -> mongoOperations
+                .find(queryByIds(missingIds, fieldName(QPlugin.plugin.name)), Plugin.class)
+                .filter(plugin -> plugin.getName() != null)
+                .collectMap(Plugin::getId, Plugin::getName));
+    }
+
+    private Set<String> getTemplateApplicationIds() {
+        final Set<String> cachedIds = templateApplicationIdsCache.getIfPresent(TEMPLATE_APPLICATIONS_KEY);
+        if (cachedIds != null) {
+            return cachedIds;
+        }
+
+        final Set<String> ids = configService.getTemplateApplications()
+                .map(Application::getId)
+                .collect(Collectors.toUnmodifiableSet())
+                .block(lookupTimeout);
+        templateApplicationIdsCache.put(TEMPLATE_APPLICATIONS_KEY, ids);
+        return ids;
+    }
+
+    /**
+     * Gets the values for the given ids from the cache, and loads the ones not in the cache with a single query.
+     */
+    private <V> Map<String, V> getAll(Cache<String, V> cache,
+                                      Set<String> ids,
+                                      Function<Collection<String>, Mono<Map<String, V>>> loader) {
+        final Map<String, V> values = new HashMap<>(cache.getAllPresent(ids));
+
+        final Set<String> missingIds = ids.stream()
+                .filter(id -> !values.containsKey(id))
+                .collect(Collectors.toSet());
+        if (missingIds.isEmpty()) {
+            return values;
+        }
+
+        final Map<String, V> loadedValues = loader.apply(missingIds).block(lookupTimeout);
+        if (loadedValues != null) {
+            cache.putAll(loadedValues);
+            values.putAll(loadedValues);
+        }
+
+        return values;
+    }
+
+    private static Query queryByIds(Collection<String> ids, String... fields) {
+        final Query query = Query.query(Criteria.where(fieldName(QBaseDomain.baseDomain.id)).in(ids));
+        for (final String field : fields) {
+            query.fields().include(field);
+        }
+        return query;
+    }
+
+    /**
+     * The values of an action execution that are needed for its analytics event. These are only the values that are
+     * available when the execution finishes, so creating an event doesn't need any database reads.
+     */
+    @Getter
+    @Builder
+    public static class ExecutionEvent {
+        private final String username;
+        private final String actionName;
+        private final PluginType pluginType;
+        private final String pluginId;
+        private final String datasourceName;
+        private final String organizationId;
+        private final String applicationId;
+        private final String pageId;
+        private final Boolean viewMode;
+        private final Boolean isSuccessfulExecution;
+        private final String statusCode;
+        private final Long timeElapsed;
+
+        /**
+         * The serialized fields of the request of the execution, from {@link #serializeRequest(ActionExecutionRequest)}.
+         */
+        private final Map<String, String> request;
+
+        /**
+         * The serialized body of a failed execution, from {@link #serializeError(Object)}. Null for successful
+         * executions.
+         */
+        private final String error;
+    }
+}
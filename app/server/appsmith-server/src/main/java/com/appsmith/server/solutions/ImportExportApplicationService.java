@@ -23,6 +23,7 @@ import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.DataBufferJsonWriter;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.NewPageRepository;
@@ -31,36 +32,47 @@ import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
 import com.appsmith.server.services.DatasourceService;
 import com.appsmith.server.services.NewActionService;
-import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.OrganizationService;
 import com.appsmith.server.services.SequenceService;
 import com.appsmith.server.services.SessionUserService;
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.StringUtils;
 import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.multipart.Part;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
-import java.lang.reflect.Type;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ImportExportApplicationService {
     private final DatasourceService datasourceService;
     private final SessionUserService sessionUserService;
@@ -69,12 +81,18 @@ public class ImportExportApplicationService {
     private final PluginRepository pluginRepository;
     private final OrganizationService organizationService;
     private final ApplicationService applicationService;
-    private final NewPageService newPageService;
     private final ApplicationPageService applicationPageService;
     private final NewPageRepository newPageRepository;
     private final NewActionService newActionService;
     private final SequenceService sequenceService;
     private final ExamplesOrganizationCloner examplesOrganizationCloner;
+    private final ObjectMapper objectMapper;
+    private final int maxImportFileSizeMb;
+    private final int importBatchSize;
+
+    // Decodes uploaded files, with a mapper that also reads the properties which are read only in the API. It is built
+    // once, since copying and configuring the mapper is expensive.
+    private final Jackson2JsonDecoder importDecoder;
 
     private static final Set<MediaType> ALLOWED_CONTENT_TYPES = Set.of(MediaType.APPLICATION_JSON);
     public final String INVALID_JSON_FILE = "invalid json file";
@@ -82,6 +100,59 @@ public class ImportExportApplicationService {
         UNPUBLISHED, PUBLISHED
     }
 
+    public ImportExportApplicationService(DatasourceService datasourceService,
+                                          SessionUserService sessionUserService,
+                                          NewActionRepository newActionRepository,
+                                          DatasourceRepository datasourceRepository,
+                                          PluginRepository pluginRepository,
+                                          OrganizationService organizationService,
+                                          ApplicationService applicationService,
+                                          ApplicationPageService applicationPageService,
+                                          NewPageRepository newPageRepository,
+                                          NewActionService newActionService,
+                                          SequenceService sequenceService,
+                                          ExamplesOrganizationCloner examplesOrganizationCloner,
+                                          ObjectMapper objectMapper,
+                                          @Value("${appsmith.import.max-file-size-mb:100}") int maxImportFileSizeMb,
+                                          @Value("${appsmith.import.batch-size:100}") int importBatchSize) {
+        this.datasourceService = datasourceService;
+        this.sessionUserService = sessionUserService;
+        this.newActionRepository = newActionRepository;
+        this.datasourceRepository = datasourceRepository;
+        this.pluginRepository = pluginRepository;
+        this.organizationService = organizationService;
+        this.applicationService = applicationService;
+        this.applicationPageService = applicationPageService;
+        this.newPageRepository = newPageRepository;
+        this.newActionService = newActionService;
+        this.sequenceService = sequenceService;
+        this.examplesOrganizationCloner = examplesOrganizationCloner;
+        this.objectMapper = objectMapper;
+        this.maxImportFileSizeMb = maxImportFileSizeMb;
+        this.importBatchSize = importBatchSize;
+        this.importDecoder = createImportDecoder(objectMapper, maxImportFileSizeMb);
+    }
+
+    /**
+     * Holds what is collected while the parts of an application are exported one after the other. The pages have to be
+     * exported before the actions, which refer to them by name, and the actions before the datasources, since only
+     * the datasources used by the actions are exported.
+     */
+    private static class ExportContext {
+        Application application;
+        String organizationId;
+        String publishedDefaultPageName;
+        String unpublishedDefaultPageName;
+        List<Datasource> organizationDatasources;
+        final Map<String, String> pluginMap = new HashMap<>();
+        final Map<String, String> datasourceIdToNameMap = new HashMap<>();
+        final Map<String, String> pageIdToNameMap = new HashMap<>();
+        final Set<String> concernedDBNames = new HashSet<>();
+        final Map<String, DecryptedSensitiveFields> decryptedFields = new HashMap<>();
+        final Map<String, Set<String>> publishedMongoEscapedWidgetsNames = new HashMap<>();
+        final Map<String, Set<String>> unpublishedMongoEscapedWidgetsNames = new HashMap<>();
+    }
+
     /**
      * This function will give the application resource to rebuild the application in import application flow
      * @param applicationId which needs to be exported
@@ -91,32 +162,102 @@ public class ImportExportApplicationService {
 
         /*
             1. Fetch application by id
-            2. Fetch pages from the application
-            3. Fetch datasources from organization
+            2. Fetch datasources from organization
+            3. Fetch pages from the application
             4. Fetch actions from the application
             5. Filter out relevant datasources using actions reference
          */
         ApplicationJson applicationJson = new ApplicationJson();
-        Map<String, String> pluginMap = new HashMap<>();
-        Map<String, String> datasourceIdToNameMap = new HashMap<>();
-        Map<String, String> pageIdToNameMap = new HashMap<>();
-    
+
+        return prepareExport(applicationId)
+                .flatMap(context -> {
+                    applicationJson.setExportedApplication(context.application);
+                    return exportPages(context)
+                            .collectList()
+                            .flatMap(newPageList -> {
+                                applicationJson.setPageList(newPageList);
+                                return exportActions(context).collectList();
+                            })
+                            .flatMap(newActionList -> {
+                                applicationJson.setActionList(newActionList);
+                                return exportDatasources(context).collectList();
+                            })
+                            .map(datasourceList -> {
+                                applicationJson.setDatasourceList(datasourceList);
+                                applicationJson.setDecryptedFields(context.decryptedFields);
+                                applicationJson.setPublishedDefaultPageName(context.publishedDefaultPageName);
+                                applicationJson.setUnpublishedDefaultPageName(context.unpublishedDefaultPageName);
+                                applicationJson.setPublishedLayoutmongoEscapedWidgets(context.publishedMongoEscapedWidgetsNames);
+                                applicationJson.setUnpublishedLayoutmongoEscapedWidgets(context.unpublishedMongoEscapedWidgetsNames);
+                                return applicationJson;
+                            });
+                });
+    }
+
+    /**
+     * Same as {@link #exportApplicationById(String)}, but the file is written as its pages, actions and datasources are
+     * read from the database, so only one of them is held in memory at a time. The fields of the file are in a
+     * different order, with the ones that are only known at the end written last.
+     *
+     * @param applicationId which needs to be exported
+     * @param bufferFactory used to allocate the buffers of the file
+     * @return The name of the application, and the contents of the file. Errors about the application itself, like
+     * missing permissions, are raised before the file is started.
+     */
+    public Mono<Tuple2<String, Flux<DataBuffer>>> exportApplicationFileById(String applicationId,
+                                                                           DataBufferFactory bufferFactory) {
+        return prepareExport(applicationId)
+                .map(context -> Tuples.of(
+                        context.application.getName(),
+                        Flux.using(
+                                () -> new DataBufferJsonWriter(objectMapper, bufferFactory),
+                                writer -> writeApplicationFile(context, writer),
+                                writer -> {
+                                    try {
+                                        writer.close();
+                                    } catch (Exception e) {
+                                        log.debug("Unable to close the export of application {}.", applicationId, e);
+                                    }
+                                }
+                        )
+                ));
+    }
+
+    private Flux<DataBuffer> writeApplicationFile(ExportContext context, DataBufferJsonWriter writer) {
+        return Flux.concat(
+                Mono.fromCallable(() -> writer
+                        .startObject()
+                        .writeField("exportedApplication", context.application)
+                        .startArray("pageList")
+                        .drain()),
+                exportPages(context).concatMap(newPage -> Mono.fromCallable(() -> writer.writeValue(newPage).drain())),
+                Mono.fromCallable(() -> writer.endArray().startArray("actionList").drain()),
+                exportActions(context).concatMap(newAction -> Mono.fromCallable(() -> writer.writeValue(newAction).drain())),
+                Mono.fromCallable(() -> writer.endArray().startArray("datasourceList").drain()),
+                exportDatasources(context).concatMap(datasource -> Mono.fromCallable(() -> writer.writeValue(datasource).drain())),
+                Mono.fromCallable(() -> writer
+                        .endArray()
+                        .writeField("decryptedFields", context.decryptedFields)
+                        .writeField("publishedDefaultPageName", context.publishedDefaultPageName)
+                        .writeField("unpublishedDefaultPageName", context.unpublishedDefaultPageName)
+                        .writeField("publishedLayoutmongoEscapedWidgets", context.publishedMongoEscapedWidgetsNames)
+                        .writeField("unpublishedLayoutmongoEscapedWidgets", context.unpublishedMongoEscapedWidgetsNames)
+                        .endObject()
+                        .drain())
+        );
+    }
+
+    private Mono<ExportContext> prepareExport(String applicationId) {
         if (applicationId == null || applicationId.isEmpty()) {
             return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.APPLICATION_ID));
         }
 
-        Mono<Application> applicationMono = applicationService.findById(applicationId, AclPermission.EXPORT_APPLICATIONS)
+        ExportContext context = new ExportContext();
+
+        return applicationService.findById(applicationId, AclPermission.EXPORT_APPLICATIONS)
             .switchIfEmpty(Mono.error(
                 new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.APPLICATION_ID, applicationId))
-            );
-
-        return pluginRepository
-            .findAll()
-            .map(plugin -> {
-                pluginMap.put(plugin.getId(), plugin.getPackageName());
-                return plugin;
-            })
-            .then(applicationMono)
+            )
             .flatMap(application -> {
 
                 ApplicationPage unpublishedDefaultPage = application.getPages()
@@ -124,145 +265,163 @@ public class ImportExportApplicationService {
                     .filter(ApplicationPage::getIsDefault)
                     .findFirst()
                     .orElse(null);
-    
+
                 if (unpublishedDefaultPage == null) {
                     return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.DEFAULT_PAGE_NAME));
                 } else {
-                    applicationJson.setUnpublishedDefaultPageName(unpublishedDefaultPage.getId());
+                    context.unpublishedDefaultPageName = unpublishedDefaultPage.getId();
                 }
-                
+
                 if (application.getPublishedPages() != null) {
                     ApplicationPage publishedDefaultPage = application.getPublishedPages()
                         .stream()
                         .filter(ApplicationPage::getIsDefault)
                         .findFirst()
                         .orElse(null);
-                    
+
                     if(publishedDefaultPage != null) {
-                        applicationJson.setPublishedDefaultPageName(publishedDefaultPage.getId());
+                        context.publishedDefaultPageName = publishedDefaultPage.getId();
                     }
                 }
-                
-                final String organizationId = application.getOrganizationId();
+
+                context.organizationId = application.getOrganizationId();
                 application.setOrganizationId(null);
                 application.setPages(null);
                 examplesOrganizationCloner.makePristine(application);
-                applicationJson.setExportedApplication(application);
-                return newPageRepository.findByApplicationId(applicationId, AclPermission.MANAGE_PAGES)
-                    .collectList()
-                    .flatMap(newPageList -> {
-                        Map<String, Set<String>> publishedMongoEscapedWidgetsNames = new HashMap<>();
-                        Map<String, Set<String>> unpublishedMongoEscapedWidgetsNames = new HashMap<>();
-                        newPageList.forEach(newPage -> {
-    
-                            if (newPage.getUnpublishedPage() != null) {
-                                pageIdToNameMap.put(
-                                    newPage.getId() + PublishType.UNPUBLISHED, newPage.getUnpublishedPage().getName()
-                                );
-                                PageDTO unpublishedPageDTO = newPage.getUnpublishedPage();
-                                if (StringUtils.equals(
-                                    applicationJson.getUnpublishedDefaultPageName(), newPage.getId())
-                                ) {
-                                    applicationJson.setUnpublishedDefaultPageName(unpublishedPageDTO.getName());
-                                }
-                                if (unpublishedPageDTO.getLayouts() != null) {
-                                    
-                                    unpublishedPageDTO.getLayouts().forEach(layout ->
-                                        unpublishedMongoEscapedWidgetsNames
-                                            .put(layout.getId(), layout.getMongoEscapedWidgetNames())
-                                    );
-                                }
-                            }
-
-                            if (newPage.getPublishedPage() != null) {
-                                pageIdToNameMap.put(
-                                    newPage.getId() + PublishType.PUBLISHED, newPage.getPublishedPage().getName()
-                                );
-                                PageDTO publishedPageDTO = newPage.getPublishedPage();
-                                if (applicationJson.getPublishedDefaultPageName() != null &&
-                                    StringUtils.equals(
-                                        applicationJson.getPublishedDefaultPageName(), newPage.getId()
-                                    )
-                                ) {
-                                    applicationJson.setPublishedDefaultPageName(publishedPageDTO.getName());
-                                }
-                                
-                                if (publishedPageDTO.getLayouts() != null) {
-                                    newPage.getPublishedPage().getLayouts().forEach(layout ->
-                                        publishedMongoEscapedWidgetsNames
-                                            .put(layout.getId(), layout.getMongoEscapedWidgetNames())
-                                    );
-                                }
-                            }
-                            newPage.setApplicationId(null);
-                            examplesOrganizationCloner.makePristine(newPage);
-                        });
-                        applicationJson.setPageList(newPageList);
-                        applicationJson.setPublishedLayoutmongoEscapedWidgets(publishedMongoEscapedWidgetsNames);
-                        applicationJson.setUnpublishedLayoutmongoEscapedWidgets(unpublishedMongoEscapedWidgetsNames);
-                        return datasourceRepository
-                            .findAllByOrganizationId(organizationId, AclPermission.MANAGE_DATASOURCES)
-                            .collectList();
-                    })
-                    .flatMapMany(datasourceList -> {
-                        datasourceList.forEach(datasource ->
-                            datasourceIdToNameMap.put(datasource.getId(), datasource.getName()));
-                        
-                        applicationJson.setDatasourceList(datasourceList);
-                        return newActionRepository
-                            .findByApplicationId(applicationId, AclPermission.MANAGE_ACTIONS, null);
-                    })
-                    .collectList()
-                    .map(newActionList -> {
-                        Set<String> concernedDBNames = new HashSet<>();
-                        newActionList.forEach(newAction -> {
-                            newAction.setPluginId(pluginMap.get(newAction.getPluginId()));
-                            newAction.setOrganizationId(null);
-                            newAction.setPolicies(null);
-                            newAction.setApplicationId(null);
-                            //Collect Datasource names to filter only required datasources
-                            if (PluginType.DB.equals(newAction.getPluginType())
-                                || PluginType.API.equals(newAction.getPluginType())
-                                || PluginType.SAAS.equals(newAction.getPluginType())) {
-                                concernedDBNames.add(
-                                    sanitizeDatasourceInActionDTO(newAction.getPublishedAction(), datasourceIdToNameMap, pluginMap, null)
-                                );
-                                concernedDBNames.add(
-                                    sanitizeDatasourceInActionDTO(newAction.getUnpublishedAction(), datasourceIdToNameMap, pluginMap, null)
-                                );
-                            }
-                            if (newAction.getUnpublishedAction() != null) {
-                                ActionDTO actionDTO = newAction.getUnpublishedAction();
-                                actionDTO.setPageId(pageIdToNameMap.get(actionDTO.getPageId() + PublishType.UNPUBLISHED));
-                            }
-                            if (newAction.getPublishedAction() != null) {
-                                ActionDTO actionDTO = newAction.getPublishedAction();
-                                actionDTO.setPageId(pageIdToNameMap.get(actionDTO.getPageId() + PublishType.PUBLISHED));
-                            }
-                        });
-                        applicationJson
-                                .getDatasourceList()
-                                .removeIf(datasource -> !concernedDBNames.contains(datasource.getName()));
-                        
-                        applicationJson.setActionList(newActionList);
-                        
-                        //Only export those datasources which are used in the app instead of org level
-                        Map<String, DecryptedSensitiveFields> decryptedFields = new HashMap<>();
-                        applicationJson.getDatasourceList().forEach(datasource -> {
-                            decryptedFields.put(datasource.getName(), getDecryptedFields(datasource));
-                            datasource.setId(null);
-                            datasource.setOrganizationId(null);
-                            datasource.setPluginId(pluginMap.get(datasource.getPluginId()));
-                            if (datasource.getDatasourceConfiguration() != null) {
-                                datasource.getDatasourceConfiguration().setAuthentication(null);
-                            }
-                        });
-                        applicationJson.setDecryptedFields(decryptedFields);
-                        return applicationJson;
-                    });
-                })
-                .then()
-                .thenReturn(applicationJson);
+                context.application = application;
+                return datasourceRepository
+                    .findAllByOrganizationId(context.organizationId, AclPermission.MANAGE_DATASOURCES)
+                    .collectList();
+            })
+            .map(datasourceList -> {
+                datasourceList.forEach(datasource ->
+                    context.datasourceIdToNameMap.put(datasource.getId(), datasource.getName()));
+                context.organizationDatasources = datasourceList;
+                return context;
+            });
+    }
+
+    private Flux<NewPage> exportPages(ExportContext context) {
+        return newPageRepository.findByApplicationId(context.application.getId(), AclPermission.MANAGE_PAGES)
+            .map(newPage -> {
+
+                if (newPage.getUnpublishedPage() != null) {
+                    context.pageIdToNameMap.put(
+                        newPage.getId() + PublishType.UNPUBLISHED, newPage.getUnpublishedPage().getName()
+                    );
+                    PageDTO unpublishedPageDTO = newPage.getUnpublishedPage();
+                    if (StringUtils.equals(context.unpublishedDefaultPageName, newPage.getId())) {
+                        context.unpublishedDefaultPageName = unpublishedPageDTO.getName();
+                    }
+                    if (unpublishedPageDTO.getLayouts() != null) {
+
+                        unpublishedPageDTO.getLayouts().forEach(layout ->
+                            context.unpublishedMongoEscapedWidgetsNames
+                                .put(layout.getId(), layout.getMongoEscapedWidgetNames())
+                        );
+                    }
+                }
+
+                if (newPage.getPublishedPage() != null) {
+                    context.pageIdToNameMap.put(
+                        newPage.getId() + PublishType.PUBLISHED, newPage.getPublishedPage().getName()
+                    );
+                    PageDTO publishedPageDTO = newPage.getPublishedPage();
+                    if (context.publishedDefaultPageName != null &&
+                        StringUtils.equals(context.publishedDefaultPageName, newPage.getId())
+                    ) {
+                        context.publishedDefaultPageName = publishedPageDTO.getName();
+                    }
+
+                    if (publishedPageDTO.getLayouts() != null) {
+                        newPage.getPublishedPage().getLayouts().forEach(layout ->
+                            context.publishedMongoEscapedWidgetsNames
+                                .put(layout.getId(), layout.getMongoEscapedWidgetNames())
+                        );
+                    }
+                }
+                newPage.setApplicationId(null);
+                examplesOrganizationCloner.makePristine(newPage);
+                return newPage;
+            });
+    }
+
+    private Flux<NewAction> exportActions(ExportContext context) {
+        return newActionRepository
+            .findByApplicationId(context.application.getId(), AclPermission.MANAGE_ACTIONS, null)
+            .concatMap(newAction -> loadPackageNames(context, getPluginIds(newAction)).thenReturn(newAction))
+            .map(newAction -> {
+                final Map<String, String> pluginMap = context.pluginMap;
+                newAction.setPluginId(pluginMap.get(newAction.getPluginId()));
+                newAction.setOrganizationId(null);
+                newAction.setPolicies(null);
+                newAction.setApplicationId(null);
+                //Collect Datasource names to filter only required datasources
+                if (PluginType.DB.equals(newAction.getPluginType())
+                    || PluginType.API.equals(newAction.getPluginType())
+                    || PluginType.SAAS.equals(newAction.getPluginType())) {
+                    context.concernedDBNames.add(
+                        sanitizeDatasourceInActionDTO(newAction.getPublishedAction(), context.datasourceIdToNameMap, pluginMap, null)
+                    );
+                    context.concernedDBNames.add(
+                        sanitizeDatasourceInActionDTO(newAction.getUnpublishedAction(), context.datasourceIdToNameMap, pluginMap, null)
+                    );
+                }
+                if (newAction.getUnpublishedAction() != null) {
+                    ActionDTO actionDTO = newAction.getUnpublishedAction();
+                    actionDTO.setPageId(context.pageIdToNameMap.get(actionDTO.getPageId() + PublishType.UNPUBLISHED));
+                }
+                if (newAction.getPublishedAction() != null) {
+                    ActionDTO actionDTO = newAction.getPublishedAction();
+                    actionDTO.setPageId(context.pageIdToNameMap.get(actionDTO.getPageId() + PublishType.PUBLISHED));
+                }
+                return newAction;
+            });
+    }
+
+    private Flux<Datasource> exportDatasources(ExportContext context) {
+        //Only export those datasources which are used in the app instead of org level
+        return Flux.fromIterable(context.organizationDatasources)
+            .filter(datasource -> context.concernedDBNames.contains(datasource.getName()))
+            .concatMap(datasource -> loadPackageNames(context, Collections.singleton(datasource.getPluginId()))
+                .thenReturn(datasource))
+            .map(datasource -> {
+                context.decryptedFields.put(datasource.getName(), getDecryptedFields(datasource));
+                datasource.setId(null);
+                datasource.setOrganizationId(null);
+                datasource.setPluginId(context.pluginMap.get(datasource.getPluginId()));
+                if (datasource.getDatasourceConfiguration() != null) {
+                    datasource.getDatasourceConfiguration().setAuthentication(null);
+                }
+                return datasource;
+            });
+    }
+
+    private static Set<String> getPluginIds(NewAction newAction) {
+        return Stream.of(newAction.getUnpublishedAction(), newAction.getPublishedAction())
+            .filter(actionDTO -> actionDTO != null && actionDTO.getDatasource() != null)
+            .map(actionDTO -> actionDTO.getDatasource().getPluginId())
+            .collect(Collectors.toCollection(() -> new HashSet<>(Collections.singleton(newAction.getPluginId()))));
+    }
+
+    /**
+     * Looks up the package names of the given plugins, if they have not been looked up yet. Only the plugins used in
+     * the application are looked up, instead of all the plugins in the system.
+     */
+    private Mono<Void> loadPackageNames(ExportContext context, Collection<String> pluginIds) {
+        final Set<String> missingPluginIds = pluginIds.stream()
+            .filter(pluginId -> pluginId != null && !context.pluginMap.containsKey(pluginId))
+            .collect(Collectors.toSet());
+
+        if (missingPluginIds.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return pluginRepository.findAllById(missingPluginIds)
+            .doOnNext(plugin -> context.pluginMap.put(plugin.getId(), plugin.getPackageName()))
+            // Plugins that don't exist are not looked up again.
+            .doOnComplete(() -> missingPluginIds.forEach(pluginId -> context.pluginMap.putIfAbsent(pluginId, null)))
+            .then();
     }
 
     /**
@@ -279,31 +438,55 @@ public class ImportExportApplicationService {
          */
 
         final MediaType contentType = filePart.headers().getContentType();
-        
+
         if (orgId == null || orgId.isEmpty()) {
             return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ORGANIZATION_ID));
         }
-        
+
         if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType)) {
             return Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE));
         }
 
-        final Flux<DataBuffer> contentCache = filePart.content().cache();
-        Mono<String> stringifiedFile = DataBufferUtils.join(contentCache)
-            .map(dataBuffer -> {
-                byte[] data = new byte[dataBuffer.readableByteCount()];
-                dataBuffer.read(data);
-                DataBufferUtils.release(dataBuffer);
-                return new String(data);
-            });
+        // Jackson reads the file straight from its buffers, instead of it being copied into a byte array and then a
+        // string first. The size of the file is checked as its buffers arrive, before it is parsed.
+        return importDecoder
+                .decodeToMono(
+                        filePart.content(),
+                        ResolvableType.forClass(ApplicationJson.class),
+                        MediaType.APPLICATION_JSON,
+                        Collections.emptyMap()
+                )
+                .cast(ApplicationJson.class)
+                .onErrorMap(DataBufferLimitException.class, error ->
+                        new AppsmithException(AppsmithError.PAYLOAD_TOO_LARGE, maxImportFileSizeMb * 1024))
+                .onErrorMap(CodecException.class, error ->
+                        new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE))
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE)))
+                .flatMap(jsonFile -> importApplicationInOrganization(orgId, jsonFile));
+    }
 
-        return stringifiedFile
-                .flatMap(data -> {
-                    Gson gson = new Gson();
-                    Type fileType = new TypeToken<ApplicationJson>() {}.getType();
-                    ApplicationJson jsonFile = gson.fromJson(data, fileType);
-                    return importApplicationInOrganization(orgId, jsonFile);
-                });
+    private static Jackson2JsonDecoder createImportDecoder(ObjectMapper objectMapper, int maxImportFileSizeMb) {
+        final ObjectMapper importObjectMapper = objectMapper.copy();
+        importObjectMapper.setAnnotationIntrospector(AnnotationIntrospector.pair(
+                new ReadOnlyPropertiesIntrospector(),
+                importObjectMapper.getDeserializationConfig().getAnnotationIntrospector()
+        ));
+
+        final Jackson2JsonDecoder decoder = new Jackson2JsonDecoder(importObjectMapper);
+        decoder.setMaxInMemorySize(maxImportFileSizeMb * 1024 * 1024);
+        return decoder;
+    }
+
+    /**
+     * Properties that are read only in the API, like the JSON path keys of actions, are still part of an exported
+     * application, and have to be read back from the file.
+     */
+    private static class ReadOnlyPropertiesIntrospector extends JacksonAnnotationIntrospector {
+        @Override
+        public JsonProperty.Access findPropertyAccess(Annotated annotated) {
+            final JsonProperty.Access access = super.findPropertyAccess(annotated);
+            return access == JsonProperty.Access.READ_ONLY ? JsonProperty.Access.READ_WRITE : null;
+        }
     }
 
     /**
@@ -319,22 +502,23 @@ public class ImportExportApplicationService {
             2. Extract datasources and update plugin information
             3. Create new datasource if same datasource is not present
             4. Extract and save application
-            5. Extract and save pages in the application
+            5. Extract pages in the application, and give them their new ids
             6. Extract and save actions in the application
+            7. Save pages in the application, with the new ids of their on load actions
          */
         Map<String, String> pluginMap = new HashMap<>();
         Map<String, String> datasourceMap = new HashMap<>();
         Map<String, NewPage> pageNameMap = new HashMap<>();
         Map<String, String> actionIdMap = new HashMap<>();
-        
+
         Application importedApplication = importedDoc.getExportedApplication();
         List<Datasource> importedDatasourceList = importedDoc.getDatasourceList();
         List<NewPage> importedNewPageList = importedDoc.getPageList();
         List<NewAction> importedNewActionList = importedDoc.getActionList();
-        
+
         Mono<User> currUserMono = sessionUserService.getCurrentUser();
         final Flux<Datasource> existingDatasourceFlux = datasourceRepository.findAllByOrganizationId(organizationId).cache();
-        
+
         String errorField = "";
         if (importedNewPageList == null || importedNewPageList.isEmpty()) {
             errorField = FieldName.PAGES;
@@ -345,12 +529,12 @@ public class ImportExportApplicationService {
         } else if (importedDatasourceList == null) {
             errorField = FieldName.DATASOURCE;
         }
-        
+
         if(!errorField.isEmpty()) {
             return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, errorField, INVALID_JSON_FILE));
         }
-        
-        return pluginRepository.findAll()
+
+        return pluginRepository.findByPackageNameIn(getPackageNames(importedDatasourceList, importedNewActionList))
             .map(plugin -> {
                 pluginMap.put(plugin.getPackageName(), plugin.getId());
                 return plugin;
@@ -364,13 +548,13 @@ public class ImportExportApplicationService {
                 .flatMap(datasource -> {
                     datasource.setPluginId(pluginMap.get(datasource.getPluginId()));
                     datasource.setOrganizationId(organization.getId());
-                    
+
                     //Check if any decrypted fields are present for datasource
                     if (importedDoc.getDecryptedFields().get(datasource.getName()) != null) {
-                        
+
                         DecryptedSensitiveFields decryptedFields =
                             importedDoc.getDecryptedFields().get(datasource.getName());
-                        
+
                         updateAuthenticationDTO(datasource, decryptedFields);
                     }
                     return createUniqueDatasourceIfNotPresent(existingDatasourceFlux, datasource, organizationId);
@@ -382,19 +566,19 @@ public class ImportExportApplicationService {
                 .collectList()
             )
             .then(
-                
+
                 applicationPageService.setApplicationPolicies(currUserMono, organizationId, importedApplication)
                     .flatMap(application -> applicationService
                         .findByOrganizationId(organizationId, AclPermission.MANAGE_APPLICATIONS)
                         .collectList()
                         .flatMap(applicationList -> {
-                            
+
                             Application duplicateNameApp = applicationList
                                 .stream()
                                 .filter(application1 -> StringUtils.equals(application1.getName(), application.getName()))
                                 .findAny()
                                 .orElse(null);
-                            
+
                             return getUniqueSuffixForDuplicateNameEntity(duplicateNameApp, organizationId)
                                 .map(suffix -> {
                                     importedApplication.setName(importedApplication.getName() + suffix);
@@ -406,21 +590,20 @@ public class ImportExportApplicationService {
             )
             .flatMap(savedApp -> {
                 importedApplication.setId(savedApp.getId());
-                Map<PublishType, List<ApplicationPage>> applicationPages = Map.of(
-                    PublishType.UNPUBLISHED, new ArrayList<>(),
-                    PublishType.PUBLISHED, new ArrayList<>()
-                );
-                
-                return importAndSavePages(
+                List<ApplicationPage> unpublishedAppPages = new ArrayList<>();
+                List<ApplicationPage> publishedAppPages = new ArrayList<>();
+
+                prepareImportedPages(
                     importedNewPageList,
                     importedApplication,
                     importedDoc.getPublishedLayoutmongoEscapedWidgets(),
                     importedDoc.getUnpublishedLayoutmongoEscapedWidgets()
-                )
-                .map(newPage -> {
+                );
+
+                importedNewPageList.forEach(newPage -> {
                     ApplicationPage unpublishedAppPage = new ApplicationPage();
                     ApplicationPage publishedAppPage = new ApplicationPage();
-                    
+
                     if (newPage.getUnpublishedPage() != null && newPage.getUnpublishedPage().getName() != null) {
                         unpublishedAppPage.setIsDefault(
                             StringUtils.equals(
@@ -430,7 +613,7 @@ public class ImportExportApplicationService {
                         unpublishedAppPage.setId(newPage.getId());
                         pageNameMap.put(newPage.getUnpublishedPage().getName(), newPage);
                     }
-    
+
                     if (newPage.getPublishedPage() != null && newPage.getPublishedPage().getName() != null) {
                         publishedAppPage.setIsDefault(
                             StringUtils.equals(
@@ -440,71 +623,77 @@ public class ImportExportApplicationService {
                         publishedAppPage.setId(newPage.getId());
                         pageNameMap.put(newPage.getPublishedPage().getName(), newPage);
                     }
-                    applicationPages.get(PublishType.UNPUBLISHED).add(unpublishedAppPage);
-                    applicationPages.get(PublishType.PUBLISHED).add(publishedAppPage);
-                    return applicationPages;
-                })
-                .then()
-                .thenReturn(applicationPages);
-            })
-            .flatMap(applicationPageMap -> {
-                importedApplication.setPages(applicationPageMap.get(PublishType.UNPUBLISHED));
-                importedApplication.setPublishedPages(applicationPageMap.get(PublishType.PUBLISHED));
-                
+                    unpublishedAppPages.add(unpublishedAppPage);
+                    publishedAppPages.add(publishedAppPage);
+                });
+                importedApplication.setPages(unpublishedAppPages);
+                importedApplication.setPublishedPages(publishedAppPages);
+
+                final Instant now = Instant.now();
                 importedNewActionList.forEach(newAction -> {
+                    // The new id is set up front, so that the on load actions in the layouts can refer to it before
+                    // the action is saved.
+                    final String newActionId = new ObjectId().toString();
+                    if (newAction.getId() != null) {
+                        actionIdMap.put(newAction.getId(), newActionId);
+                    }
+
                     NewPage parentPage = new NewPage();
                     if (newAction.getUnpublishedAction() != null && newAction.getUnpublishedAction().getName() != null) {
                         parentPage = pageNameMap.get(newAction.getUnpublishedAction().getPageId());
-                        actionIdMap.put(newAction.getUnpublishedAction().getName() + parentPage.getId(), newAction.getId());
                         newAction.getUnpublishedAction().setPageId(parentPage.getId());
                         sanitizeDatasourceInActionDTO(newAction.getUnpublishedAction(), datasourceMap, pluginMap, organizationId);
                     }
-                    
+
                     if (newAction.getPublishedAction() != null && newAction.getPublishedAction().getName() != null) {
                         parentPage = pageNameMap.get(newAction.getPublishedAction().getPageId());
-                        actionIdMap.put(newAction.getPublishedAction().getName() + parentPage.getId(), newAction.getId());
                         newAction.getPublishedAction().setPageId(parentPage.getId());
                         sanitizeDatasourceInActionDTO(newAction.getPublishedAction(), datasourceMap, pluginMap, organizationId);
                     }
-                    
+
                     examplesOrganizationCloner.makePristine(newAction);
+                    newAction.setId(newActionId);
+                    // Auditing only sets the creation time of documents without an id.
+                    newAction.setCreatedAt(now);
                     newAction.setOrganizationId(organizationId);
                     newAction.setApplicationId(importedApplication.getId());
                     newAction.setPluginId(pluginMap.get(newAction.getPluginId()));
                     newActionService.generateAndSetActionPolicies(parentPage, newAction);
                 });
-                return newActionService.saveAll(importedNewActionList)
-                    .map(newAction -> {
-                        
-                        if (newAction.getUnpublishedAction() != null) {
-                            ActionDTO unpublishedAction = newAction.getUnpublishedAction();
-                            actionIdMap.put(
-                                actionIdMap.get(unpublishedAction.getName() + unpublishedAction.getPageId()),
-                                newAction.getId()
-                            );
-                        }
-    
-                        if (newAction.getPublishedAction() != null) {
-                            ActionDTO publishedAction = newAction.getPublishedAction();
-                            actionIdMap.put(
-                                actionIdMap.get(publishedAction.getName() + publishedAction.getPageId()),
-                                newAction.getId()
-                            );
-                        }
-                        
-                        return newAction;
-                    })
-                    .then(Mono.just(importedApplication));
-            })
-            .flatMap(ignored -> {
+
                 //Map layoutOnLoadActions ids with relevant actions
                 importedNewPageList.forEach(page -> mapActionIdWithPageLayout(page, actionIdMap));
-                return Flux.fromIterable(importedNewPageList)
-                    .flatMap(newPageService::save)
+
+                // Both are inserted in batches, to keep the size of each bulk write bounded.
+                return Flux.fromIterable(importedNewActionList)
+                    .buffer(importBatchSize)
+                    .concatMap(newActionRepository::insert)
+                    .thenMany(Flux.fromIterable(importedNewPageList)
+                        .buffer(importBatchSize)
+                        .concatMap(newPageRepository::insert))
                     .then(applicationService.update(importedApplication.getId(), importedApplication));
             });
     }
 
+    /**
+     * @return The package names of the plugins used by the given datasources and actions, which have to be looked up
+     * to get the ids of these plugins.
+     */
+    private static Set<String> getPackageNames(List<Datasource> datasources, List<NewAction> actions) {
+        final Stream<String> datasourcePackageNames = datasources.stream().map(Datasource::getPluginId);
+        final Stream<String> actionPackageNames = actions.stream()
+            .flatMap(action -> Stream.concat(
+                Stream.of(action.getPluginId()),
+                Stream.of(action.getUnpublishedAction(), action.getPublishedAction())
+                    .filter(actionDTO -> actionDTO != null && actionDTO.getDatasource() != null)
+                    .map(actionDTO -> actionDTO.getDatasource().getPluginId())
+            ));
+
+        return Stream.concat(datasourcePackageNames, actionPackageNames)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
     private Mono<String> getUniqueSuffixForDuplicateNameEntity(BaseDomain sourceEntity, String orgId) {
         if (sourceEntity != null) {
             return sequenceService
@@ -514,14 +703,21 @@ public class ImportExportApplicationService {
         return Mono.just("");
     }
 
-    private Flux<NewPage> importAndSavePages(List<NewPage> pages,
-                                             Application application,
-                                             Map<String, Set<String>> publishedMongoEscapedWidget,
-                                             Map<String, Set<String>> unpublishedMongoEscapedWidget
+    /**
+     * Prepares the imported pages to be saved in the given application, and gives them their new ids up front, so that
+     * the actions can refer to them before the pages are saved.
+     */
+    private void prepareImportedPages(List<NewPage> pages,
+                                      Application application,
+                                      Map<String, Set<String>> publishedMongoEscapedWidget,
+                                      Map<String, Set<String>> unpublishedMongoEscapedWidget
     ) {
 
+        final Instant now = Instant.now();
         pages.forEach(newPage -> {
             String layoutId = new ObjectId().toString();
+            newPage.setId(new ObjectId().toString());
+            newPage.setCreatedAt(now);
             newPage.setApplicationId(application.getId());
             if (newPage.getUnpublishedPage() != null) {
                 applicationPageService.generateAndSetPagePolicies(application, newPage.getUnpublishedPage());
@@ -544,9 +740,6 @@ public class ImportExportApplicationService {
                 }
             }
         });
-
-        return Flux.fromIterable(pages)
-                .flatMap(newPageService::save);
     }
 
     private String sanitizeDatasourceInActionDTO(ActionDTO actionDTO, Map<String, String> datasourceMap, Map<String, String> pluginMap, String organizationId) {
@@ -0,0 +1,58 @@
+package com.appsmith.server.configurations;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+public class PluginSchedulerProviderImplTest {
+
+    @Test
+    public void testSameSchedulerForSamePlugin() {
+        PluginSchedulerProviderImpl provider = new PluginSchedulerProviderImpl(new SimpleMeterRegistry(), 2, 2, false);
+
+        Assert.assertSame(provider.getScheduler("postgres-plugin"), provider.getScheduler("postgres-plugin"));
+        Assert.assertNotSame(provider.getScheduler("postgres-plugin"), provider.getScheduler("mysql-plugin"));
+
+        provider.destroy();
+    }
+
+    @Test
+    public void testRejectsWhenThreadsAndQueueAreFull() throws InterruptedException {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PluginSchedulerProviderImpl provider = new PluginSchedulerProviderImpl(meterRegistry, 1, 1, false);
+        Scheduler scheduler = provider.getScheduler("postgres-plugin");
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Occupy the only thread, and then the only slot in the queue.
+        scheduler.schedule(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        scheduler.schedule(() -> {});
+
+        StepVerifier.create(Mono.fromCallable(() -> "result").subscribeOn(scheduler))
+                .expectError(RejectedExecutionException.class)
+                .verify();
+
+        Assert.assertEquals(1.0,
+                meterRegistry.get("appsmith.plugin.scheduler.rejected").tag("plugin", "postgres-plugin").counter().count(),
+                0.0);
+
+        release.countDown();
+        provider.destroy();
+    }
+}
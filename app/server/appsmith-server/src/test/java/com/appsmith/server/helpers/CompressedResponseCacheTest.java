@@ -0,0 +1,59 @@
+package com.appsmith.server.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompressedResponseCacheTest {
+
+    private final CompressedResponseCache compressedResponseCache = new CompressedResponseCache(new ObjectMapper(), 1);
+
+    @Test
+    public void testCompressedBodyIsCachedByKey() throws IOException {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/page")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br")
+                .build();
+        AtomicInteger serializations = new AtomicInteger();
+
+        ResponseEntity<Object> first = compressedResponseCache.toResponseEntity(request, "v1:page", "v1", null, () -> {
+            serializations.incrementAndGet();
+            return Map.of("name", "Page1");
+        });
+        ResponseEntity<Object> second = compressedResponseCache.toResponseEntity(request, "v1:page", "v1", null, () -> {
+            serializations.incrementAndGet();
+            return Map.of("name", "Page1");
+        });
+
+        assertThat(serializations.get()).isEqualTo(1);
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(first.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(first.getHeaders().getETag()).isEqualTo("W/\"v1\"");
+
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream((byte[]) first.getBody()))) {
+            assertThat(new String(inputStream.readAllBytes())).isEqualTo("{\"name\":\"Page1\"}");
+        }
+    }
+
+    @Test
+    public void testBodyIsNotCompressedWithoutGzipSupport() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/page")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, br")
+                .build();
+
+        ResponseEntity<Object> response = compressedResponseCache.toResponseEntity(request, "v1:page", "v1", null,
+                () -> Map.of("name", "Page1"));
+
+        assertThat(response.getBody()).isEqualTo(Map.of("name", "Page1"));
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    }
+}
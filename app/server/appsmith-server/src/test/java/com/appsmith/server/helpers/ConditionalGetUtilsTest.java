@@ -0,0 +1,97 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.User;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConditionalGetUtilsTest {
+
+    @Test
+    public void testETagSetOnFirstRequest() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/page"));
+
+        StepVerifier.create(ConditionalGetUtils.withETag(exchange, "v1", Mono.just("body")))
+                .expectNext("body")
+                .verifyComplete();
+
+        assertThat(exchange.getResponse().getHeaders().getETag()).isEqualTo("W/\"v1\"");
+        assertThat(exchange.getResponse().getStatusCode()).isNotEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    public void testNotModifiedWhenClientHasCurrentVersion() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/page")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"v1\""));
+
+        StepVerifier.create(ConditionalGetUtils.withETag(exchange, "v1", Mono.just("body")))
+                .verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    public void testErrorIsNotHiddenByNotModified() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/page")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"v1\""));
+
+        StepVerifier.create(ConditionalGetUtils.withETag(exchange, "v1", Mono.error(new IllegalStateException())))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+
+    @Test
+    public void testLastModifiedWithinSameSecondIsModified() {
+        Instant cached = Instant.ofEpochMilli(1_600_000_000_100L);
+        Instant updated = Instant.ofEpochMilli(1_600_000_000_900L);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/page")
+                .header(HttpHeaders.IF_NONE_MATCH, ConditionalGetUtils.eTagOf(String.valueOf(cached.toEpochMilli())))
+                .ifModifiedSince(cached.toEpochMilli()));
+
+        StepVerifier.create(ConditionalGetUtils.withLastModified(exchange, Mono.just(updated), instant -> instant))
+                .expectNext(updated)
+                .verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isNotEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(exchange.getResponse().getHeaders().getLastModified()).isEqualTo(1_600_000_000_000L);
+    }
+
+    private static User user(Set<String> memberGroupIds) {
+        User user = new User();
+        user.setEmail("viewer@test.com");
+        user.setMemberGroupIds(memberGroupIds);
+        return user;
+    }
+
+    private static String eTagFor(User user) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/page"));
+
+        StepVerifier.create(ConditionalGetUtils.withETag(exchange, "v1", Mono.just("body"))
+                        .subscriberContext(ReactiveSecurityContextHolder.withAuthentication(
+                                new UsernamePasswordAuthenticationToken(user, null))))
+                .expectNext("body")
+                .verifyComplete();
+
+        return exchange.getResponse().getHeaders().getETag();
+    }
+
+    @Test
+    public void testETagChangesWithGroupMembership() {
+        final String eTag = eTagFor(user(Set.of("group1")));
+
+        assertThat(eTag).startsWith("W/\"v1:");
+        assertThat(eTagFor(user(Set.of("group1")))).isEqualTo(eTag);
+        assertThat(eTagFor(user(Set.of("group1", "group2")))).isNotEqualTo(eTag);
+    }
+}
@@ -0,0 +1,65 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ConnectionPoolStats;
+import com.appsmith.external.plugins.PluginExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ConnectionPoolMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionPoolMetrics connectionPoolMetrics;
+    private PluginExecutor<Object> pluginExecutor;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        connectionPoolMetrics = new ConnectionPoolMetrics(meterRegistry);
+        pluginExecutor = Mockito.mock(PluginExecutor.class);
+    }
+
+    private double gauge(String datasourceId, String state) {
+        return meterRegistry.get(ConnectionPoolMetrics.GAUGE_NAME)
+                .tag("datasource", datasourceId)
+                .tag("state", state)
+                .gauge()
+                .value();
+    }
+
+    @Test
+    public void testGaugesReadTheCurrentStateOfThePool() {
+        final Object connection = new Object();
+        Mockito.when(pluginExecutor.getConnectionPoolStats(connection))
+                .thenReturn(new ConnectionPoolStats(1, 2, 0, 3));
+
+        connectionPoolMetrics.register("datasource1", "postgres-plugin", pluginExecutor, connection);
+
+        Assert.assertEquals(1, gauge("datasource1", "active"), 0);
+        Assert.assertEquals(2, gauge("datasource1", "idle"), 0);
+        Assert.assertEquals(0, gauge("datasource1", "pending"), 0);
+        Assert.assertEquals(3, gauge("datasource1", "total"), 0);
+
+        Mockito.when(pluginExecutor.getConnectionPoolStats(connection))
+                .thenReturn(new ConnectionPoolStats(3, 0, 4, 3));
+
+        Assert.assertEquals(3, gauge("datasource1", "active"), 0);
+        Assert.assertEquals(4, gauge("datasource1", "pending"), 0);
+
+        connectionPoolMetrics.remove("datasource1");
+
+        Assert.assertTrue(meterRegistry.find(ConnectionPoolMetrics.GAUGE_NAME).meters().isEmpty());
+    }
+
+    @Test
+    public void testNothingIsPublishedForConnectionsWithoutPools() {
+        Mockito.when(pluginExecutor.getConnectionPoolStats(Mockito.any())).thenReturn(null);
+
+        connectionPoolMetrics.register("datasource1", "restapi-plugin", pluginExecutor, new Object());
+
+        Assert.assertTrue(meterRegistry.find(ConnectionPoolMetrics.GAUGE_NAME).meters().isEmpty());
+    }
+}
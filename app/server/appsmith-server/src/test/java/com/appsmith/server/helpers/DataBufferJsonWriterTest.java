@@ -0,0 +1,58 @@
+package com.appsmith.server.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataBufferJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testPiecesFormOneDocument() throws IOException {
+        ByteArrayOutputStream document = new ByteArrayOutputStream();
+
+        try (DataBufferJsonWriter writer = new DataBufferJsonWriter(objectMapper, new DefaultDataBufferFactory())) {
+            append(document, writer.startObject().writeField("name", "app").startArray("pages").drain());
+            append(document, writer.writeValue(Map.of("name", "Page1")).drain());
+            append(document, writer.writeValue(Map.of("name", "Page2")).drain());
+            append(document, writer.endArray().writeField("defaultPage", null).endObject().drain());
+        }
+
+        final JsonNode json = objectMapper.readTree(document.toByteArray());
+        assertThat(json.get("name").asText()).isEqualTo("app");
+        assertThat(json.get("pages")).hasSize(2);
+        assertThat(json.get("pages").get(1).get("name").asText()).isEqualTo("Page2");
+        assertThat(json.get("defaultPage").isNull()).isTrue();
+    }
+
+    @Test
+    public void testDrainOnlyReturnsNewContent() throws IOException {
+        try (DataBufferJsonWriter writer = new DataBufferJsonWriter(objectMapper, new DefaultDataBufferFactory())) {
+            writer.startObject().startArray("pages").drain();
+
+            final DataBuffer dataBuffer = writer.writeValue("Page1").drain();
+            assertThat(dataBuffer.toString(StandardCharsets.UTF_8)).isEqualTo("\"Page1\"");
+            DataBufferUtils.release(dataBuffer);
+
+            assertThat(writer.drain().readableByteCount()).isZero();
+        }
+    }
+
+    private static void append(ByteArrayOutputStream document, DataBuffer dataBuffer) throws IOException {
+        byte[] bytes = new byte[dataBuffer.readableByteCount()];
+        dataBuffer.read(bytes);
+        DataBufferUtils.release(dataBuffer);
+        document.write(bytes);
+    }
+}
@@ -0,0 +1,139 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.ConnectException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeoutException;
+
+public class DatasourceCircuitBreakerTest {
+
+    private static class MutableClock extends Clock {
+
+        private long millis = 0;
+
+        void advanceSeconds(long seconds) {
+            millis += seconds * 1000;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    private static boolean isCircuitOpenError(Throwable error) {
+        return error instanceof AppsmithException
+                && ((AppsmithException) error).getError() == AppsmithError.DATASOURCE_CIRCUIT_OPEN;
+    }
+
+    @Test
+    public void testOpensAfterConsecutiveFailuresAndClosesAfterProbe() {
+        MutableClock clock = new MutableClock();
+        DatasourceCircuitBreaker breaker = new DatasourceCircuitBreaker(new SimpleMeterRegistry(), 2, 10, 60, clock);
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(breaker.run("ds1", "DS", Mono.error(new TimeoutException())))
+                    .expectError(TimeoutException.class)
+                    .verify();
+        }
+
+        // The circuit is open, so the execution is not even subscribed to.
+        StepVerifier.create(breaker.run("ds1", "DS", Mono.fromCallable(() -> {
+            Assert.fail("Execution should not run when the circuit is open.");
+            return "unreachable";
+        })))
+                .expectErrorMatches(DatasourceCircuitBreakerTest::isCircuitOpenError)
+                .verify();
+
+        // Other datasources are not affected.
+        StepVerifier.create(breaker.run("ds2", "DS2", Mono.just("other")))
+                .expectNext("other")
+                .verifyComplete();
+
+        clock.advanceSeconds(10);
+
+        StepVerifier.create(breaker.run("ds1", "DS", Mono.just("probe")))
+                .expectNext("probe")
+                .verifyComplete();
+
+        StepVerifier.create(breaker.run("ds1", "DS", Mono.just("closed")))
+                .expectNext("closed")
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFailedProbeBacksOffExponentially() {
+        MutableClock clock = new MutableClock();
+        DatasourceCircuitBreaker breaker = new DatasourceCircuitBreaker(new SimpleMeterRegistry(), 1, 10, 30, clock);
+
+        StepVerifier.create(breaker.run("ds1", "DS", Mono.error(new ConnectException())))
+                .expectError(ConnectException.class)
+                .verify();
+
+        clock.advanceSeconds(10);
+        StepVerifier.create(breaker.run("ds1", "DS", Mono.error(new ConnectException())))
+                .expectError(ConnectException.class)
+                .verify();
+
+        // The circuit is now open for 20 seconds.
+        clock.advanceSeconds(10);
+        StepVerifier.create(breaker.run("ds1", "DS", Mono.just("too early")))
+                .expectErrorMatches(DatasourceCircuitBreakerTest::isCircuitOpenError)
+                .verify();
+
+        clock.advanceSeconds(10);
+        StepVerifier.create(breaker.run("ds1", "DS", Mono.error(new ConnectException())))
+                .expectError(ConnectException.class)
+                .verify();
+
+        // Doubling again would be 40 seconds, but it is capped at 30.
+        clock.advanceSeconds(30);
+        StepVerifier.create(breaker.run("ds1", "DS", Mono.just("probe")))
+                .expectNext("probe")
+                .verifyComplete();
+    }
+
+    @Test
+    public void testQueryErrorsDoNotOpenCircuit() {
+        MutableClock clock = new MutableClock();
+        DatasourceCircuitBreaker breaker = new DatasourceCircuitBreaker(new SimpleMeterRegistry(), 2, 10, 60, clock);
+
+        for (int i = 0; i < 5; i++) {
+            StepVerifier.create(breaker.run("ds1", "DS", Mono.error(
+                    new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "bad query"))))
+                    .expectError(AppsmithPluginException.class)
+                    .verify();
+        }
+
+        StepVerifier.create(breaker.run("ds1", "DS", Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+
+        Assert.assertTrue(DatasourceCircuitBreaker.isCircuitFailure(
+                new AppsmithPluginException(AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR, "Query1", 10000)));
+        Assert.assertTrue(DatasourceCircuitBreaker.isCircuitFailure(new RuntimeException(new ConnectException())));
+        Assert.assertFalse(DatasourceCircuitBreaker.isCircuitFailure(new IllegalArgumentException()));
+    }
+}
@@ -0,0 +1,180 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DslAnalyzerTest {
+
+    private static JSONObject parse(String dsl) throws ParseException {
+        return (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(dsl);
+    }
+
+    @Test
+    public void testWidgetNamesAndBindingsAreExtracted() throws ParseException {
+        JSONObject dsl = parse("{\"widgetName\": \"MainContainer\", \"children\": [" +
+                "{\"widgetName\": \"Text1\", \"type\": \"TEXT_WIDGET\", \"text\": \"{{fetchUsers.data[0].name}}\"," +
+                " \"dynamicBindingPathList\": [{\"key\": \"text\"}]}," +
+                "{\"widgetName\": \"Form1\", \"children\": [" +
+                "{\"widgetName\": \"Input1\", \"config\": {\"rows\": [[\"a\", \"Hi {{ appsmith.user.name }} {{ Text1.text }}\"]]}," +
+                " \"dynamicBindingPathList\": [{\"key\": \"config.rows[0][1]\"}]}" +
+                "]}" +
+                "]}");
+
+        DslAnalyzer dslAnalyzer = DslAnalyzer.analyze(dsl, "page", "layout");
+
+        assertThat(dslAnalyzer.getWidgetNames()).containsExactlyInAnyOrder("MainContainer", "Text1", "Form1", "Input1");
+        assertThat(dslAnalyzer.getMustacheKeys())
+                .containsExactlyInAnyOrder("fetchUsers.data[0].name", "appsmith.user.name", "Text1.text");
+        assertThat(dslAnalyzer.getBindingNames()).containsExactlyInAnyOrder("fetchUsers", "name", "appsmith", "Text1");
+        assertThat(dslAnalyzer.getEscapedWidgetNames()).isEmpty();
+    }
+
+    @Test
+    public void testTableColumnsAreEscapedInPlace() throws ParseException {
+        JSONObject dsl = parse("{\"widgetName\": \"MainContainer\", \"children\": [" +
+                "{\"widgetName\": \"Table1\", \"type\": \"TABLE_WIDGET\", \"primaryColumns\": {\"_id\": {\"id\": \"_id\"}, \"name\": {}}}," +
+                "{\"widgetName\": \"Table2\", \"type\": \"TABLE_WIDGET\", \"primaryColumns\": {\"name\": {}}}" +
+                "]}");
+
+        DslAnalyzer dslAnalyzer = DslAnalyzer.analyze(dsl, "page", "layout");
+
+        assertThat(dslAnalyzer.getEscapedWidgetNames()).containsExactly("Table1");
+        Map<String, Object> table = (Map<String, Object>) ((List<?>) dsl.get("children")).get(0);
+        assertThat((Map<String, Object>) table.get("primaryColumns")).containsOnlyKeys(FieldName.MONGO_ESCAPE_ID, "name");
+
+        WidgetSpecificUtils.unEscapeDslKeys(dsl, dslAnalyzer.getEscapedWidgetNames());
+        assertThat((Map<String, Object>) table.get("primaryColumns")).containsOnlyKeys("_id", "name");
+    }
+
+    @Test
+    public void testEmptyChildrenAreDropped() throws ParseException {
+        JSONObject dsl = parse("{\"widgetName\": \"MainContainer\", \"children\": [{}, {\"widgetName\": \"Text1\"}, {}]}");
+
+        DslAnalyzer dslAnalyzer = DslAnalyzer.analyze(dsl, "page", "layout");
+
+        assertThat(dslAnalyzer.getWidgetNames()).containsExactlyInAnyOrder("MainContainer", "Text1");
+        assertThat((List<?>) dsl.get("children")).hasSize(1);
+    }
+
+    @Test
+    public void testPathToMissingFieldIsInvalid() throws ParseException {
+        JSONObject dsl = parse("{\"widgetName\": \"Text1\", \"config\": {\"rows\": [\"{{a}}\"]}," +
+                " \"dynamicBindingPathList\": [{\"key\": \"config.rows[1]\"}]}");
+
+        assertThatThrownBy(() -> DslAnalyzer.analyze(dsl, "page", "layout"))
+                .isInstanceOf(AppsmithException.class)
+                .matches(e -> ((AppsmithException) e).getError() == AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE);
+    }
+
+    @Test
+    public void testPathToFieldWithoutBindingIsInvalid() throws ParseException {
+        JSONObject dsl = parse("{\"widgetName\": \"Text1\", \"text\": \"plain text\"," +
+                " \"dynamicBindingPathList\": [{\"key\": \"text\"}]}");
+
+        assertThatThrownBy(() -> DslAnalyzer.analyze(dsl, "page", "layout"))
+                .isInstanceOf(AppsmithException.class)
+                .hasMessageContaining("plain text");
+    }
+
+    @Test
+    public void testPathToNonStringFieldHasNoBindings() throws ParseException {
+        JSONObject dsl = parse("{\"widgetName\": \"Text1\", \"count\": 3," +
+                " \"dynamicBindingPathList\": [{\"key\": \"count.value\"}]}");
+
+        DslAnalyzer dslAnalyzer = DslAnalyzer.analyze(dsl, "page", "layout");
+
+        assertThat(dslAnalyzer.getMustacheKeys()).isEmpty();
+    }
+
+    @Test
+    public void testWidgetsWithoutNamesAreSkipped() throws ParseException {
+        JSONObject dsl = parse("{\"type\": \"CANVAS_WIDGET\", \"children\": [{\"widgetName\": \"Text1\"}]}");
+
+        assertThat(DslAnalyzer.analyze(dsl, "page", "layout").getWidgetNames()).isEmpty();
+    }
+
+    @Test
+    public void testBindingNamesAreFromDistinctKeys() throws ParseException {
+        JSONObject dsl = parse("{\"widgetName\": \"MainContainer\", \"children\": [" +
+                "{\"widgetName\": \"Text1\", \"text\": \"{{Api1.data}}\", \"dynamicBindingPathList\": [{\"key\": \"text\"}]}," +
+                "{\"widgetName\": \"Text2\", \"text\": \"{{Api1.data}}\", \"dynamicBindingPathList\": [{\"key\": \"text\"}]}" +
+                "]}");
+
+        DslAnalyzer dslAnalyzer = DslAnalyzer.analyze(dsl, "page", "layout");
+
+        assertThat(dslAnalyzer.getMustacheKeys()).isEqualTo(Set.of("Api1.data"));
+        assertThat(dslAnalyzer.getBindingNames()).isEqualTo(Set.of("Api1"));
+    }
+
+    @Test
+    public void testReferencesArePathsOfNames() throws ParseException {
+        JSONObject dsl = parse("{\"widgetName\": \"MainContainer\", \"children\": [" +
+                "{\"widgetName\": \"Text1\", \"text\": \"{{Api1.data}} and {{Input1.text}}\"," +
+                " \"config\": {\"rows\": [\"{{Api1.isLoading}}\"]}," +
+                " \"dynamicBindingPathList\": [{\"key\": \"text\"}, {\"key\": \"config.rows[0]\"}]}," +
+                "{\"widgetName\": \"Button1\", \"onClick\": \"{{Api1.run()}}\", \"label\": \"{{Input1.text}}\"," +
+                " \"dynamicTriggerPathList\": [{\"key\": \"onClick\"}, {\"key\": \"missing\"}, {\"key\": \"label\"}]}," +
+                "{\"widgetName\": \"Table1\", \"type\": \"TABLE_WIDGET\"," +
+                " \"primaryColumns\": {\"_id\": {\"computedValue\": \"{{Table1.tableData.map(row => row._id)}}\"}}," +
+                " \"dynamicBindingPathList\": [{\"key\": \"primaryColumns._id.computedValue\"}]}" +
+                "]}");
+
+        DslAnalyzer dslAnalyzer = DslAnalyzer.analyze(dsl, "page", "layout");
+
+        Map<String, Set<String>> references = dslAnalyzer.getReferences();
+        assertThat(references.get("Api1"))
+                .containsExactlyInAnyOrder("children.0.text", "children.0.config.rows.0", "children.1.onClick");
+        assertThat(references.get("Input1")).containsExactlyInAnyOrder("children.0.text", "children.1.label");
+        assertThat(references.get("Text1")).containsExactly("children.0.widgetName");
+        assertThat(references.get("Table1")).containsExactlyInAnyOrder("children.2.widgetName",
+                "children.2.primaryColumns." + FieldName.MONGO_ESCAPE_ID + ".computedValue");
+
+        // Triggers are indexed, but don't count as the bindings that make actions run on page load
+        assertThat(dslAnalyzer.getMustacheKeys()).doesNotContain("Api1.run()");
+    }
+
+    @Test
+    public void testNameIsReplacedAtReferences() throws ParseException {
+        JSONObject dsl = parse("{\"widgetName\": \"MainContainer\", \"children\": [" +
+                "{\"widgetName\": \"Table1\", \"type\": \"TABLE_WIDGET\", \"label\": \"Table1 has {{Table1.pageNo}}\"," +
+                " \"primaryColumns\": {\"_id\": {\"computedValue\": \"{{Table1.tableData.map(row => row._id)}}\"}}," +
+                " \"dynamicBindingPathList\": [{\"key\": \"label\"}, {\"key\": \"primaryColumns._id.computedValue\"}]}," +
+                "{\"widgetName\": \"Text1\", \"text\": \"Table10 {{Table10.pageNo}}\", \"dynamicBindingPathList\": [{\"key\": \"text\"}]}" +
+                "]}");
+        DslAnalyzer dslAnalyzer = DslAnalyzer.analyze(dsl, "page", "layout");
+
+        assertThat(DslAnalyzer.replaceName(dsl, dslAnalyzer.getReferences().get("Table1"), "Table1", "Users")).isTrue();
+
+        Map<String, Object> table = (Map<String, Object>) ((List<?>) dsl.get("children")).get(0);
+        assertThat(table.get("widgetName")).isEqualTo("Users");
+        assertThat(table.get("label")).isEqualTo("Table1 has {{Users.pageNo}}");
+        assertThat(((Map<String, Map<String, Object>>) table.get("primaryColumns")).get(FieldName.MONGO_ESCAPE_ID).get("computedValue"))
+                .isEqualTo("{{Users.tableData.map(row => row._id)}}");
+        Map<String, Object> text = (Map<String, Object>) ((List<?>) dsl.get("children")).get(1);
+        assertThat(text.get("text")).isEqualTo("Table10 {{Table10.pageNo}}");
+    }
+
+    @Test
+    public void testStaleReferencesAreNotReplaced() throws ParseException {
+        JSONObject dsl = parse("{\"widgetName\": \"MainContainer\", \"children\": [" +
+                "{\"widgetName\": \"Text1\", \"text\": \"{{Api1.data}}\", \"dynamicBindingPathList\": [{\"key\": \"text\"}]}" +
+                "]}");
+
+        assertThat(DslAnalyzer.replaceName(dsl, List.of("children.0.text", "children.1.text"), "Api1", "Users")).isFalse();
+        assertThat(DslAnalyzer.replaceName(dsl, List.of("children.0.text", "children.0.widgetName"), "Api1", "Users")).isFalse();
+        Map<String, Object> text = (Map<String, Object>) ((List<?>) dsl.get("children")).get(0);
+        assertThat(text.get("text")).isEqualTo("{{Api1.data}}");
+    }
+}
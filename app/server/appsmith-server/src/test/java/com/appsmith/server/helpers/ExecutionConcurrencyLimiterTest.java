@@ -0,0 +1,98 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ExecutionConcurrencyLimiterTest {
+
+    @Test
+    public void testRejectsWhenQueueIsFull() {
+        ExecutionConcurrencyLimiter limiter = new ExecutionConcurrencyLimiter(new SimpleMeterRegistry(), 1, 1, 0, 0);
+        MonoProcessor<String> running = MonoProcessor.create();
+
+        Disposable first = limiter.limit("ds1", "DS", "org", "app1", running).subscribe();
+        Disposable second = limiter.limit("ds1", "DS", "org", "app1", Mono.just("queued")).subscribe();
+
+        StepVerifier.create(limiter.limit("ds1", "DS", "org", "app1", Mono.just("rejected")))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error).getError() == AppsmithError.EXECUTION_QUEUE_FULL)
+                .verify();
+
+        // Other datasources are not affected.
+        StepVerifier.create(limiter.limit("ds2", "DS2", "org", "app1", Mono.just("other")))
+                .expectNext("other")
+                .verifyComplete();
+
+        running.onNext("done");
+        first.dispose();
+        second.dispose();
+    }
+
+    @Test
+    public void testWaitingExecutionsAreServedInTurns() {
+        ExecutionConcurrencyLimiter limiter = new ExecutionConcurrencyLimiter(new SimpleMeterRegistry(), 1, 10, 0, 0);
+        MonoProcessor<String> running = MonoProcessor.create();
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+        limiter.limit("ds1", "DS", "org", "noisy", running).subscribe();
+        for (String key : List.of("noisy", "noisy", "noisy", "quiet")) {
+            limiter.limit("ds1", "DS", "org", key, Mono.fromCallable(() -> order.add(key))).subscribe();
+        }
+
+        running.onNext("done");
+
+        Assert.assertEquals(List.of("noisy", "quiet", "noisy", "noisy"), order);
+    }
+
+    @Test
+    public void testCancelledWaiterGivesUpItsPlace() {
+        ExecutionConcurrencyLimiter limiter = new ExecutionConcurrencyLimiter(new SimpleMeterRegistry(), 1, 1, 0, 0);
+        MonoProcessor<String> running = MonoProcessor.create();
+
+        limiter.limit("ds1", "DS", "org", "app1", running).subscribe();
+
+        // Times out while waiting in the queue, which frees up the queue for the next execution.
+        StepVerifier.create(limiter.limit("ds1", "DS", "org", "app1", Mono.just("late")).timeout(Duration.ofMillis(50)))
+                .expectError()
+                .verify();
+
+        StepVerifier.create(limiter.limit("ds1", "DS", "org", "app1", Mono.just("next")))
+                .then(() -> running.onNext("done"))
+                .expectNext("next")
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecutionsQueuedForDatasourceDoNotHoldOrganizationSlots() {
+        ExecutionConcurrencyLimiter limiter = new ExecutionConcurrencyLimiter(new SimpleMeterRegistry(), 1, 10, 2, 10);
+        MonoProcessor<String> running = MonoProcessor.create();
+
+        Disposable slow = limiter.limit("slow", "Slow", "org", "app1", running).subscribe();
+        List<Disposable> queued = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queued.add(limiter.limit("slow", "Slow", "org", "app1", Mono.never()).subscribe());
+        }
+
+        // Only one execution of the slow datasource is running, so the organization still has a slot for the others.
+        StepVerifier.create(limiter.limit("fast", "Fast", "org", "app1", Mono.just("fast")))
+                .expectNext("fast")
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        running.onNext("done");
+        slow.dispose();
+        queued.forEach(Disposable::dispose);
+    }
+}
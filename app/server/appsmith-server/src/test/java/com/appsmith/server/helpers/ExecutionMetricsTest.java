@@ -0,0 +1,70 @@
+package com.appsmith.server.helpers;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+public class ExecutionMetricsTest {
+
+    private Timer getTimer(SimpleMeterRegistry meterRegistry, String stage) {
+        return meterRegistry.find(ExecutionMetrics.TIMER_NAME).tag("stage", stage).timer();
+    }
+
+    @Test
+    public void testStagesArePublishedWithTheTagsOfTheExecution() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExecutionMetrics executionMetrics = new ExecutionMetrics(meterRegistry, true);
+        ExecutionMetrics.Recorder metrics = executionMetrics.newRecorder(true);
+
+        Mono<String> execution = metrics.time(ExecutionMetrics.ACTION_FETCH, Mono.delay(Duration.ofMillis(20)))
+                // The plugin and datasource are only known after the stages that fetch them.
+                .doOnNext(ignored -> {
+                    metrics.setPlugin("postgres-plugin");
+                    metrics.setDatasourceId("datasource1");
+                    metrics.record(ExecutionMetrics.PREPARATION, TimeUnit.MILLISECONDS.toNanos(5));
+                })
+                .then(metrics.time(ExecutionMetrics.PLUGIN_EXECUTION, Mono.just("result")));
+
+        StepVerifier.create(metrics.timeExecution(execution))
+                .expectNext("result")
+                .verifyComplete();
+
+        Timer actionFetchTimer = getTimer(meterRegistry, ExecutionMetrics.ACTION_FETCH);
+        Assert.assertNotNull(actionFetchTimer);
+        Assert.assertEquals("postgres-plugin", actionFetchTimer.getId().getTag("plugin"));
+        Assert.assertEquals("datasource1", actionFetchTimer.getId().getTag("datasource"));
+        Assert.assertEquals("true", actionFetchTimer.getId().getTag("viewMode"));
+        Assert.assertTrue(actionFetchTimer.totalTime(TimeUnit.MILLISECONDS) >= 20);
+
+        Assert.assertEquals(5, getTimer(meterRegistry, ExecutionMetrics.PREPARATION).totalTime(TimeUnit.MILLISECONDS), 0);
+        Assert.assertEquals(1, getTimer(meterRegistry, ExecutionMetrics.PLUGIN_EXECUTION).count());
+        Assert.assertEquals(1, getTimer(meterRegistry, ExecutionMetrics.TOTAL).count());
+        Assert.assertNull(getTimer(meterRegistry, ExecutionMetrics.CONNECTION));
+    }
+
+    @Test
+    public void testStagesArePublishedWhenExecutionFails() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExecutionMetrics executionMetrics = new ExecutionMetrics(meterRegistry, false);
+        ExecutionMetrics.Recorder metrics = executionMetrics.newRecorder(false);
+        metrics.setDatasourceId(null);
+
+        Mono<Object> execution = metrics.time(ExecutionMetrics.CONNECTION, Mono.error(new IllegalStateException()));
+
+        StepVerifier.create(metrics.timeExecution(execution))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        Timer connectionTimer = getTimer(meterRegistry, ExecutionMetrics.CONNECTION);
+        Assert.assertEquals(1, connectionTimer.count());
+        // The datasource tag is turned off.
+        Assert.assertEquals("unknown", connectionTimer.getId().getTag("datasource"));
+        Assert.assertEquals("false", connectionTimer.getId().getTag("viewMode"));
+    }
+}
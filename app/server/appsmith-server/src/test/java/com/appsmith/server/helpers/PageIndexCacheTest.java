@@ -0,0 +1,57 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.NewPage;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PageIndexCacheTest {
+
+    private static Mono<Map<String, NewPage>> loadPages(AtomicInteger loadCount) {
+        return Mono.fromCallable(() -> {
+            loadCount.incrementAndGet();
+            NewPage page = new NewPage();
+            page.setId("page1");
+            return Map.of("page1", page);
+        });
+    }
+
+    @Test
+    public void testLoadsOnceUntilEvicted() {
+        PageIndexCache pageIndexCache = new PageIndexCache(100, 300);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(pageIndexCache.get("app1", id -> loadPages(loadCount)))
+                    .assertNext(pages -> Assert.assertTrue(pages.containsKey("page1")))
+                    .verifyComplete();
+        }
+        Assert.assertEquals(1, loadCount.get());
+
+        pageIndexCache.evict("app1");
+
+        StepVerifier.create(pageIndexCache.get("app1", id -> loadPages(loadCount)))
+                .expectNextCount(1)
+                .verifyComplete();
+        Assert.assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void testFailedLoadIsNotCached() {
+        PageIndexCache pageIndexCache = new PageIndexCache(100, 300);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        StepVerifier.create(pageIndexCache.get("app1", id -> Mono.error(new RuntimeException("Database is down"))))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        StepVerifier.create(pageIndexCache.get("app1", id -> loadPages(loadCount)))
+                .expectNextCount(1)
+                .verifyComplete();
+        Assert.assertEquals(1, loadCount.get());
+    }
+}
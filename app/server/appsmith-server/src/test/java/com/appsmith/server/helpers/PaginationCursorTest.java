@@ -0,0 +1,39 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PaginationCursorTest {
+
+    @Test
+    public void testEncodeAndDecode() {
+        final PaginationCursor cursor = new PaginationCursor(Instant.ofEpochMilli(1617000000123L), new ObjectId().toHexString());
+
+        assertThat(PaginationCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    public void testDecodeEmpty() {
+        assertThat(PaginationCursor.decode(null)).isNull();
+        assertThat(PaginationCursor.decode("")).isNull();
+    }
+
+    @Test
+    public void testDecodeInvalid() {
+        assertThatThrownBy(() -> PaginationCursor.decode("not a cursor"))
+                .isInstanceOf(AppsmithException.class)
+                .matches(error -> ((AppsmithException) error).getError() == AppsmithError.INVALID_PARAMETER);
+
+        final String invalidId = Base64.getUrlEncoder().encodeToString("123:abc".getBytes());
+        assertThatThrownBy(() -> PaginationCursor.decode(invalidId))
+                .isInstanceOf(AppsmithException.class);
+    }
+}
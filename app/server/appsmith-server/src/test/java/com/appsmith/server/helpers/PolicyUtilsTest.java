@@ -0,0 +1,68 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AppsmithRole;
+import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.domains.Action;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.Page;
+import com.appsmith.server.domains.User;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.server.acl.AclPermission.EXECUTE_ACTIONS;
+import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
+
+public class PolicyUtilsTest {
+
+    private PolicyUtils policyUtils;
+
+    @Before
+    public void setUp() {
+        PolicyGenerator policyGenerator = new PolicyGenerator();
+        policyGenerator.createPolicyGraph();
+        policyUtils = new PolicyUtils(policyGenerator, null, null, null, null, null, null, null, null);
+    }
+
+    @Test
+    public void testGroupPoliciesAreInheritedWithTheGroup() {
+        Map<String, Policy> orgPolicyMap = policyUtils.generatePolicyFromPermissionForGroup(
+                AppsmithRole.ORGANIZATION_VIEWER.getPermissions(), "viewerGroup");
+        Map<String, Policy> applicationPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(
+                orgPolicyMap, Organization.class, Application.class);
+        Map<String, Policy> pagePolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(
+                applicationPolicyMap, Application.class, Page.class);
+        Map<String, Policy> actionPolicyMap = policyUtils.generateInheritedPoliciesFromSourcePolicies(
+                pagePolicyMap, Page.class, Action.class);
+
+        Policy readApplicationPolicy = applicationPolicyMap.get(READ_APPLICATIONS.getValue());
+        Assert.assertEquals(Set.of("viewerGroup"), readApplicationPolicy.getGroups());
+        Assert.assertTrue(readApplicationPolicy.getUsers().isEmpty());
+        Assert.assertFalse(applicationPolicyMap.containsKey(MANAGE_APPLICATIONS.getValue()));
+
+        Policy executeActionPolicy = actionPolicyMap.get(EXECUTE_ACTIONS.getValue());
+        Assert.assertEquals(Set.of("viewerGroup"), executeActionPolicy.getGroups());
+        Assert.assertTrue(executeActionPolicy.getUsers().isEmpty());
+    }
+
+    @Test
+    public void testPermissionsOfMemberGroups() {
+        Set<Policy> policies = Set.of(
+                Policy.builder().permission(READ_APPLICATIONS.getValue()).groups(Set.of("viewerGroup")).build(),
+                Policy.builder().permission(MANAGE_APPLICATIONS.getValue()).groups(Set.of("adminGroup")).build()
+        );
+
+        User user = new User();
+        user.setEmail("viewer@example.com");
+        Assert.assertTrue(policyUtils.getPermissionsForUser(policies, user).isEmpty());
+
+        user.setMemberGroupIds(Set.of("viewerGroup"));
+        Assert.assertEquals(Set.of(READ_APPLICATIONS.getValue()), policyUtils.getPermissionsForUser(policies, user));
+    }
+}
@@ -0,0 +1,89 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.PublishedApplicationBundle;
+import com.appsmith.server.domains.PublishedApplicationBundle.BundledPage;
+import com.appsmith.server.dtos.PageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PublishedApplicationBundleCacheTest {
+
+    private static PublishedApplicationBundle createBundle(String applicationId, String pageId, int nameLength) {
+        PageDTO page = new PageDTO();
+        page.setName("a".repeat(nameLength));
+        BundledPage bundledPage = new BundledPage();
+        bundledPage.setPageId(pageId);
+        bundledPage.setPage(page);
+
+        PublishedApplicationBundle bundle = new PublishedApplicationBundle();
+        bundle.setApplicationId(applicationId);
+        bundle.setPages(List.of(bundledPage));
+        bundle.setActions(List.of());
+        return bundle;
+    }
+
+    @Test
+    public void testLoadsOnceUntilEvicted() {
+        PublishedApplicationBundleCache cache = new PublishedApplicationBundleCache(new ObjectMapper(), 10, 60);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(cache.get("app1", id -> Mono.fromCallable(() -> {
+                loadCount.incrementAndGet();
+                return createBundle("app1", "page1", 10);
+            })))
+                    .expectNextCount(1)
+                    .verifyComplete();
+        }
+        Assert.assertEquals(1, loadCount.get());
+        Assert.assertEquals("app1", cache.getApplicationIdForPage("page1"));
+
+        cache.evict("app1");
+
+        Assert.assertNull(cache.getApplicationIdForPage("page1"));
+        StepVerifier.create(cache.get("app1", id -> Mono.fromCallable(() -> {
+            loadCount.incrementAndGet();
+            return createBundle("app1", "page1", 10);
+        })))
+                .expectNextCount(1)
+                .verifyComplete();
+        Assert.assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void testCacheIsBoundedBySizeOfBundles() {
+        PublishedApplicationBundleCache cache = new PublishedApplicationBundleCache(new ObjectMapper(), 1, 60);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // Each bundle is larger than half of the cache, so only one of them fits at a time.
+        for (String applicationId : List.of("app1", "app2", "app1")) {
+            StepVerifier.create(cache.get(applicationId, id -> Mono.fromCallable(() -> {
+                loadCount.incrementAndGet();
+                return createBundle(id, id + "-page", 600 * 1024);
+            })))
+                    .expectNextCount(1)
+                    .verifyComplete();
+        }
+
+        Assert.assertEquals(3, loadCount.get());
+    }
+
+    @Test
+    public void testDeletedPageIsForgotten() {
+        PublishedApplicationBundleCache cache = new PublishedApplicationBundleCache(new ObjectMapper(), 10, 60);
+
+        StepVerifier.create(cache.get("app1", id -> Mono.just(createBundle("app1", "page1", 10))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        cache.evictPage("page1");
+
+        Assert.assertNull(cache.getApplicationIdForPage("page1"));
+    }
+}
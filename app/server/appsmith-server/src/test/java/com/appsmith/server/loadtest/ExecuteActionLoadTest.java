@@ -0,0 +1,313 @@
+package com.appsmith.server.loadtest;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Param;
+import com.appsmith.external.services.PluginSchedulerProvider;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.constants.Url;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Datasource;
+import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.QUser;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.repositories.OrganizationRepository;
+import com.appsmith.server.repositories.PluginRepository;
+import com.appsmith.server.services.ApplicationPageService;
+import com.appsmith.server.services.DatasourceContextService;
+import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.services.LayoutActionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Measures the throughput and latency of `POST /api/v1/actions/execute`, end to end over HTTP, with the server running
+ * on the embedded Mongo and {@link RedisStandIn}, and the actions running on {@link StubPluginExecutor} datasources.
+ * The executions are spread over the actions of several datasources, from the editor and from the published
+ * application, and some of them find that the connection to the datasource has to be created again.
+ * <p>
+ * This is not run with the other tests, but with the `load-test` profile, and the shape of the load is set through
+ * the system properties of {@link LoadTestSettings}:
+ * <pre>
+ * mvn test -P load-test -Dloadtest.concurrency=200 -Dloadtest.query-latency-ms=50
+ * </pre>
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        // The server connects to the embedded Mongo whatever the URI, but the property has to be resolvable.
+        properties = "spring.data.mongodb.uri=mongodb://localhost/appsmith-load-test"
+)
+@ContextConfiguration(initializers = ExecuteActionLoadTest.RedisStandInInitializer.class)
+@Slf4j
+@DirtiesContext
+public class ExecuteActionLoadTest {
+
+    private static final String API_USER = "api_user";
+
+    private static final String API_USER_PASSWORD = "load-test-password";
+
+    private static RedisStandIn redisStandIn;
+
+    @LocalServerPort
+    int port;
+
+    @MockBean
+    PluginExecutorHelper pluginExecutorHelper;
+
+    @Autowired
+    PluginSchedulerProvider pluginSchedulerProvider;
+
+    @Autowired
+    ApplicationPageService applicationPageService;
+
+    @Autowired
+    LayoutActionService layoutActionService;
+
+    @Autowired
+    DatasourceService datasourceService;
+
+    @Autowired
+    DatasourceContextService datasourceContextService;
+
+    @Autowired
+    OrganizationRepository organizationRepository;
+
+    @Autowired
+    PluginRepository pluginRepository;
+
+    @Autowired
+    ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    private final LoadTestSettings settings = new LoadTestSettings();
+
+    private final LoadTestReport report = new LoadTestReport();
+
+    private StubPluginExecutor pluginExecutor;
+
+    private final List<String> actionIds = new ArrayList<>();
+
+    private final Map<String, String> datasourceIdByActionId = new HashMap<>();
+
+    /**
+     * Starts the Redis stand-in before the server, and points the server to it.
+     */
+    public static class RedisStandInInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+        @Override
+        public void initialize(ConfigurableApplicationContext context) {
+            try {
+                redisStandIn = new RedisStandIn();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            TestPropertyValues.of("spring.redis.url=" + redisStandIn.getUrl()).applyTo(context);
+        }
+    }
+
+    @AfterClass
+    public static void stopRedisStandIn() throws IOException {
+        if (redisStandIn != null) {
+            redisStandIn.close();
+        }
+    }
+
+    @Before
+    @WithUserDetails(value = API_USER)
+    public void setup() {
+        pluginExecutor = new StubPluginExecutor(settings, pluginSchedulerProvider);
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+
+        Organization organization = organizationRepository
+                .findByName("Spring Test Organization", AclPermission.READ_ORGANIZATIONS)
+                .block();
+        Plugin plugin = pluginRepository.findByPackageName("installed-plugin").block();
+
+        Application application = new Application();
+        application.setName("Load test " + UUID.randomUUID());
+        application = applicationPageService.createApplication(application, organization.getId()).block();
+        final String pageId = application.getPages().get(0).getId();
+
+        for (int i = 0; i < settings.getDatasourceCount(); i++) {
+            DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+            datasourceConfiguration.setEndpoints(List.of(new Endpoint("stub-" + i + ".example.com", 5432L)));
+
+            Datasource datasource = new Datasource();
+            datasource.setName("Load test datasource " + i);
+            datasource.setOrganizationId(organization.getId());
+            datasource.setPluginId(plugin.getId());
+            datasource.setDatasourceConfiguration(datasourceConfiguration);
+            datasource = datasourceService.create(datasource).block();
+
+            for (int j = 0; j < settings.getActionsPerDatasource(); j++) {
+                ActionConfiguration actionConfiguration = new ActionConfiguration();
+                actionConfiguration.setHttpMethod(HttpMethod.POST);
+                actionConfiguration.setBody("SELECT * FROM table" + j + " WHERE id = {{Input1.text}} LIMIT 100");
+
+                ActionDTO action = new ActionDTO();
+                action.setName("Query" + i + "_" + j);
+                action.setPageId(pageId);
+                action.setDatasource(datasource);
+                action.setActionConfiguration(actionConfiguration);
+                action = layoutActionService.createAction(action).block();
+
+                actionIds.add(action.getId());
+                datasourceIdByActionId.put(action.getId(), datasource.getId());
+            }
+        }
+
+        // The executions in view mode run the published actions
+        applicationPageService.publish(application.getId()).block();
+
+        // The seeded users have no password, and one is needed to log in to the server like a browser would.
+        mongoTemplate
+                .updateFirst(
+                        query(where(fieldName(QUser.user.email)).is(API_USER)),
+                        Update.update(fieldName(QUser.user.password), passwordEncoder.encode(API_USER_PASSWORD)),
+                        User.class
+                )
+                .block();
+    }
+
+    @Test
+    @WithUserDetails(value = API_USER)
+    public void executeActions() {
+        final WebClient webClient = createWebClient();
+        final String session = login(webClient);
+
+        log.info("Warming up with {} executions", settings.getWarmupExecutions());
+        Flux.range(0, settings.getWarmupExecutions())
+                .flatMap(i -> execute(webClient, session), settings.getConcurrency())
+                .blockLast();
+
+        log.info("Running executions for {}", settings.getDuration());
+        report.start();
+        final long deadline = System.nanoTime() + settings.getDuration().toNanos();
+        Flux.range(0, Integer.MAX_VALUE)
+                .takeWhile(i -> System.nanoTime() < deadline)
+                .flatMap(i -> execute(webClient, session), settings.getConcurrency())
+                .blockLast();
+        report.stop();
+
+        log.info(report.format(settings));
+        log.info("Connections created by the stub datasources: {}, queries run: {}",
+                pluginExecutor.getConnectionsCreated(), pluginExecutor.getQueriesRun());
+
+        assertThat(report.getErrorCount()).isZero();
+    }
+
+    private WebClient createWebClient() {
+        // One connection to the server per execution in flight, rather than the small shared pool of the defaults.
+        final HttpClient httpClient = HttpClient
+                .create(ConnectionProvider.fixed("load-test", settings.getConcurrency()))
+                .baseUrl("http://localhost:" + port);
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(ExchangeStrategies.builder()
+                        .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(64 * 1024 * 1024))
+                        .build())
+                .build();
+    }
+
+    private String login(WebClient webClient) {
+        final ResponseCookie session = webClient.post()
+                .uri(Url.LOGIN_URL)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData("username", API_USER).with("password", API_USER_PASSWORD))
+                .exchange()
+                .map(response -> response.cookies().getFirst("SESSION"))
+                .block();
+
+        assertThat(session).as("Session cookie after logging in").isNotNull();
+        return session.getValue();
+    }
+
+    private Mono<Boolean> execute(WebClient webClient, String session) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final boolean isViewMode = random.nextDouble() < settings.getViewModeRatio();
+        final boolean isCacheHit = random.nextDouble() < settings.getCacheHitRatio();
+        final String actionId = actionIds.get(random.nextInt(actionIds.size()));
+
+        final ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId(actionId);
+        executeActionDTO.setViewMode(isViewMode);
+        executeActionDTO.setParams(List.of(new Param("Input1.text", String.valueOf(random.nextInt(10000)))));
+
+        // A miss closes the connection to the datasource, as when it has been idle for too long or was updated.
+        final Mono<Void> evictionMono = isCacheHit
+                ? Mono.empty()
+                : datasourceContextService.deleteDatasourceContext(datasourceIdByActionId.get(actionId)).then();
+
+        return evictionMono
+                .then(Mono.fromSupplier(System::nanoTime))
+                .flatMap(start -> webClient.post()
+                        .uri(Url.ACTION_URL + "/execute")
+                        .cookie("SESSION", session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(executeActionDTO)
+                        .exchange()
+                        .flatMap(response -> response.bodyToMono(JsonNode.class)
+                                .map(body -> HttpStatus.OK.equals(response.statusCode())
+                                        && body.path("data").path("isExecutionSuccess").asBoolean()))
+                        .defaultIfEmpty(false)
+                        .onErrorResume(error -> {
+                            log.debug("Execution failed", error);
+                            return Mono.just(false);
+                        })
+                        .doOnNext(isSuccess -> report.record(isViewMode, isCacheHit, System.nanoTime() - start, isSuccess)));
+    }
+}
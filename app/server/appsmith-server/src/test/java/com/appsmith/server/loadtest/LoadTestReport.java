@@ -0,0 +1,151 @@
+package com.appsmith.server.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.search.Search;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the latency of every execution, by mode and by whether the connection was open, along with the bytes
+ * allocated and the garbage collections over the run, and formats them as a report.
+ */
+public class LoadTestReport {
+
+    private static final String LATENCY = "loadtest.execution";
+
+    private static final String ERRORS = "loadtest.errors";
+
+    private static final Duration[] BUCKETS = Arrays.stream(new long[]{1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000})
+            .mapToObj(Duration::ofMillis)
+            .toArray(Duration[]::new);
+
+    // Kept apart from the server's registry, so that the report only has what the load test measured
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private long startNanos;
+    private long endNanos;
+    private long startAllocatedBytes;
+    private long endAllocatedBytes;
+    private long startGcCount;
+    private long endGcCount;
+    private long startGcMillis;
+    private long endGcMillis;
+
+    public void start() {
+        registry.clear();
+        startAllocatedBytes = allocatedBytes();
+        startGcCount = gcCount();
+        startGcMillis = gcMillis();
+        startNanos = System.nanoTime();
+    }
+
+    public void stop() {
+        endNanos = System.nanoTime();
+        endAllocatedBytes = allocatedBytes();
+        endGcCount = gcCount();
+        endGcMillis = gcMillis();
+    }
+
+    public void record(boolean isViewMode, boolean isCacheHit, long nanos, boolean isSuccess) {
+        final String mode = isViewMode ? "view" : "edit";
+        final String connection = isCacheHit ? "open" : "new";
+        Timer.builder(LATENCY)
+                .tags("mode", mode, "connection", connection)
+                .publishPercentiles(0.5, 0.9, 0.99, 0.999)
+                .sla(BUCKETS)
+                // The percentiles are over the whole run, rather than the last few minutes of it
+                .distributionStatisticExpiry(Duration.ofDays(1))
+                .distributionStatisticBufferLength(1)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        if (!isSuccess) {
+            Counter.builder(ERRORS).tags("mode", mode, "connection", connection).register(registry).increment();
+        }
+    }
+
+    public long getErrorCount() {
+        return (long) Search.in(registry).name(ERRORS).counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    public String format(LoadTestSettings settings) {
+        final double seconds = (endNanos - startNanos) / 1e9;
+        final long executions = Search.in(registry).name(LATENCY).timers().stream().mapToLong(Timer::count).sum();
+
+        final StringBuilder report = new StringBuilder();
+        report.append("\n===== Execute action load test =====\n")
+                .append(settings).append('\n')
+                .append(String.format(Locale.ROOT, "Executions: %d in %.1f s, %.1f per second, %d errors%n",
+                        executions, seconds, executions / seconds, getErrorCount()))
+                .append(String.format(Locale.ROOT, "Allocated: %.1f MB per second, %.1f KB per execution%n",
+                        (endAllocatedBytes - startAllocatedBytes) / seconds / (1024 * 1024),
+                        executions == 0 ? 0.0 : (endAllocatedBytes - startAllocatedBytes) / (double) executions / 1024))
+                .append(String.format(Locale.ROOT, "Garbage collections: %d, taking %d ms%n",
+                        endGcCount - startGcCount, endGcMillis - startGcMillis));
+
+        for (Timer timer : Search.in(registry).name(LATENCY).timers()) {
+            final HistogramSnapshot snapshot = timer.takeSnapshot();
+            report.append(String.format(Locale.ROOT, "%n[mode=%s, connection=%s] %d executions, mean %.1f ms, max %.1f ms%n",
+                    timer.getId().getTag("mode"), timer.getId().getTag("connection"), snapshot.count(),
+                    snapshot.mean(TimeUnit.MILLISECONDS), snapshot.max(TimeUnit.MILLISECONDS)));
+
+            report.append("  Percentiles:");
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                report.append(String.format(Locale.ROOT, "  p%s %.1f ms",
+                        percentile.percentile() * 100, percentile.value(TimeUnit.MILLISECONDS)));
+            }
+            report.append('\n');
+
+            // The counts of the buckets are cumulative, so each is reported as the executions since the last one.
+            report.append("  Histogram:\n");
+            double previousCount = 0;
+            for (CountAtBucket bucket : snapshot.histogramCounts()) {
+                final double count = bucket.count() - previousCount;
+                previousCount = bucket.count();
+                report.append(String.format(Locale.ROOT, "    <= %6.0f ms %8.0f %s%n",
+                        bucket.bucket(TimeUnit.MILLISECONDS), count, bar(count, snapshot.count())));
+            }
+            report.append(String.format(Locale.ROOT, "     > %6.0f ms %8.0f %s%n",
+                    BUCKETS[BUCKETS.length - 1].toMillis() * 1.0, snapshot.count() - previousCount,
+                    bar(snapshot.count() - previousCount, snapshot.count())));
+        }
+
+        return report.toString();
+    }
+
+    private static String bar(double count, long total) {
+        return total == 0 ? "" : "#".repeat((int) Math.round(50 * count / total));
+    }
+
+    private long allocatedBytes() {
+        // Threads that end during the run take their allocations with them, but the server's threads are pooled.
+        return Arrays.stream(threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds()))
+                .filter(bytes -> bytes > 0)
+                .sum();
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+}
@@ -0,0 +1,62 @@
+package com.appsmith.server.loadtest;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * Shape of the load, read from system properties so that it can be given on the Maven command line, as in
+ * `-Dloadtest.concurrency=200`.
+ */
+@Getter
+@ToString
+public class LoadTestSettings {
+
+    private static final String PREFIX = "loadtest.";
+
+    // Executions in flight at any time
+    private final int concurrency = getInt("concurrency", 64);
+
+    // Executions run before measuring, to let the JIT and the caches settle
+    private final int warmupExecutions = getInt("warmup-executions", 2000);
+
+    private final Duration duration = Duration.ofSeconds(getInt("duration-seconds", 60));
+
+    // Datasources the actions are spread over, each with its own connection and concurrency limits
+    private final int datasourceCount = getInt("datasources", 4);
+
+    private final int actionsPerDatasource = getInt("actions-per-datasource", 5);
+
+    // Share of the executions from the published application, the rest are from the editor
+    private final double viewModeRatio = getDouble("view-mode-ratio", 0.8);
+
+    // Share of the executions that find the datasource's connection already open. The others close it first, so
+    // that it is created again.
+    private final double cacheHitRatio = getDouble("cache-hit-ratio", 0.95);
+
+    // Time taken by the stub datasources to open a connection, and to answer a query
+    private final Duration connectLatency = Duration.ofMillis(getInt("connect-latency-ms", 50));
+
+    private final Duration queryLatency = Duration.ofMillis(getInt("query-latency-ms", 20));
+
+    // Whether the stub datasources wait on a thread of the plugin scheduler, like JDBC drivers, or without one
+    private final boolean isBlocking = getBoolean("blocking", true);
+
+    // Size of the results returned by the stub datasources
+    private final int resultRows = getInt("result-rows", 100);
+
+    private final int resultRowBytes = getInt("result-row-bytes", 200);
+
+    private static int getInt(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+
+    private static double getDouble(String name, double defaultValue) {
+        return Double.parseDouble(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+
+    private static boolean getBoolean(String name, boolean defaultValue) {
+        return Boolean.parseBoolean(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,352 @@
+package com.appsmith.server.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An in-process stand-in for Redis, speaking enough of its protocol for the server to run: the commands used by the
+ * web sessions (strings, hashes and expiry) and by the plugin installation channel (pub/sub). Expiry is accepted but
+ * not enforced, since a load test doesn't outlive its sessions.
+ * <p>
+ * There is no embedded Redis library available to the build, and Redis needs to be out of the picture when measuring
+ * the server, so this answers from memory instead.
+ */
+@Slf4j
+public class RedisStandIn implements Closeable {
+
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final ServerSocket serverSocket;
+
+    private final ExecutorService connectionExecutor = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "redis-stand-in");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Keys and values are binary, so they are kept as ISO-8859-1 strings, which map every byte to a character.
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, String>> hashes = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+
+    private volatile boolean isClosed = false;
+
+    public RedisStandIn() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        connectionExecutor.execute(this::accept);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public String getUrl() {
+        return "redis://127.0.0.1:" + getPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        isClosed = true;
+        serverSocket.close();
+        connectionExecutor.shutdownNow();
+    }
+
+    private void accept() {
+        while (!isClosed) {
+            try {
+                final Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connectionExecutor.execute(new Connection(socket));
+            } catch (IOException e) {
+                if (!isClosed) {
+                    log.error("Redis stand-in failed to accept a connection", e);
+                }
+            }
+        }
+    }
+
+    private class Connection implements Runnable {
+
+        private final Socket socket;
+        private final Set<String> channels = ConcurrentHashMap.newKeySet();
+        private InputStream in;
+        private OutputStream out;
+
+        Connection(Socket socket) {
+            this.socket = socket;
+        }
+
+        @Override
+        public void run() {
+            try (socket) {
+                in = new BufferedInputStream(socket.getInputStream());
+                out = new BufferedOutputStream(socket.getOutputStream());
+                List<String> command;
+                while ((command = readCommand()) != null) {
+                    if (!command.isEmpty() && !handle(command)) {
+                        break;
+                    }
+                }
+            } catch (EOFException | SocketException e) {
+                // The client has gone away
+            } catch (IOException e) {
+                log.error("Redis stand-in failed to serve a connection", e);
+            } finally {
+                for (String channel : channels) {
+                    subscribers.getOrDefault(channel, Set.of()).remove(this);
+                }
+            }
+        }
+
+        /**
+         * @return Whether the connection should be kept open.
+         */
+        private boolean handle(List<String> command) throws IOException {
+            final String name = command.get(0).toUpperCase(Locale.ROOT);
+            final List<String> args = command.subList(1, command.size());
+
+            synchronized (this) {
+                switch (name) {
+                    case "PING":
+                        if (channels.isEmpty()) {
+                            writeSimple("PONG");
+                        } else {
+                            writeArray(List.of("pong", args.isEmpty() ? "" : args.get(0)));
+                        }
+                        break;
+                    case "QUIT":
+                        writeSimple("OK");
+                        out.flush();
+                        return false;
+                    case "SELECT":
+                    case "CLIENT":
+                    case "AUTH":
+                        writeSimple("OK");
+                        break;
+                    case "GET":
+                        writeBulk(strings.get(args.get(0)));
+                        break;
+                    case "SET":
+                        hashes.remove(args.get(0));
+                        strings.put(args.get(0), args.get(1));
+                        writeSimple("OK");
+                        break;
+                    case "DEL":
+                    case "UNLINK":
+                        long deleted = 0;
+                        for (String key : args) {
+                            if (strings.remove(key) != null | hashes.remove(key) != null) {
+                                deleted++;
+                            }
+                        }
+                        writeInteger(deleted);
+                        break;
+                    case "EXISTS":
+                        long existing = 0;
+                        for (String key : args) {
+                            if (exists(key)) {
+                                existing++;
+                            }
+                        }
+                        writeInteger(existing);
+                        break;
+                    case "EXPIRE":
+                    case "PEXPIRE":
+                    case "EXPIREAT":
+                    case "PEXPIREAT":
+                        writeInteger(exists(args.get(0)) ? 1 : 0);
+                        break;
+                    case "RENAME":
+                        if (strings.containsKey(args.get(0))) {
+                            strings.put(args.get(1), strings.remove(args.get(0)));
+                        } else if (hashes.containsKey(args.get(0))) {
+                            hashes.put(args.get(1), hashes.remove(args.get(0)));
+                        } else {
+                            writeError("ERR no such key");
+                            break;
+                        }
+                        writeSimple("OK");
+                        break;
+                    case "HSET":
+                    case "HMSET":
+                        final Map<String, String> hash = hashes.computeIfAbsent(args.get(0), key -> new ConcurrentHashMap<>());
+                        long added = 0;
+                        for (int i = 1; i + 1 < args.size(); i += 2) {
+                            if (hash.put(args.get(i), args.get(i + 1)) == null) {
+                                added++;
+                            }
+                        }
+                        if ("HMSET".equals(name)) {
+                            writeSimple("OK");
+                        } else {
+                            writeInteger(added);
+                        }
+                        break;
+                    case "HGET":
+                        writeBulk(hashes.getOrDefault(args.get(0), Map.of()).get(args.get(1)));
+                        break;
+                    case "HGETALL":
+                        final List<String> entries = new ArrayList<>();
+                        hashes.getOrDefault(args.get(0), Map.of()).forEach((field, value) -> {
+                            entries.add(field);
+                            entries.add(value);
+                        });
+                        writeArray(entries);
+                        break;
+                    case "HDEL":
+                        final Map<String, String> fields = hashes.getOrDefault(args.get(0), Map.of());
+                        long removed = 0;
+                        for (String field : args.subList(1, args.size())) {
+                            if (fields.remove(field) != null) {
+                                removed++;
+                            }
+                        }
+                        writeInteger(removed);
+                        break;
+                    case "PUBLISH":
+                        final Set<Connection> receivers = subscribers.getOrDefault(args.get(0), Set.of());
+                        for (Connection receiver : receivers) {
+                            receiver.deliver(args.get(0), args.get(1));
+                        }
+                        writeInteger(receivers.size());
+                        break;
+                    case "SUBSCRIBE":
+                        for (String channel : args) {
+                            channels.add(channel);
+                            subscribers.computeIfAbsent(channel, key -> ConcurrentHashMap.newKeySet()).add(this);
+                            writeSubscription("subscribe", channel);
+                        }
+                        break;
+                    case "UNSUBSCRIBE":
+                        for (String channel : args.isEmpty() ? new ArrayList<>(channels) : args) {
+                            channels.remove(channel);
+                            subscribers.getOrDefault(channel, Set.of()).remove(this);
+                            writeSubscription("unsubscribe", channel);
+                        }
+                        break;
+                    default:
+                        writeError("ERR unknown command '" + name + "'");
+                }
+
+                // Commands are pipelined, so the replies are only flushed once the client is waiting for them.
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+            return true;
+        }
+
+        private boolean exists(String key) {
+            return strings.containsKey(key) || hashes.containsKey(key);
+        }
+
+        private synchronized void deliver(String channel, String message) throws IOException {
+            writeArray(List.of("message", channel, message));
+            out.flush();
+        }
+
+        private List<String> readCommand() throws IOException {
+            final String line = readLine();
+            if (line == null) {
+                return null;
+            }
+            if (!line.startsWith("*")) {
+                // An inline command, as typed in a terminal.
+                return line.isBlank() ? List.of() : List.of(line.trim().split("\\s+"));
+            }
+
+            final int count = Integer.parseInt(line.substring(1));
+            final List<String> command = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final String header = readLine();
+                if (header == null || !header.startsWith("$")) {
+                    throw new IOException("Expected a bulk string, got " + header);
+                }
+                final byte[] value = in.readNBytes(Integer.parseInt(header.substring(1)));
+                // Skip the CRLF that ends the value
+                if (in.read() < 0 || in.read() < 0) {
+                    throw new EOFException();
+                }
+                command.add(new String(value, StandardCharsets.ISO_8859_1));
+            }
+            return command;
+        }
+
+        private String readLine() throws IOException {
+            final StringBuilder line = new StringBuilder();
+            int current;
+            while ((current = in.read()) >= 0) {
+                if (current == '\r') {
+                    in.read();
+                    return line.toString();
+                }
+                line.append((char) current);
+            }
+            return line.length() == 0 ? null : line.toString();
+        }
+
+        private void writeSubscription(String kind, String channel) throws IOException {
+            write("*3");
+            writeBulk(kind);
+            writeBulk(channel);
+            writeInteger(channels.size());
+        }
+
+        private void writeSimple(String value) throws IOException {
+            write("+" + value);
+        }
+
+        private void writeError(String message) throws IOException {
+            write("-" + message);
+        }
+
+        private void writeInteger(long value) throws IOException {
+            write(":" + value);
+        }
+
+        private void writeBulk(String value) throws IOException {
+            if (value == null) {
+                write("$-1");
+                return;
+            }
+            final byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+            write("$" + bytes.length);
+            out.write(bytes);
+            out.write(CRLF);
+        }
+
+        private void writeArray(List<String> values) throws IOException {
+            write("*" + values.size());
+            for (String value : values) {
+                writeBulk(value);
+            }
+        }
+
+        private void write(String line) throws IOException {
+            out.write(line.getBytes(StandardCharsets.ISO_8859_1));
+            out.write(CRLF);
+        }
+    }
+}
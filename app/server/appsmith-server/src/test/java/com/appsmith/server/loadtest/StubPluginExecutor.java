@@ -0,0 +1,150 @@
+package com.appsmith.server.loadtest;
+
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolStats;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceTestResult;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.PluginSchedulerProvider;
+import lombok.Getter;
+import org.apache.commons.lang3.RandomStringUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A datasource that answers from memory, after the latency of a real one, with results of a configurable size. It
+ * waits either on a thread of the plugin's scheduler, like the plugins with blocking drivers, or on a timer, like the
+ * plugins with reactive ones.
+ */
+public class StubPluginExecutor implements PluginExecutor<StubPluginExecutor.StubConnection> {
+
+    public static final String PLUGIN_NAME = "load-test-plugin";
+
+    private static final int COLUMN_COUNT = 10;
+
+    private final LoadTestSettings settings;
+
+    private final Scheduler scheduler;
+
+    private final String columnValue;
+
+    @Getter
+    private final AtomicLong connectionsCreated = new AtomicLong();
+
+    @Getter
+    private final AtomicLong queriesRun = new AtomicLong();
+
+    public StubPluginExecutor(LoadTestSettings settings, PluginSchedulerProvider pluginSchedulerProvider) {
+        this.settings = settings;
+        this.scheduler = pluginSchedulerProvider.getScheduler(PLUGIN_NAME);
+        this.columnValue = RandomStringUtils.randomAlphanumeric(Math.max(settings.getResultRowBytes() / COLUMN_COUNT, 1));
+    }
+
+    @Override
+    public Mono<ActionExecutionResult> execute(StubConnection connection,
+                                               DatasourceConfiguration datasourceConfiguration,
+                                               ActionConfiguration actionConfiguration) {
+        return waitFor(settings.getQueryLatency().toMillis())
+                .then(Mono.fromCallable(() -> {
+                    // Executions that started before the connection was replaced are retried by the server.
+                    if (!connection.isOpen()) {
+                        throw new StaleConnectionException();
+                    }
+                    queriesRun.incrementAndGet();
+
+                    ActionExecutionResult result = new ActionExecutionResult();
+                    result.setIsExecutionSuccess(true);
+                    result.setStatusCode("200");
+                    result.setBody(buildRows());
+                    return result;
+                }))
+                .doOnSubscribe(subscription -> connection.getActive().incrementAndGet())
+                .doFinally(signal -> connection.getActive().decrementAndGet());
+    }
+
+    @Override
+    public Mono<StubConnection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        return waitFor(settings.getConnectLatency().toMillis())
+                .then(Mono.fromCallable(() -> {
+                    connectionsCreated.incrementAndGet();
+                    return new StubConnection();
+                }));
+    }
+
+    @Override
+    public void datasourceDestroy(StubConnection connection) {
+        connection.close();
+    }
+
+    @Override
+    public ConnectionPoolStats getConnectionPoolStats(StubConnection connection) {
+        final int active = connection.getActive().get();
+        return new ConnectionPoolStats(active, 0, 0, active);
+    }
+
+    @Override
+    public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
+        return new HashSet<>();
+    }
+
+    @Override
+    public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
+        return Mono.just(new DatasourceTestResult());
+    }
+
+    private Mono<Void> waitFor(long millis) {
+        if (millis <= 0) {
+            return Mono.empty();
+        }
+
+        if (settings.isBlocking()) {
+            return Mono.<Void>fromRunnable(() -> {
+                try {
+                    Thread.sleep(millis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }).subscribeOn(scheduler);
+        }
+
+        return Mono.delay(Duration.ofMillis(millis)).then();
+    }
+
+    private List<Map<String, Object>> buildRows() {
+        // Drivers build new rows for every query, and so does this, so that the allocations are like theirs.
+        final List<Map<String, Object>> rows = new ArrayList<>(settings.getResultRows());
+        for (int i = 0; i < settings.getResultRows(); i++) {
+            final Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            for (int column = 1; column < COLUMN_COUNT; column++) {
+                row.put("column" + column, new String(columnValue));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Getter
+    public static class StubConnection {
+
+        private final AtomicInteger active = new AtomicInteger();
+
+        private volatile boolean isOpen = true;
+
+        void close() {
+            isOpen = false;
+        }
+    }
+}
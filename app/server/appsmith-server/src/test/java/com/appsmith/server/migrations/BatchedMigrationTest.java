@@ -0,0 +1,143 @@
+package com.appsmith.server.migrations;
+
+import com.appsmith.server.domains.NewAction;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchedMigrationTest {
+
+    @Test
+    public void testUpdatesAreSentInBatches() {
+        MongoOperations mongoOperations = mock(MongoOperations.class);
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        List<NewAction> actions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            NewAction action = new NewAction();
+            action.setId("action" + i);
+            actions.add(action);
+        }
+        when(mongoOperations.stream(any(Query.class), eq(NewAction.class))).thenReturn(iterator(actions));
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, NewAction.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(BulkWriteResult.acknowledged(0, 2, 0, 2, List.of()));
+
+        final long modified = BatchedMigration.<NewAction>builder()
+                .mongoOperations(mongoOperations)
+                .entityClass(NewAction.class)
+                .name("test-migration")
+                .batchSize(2)
+                .meterRegistry(meterRegistry)
+                .build()
+                // The last action doesn't need any change.
+                .run(action -> "action4".equals(action.getId()) ? null : new Update().set("pluginType", "DB"));
+
+        verify(bulkOperations, times(4)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(2)).execute();
+        assertThat(modified).isEqualTo(4);
+        assertThat(meterRegistry.counter("appsmith.migration.documents", "migration", "test-migration", "result", "scanned").count())
+                .isEqualTo(5);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDocumentsArePartitionedByIdWithMultipleThreads() {
+        MongoOperations mongoOperations = mock(MongoOperations.class);
+        MongoCollection<Document> collection = mock(MongoCollection.class, Mockito.RETURNS_DEEP_STUBS);
+
+        when(mongoOperations.getCollectionName(NewAction.class)).thenReturn("newAction");
+        when(mongoOperations.getCollection("newAction")).thenReturn(collection);
+        when(collection.find().projection(any()).sort(any()).first()).thenReturn(
+                new Document("_id", new ObjectId("5f0000000000000000000000")),
+                new Document("_id", new ObjectId("5f0001000000000000000000"))
+        );
+        when(mongoOperations.stream(any(Query.class), eq(NewAction.class))).thenAnswer(invocation -> iterator(List.of()));
+
+        BatchedMigration.<NewAction>builder()
+                .mongoOperations(mongoOperations)
+                .entityClass(NewAction.class)
+                .name("test-migration")
+                .threads(2)
+                .meterRegistry(new SimpleMeterRegistry())
+                .build()
+                .run(action -> null);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoOperations, times(8)).stream(queryCaptor.capture(), eq(NewAction.class));
+        final List<Query> queries = queryCaptor.getAllValues();
+        assertThat(queries.stream().map(query -> query.getQueryObject().toJson()).distinct()).hasSize(8);
+        // The first and last ranges are open.
+        assertThat(queries.stream().filter(query -> !query.getQueryObject().toJson().contains("$gte"))).hasSize(1);
+        assertThat(queries.stream().filter(query -> !query.getQueryObject().toJson().contains("$lt"))).hasSize(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCollectionWithOtherIdsIsNotPartitioned() {
+        MongoOperations mongoOperations = mock(MongoOperations.class);
+        MongoCollection<Document> collection = mock(MongoCollection.class, Mockito.RETURNS_DEEP_STUBS);
+
+        when(mongoOperations.getCollectionName(NewAction.class)).thenReturn("newAction");
+        when(mongoOperations.getCollection("newAction")).thenReturn(collection);
+        // Dates sort after ObjectIds, so the smallest id is an ObjectId but the largest isn't.
+        when(collection.find().projection(any()).sort(any()).first()).thenReturn(
+                new Document("_id", new ObjectId("5f0000000000000000000000")),
+                new Document("_id", new Date())
+        );
+        when(mongoOperations.stream(any(Query.class), eq(NewAction.class))).thenAnswer(invocation -> iterator(List.of()));
+
+        BatchedMigration.<NewAction>builder()
+                .mongoOperations(mongoOperations)
+                .entityClass(NewAction.class)
+                .name("test-migration")
+                .threads(2)
+                .meterRegistry(new SimpleMeterRegistry())
+                .build()
+                .run(action -> null);
+
+        verify(mongoOperations, times(1)).stream(any(Query.class), eq(NewAction.class));
+    }
+
+    private static <T> CloseableIterator<T> iterator(List<T> documents) {
+        final Iterator<T> iterator = documents.iterator();
+        return new CloseableIterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -0,0 +1,171 @@
+package com.appsmith.server.notifications;
+
+import com.appsmith.server.configurations.EmailConfig;
+import com.appsmith.server.domains.PendingEmail;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class EmailOutboxTest {
+
+    private static final String DIGEST_TEMPLATE = "email/commentDigestTemplate.html";
+
+    private ReactiveMongoOperations mongoOperations;
+    private JavaMailSender javaMailSender;
+    private EmailOutbox emailOutbox;
+
+    @Before
+    public void setUp() {
+        mongoOperations = Mockito.mock(ReactiveMongoOperations.class);
+        Mockito.when(mongoOperations.updateMulti(any(Query.class), any(Update.class), eq(PendingEmail.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(0, 0L, null)));
+        Mockito.when(mongoOperations.updateFirst(any(Query.class), any(Update.class), eq(PendingEmail.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+        Mockito.when(mongoOperations.remove(any(Query.class), eq(PendingEmail.class)))
+                .thenReturn(Mono.just(DeleteResult.acknowledged(1)));
+
+        javaMailSender = Mockito.mock(JavaMailSender.class);
+        Mockito.when(javaMailSender.createMimeMessage())
+                .thenAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+
+        EmailConfig emailConfig = new EmailConfig();
+        emailConfig.setMailFrom("appsmith@localhost");
+        emailConfig.setReplyTo("appsmith@localhost");
+
+        emailOutbox = new EmailOutbox(mongoOperations, javaMailSender, emailConfig, 10, 3, 60, 300, 30, 3600, 5);
+    }
+
+    private static PendingEmail email(String id, String to, String digestTemplate) {
+        PendingEmail email = new PendingEmail();
+        email.setId(id);
+        email.setTo(to);
+        email.setSubject("Subject " + id);
+        email.setBody("<p>" + id + "</p>");
+        email.setAttempts(0);
+        if (digestTemplate != null) {
+            email.setDigestTemplate(digestTemplate);
+            email.setDigestSubjectFormat("%d new comment notifications");
+            email.setDigestParams(Map.of("Commenter_Name", "Author " + id, "NewComment", true));
+        }
+        return email;
+    }
+
+    private void givenDueEmails(PendingEmail... emails) {
+        // The due emails are looked up first, and read back once they are claimed.
+        Mockito.when(mongoOperations.find(any(Query.class), eq(PendingEmail.class)))
+                .thenReturn(Flux.just(emails), Flux.just(emails), Flux.empty());
+    }
+
+    @Test
+    public void testDigestibleEmailsToTheSameRecipientAreSentTogether() throws MessagingException {
+        givenDueEmails(
+                email("1", "a@example.com", DIGEST_TEMPLATE),
+                email("2", "a@example.com", DIGEST_TEMPLATE),
+                email("3", "b@example.com", DIGEST_TEMPLATE),
+                email("4", "a@example.com", null)
+        );
+
+        List<MimeMessage> messages = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            for (Object message : invocation.getArguments()) {
+                messages.add((MimeMessage) message);
+            }
+            return null;
+        }).when(javaMailSender).send(any(MimeMessage.class), any(MimeMessage.class), any(MimeMessage.class));
+
+        emailOutbox.flush();
+
+        // All the messages are sent in a single call, so they share the connection.
+        Mockito.verify(javaMailSender, Mockito.times(1))
+                .send(any(MimeMessage.class), any(MimeMessage.class), any(MimeMessage.class));
+        Assert.assertEquals(3, messages.size());
+        Assert.assertEquals("2 new comment notifications", messages.get(0).getSubject());
+        Assert.assertEquals("Subject 3", messages.get(1).getSubject());
+        Assert.assertEquals("Subject 4", messages.get(2).getSubject());
+
+        // All the sent emails are removed from the outbox, and none are retried.
+        Mockito.verify(mongoOperations, Mockito.times(1)).remove(any(Query.class), eq(PendingEmail.class));
+        Mockito.verify(mongoOperations, Mockito.never()).updateFirst(any(Query.class), any(Update.class), eq(PendingEmail.class));
+    }
+
+    @Test
+    public void testHeldDigestibleEmailsAreClaimedWithTheDueOne() throws MessagingException {
+        // The second email was added a few seconds after the first, so it is held for a few more seconds.
+        PendingEmail dueEmail = email("1", "a@example.com", DIGEST_TEMPLATE);
+        dueEmail.setNextAttemptAt(Instant.now().minusSeconds(1));
+        PendingEmail heldEmail = email("2", "a@example.com", DIGEST_TEMPLATE);
+        heldEmail.setNextAttemptAt(Instant.now().plusSeconds(10));
+
+        // Only the first email is due, and both are read back once they are claimed.
+        Mockito.when(mongoOperations.find(any(Query.class), eq(PendingEmail.class)))
+                .thenReturn(Flux.just(dueEmail), Flux.just(dueEmail, heldEmail), Flux.empty());
+
+        List<MimeMessage> messages = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            for (Object message : invocation.getArguments()) {
+                messages.add((MimeMessage) message);
+            }
+            return null;
+        }).when(javaMailSender).send((MimeMessage[]) any());
+
+        emailOutbox.flush();
+
+        ArgumentCaptor<Query> claimQuery = ArgumentCaptor.forClass(Query.class);
+        Mockito.verify(mongoOperations).updateMulti(claimQuery.capture(), any(Update.class), eq(PendingEmail.class));
+        final String claimFilter = claimQuery.getValue().getQueryObject().toString();
+        Assert.assertTrue(claimFilter.contains("to=a@example.com"));
+        Assert.assertTrue(claimFilter.contains("digestTemplate=" + DIGEST_TEMPLATE));
+        Assert.assertTrue(claimFilter.contains("claimId=Document{{$exists=false}}"));
+
+        Assert.assertEquals(1, messages.size());
+        Assert.assertEquals("2 new comment notifications", messages.get(0).getSubject());
+    }
+
+    @Test
+    public void testFailedEmailsAreRetried() {
+        givenDueEmails(email("1", "a@example.com", null), email("2", "b@example.com", null));
+
+        Mockito.doAnswer(invocation -> {
+            MimeMessage failedMessage = invocation.getArgument(1);
+            throw new MailSendException(Map.of(failedMessage, new Exception("Mailbox unavailable")));
+        }).when(javaMailSender).send(any(MimeMessage.class), any(MimeMessage.class));
+
+        emailOutbox.flush();
+
+        // Only the failed email is scheduled for another attempt.
+        Mockito.verify(mongoOperations, Mockito.times(1)).updateFirst(any(Query.class), any(Update.class), eq(PendingEmail.class));
+        Mockito.verify(mongoOperations, Mockito.times(1)).remove(any(Query.class), eq(PendingEmail.class));
+    }
+
+    @Test
+    public void testBackoffDoublesUpToTheMaximum() {
+        Assert.assertEquals(Duration.ofSeconds(30), emailOutbox.getBackoff(1));
+        Assert.assertEquals(Duration.ofSeconds(60), emailOutbox.getBackoff(2));
+        Assert.assertEquals(Duration.ofSeconds(240), emailOutbox.getBackoff(4));
+        Assert.assertEquals(Duration.ofSeconds(3600), emailOutbox.getBackoff(20));
+    }
+}
@@ -0,0 +1,154 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.helpers.PolicyUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.appsmith.server.acl.AclPermission.MAKE_PUBLIC_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class BaseAppsmithRepositoryImplTest {
+
+    @Autowired
+    ApplicationRepository applicationRepository;
+
+    @Autowired
+    PolicyUtils policyUtils;
+
+    private static Policy policy(String permission, Set<String> users, Set<String> groups) {
+        return Policy.builder()
+                .permission(permission)
+                .users(new HashSet<>(users))
+                .groups(new HashSet<>(groups))
+                .build();
+    }
+
+    private static Set<Policy> copyOf(Set<Policy> policies) {
+        return policies.stream()
+                .map(policy -> policy(policy.getPermission(), policy.getUsers(), policy.getGroups()))
+                .collect(Collectors.toSet());
+    }
+
+    private static Map<String, Policy> toPolicyMap(Policy... policies) {
+        Map<String, Policy> policyMap = new HashMap<>();
+        for (Policy policy : policies) {
+            policyMap.put(policy.getPermission(), policy);
+        }
+        return policyMap;
+    }
+
+    private Mono<Application> createApplication() {
+        Application application = new Application();
+        application.setName("policies-" + UUID.randomUUID());
+        application.setPolicies(new HashSet<>(Set.of(
+                policy(MANAGE_APPLICATIONS.getValue(), Set.of("api_user"), Set.of()),
+                policy(READ_APPLICATIONS.getValue(), Set.of("api_user", "viewer@test.com"), Set.of("group1"))
+        )));
+        return applicationRepository.save(application);
+    }
+
+    private static List<Criteria> byId(Application application) {
+        return List.of(where("id").is(application.getId()));
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void addPolicies_SameAsAddingToLoadedApplication() {
+        final Map<String, Policy> policyMap = toPolicyMap(
+                policy(READ_APPLICATIONS.getValue(), Set.of("new_user@test.com"), Set.of("group2")),
+                policy(MAKE_PUBLIC_APPLICATIONS.getValue(), Set.of("new_user@test.com"), Set.of())
+        );
+
+        Mono<Tuple2<Set<Policy>, Set<Policy>>> policiesMono = createApplication()
+                .flatMap(application -> {
+                    Application expected = new Application();
+                    expected.setPolicies(copyOf(application.getPolicies()));
+                    policyUtils.addPoliciesToExistingObject(policyMap, expected);
+
+                    return applicationRepository
+                            .addPolicies(byId(application), MANAGE_APPLICATIONS, policyMap.values())
+                            .then(applicationRepository.findById(application.getId()))
+                            .map(updated -> Tuples.of(expected.getPolicies(), updated.getPolicies()));
+                });
+
+        StepVerifier.create(policiesMono)
+                .assertNext(policies -> assertThat(policies.getT2()).containsExactlyInAnyOrderElementsOf(policies.getT1()))
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void removePolicies_SameAsRemovingFromLoadedApplication() {
+        final Map<String, Policy> policyMap = toPolicyMap(
+                policy(READ_APPLICATIONS.getValue(), Set.of("viewer@test.com"), Set.of("group1")),
+                policy(MAKE_PUBLIC_APPLICATIONS.getValue(), Set.of("viewer@test.com"), Set.of())
+        );
+
+        Mono<Tuple2<Set<Policy>, Set<Policy>>> policiesMono = createApplication()
+                .flatMap(application -> {
+                    Application expected = new Application();
+                    expected.setPolicies(copyOf(application.getPolicies()));
+                    policyUtils.removePoliciesFromExistingObject(policyMap, expected);
+
+                    return applicationRepository
+                            .removePolicies(byId(application), MANAGE_APPLICATIONS, policyMap.values())
+                            .then(applicationRepository.findById(application.getId()))
+                            .map(updated -> Tuples.of(expected.getPolicies(), updated.getPolicies()));
+                });
+
+        StepVerifier.create(policiesMono)
+                .assertNext(policies -> assertThat(policies.getT2()).containsExactlyInAnyOrderElementsOf(policies.getT1()))
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void removePolicies_OwnPermission_OtherPoliciesStillUpdated() {
+        // Removing the user from the permission the update is checked against must not stop the other policies from
+        // being updated.
+        final Map<String, Policy> policyMap = toPolicyMap(
+                policy(MANAGE_APPLICATIONS.getValue(), Set.of("api_user"), Set.of()),
+                policy(READ_APPLICATIONS.getValue(), Set.of("api_user", "viewer@test.com"), Set.of())
+        );
+
+        Mono<Tuple2<Set<Policy>, Set<Policy>>> policiesMono = createApplication()
+                .flatMap(application -> {
+                    Application expected = new Application();
+                    expected.setPolicies(copyOf(application.getPolicies()));
+                    policyUtils.removePoliciesFromExistingObject(policyMap, expected);
+
+                    return applicationRepository
+                            .removePolicies(byId(application), MANAGE_APPLICATIONS, policyMap.values())
+                            .then(applicationRepository.findById(application.getId()))
+                            .map(updated -> Tuples.of(expected.getPolicies(), updated.getPolicies()));
+                });
+
+        StepVerifier.create(policiesMono)
+                .assertNext(policies -> assertThat(policies.getT2()).containsExactlyInAnyOrderElementsOf(policies.getT1()))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,163 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Comment;
+import com.appsmith.server.domains.CommentThread;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.User;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.notDeleted;
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.userAcl;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Checks that the frequent queries of the custom repositories are answered from an index, by looking at the plans
+ * that the database chooses for them. The queries here mirror the ones built in the repositories, along with the
+ * deleted and permission checks that are added to all of them.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class RepositoryQueryPlanTests {
+
+    private static final String ID = new ObjectId().toString();
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    private static User getUser() {
+        User user = new User();
+        user.setEmail("api_user");
+        user.setGroupIds(Set.of());
+        return user;
+    }
+
+    private static Criteria withAcl(AclPermission permission, Criteria... criteria) {
+        List<Criteria> criteriaList = new ArrayList<>(List.of(criteria));
+        criteriaList.add(notDeleted());
+        criteriaList.add(userAcl(getUser(), permission));
+        return new Criteria().andOperator(criteriaList.toArray(new Criteria[0]));
+    }
+
+    @Test
+    public void actionQueriesUseIndexes() {
+        assertNoCollectionScan(NewAction.class, new Query(withAcl(AclPermission.READ_ACTIONS,
+                where("unpublishedAction.name").is("Query1"),
+                where("unpublishedAction.pageId").is(ID),
+                where("unpublishedAction.deletedAt").is(null))));
+
+        assertNoCollectionScan(NewAction.class, new Query(withAcl(AclPermission.EXECUTE_ACTIONS,
+                where("publishedAction.pageId").is(ID))));
+
+        assertNoCollectionScan(NewAction.class, new Query(withAcl(AclPermission.READ_ACTIONS,
+                where("publishedAction.name").in(List.of("Query1", "Api1")),
+                where("publishedAction.pageId").in(List.of(ID)))));
+
+        assertNoCollectionScan(NewAction.class, new Query(withAcl(AclPermission.READ_ACTIONS,
+                where("applicationId").is(ID))));
+
+        assertNoCollectionScan(NewAction.class, new Query(new Criteria().orOperator(
+                where("unpublishedAction.datasource._id").is(new ObjectId(ID)),
+                where("publishedAction.datasource._id").is(new ObjectId(ID)))));
+    }
+
+    @Test
+    public void pageQueriesUseIndexes() {
+        assertNoCollectionScan(NewPage.class, new Query(withAcl(AclPermission.READ_PAGES,
+                where("applicationId").is(ID))));
+
+        assertNoCollectionScan(NewPage.class, new Query(withAcl(AclPermission.READ_PAGES,
+                where("unpublishedPage.name").is("Page1"),
+                where("applicationId").is(ID))));
+    }
+
+    @Test
+    public void applicationQueriesUseIndexes() {
+        assertNoCollectionScan(Application.class, new Query(withAcl(AclPermission.READ_APPLICATIONS,
+                where("organizationId").is(ID))));
+
+        assertNoCollectionScan(Application.class, new Query(withAcl(AclPermission.READ_APPLICATIONS,
+                where("organizationId").in(List.of(ID)))));
+
+        assertNoCollectionScan(Application.class, new Query(withAcl(AclPermission.READ_APPLICATIONS,
+                where("clonedFromApplicationId").is(ID))));
+    }
+
+    @Test
+    public void commentQueriesUseIndexes() {
+        assertNoCollectionScan(CommentThread.class, new Query(withAcl(AclPermission.READ_THREAD,
+                where("applicationId").is(ID))));
+
+        assertNoCollectionScan(CommentThread.class, new Query(withAcl(AclPermission.READ_THREAD,
+                where("applicationId").is(ID),
+                where("isPrivate").is(true))));
+
+        assertNoCollectionScan(CommentThread.class, new Query(withAcl(AclPermission.READ_THREAD,
+                where("viewedByUsers").ne("api_user"),
+                where("applicationId").is(ID))));
+
+        assertNoCollectionScan(CommentThread.class, new Query(withAcl(AclPermission.READ_THREAD,
+                where("applicationId").is(ID)))
+                .with(Sort.by(Sort.Direction.DESC, "lastActivityAt", "_id")));
+
+        assertNoCollectionScan(Comment.class, new Query(where("threadId").in(List.of(ID)))
+                .with(Sort.by(Sort.Direction.ASC, "createdAt")));
+    }
+
+    private void assertNoCollectionScan(Class<?> entityClass, Query query) {
+        final QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        final Document filter = queryMapper.getMappedObject(query.getQueryObject(),
+                mongoTemplate.getConverter().getMappingContext().getPersistentEntity(entityClass));
+
+        final Document findCommand = new Document("find", mongoTemplate.getCollectionName(entityClass))
+                .append("filter", filter);
+        if (!query.getSortObject().isEmpty()) {
+            findCommand.append("sort", query.getSortObject());
+        }
+
+        final Document explanation = mongoTemplate.executeCommand(
+                new Document("explain", findCommand).append("verbosity", "queryPlanner"));
+        final Document winningPlan = explanation.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+
+        assertThat(getStages(winningPlan))
+                .as("Plan for %s on %s: %s", filter.toJson(), entityClass.getSimpleName(), winningPlan.toJson())
+                .doesNotContain("COLLSCAN");
+    }
+
+    /**
+     * @return The stages of the given plan, and of all the plans it takes its input from.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<String> getStages(Document plan) {
+        List<String> stages = new ArrayList<>();
+        stages.add(plan.getString("stage"));
+
+        if (plan.get("inputStage") instanceof Document) {
+            stages.addAll(getStages(plan.get("inputStage", Document.class)));
+        }
+        if (plan.get("inputStages") instanceof List) {
+            for (Document inputStage : (List<Document>) plan.get("inputStages")) {
+                stages.addAll(getStages(inputStage));
+            }
+        }
+        return stages;
+    }
+}
@@ -763,6 +763,74 @@ public class ApplicationServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void publishApplicationRemovesActionsDeletedInEditMode() {
+        Application testApplication = new Application();
+        testApplication.setName("ApplicationServiceTest Publish Application Delete Action");
+        Application application = applicationPageService.createApplication(testApplication, orgId).block();
+        String pageId = application.getPages().get(0).getId();
+
+        Plugin plugin = pluginService.findByName("Installed Plugin Name").block();
+        Datasource datasource = new Datasource();
+        datasource.setName("Publish Delete Action Test");
+        datasource.setPluginId(plugin.getId());
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://test.com");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+        datasource.setOrganizationId(orgId);
+        Datasource savedDatasource = datasourceService.create(datasource).block();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+
+        ActionDTO keptAction = new ActionDTO();
+        keptAction.setName("publishKeptAction");
+        keptAction.setPageId(pageId);
+        keptAction.setDatasource(savedDatasource);
+        keptAction.setActionConfiguration(actionConfiguration);
+        ActionDTO savedKeptAction = layoutActionService.createAction(keptAction).block();
+
+        ActionDTO deletedAction = new ActionDTO();
+        deletedAction.setName("publishDeletedAction");
+        deletedAction.setPageId(pageId);
+        deletedAction.setDatasource(savedDatasource);
+        deletedAction.setActionConfiguration(actionConfiguration);
+        ActionDTO savedDeletedAction = layoutActionService.createAction(deletedAction).block();
+
+        applicationPageService.publish(application.getId()).block();
+        newActionService.deleteUnpublishedAction(savedDeletedAction.getId()).block();
+
+        // Until the application is published again, the deleted action is still part of the published application.
+        StepVerifier
+                .create(newActionService.findById(savedDeletedAction.getId()))
+                .assertNext(action -> {
+                    assertThat(action.getUnpublishedAction().getDeletedAt()).isNotNull();
+                    assertThat(action.getPublishedAction().getName()).isEqualTo("publishDeletedAction");
+                })
+                .verifyComplete();
+
+        Mono<List<NewAction>> actionsAfterPublishMono = applicationPageService.publish(application.getId())
+                .thenMany(newActionService.findAllByApplicationIdAndViewMode(application.getId(), true, READ_ACTIONS, null))
+                .collectList();
+
+        StepVerifier
+                .create(actionsAfterPublishMono.flatMap(actions -> Mono.zip(
+                        Mono.just(actions),
+                        newActionService.findById(savedDeletedAction.getId()).hasElement()
+                )))
+                .assertNext(tuple -> {
+                    List<NewAction> actions = tuple.getT1();
+                    assertThat(actions).hasSize(1);
+                    assertThat(actions.get(0).getId()).isEqualTo(savedKeptAction.getId());
+                    assertThat(actions.get(0).getPublishedAction().getName()).isEqualTo("publishKeptAction");
+
+                    // Publishing removes the action that was deleted in edit mode from the database.
+                    assertThat(tuple.getT2()).isFalse();
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void deleteUnpublishedPageFromApplication() {
@@ -7,6 +7,9 @@ import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Organization;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.CommentThreadsPaginatedDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.repositories.CommentRepository;
 import com.appsmith.server.repositories.CommentThreadRepository;
@@ -22,6 +25,8 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -276,4 +281,55 @@ public class CommentServiceTest {
         }).verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getThreadsByApplicationId_WithCursor_ReturnsNextPage() {
+        User user = new User();
+        user.setEmail("api_user");
+        Set<Policy> policies = Set.copyOf(policyUtils.generatePolicyFromPermission(
+                Set.of(AclPermission.READ_THREAD),
+                user
+        ).values());
+
+        final Instant now = Instant.now();
+        List<CommentThread> threads = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            CommentThread thread = new CommentThread();
+            thread.setApplicationId("test-application-paginated");
+            thread.setLastActivityAt(now.minusSeconds(i));
+            thread.setPolicies(policies);
+            threads.add(thread);
+        }
+
+        Mono<Tuple2<CommentThreadsPaginatedDTO, CommentThreadsPaginatedDTO>> pagesMono = commentThreadRepository
+                .saveAll(threads)
+                .then(commentService.getThreadsByApplicationId("test-application-paginated", null, 2, 1))
+                .zipWhen(firstPage -> commentService.getThreadsByApplicationId(
+                        "test-application-paginated", firstPage.getNextCursor(), 2, 1));
+
+        StepVerifier.create(pagesMono)
+                .assertNext(tuple -> {
+                    final CommentThreadsPaginatedDTO firstPage = tuple.getT1();
+                    final CommentThreadsPaginatedDTO secondPage = tuple.getT2();
+
+                    assertThat(firstPage.getThreads()).extracting(CommentThread::getId)
+                            .containsExactly(threads.get(0).getId(), threads.get(1).getId());
+                    assertThat(firstPage.getNextCursor()).isNotNull();
+
+                    assertThat(secondPage.getThreads()).extracting(CommentThread::getId)
+                            .containsExactly(threads.get(2).getId());
+                    assertThat(secondPage.getNextCursor()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getThreadsByApplicationId_WithInvalidCursor_ThrowsException() {
+        StepVerifier.create(commentService.getThreadsByApplicationId("test-application-paginated", "not-a-cursor", 2, 1))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error).getError() == AppsmithError.INVALID_PARAMETER)
+                .verify();
+    }
+
 }
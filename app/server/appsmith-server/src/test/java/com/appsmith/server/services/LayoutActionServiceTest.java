@@ -698,4 +698,65 @@ public class LayoutActionServiceTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void widgetNameRefactorOnlyReplacesUsesOfTheName() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        ActionDTO action = new ActionDTO();
+        action.setName("refactorQuery");
+        action.setPageId(testPage.getId());
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        actionConfiguration.setBody("SELECT * FROM Input1 WHERE id = {{ Input1.text }}");
+        action.setActionConfiguration(actionConfiguration);
+        action.setDatasource(datasource);
+        ActionDTO createdAction = layoutActionService.createAction(action).block();
+
+        JSONObject input = new JSONObject();
+        input.put("widgetName", "Input1");
+        input.put("label", "Input1");
+        JSONObject button = new JSONObject();
+        button.put("widgetName", "Button1");
+        button.put("label", "Search {{Input1.text}} or Input10");
+        button.put("onClick", "{{refactorQuery.run(() => showAlert(Input1.text))}}");
+        button.put("dynamicBindingPathList", new ArrayList<>(List.of(new JSONObject(Map.of("key", "label")))));
+        button.put("dynamicTriggerPathList", new ArrayList<>(List.of(new JSONObject(Map.of("key", "onClick")))));
+        JSONObject dsl = new JSONObject();
+        dsl.put("widgetName", "MainContainer");
+        dsl.put("children", new ArrayList<>(List.of(input, button)));
+
+        Layout layout = testPage.getLayouts().get(0);
+        layout.setDsl(dsl);
+        layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout).block();
+
+        RefactorNameDTO refactorNameDTO = new RefactorNameDTO();
+        refactorNameDTO.setPageId(testPage.getId());
+        refactorNameDTO.setLayoutId(layout.getId());
+        refactorNameDTO.setOldName("Input1");
+        refactorNameDTO.setNewName("SearchInput");
+
+        Mono<LayoutDTO> widgetRenameMono = layoutActionService.refactorWidgetName(refactorNameDTO).cache();
+
+        Mono<NewAction> actionFromRepoMono = widgetRenameMono.then(newActionService.findById(createdAction.getId(), READ_ACTIONS));
+
+        StepVerifier
+                .create(Mono.zip(widgetRenameMono, actionFromRepoMono))
+                .assertNext(tuple -> {
+                    List<?> children = (List<?>) tuple.getT1().getDsl().get("children");
+                    Map<String, Object> updatedInput = (Map<String, Object>) children.get(0);
+                    Map<String, Object> updatedButton = (Map<String, Object>) children.get(1);
+                    assertThat(updatedInput.get("widgetName")).isEqualTo("SearchInput");
+                    assertThat(updatedInput.get("label")).isEqualTo("Input1");
+                    assertThat(updatedButton.get("label")).isEqualTo("Search {{SearchInput.text}} or Input10");
+                    assertThat(updatedButton.get("onClick")).isEqualTo("{{refactorQuery.run(() => showAlert(SearchInput.text))}}");
+
+                    ActionDTO updatedAction = tuple.getT2().getUnpublishedAction();
+                    assertThat(updatedAction.getActionConfiguration().getBody())
+                            .isEqualTo("SELECT * FROM Input1 WHERE id = {{ SearchInput.text }}");
+                    assertThat(updatedAction.getJsonPathKeys()).containsExactly("SearchInput.text");
+                })
+                .verifyComplete();
+    }
 }
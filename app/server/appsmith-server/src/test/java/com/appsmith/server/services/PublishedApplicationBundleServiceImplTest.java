@@ -0,0 +1,158 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationPage;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.PublishedApplicationBundle;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PolicyUtils;
+import com.appsmith.server.helpers.PublishedApplicationBundleCache;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.PublishedApplicationBundleRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.appsmith.server.acl.AclPermission.EXECUTE_ACTIONS;
+import static com.appsmith.server.acl.AclPermission.READ_PAGES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+public class PublishedApplicationBundleServiceImplTest {
+    @MockBean
+    private PublishedApplicationBundleRepository repository;
+    @MockBean
+    private ApplicationRepository applicationRepository;
+    @MockBean
+    private NewPageRepository newPageRepository;
+    @MockBean
+    private NewActionRepository newActionRepository;
+    @MockBean
+    private SessionUserService sessionUserService;
+
+    private PublishedApplicationBundleService publishedApplicationBundleService;
+
+    @Before
+    public void setUp() {
+        PolicyUtils policyUtils = new PolicyUtils(null, null, null, null, null, null, null, null, null);
+        publishedApplicationBundleService = new PublishedApplicationBundleServiceImpl(
+                repository, applicationRepository, newPageRepository, newActionRepository, sessionUserService,
+                policyUtils, new PublishedApplicationBundleCache(new ObjectMapper(), 10, 60)
+        );
+
+        User user = new User();
+        user.setEmail("viewer@example.com");
+        Mockito.when(sessionUserService.getCurrentUser()).thenReturn(Mono.just(user));
+
+        Application application = new Application();
+        application.setId("app1");
+        application.setPublishedPages(List.of(
+                new ApplicationPage("page2", false, 1),
+                new ApplicationPage("page1", true, 0)
+        ));
+
+        Mockito.when(applicationRepository.findById("app1")).thenReturn(Mono.just(application));
+        Mockito.when(newPageRepository.findByApplicationId("app1", null)).thenReturn(Flux.just(
+                createPage("page1", "Page1", "viewer@example.com"),
+                createPage("page2", "Page2", "someone-else@example.com")
+        ));
+        Mockito.when(newActionRepository.findByApplicationId("app1", null, null)).thenReturn(Flux.just(
+                createAction("action1", "viewer@example.com"),
+                createAction("action2", "someone-else@example.com")
+        ));
+        Mockito.when(repository.findByApplicationId("app1")).thenReturn(Mono.empty());
+        Mockito.when(repository.save(ArgumentMatchers.any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+
+    private NewPage createPage(String id, String name, String reader) {
+        PageDTO publishedPage = new PageDTO();
+        publishedPage.setName(name);
+
+        NewPage page = new NewPage();
+        page.setId(id);
+        page.setApplicationId("app1");
+        page.setPublishedPage(publishedPage);
+        page.setPolicies(Set.of(Policy.builder().permission(READ_PAGES.getValue()).users(Set.of(reader)).build()));
+        return page;
+    }
+
+    private NewAction createAction(String id, String executor) {
+        ActionDTO publishedAction = new ActionDTO();
+        publishedAction.setName(id);
+        publishedAction.setPageId("page1");
+
+        NewAction action = new NewAction();
+        action.setId(id);
+        action.setPublishedAction(publishedAction);
+        action.setPolicies(Set.of(Policy.builder().permission(EXECUTE_ACTIONS.getValue()).users(Set.of(executor)).build()));
+        return action;
+    }
+
+    @Test
+    public void testBundleIsBuiltOnceAndFilteredByPermissions() {
+        Mono<PublishedApplicationBundle> bundleMono = publishedApplicationBundleService.findByApplicationId("app1");
+
+        StepVerifier.create(bundleMono.flatMap(publishedApplicationBundleService::getPageNames))
+                .assertNext(pages -> {
+                    assertThat(pages).hasSize(1);
+                    assertThat(pages.get(0).getId()).isEqualTo("page1");
+                    assertThat(pages.get(0).getIsDefault()).isTrue();
+                })
+                .verifyComplete();
+
+        StepVerifier.create(bundleMono.flatMap(publishedApplicationBundleService::getActions))
+                .assertNext(actions -> {
+                    assertThat(actions).hasSize(1);
+                    assertThat(actions.get(0).getId()).isEqualTo("action1");
+                })
+                .verifyComplete();
+
+        StepVerifier.create(bundleMono.flatMap(bundle -> publishedApplicationBundleService.getPage(bundle, "page1")))
+                .assertNext(page -> {
+                    assertThat(page.getId()).isEqualTo("page1");
+                    assertThat(page.getApplicationId()).isEqualTo("app1");
+                    assertThat(page.getUserPermissions()).containsExactly(READ_PAGES.getValue());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(bundleMono.flatMap(bundle -> publishedApplicationBundleService.getPage(bundle, "page2")))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException &&
+                        throwable.getMessage().equals(AppsmithError.ACL_NO_RESOURCE_FOUND.getMessage(FieldName.PAGE, "page2")))
+                .verify();
+
+        // The bundle was built and saved once, and then served from the cache.
+        Mockito.verify(repository, Mockito.times(1)).save(ArgumentMatchers.any());
+        Mockito.verify(newPageRepository, Mockito.times(1)).findByApplicationId("app1", null);
+    }
+
+    @Test
+    public void testUnpublishedApplicationHasNoBundle() {
+        Application application = new Application();
+        application.setId("app2");
+        Mockito.when(applicationRepository.findById("app2")).thenReturn(Mono.just(application));
+        Mockito.when(repository.findByApplicationId("app2")).thenReturn(Mono.empty());
+
+        StepVerifier.create(publishedApplicationBundleService.findByApplicationId("app2"))
+                .verifyComplete();
+    }
+}
@@ -6,21 +6,25 @@ import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.Comment;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.UserRole;
 import com.appsmith.server.events.CommentAddedEvent;
 import com.appsmith.server.events.CommentThreadClosedEvent;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.notifications.EmailSender;
 import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.GroupRepository;
 import com.appsmith.server.repositories.OrganizationRepository;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -29,13 +33,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 public class EmailEventHandlerTest {
 
     private static final String COMMENT_ADDED_EMAIL_TEMPLATE = "email/commentAddedTemplate.html";
+    private static final String COMMENT_DIGEST_EMAIL_TEMPLATE = "email/commentDigestTemplate.html";
 
     @MockBean
     private ApplicationEventPublisher applicationEventPublisher;
@@ -47,6 +56,8 @@ public class EmailEventHandlerTest {
     private ApplicationRepository applicationRepository;
     @MockBean
     private EmailConfig emailConfig;
+    @MockBean
+    private GroupRepository groupRepository;
 
     @MockBean
     private PolicyUtils policyUtils;
@@ -64,7 +75,8 @@ public class EmailEventHandlerTest {
     @Before
     public void setUp() {
         emailEventHandler = new EmailEventHandler(
-                applicationEventPublisher, emailSender, organizationRepository, applicationRepository, policyUtils, emailConfig
+                applicationEventPublisher, emailSender, organizationRepository, applicationRepository, policyUtils, emailConfig,
+                groupRepository
         );
         application = new Application();
         application.setName("Test application for comment");
@@ -79,6 +91,10 @@ public class EmailEventHandlerTest {
 
         Mockito.when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
         Mockito.when(organizationRepository.findById(organizationId)).thenReturn(Mono.just(organization));
+        Mockito.when(groupRepository.findIdsByMember(anyString())).thenReturn(Flux.empty());
+        Mockito.when(emailSender.sendDigestibleMail(
+                anyString(), anyString(), anyString(), Mockito.anyMap(), anyString(), anyString()
+        )).thenReturn(Mono.just(Boolean.TRUE));
     }
 
     @Test
@@ -166,8 +182,9 @@ public class EmailEventHandlerTest {
                 "New comment from %s in %s", sampleComment.getAuthorName(), application.getName()
         );
         // check email sender was called with expected template and subject
-        Mockito.verify(emailSender, Mockito.times(1)).sendMail(
-                eq(emailReceiverUsername), eq(expectedEmailSubject), eq(COMMENT_ADDED_EMAIL_TEMPLATE), Mockito.anyMap()
+        Mockito.verify(emailSender, Mockito.timeout(1000).times(1)).sendDigestibleMail(
+                eq(emailReceiverUsername), eq(expectedEmailSubject), eq(COMMENT_ADDED_EMAIL_TEMPLATE), Mockito.anyMap(),
+                eq(COMMENT_DIGEST_EMAIL_TEMPLATE), anyString()
         );
     }
 
@@ -188,8 +205,8 @@ public class EmailEventHandlerTest {
                 "New comment from %s in %s", sampleComment.getAuthorName(), application.getName()
         );
         // check email sender was called with expected template and subject
-        Mockito.verify(emailSender, Mockito.times(0)).sendMail(
-                anyString(), anyString(), anyString(), Mockito.anyMap()
+        Mockito.verify(emailSender, Mockito.times(0)).sendDigestibleMail(
+                anyString(), anyString(), anyString(), Mockito.anyMap(), anyString(), anyString()
         );
     }
 
@@ -238,8 +255,9 @@ public class EmailEventHandlerTest {
         String expectedEmailSubject = String.format("New comment for you from %s", sampleComment.getAuthorName());
 
         // check email sender was called with expected template and subject
-        Mockito.verify(emailSender, Mockito.times(1)).sendMail(
-                eq(emailReceiverUsername), eq(expectedEmailSubject), eq(COMMENT_ADDED_EMAIL_TEMPLATE), Mockito.anyMap()
+        Mockito.verify(emailSender, Mockito.timeout(1000).times(1)).sendDigestibleMail(
+                eq(emailReceiverUsername), eq(expectedEmailSubject), eq(COMMENT_ADDED_EMAIL_TEMPLATE), Mockito.anyMap(),
+                eq(COMMENT_DIGEST_EMAIL_TEMPLATE), anyString()
         );
     }
 
@@ -268,8 +286,34 @@ public class EmailEventHandlerTest {
                 "%s has resolved comment in %s", resolveState.getAuthorName(), application.getName()
         );
         // check email sender was called with expected template and subject
-        Mockito.verify(emailSender, Mockito.times(1)).sendMail(
-                eq(emailReceiverUsername), eq(expectedEmailSubject), eq(COMMENT_ADDED_EMAIL_TEMPLATE), Mockito.anyMap()
+        Mockito.verify(emailSender, Mockito.timeout(1000).times(1)).sendDigestibleMail(
+                eq(emailReceiverUsername), eq(expectedEmailSubject), eq(COMMENT_ADDED_EMAIL_TEMPLATE), Mockito.anyMap(),
+                eq(COMMENT_DIGEST_EMAIL_TEMPLATE), anyString()
+        );
+    }
+
+    @Test
+    public void handle_WhenReceiverManagesApplicationThroughGroup_LinksToEditMode() {
+        Mockito.when(groupRepository.findIdsByMember(emailReceiverUsername)).thenReturn(Flux.just("group-id"));
+        Mockito.when(policyUtils.isPermissionPresentForUser(
+                any(), eq(MANAGE_APPLICATIONS.getValue()), argThat((User user) -> user.getAllGroupIds().contains("group-id"))
+        )).thenReturn(true);
+
+        Comment sampleComment = new Comment();
+        sampleComment.setAuthorUsername(authorUserName);
+        sampleComment.setAuthorName("Test Author");
+        sampleComment.setPageId("test-page-id");
+        sampleComment.setThreadId("test-thread-id");
+
+        emailEventHandler.handle(new CommentAddedEvent(
+                authorUserName, organization, application, originHeader, sampleComment, Set.of(emailReceiverUsername)
+        ));
+
+        ArgumentCaptor<Map<String, Object>> templateParams = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(emailSender, Mockito.timeout(1000).times(1)).sendDigestibleMail(
+                eq(emailReceiverUsername), anyString(), eq(COMMENT_ADDED_EMAIL_TEMPLATE), templateParams.capture(),
+                eq(COMMENT_DIGEST_EMAIL_TEMPLATE), anyString()
         );
+        assertThat((String) templateParams.getValue().get("commentUrl")).contains("/pages/test-page-id/edit?");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,184 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.server.constants.AnalyticsEvents;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.services.AnalyticsService;
+import com.appsmith.server.services.ConfigService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class ExecutionAnalyticsPublisherTest {
+
+    private AnalyticsService analyticsService;
+    private ReactiveMongoOperations mongoOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutionAnalyticsPublisher publisher;
+
+    @Before
+    public void setUp() {
+        analyticsService = Mockito.mock(AnalyticsService.class);
+        Mockito.when(analyticsService.isActive()).thenReturn(true);
+
+        ConfigService configService = Mockito.mock(ConfigService.class);
+        Mockito.when(configService.getTemplateApplications()).thenReturn(Flux.empty());
+
+        Application application = new Application();
+        application.setId("app1");
+        application.setName("App");
+        application.setOrganizationId("org1");
+
+        PageDTO unpublishedPage = new PageDTO();
+        unpublishedPage.setName("Page1");
+        NewPage page = new NewPage();
+        page.setId("page1");
+        page.setUnpublishedPage(unpublishedPage);
+
+        Plugin plugin = new Plugin();
+        plugin.setId("plugin1");
+        plugin.setName("PostgreSQL");
+
+        mongoOperations = Mockito.mock(ReactiveMongoOperations.class);
+        Mockito.when(mongoOperations.find(any(Query.class), eq(Application.class))).thenReturn(Flux.just(application));
+        Mockito.when(mongoOperations.find(any(Query.class), eq(NewPage.class))).thenReturn(Flux.just(page));
+        Mockito.when(mongoOperations.find(any(Query.class), eq(Plugin.class))).thenReturn(Flux.just(plugin));
+
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new ExecutionAnalyticsPublisher(
+                analyticsService, configService, mongoOperations, meterRegistry, 2, 10, 5, 100, 300);
+    }
+
+    private static ExecutionAnalyticsPublisher.ExecutionEvent event(String actionName) {
+        return ExecutionAnalyticsPublisher.ExecutionEvent.builder()
+                .username("user@example.com")
+                .actionName(actionName)
+                .pluginId("plugin1")
+                .datasourceName("DB")
+                .applicationId("app1")
+                .pageId("page1")
+                .viewMode(false)
+                .isSuccessfulExecution(true)
+                .timeElapsed(10L)
+                .build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEventsAreSentWithMetadataOfTheirBatch() {
+        publisher.publish(event("Query1"));
+        publisher.publish(event("Query2"));
+
+        // Nothing is sent until the buffer is flushed.
+        Mockito.verify(analyticsService, Mockito.never()).sendEvent(anyString(), anyString(), any(Map.class));
+
+        publisher.flush();
+
+        ArgumentCaptor<Map<String, Object>> dataCaptor = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(analyticsService, Mockito.times(2))
+                .sendEvent(eq(AnalyticsEvents.EXECUTE_ACTION.getEventName()), eq("user@example.com"), dataCaptor.capture());
+
+        Map<String, Object> data = dataCaptor.getAllValues().get(0);
+        Assert.assertEquals("Query1", data.get("name"));
+        Assert.assertEquals("App", data.get("appName"));
+        Assert.assertEquals("org1", data.get("orgId"));
+        Assert.assertEquals("Page1", data.get("pageName"));
+        Assert.assertEquals("PostgreSQL", data.get("pluginName"));
+        Assert.assertEquals("edit", data.get("appMode"));
+        Assert.assertFalse(data.containsKey("error"));
+
+        // The names are looked up once for the whole batch.
+        Mockito.verify(mongoOperations, Mockito.times(1)).find(any(Query.class), eq(Application.class));
+
+        // The next batch is served from the cache.
+        publisher.publish(event("Query3"));
+        publisher.flush();
+        Mockito.verify(mongoOperations, Mockito.times(1)).find(any(Query.class), eq(Application.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testErrorOfFailedExecutionIsSentTruncated() {
+        final String error = ExecutionAnalyticsPublisher.serializeError(Map.of("message", "a".repeat(10_000)));
+        Assert.assertEquals(ExecutionAnalyticsPublisher.MAX_ERROR_LENGTH, error.length());
+        Assert.assertTrue(error.startsWith("{\"message\":\"aaa"));
+
+        publisher.publish(ExecutionAnalyticsPublisher.ExecutionEvent.builder()
+                .username("user@example.com")
+                .actionName("Query1")
+                .applicationId("app1")
+                .isSuccessfulExecution(false)
+                .error(error)
+                .build());
+        publisher.flush();
+
+        ArgumentCaptor<Map<String, Object>> dataCaptor = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(analyticsService).sendEvent(anyString(), anyString(), dataCaptor.capture());
+        Assert.assertEquals(error, dataCaptor.getValue().get("error"));
+    }
+
+    @Test
+    public void testRequestIsSerializedTruncated() {
+        final ActionExecutionRequest request = new ActionExecutionRequest();
+        request.setQuery("select * from users");
+        request.setBody("b".repeat(10_000));
+        request.setHeaders(Map.of("Content-Type", "application/json"));
+        request.setHttpMethod(HttpMethod.POST);
+        request.setProperties(Map.of("key", List.of(1, 2)));
+
+        final Map<String, String> serializedRequest = ExecutionAnalyticsPublisher.serializeRequest(request);
+
+        Assert.assertEquals("select * from users", serializedRequest.get("query"));
+        Assert.assertEquals(ExecutionAnalyticsPublisher.MAX_ERROR_LENGTH, serializedRequest.get("body").length());
+        Assert.assertEquals("{\"Content-Type\":\"application/json\"}", serializedRequest.get("headers"));
+        Assert.assertEquals("POST", serializedRequest.get("httpMethod"));
+        Assert.assertEquals("{\"key\":[1,2]}", serializedRequest.get("properties"));
+        Assert.assertFalse(serializedRequest.containsKey("url"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOldestEventsAreDroppedWhenBufferIsFull() {
+        publisher.publish(event("Query1"));
+        publisher.publish(event("Query2"));
+        publisher.publish(event("Query3"));
+
+        Assert.assertEquals(1.0, meterRegistry.counter("appsmith.analytics.execution.dropped").count(), 0);
+
+        publisher.flush();
+
+        ArgumentCaptor<Map<String, Object>> dataCaptor = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(analyticsService, Mockito.times(2)).sendEvent(anyString(), anyString(), dataCaptor.capture());
+        Assert.assertEquals(List.of("Query2", "Query3"),
+                List.of(dataCaptor.getAllValues().get(0).get("name"), dataCaptor.getAllValues().get(1).get("name")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNothingIsBufferedWhenAnalyticsIsInactive() {
+        Mockito.when(analyticsService.isActive()).thenReturn(false);
+
+        publisher.publish(event("Query1"));
+        publisher.flush();
+
+        Mockito.verify(analyticsService, Mockito.never()).sendEvent(anyString(), anyString(), any(Map.class));
+        Mockito.verifyNoInteractions(mongoOperations);
+    }
+}
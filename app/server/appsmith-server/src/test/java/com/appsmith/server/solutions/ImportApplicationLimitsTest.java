@@ -0,0 +1,203 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationJson;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Organization;
+import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.PluginRepository;
+import com.appsmith.server.services.ApplicationPageService;
+import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.services.NewActionService;
+import com.appsmith.server.services.OrganizationService;
+import com.appsmith.server.services.SequenceService;
+import com.appsmith.server.services.SessionUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+public class ImportApplicationLimitsTest {
+    @MockBean
+    private DatasourceService datasourceService;
+    @MockBean
+    private SessionUserService sessionUserService;
+    @MockBean
+    private NewActionRepository newActionRepository;
+    @MockBean
+    private DatasourceRepository datasourceRepository;
+    @MockBean
+    private PluginRepository pluginRepository;
+    @MockBean
+    private OrganizationService organizationService;
+    @MockBean
+    private ApplicationService applicationService;
+    @MockBean
+    private ApplicationPageService applicationPageService;
+    @MockBean
+    private NewPageRepository newPageRepository;
+    @MockBean
+    private NewActionService newActionService;
+    @MockBean
+    private SequenceService sequenceService;
+    @MockBean
+    private ExamplesOrganizationCloner examplesOrganizationCloner;
+
+    private ImportExportApplicationService importExportApplicationService;
+
+    @Before
+    public void setUp() {
+        // The files can be at most 1 MB, and the pages and actions are inserted two at a time.
+        importExportApplicationService = new ImportExportApplicationService(
+                datasourceService, sessionUserService, newActionRepository, datasourceRepository, pluginRepository,
+                organizationService, applicationService, applicationPageService, newPageRepository, newActionService,
+                sequenceService, examplesOrganizationCloner, new ObjectMapper(), 1, 2
+        );
+    }
+
+    private static FilePart createFilePart(String content) {
+        FilePart filePart = Mockito.mock(FilePart.class, Mockito.RETURNS_DEEP_STUBS);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        DefaultDataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+        List<DataBuffer> dataBuffers = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += 8192) {
+            dataBuffers.add(dataBufferFactory.wrap(
+                    Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + 8192))));
+        }
+        Mockito.when(filePart.content()).thenReturn(Flux.fromIterable(dataBuffers));
+        Mockito.when(filePart.headers().getContentType()).thenReturn(MediaType.APPLICATION_JSON);
+        return filePart;
+    }
+
+    @Test
+    public void importFileOverSizeLimitIsRejected() {
+        String largeName = "a".repeat(2 * 1024 * 1024);
+        FilePart filePart = createFilePart("{\"exportedApplication\": {\"name\": \"" + largeName + "\"}}");
+
+        StepVerifier
+                .create(importExportApplicationService.extractFileAndSaveApplication("org1", filePart))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error).getError() == AppsmithError.PAYLOAD_TOO_LARGE)
+                .verify();
+
+        Mockito.verifyNoInteractions(applicationService, newPageRepository, newActionRepository);
+    }
+
+    @Test
+    public void importFileUnderSizeLimitIsParsed() {
+        FilePart filePart = createFilePart("{\"exportedApplication\": {\"name\": \"Small app\"}}");
+        Mockito.when(sessionUserService.getCurrentUser()).thenReturn(Mono.empty());
+        Mockito.when(datasourceRepository.findAllByOrganizationId("org1")).thenReturn(Flux.empty());
+
+        // The file has no pages, so it is parsed and then rejected as invalid, before anything is saved.
+        StepVerifier
+                .create(importExportApplicationService.extractFileAndSaveApplication("org1", filePart))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error).getError() == AppsmithError.NO_RESOURCE_FOUND)
+                .verify();
+    }
+
+    @Test
+    public void importedPagesAndActionsAreInsertedInBatches() {
+        Application application = new Application();
+        application.setName("Batched app");
+
+        List<NewPage> pages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            PageDTO page = new PageDTO();
+            page.setName("Page" + i);
+            NewPage newPage = new NewPage();
+            newPage.setUnpublishedPage(page);
+            pages.add(newPage);
+        }
+
+        List<NewAction> actions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ActionDTO action = new ActionDTO();
+            action.setName("Action" + i);
+            action.setPageId("Page" + (i % 3));
+            NewAction newAction = new NewAction();
+            newAction.setId("action" + i);
+            newAction.setUnpublishedAction(action);
+            actions.add(newAction);
+        }
+
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setExportedApplication(application);
+        applicationJson.setPageList(pages);
+        applicationJson.setActionList(actions);
+        applicationJson.setDatasourceList(List.of());
+        applicationJson.setDecryptedFields(Map.of());
+        applicationJson.setUnpublishedDefaultPageName("Page0");
+
+        Mockito.when(sessionUserService.getCurrentUser()).thenReturn(Mono.empty());
+        Mockito.when(datasourceRepository.findAllByOrganizationId("org1")).thenReturn(Flux.empty());
+        Mockito.when(pluginRepository.findByPackageNameIn(ArgumentMatchers.any())).thenReturn(Flux.empty());
+        Mockito.when(organizationService.findById("org1", AclPermission.ORGANIZATION_MANAGE_APPLICATIONS))
+                .thenReturn(Mono.just(new Organization()));
+        Mockito.when(applicationPageService.setApplicationPolicies(ArgumentMatchers.any(), ArgumentMatchers.eq("org1"), ArgumentMatchers.any()))
+                .thenReturn(Mono.just(application));
+        Mockito.when(applicationService.findByOrganizationId("org1", AclPermission.MANAGE_APPLICATIONS))
+                .thenReturn(Flux.empty());
+        Mockito.when(applicationService.save(ArgumentMatchers.any())).thenAnswer(invocation -> {
+            Application savedApplication = invocation.getArgument(0);
+            savedApplication.setId("app1");
+            return Mono.just(savedApplication);
+        });
+        Mockito.when(applicationService.update(ArgumentMatchers.eq("app1"), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(1)));
+        Mockito.when(newActionRepository.insert(ArgumentMatchers.<List<NewAction>>any()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<NewAction>>getArgument(0)));
+        Mockito.when(newPageRepository.insert(ArgumentMatchers.<List<NewPage>>any()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<NewPage>>getArgument(0)));
+
+        StepVerifier
+                .create(importExportApplicationService.importApplicationInOrganization("org1", applicationJson))
+                .assertNext(importedApplication -> assertThat(importedApplication.getPages()).hasSize(3))
+                .verifyComplete();
+
+        ArgumentCaptor<List<NewAction>> actionBatches = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(newActionRepository, Mockito.times(3)).insert(actionBatches.capture());
+        assertThat(actionBatches.getAllValues().stream().map(List::size).collect(Collectors.toList()))
+                .containsExactly(2, 2, 1);
+        assertThat(actionBatches.getAllValues().stream().flatMap(List::stream).map(NewAction::getId))
+                .doesNotHaveDuplicates()
+                .doesNotContain("action0", "action1", "action2", "action3", "action4");
+
+        ArgumentCaptor<List<NewPage>> pageBatches = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(newPageRepository, Mockito.times(2)).insert(pageBatches.capture());
+        assertThat(pageBatches.getAllValues().stream().map(List::size).collect(Collectors.toList()))
+                .containsExactly(2, 1);
+    }
+}
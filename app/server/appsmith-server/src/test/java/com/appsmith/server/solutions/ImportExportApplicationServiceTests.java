@@ -34,6 +34,8 @@ import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.OrganizationService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
@@ -59,6 +61,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -117,6 +121,9 @@ public class ImportExportApplicationServiceTests {
     @Autowired
     private NewPageRepository newPageRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private PluginExecutorHelper pluginExecutorHelper;
     
@@ -384,6 +391,34 @@ public class ImportExportApplicationServiceTests {
                 .verifyComplete();
     }
     
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void exportApplicationFileWithoutActionsAndDatasourceTest() {
+
+        final Mono<JsonNode> resultMono = importExportApplicationService
+                .exportApplicationFileById(testAppId, new DefaultDataBufferFactory())
+                .flatMap(tuple -> DataBufferUtils.join(tuple.getT2()))
+                .map(dataBuffer -> {
+                    try {
+                        return objectMapper.readTree(dataBuffer.asInputStream(true));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+        StepVerifier.create(resultMono)
+                .assertNext(applicationJson -> {
+                    assertThat(applicationJson.get("exportedApplication").get("name").asText())
+                            .isEqualTo("Export-Application-Test-Application");
+                    assertThat(applicationJson.get("pageList")).hasSize(1);
+                    assertThat(applicationJson.get("actionList")).isEmpty();
+                    assertThat(applicationJson.get("datasourceList")).isEmpty();
+                    assertThat(applicationJson.get("unpublishedDefaultPageName").asText())
+                            .isEqualTo(applicationJson.get("pageList").get(0).get("unpublishedPage").get("name").asText());
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void importApplicationFromInvalidFileTest() {